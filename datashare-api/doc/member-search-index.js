@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.icij.datashare.function","c":"Pair","l":"_1()"},{"p":"org.icij.datashare.function","c":"Pair","l":"_2()"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"abbreviation"},{"p":"org.icij.datashare.text","c":"Language","l":"ABKHAZIAN"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"AbstractModels(Pipeline.Type, NlpStage)","u":"%3Cinit%3E(org.icij.datashare.text.nlp.Pipeline.Type,org.icij.datashare.text.nlp.NlpStage)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"AbstractPipeline(Properties)","u":"%3Cinit%3E(java.util.Properties)"},{"p":"org.icij.datashare.function","c":"ThrowingConsumer","l":"accept(T)"},{"p":"org.icij.datashare.function","c":"ThrowingBiConsumer","l":"accept(T, U)","u":"accept(T,U)"},{"p":"org.icij.datashare.function","c":"ThrowingConsumer","l":"acceptThrows(T)"},{"p":"org.icij.datashare.function","c":"ThrowingBiConsumer","l":"acceptThrows(T, U)","u":"acceptThrows(T,U)"},{"p":"org.icij.datashare.text","c":"Offsets","l":"add(Long)","u":"add(java.lang.Long)"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"add(NamedEntity.Category, String, long)","u":"add(org.icij.datashare.text.NamedEntity.Category,java.lang.String,long)"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"add(NlpStage, int, int)","u":"add(org.icij.datashare.text.nlp.NlpStage,int,int)"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"add(NlpStage, int, int, NamedEntity.Category)","u":"add(org.icij.datashare.text.nlp.NlpStage,int,int,org.icij.datashare.text.NamedEntity.Category)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"add(String, T)","u":"add(java.lang.String,T)"},{"p":"org.icij.datashare","c":"DynamicClassLoader","l":"add(URL)","u":"add(java.net.URL)"},{"p":"org.icij.datashare.text","c":"Offsets","l":"addLong(long)"},{"p":"org.icij.datashare.time","c":"DatashareDateUtils","l":"addMilliseconds(Date, int)","u":"addMilliseconds(java.util.Date,int)"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"addMilliseconds(int)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"addMilliseconds(int)"},{"p":"org.icij.datashare.time","c":"Time","l":"addMilliseconds(int)"},{"p":"org.icij.datashare.user","c":"User","l":"addProject(Project)","u":"addProject(org.icij.datashare.text.Project)"},{"p":"org.icij.datashare.user","c":"User","l":"addProject(String)","u":"addProject(java.lang.String)"},{"p":"org.icij.datashare.user","c":"User","l":"addProjectNames(List<String>)","u":"addProjectNames(java.util.List)"},{"p":"org.icij.datashare.user","c":"User","l":"addProjects(List<Project>)","u":"addProjects(java.util.List)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"addResourceToContextClassLoader(Path)","u":"addResourceToContextClassLoader(java.nio.file.Path)"},{"p":"org.icij.datashare","c":"Repository","l":"addToUserHistory(List<Project>, UserEvent)","u":"addToUserHistory(java.util.List,org.icij.datashare.UserEvent)"},{"p":"org.icij.datashare.text","c":"Language","l":"AFAR"},{"p":"org.icij.datashare.text","c":"Language","l":"AFRIKAANS"},{"p":"org.icij.datashare","c":"Repository.Aggregate","l":"Aggregate(T, int)","u":"%3Cinit%3E(T,int)"},{"p":"org.icij.datashare","c":"Repository.AggregateList","l":"AggregateList(List<Repository.Aggregate<T>>, int)","u":"%3Cinit%3E(java.util.List,int)"},{"p":"org.icij.datashare","c":"Repository.AggregateList","l":"aggregates"},{"p":"org.icij.datashare.text","c":"Language","l":"AKAN"},{"p":"org.icij.datashare.text","c":"Language","l":"ALBANIAN"},{"p":"org.icij.datashare.text","c":"Hasher","l":"algorithm"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"ALGORITHM"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"allFrom(String, Annotations)","u":"allFrom(java.lang.String,org.icij.datashare.text.nlp.Annotations)"},{"p":"org.icij.datashare.text","c":"Project","l":"allowFromMask"},{"p":"org.icij.datashare.text","c":"Language","l":"AMHARIC"},{"p":"org.icij.datashare.function","c":"ThrowingBiConsumer","l":"andThen(BiConsumer<? super T, ? super U>)","u":"andThen(java.util.function.BiConsumer)"},{"p":"org.icij.datashare.function","c":"ThrowingConsumer","l":"andThen(Consumer<? super T>)","u":"andThen(java.util.function.Consumer)"},{"p":"org.icij.datashare.function","c":"QuadFunction","l":"andThen(Function<? super R, ? extends S>)","u":"andThen(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"TerFunction","l":"andThen(Function<? super R, ? extends S>)","u":"andThen(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"ThrowingFunction","l":"andThen(Function<? super R, ? extends V>)","u":"andThen(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"ThrowingSupplier","l":"andThen(Function<? super T, ? extends R>)","u":"andThen(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"ThrowingBiConsumer","l":"andThen(ThrowingBiConsumer<? super T, ? super U>)","u":"andThen(org.icij.datashare.function.ThrowingBiConsumer)"},{"p":"org.icij.datashare.function","c":"ThrowingConsumer","l":"andThen(ThrowingConsumer<? super T>)","u":"andThen(org.icij.datashare.function.ThrowingConsumer)"},{"p":"org.icij.datashare.function","c":"ThrowingFunction","l":"andThen(ThrowingFunction<? super R, ? extends V>)","u":"andThen(org.icij.datashare.function.ThrowingFunction)"},{"p":"org.icij.datashare.function","c":"ThrowingSupplier","l":"andThen(ThrowingFunction<? super T, ? extends R>)","u":"andThen(org.icij.datashare.function.ThrowingFunction)"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"Annotations(String, Pipeline.Type, Language)","u":"%3Cinit%3E(java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"Annotations(String, String, Pipeline.Type, Language)","u":"%3Cinit%3E(java.lang.String,java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper.TestAppender","l":"append(ILoggingEvent)","u":"append(ch.qos.logback.classic.spi.ILoggingEvent)"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"appender"},{"p":"org.icij.datashare","c":"DynamicClassLoader","l":"appendToClassPathForInstrumentation(String)","u":"appendToClassPathForInstrumentation(java.lang.String)"},{"p":"org.icij.datashare.function","c":"TerFunction","l":"apply(A, B, C)","u":"apply(A,B,C)"},{"p":"org.icij.datashare.function","c":"QuadFunction","l":"apply(A, B, C, D)","u":"apply(A,B,C,D)"},{"p":"org.icij.datashare.function","c":"ThrowingFunction","l":"apply(T)"},{"p":"org.icij.datashare.function","c":"ThrowingBiFunction","l":"apply(T, U)","u":"apply(T,U)"},{"p":"org.icij.datashare.function","c":"ThrowingFunction","l":"applyThrows(T)"},{"p":"org.icij.datashare.function","c":"ThrowingBiFunction","l":"applyThrows(T, U)","u":"applyThrows(T,U)"},{"p":"org.icij.datashare.text","c":"Language","l":"ARABIC"},{"p":"org.icij.datashare.text","c":"Language","l":"ARAGONESE"},{"p":"org.icij.datashare.text","c":"Language","l":"ARMENIAN"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"asCommaConcatNames(List<ProjectProxy>)","u":"asCommaConcatNames(java.util.List)"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"asJson()"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"asNameArray(List<ProjectProxy>)","u":"asNameArray(java.util.List)"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"asNameList(List<ProjectProxy>)","u":"asNameList(java.util.List)"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"asOf"},{"p":"org.icij.datashare.text","c":"Language","l":"ASSAMESE"},{"p":"org.icij.datashare","c":"CollectionUtils","l":"asSet(T...)"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"available()"},{"p":"org.icij.datashare.text","c":"Language","l":"AVARIC"},{"p":"org.icij.datashare.text","c":"Language","l":"AVESTAN"},{"p":"org.icij.datashare.text","c":"Language","l":"AYMARA"},{"p":"org.icij.datashare.text","c":"Language","l":"AZERBAIJANI"},{"p":"org.icij.datashare.text","c":"Language","l":"BAMBARA"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"BASE_CLASSPATH"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"BASE_DIR"},{"p":"org.icij.datashare.text","c":"Language","l":"BASHKIR"},{"p":"org.icij.datashare.text","c":"Language","l":"BASQUE"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"batchDate"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"batchDate"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"BatchDownload(List<Project>, User, String)","u":"%3Cinit%3E(java.util.List,org.icij.datashare.user.User,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"BatchDownload(List<Project>, User, String, String)","u":"%3Cinit%3E(java.util.List,org.icij.datashare.user.User,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"BatchDownload(List<Project>, User, String, String, Path, boolean)","u":"%3Cinit%3E(java.util.List,org.icij.datashare.user.User,java.lang.String,java.lang.String,java.nio.file.Path,boolean)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"BatchDownload(String, List<Project>, Path, SearchQuery, String, User, boolean)","u":"%3Cinit%3E(java.lang.String,java.util.List,java.nio.file.Path,org.icij.datashare.text.indexing.SearchQuery,java.lang.String,org.icij.datashare.user.User,boolean)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(BatchSearch)","u":"%3Cinit%3E(org.icij.datashare.batch.BatchSearch)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(BatchSearch, Map<String, String>)","u":"%3Cinit%3E(org.icij.datashare.batch.BatchSearch,java.util.Map)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, LinkedHashSet<String>, Date)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,java.util.Date)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, LinkedHashSet<String>, Date, BatchSearchRecord.State, boolean)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,java.util.Date,org.icij.datashare.batch.BatchSearchRecord.State,boolean)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, LinkedHashSet<String>, User)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,org.icij.datashare.user.User)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, LinkedHashSet<String>, User, boolean)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,org.icij.datashare.user.User,boolean)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, LinkedHashSet<String>, User, boolean, List<String>, String, List<String>, boolean)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,org.icij.datashare.user.User,boolean,java.util.List,java.lang.String,java.util.List,boolean)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, LinkedHashSet<String>, User, boolean, List<String>, String, List<String>, int)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,org.icij.datashare.user.User,boolean,java.util.List,java.lang.String,java.util.List,int)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, LinkedHashSet<String>, User, boolean, List<String>, String, List<String>, int, boolean)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,org.icij.datashare.user.User,boolean,java.util.List,java.lang.String,java.util.List,int,boolean)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(List<ProjectProxy>, String, String, User)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,org.icij.datashare.user.User)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(String, List<ProjectProxy>, String, String, Integer, Date, BatchSearchRecord.State, User, int, boolean, List<String>, String, List<String>, int, boolean, String, String)","u":"%3Cinit%3E(java.lang.String,java.util.List,java.lang.String,java.lang.String,java.lang.Integer,java.util.Date,org.icij.datashare.batch.BatchSearchRecord.State,org.icij.datashare.user.User,int,boolean,java.util.List,java.lang.String,java.util.List,int,boolean,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(String, List<ProjectProxy>, String, String, LinkedHashMap<String, Integer>, Date, BatchSearchRecord.State, User, int, boolean, List<String>, String, List<String>, int, boolean, String, String)","u":"%3Cinit%3E(java.lang.String,java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashMap,java.util.Date,org.icij.datashare.batch.BatchSearchRecord.State,org.icij.datashare.user.User,int,boolean,java.util.List,java.lang.String,java.util.List,int,boolean,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"BatchSearch(String, List<ProjectProxy>, String, String, LinkedHashSet<String>, Date, BatchSearchRecord.State, User)","u":"%3Cinit%3E(java.lang.String,java.util.List,java.lang.String,java.lang.String,java.util.LinkedHashSet,java.util.Date,org.icij.datashare.batch.BatchSearchRecord.State,org.icij.datashare.user.User)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"BatchSearchRecord(List<ProjectProxy>, String, String, int, Date)","u":"%3Cinit%3E(java.util.List,java.lang.String,java.lang.String,int,java.util.Date)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"BatchSearchRecord(String, List<ProjectProxy>, String, String, int, Date, BatchSearchRecord.State, User, int, boolean, String, String)","u":"%3Cinit%3E(java.lang.String,java.util.List,java.lang.String,java.lang.String,int,java.util.Date,org.icij.datashare.batch.BatchSearchRecord.State,org.icij.datashare.user.User,int,boolean,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"begin"},{"p":"org.icij.datashare.text","c":"Language","l":"BELARUSIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"BENGALI"},{"p":"org.icij.datashare.text","c":"Language","l":"BIHARI"},{"p":"org.icij.datashare.text","c":"Language","l":"BISLAMA"},{"p":"org.icij.datashare.text","c":"Language","l":"BOSNIAN"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"bounds"},{"p":"org.icij.datashare.text","c":"Language","l":"BRETON"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"bucket"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"buckets"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"buffer"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"build"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"build()"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"build()"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"build()"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"build()"},{"p":"org.icij.datashare.reflect","c":"EnumTypeToken","l":"buildClassName(Class<?>, Enum<? extends EnumTypeToken>)","u":"buildClassName(java.lang.Class,java.lang.Enum)"},{"p":"org.icij.datashare.text","c":"Language","l":"BULGARIAN"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"bulkAdd(String, List<T>)","u":"bulkAdd(java.lang.String,java.util.List)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"bulkAdd(String, Pipeline.Type, List<NamedEntity>, Document)","u":"bulkAdd(java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,java.util.List,org.icij.datashare.text.Document)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"bulkAdd(String, Pipeline.Type, String, List<NamedEntity>, Document)","u":"bulkAdd(java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,java.lang.String,java.util.List,org.icij.datashare.text.Document)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"bulkUpdate(String, List<T>)","u":"bulkUpdate(java.lang.String,java.util.List)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"bundle"},{"p":"org.icij.datashare.text","c":"Language","l":"BURMESE"},{"p":"org.icij.datashare","c":"HumanReadableSize.Unit","l":"bytes"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"cachedProperties"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"caching"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"CACHING"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"camelCasify(String)","u":"camelCasify(java.lang.String)"},{"p":"org.icij.datashare.function","c":"Functions","l":"capitalize"},{"p":"org.icij.datashare.text","c":"Language","l":"CATALAN"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"category"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"category"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"Category(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"CENTRALKHMER"},{"p":"org.icij.datashare.text","c":"Language","l":"CHAMORRO"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"channel"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"charset"},{"p":"org.icij.datashare.text","c":"CharsetDeserializer","l":"CharsetDeserializer()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Language","l":"CHECHEN"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"checkStages(Language)","u":"checkStages(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text","c":"Language","l":"CHICHEWA"},{"p":"org.icij.datashare.text","c":"Language","l":"CHINESE"},{"p":"org.icij.datashare.text","c":"Language","l":"CHUVASH"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"CLASS_SUFFIX"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"className"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"clear()"},{"p":"org.icij.datashare.user","c":"User","l":"clearProjects()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"clearScroll()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"close()"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"close()"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"code"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"code"},{"p":"org.icij.datashare","c":"CollectionUtils","l":"CollectionUtils()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare","c":"Stage","l":"comparator"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"comparator"},{"p":"org.icij.datashare.function","c":"QuadFunction","l":"compose(Function<? super T, ? extends A>)","u":"compose(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"TerFunction","l":"compose(Function<? super T, ? extends A>)","u":"compose(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"ThrowingConsumer","l":"compose(Function<? super V, ? extends T>)","u":"compose(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"ThrowingFunction","l":"compose(Function<? super V, ? extends T>)","u":"compose(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"ThrowingConsumer","l":"compose(ThrowingFunction<? super V, ? extends T>)","u":"compose(org.icij.datashare.function.ThrowingFunction)"},{"p":"org.icij.datashare.function","c":"ThrowingFunction","l":"compose(ThrowingFunction<? super V, ? extends T>)","u":"compose(org.icij.datashare.function.ThrowingFunction)"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"CONNECTION_TIMEOUT_MS"},{"p":"org.icij.datashare.text","c":"Document","l":"content"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"content"},{"p":"org.icij.datashare.text.indexing","c":"ExtractedText","l":"content"},{"p":"org.icij.datashare.text","c":"Document","l":"content_translated"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"content_translated"},{"p":"org.icij.datashare.text","c":"Document","l":"contentEncoding"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"contentLength"},{"p":"org.icij.datashare.text","c":"Document","l":"contentLength"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"contentLength"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"contentType"},{"p":"org.icij.datashare.text","c":"Document","l":"contentType"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"contentType"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"contentTypes"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"contentTypes"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"CONTRIBUTOR"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"CORENLP"},{"p":"org.icij.datashare.text","c":"Language","l":"CORNISH"},{"p":"org.icij.datashare.text","c":"Language","l":"CORSICAN"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"count"},{"p":"org.icij.datashare","c":"Repository.Aggregate","l":"count"},{"p":"org.icij.datashare.text.indexing","c":"SearchedText","l":"count"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"COVERAGE"},{"p":"org.icij.datashare","c":"Repository","l":"create(Document)","u":"create(org.icij.datashare.text.Document)"},{"p":"org.icij.datashare","c":"Repository","l":"create(List<NamedEntity>)","u":"create(java.util.List)"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"create(NamedEntity.Category, String, List<Long>, String, String, Pipeline.Type, Language)","u":"create(org.icij.datashare.text.NamedEntity.Category,java.lang.String,java.util.List,java.lang.String,java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"create(NamedEntity.Category, String, List<Long>, String, String, Pipeline.Type, Language, Map<String, Object>)","u":"create(org.icij.datashare.text.NamedEntity.Category,java.lang.String,java.util.List,java.lang.String,java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,org.icij.datashare.text.Language,java.util.Map)"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"create(Path)","u":"create(java.nio.file.Path)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"create(String, PropertiesProvider)","u":"create(java.lang.String,org.icij.datashare.PropertiesProvider)"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"createBucket()"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"CREATED"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"createDoc()"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"createDoc(Project, Path)","u":"createDoc(org.icij.datashare.text.Project,java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"createDoc(String)","u":"createDoc(java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"createFilename(User)","u":"createFilename(org.icij.datashare.user.User)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"createIndex(String)","u":"createIndex(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"createIndex(String, int)","u":"createIndex(java.lang.String,int)"},{"p":"org.icij.datashare.test","c":"JarUtil","l":"createJar(Path, String, File...)","u":"createJar(java.nio.file.Path,java.lang.String,java.io.File...)"},{"p":"org.icij.datashare.test","c":"JarUtil","l":"createJar(Path, String, String...)","u":"createJar(java.nio.file.Path,java.lang.String,java.lang.String...)"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"createLogger(AppenderBase<ILoggingEvent>)","u":"createLogger(ch.qos.logback.core.AppenderBase)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"createMerged(Properties)","u":"createMerged(java.util.Properties)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"createOverriddenWith(Map<String, String>)","u":"createOverriddenWith(java.util.Map)"},{"p":"org.icij.datashare","c":"RepositoryFactory","l":"createRepository()"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"createScrollQuery()"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"createTypeInclusionMapper()"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"createWebQuery()"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"createWebQuery(String, String)","u":"createWebQuery(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"creationDate"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"creationDate"},{"p":"org.icij.datashare.text","c":"Project","l":"creationDate"},{"p":"org.icij.datashare.text","c":"Tag","l":"creationDate"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"creationDate"},{"p":"org.icij.datashare","c":"UserEvent","l":"creationDate"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"CREATOR"},{"p":"org.icij.datashare.text","c":"Language","l":"CREE"},{"p":"org.icij.datashare.text","c":"Language","l":"CROATIAN"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"currentTimeMillis()"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"currentTimeMillis()"},{"p":"org.icij.datashare.time","c":"Time","l":"currentTimeMillis()"},{"p":"org.icij.datashare.function","c":"QuadFunction","l":"curry(QuadFunction<A, B, C, D, R>)","u":"curry(org.icij.datashare.function.QuadFunction)"},{"p":"org.icij.datashare.function","c":"TerFunction","l":"curry(TerFunction<A, B, C, R>)","u":"curry(org.icij.datashare.function.TerFunction)"},{"p":"org.icij.datashare.text","c":"Language","l":"CZECH"},{"p":"org.icij.datashare","c":"Note.Variant","l":"danger"},{"p":"org.icij.datashare.text","c":"Language","l":"DANISH"},{"p":"org.icij.datashare","c":"Note.Variant","l":"dark"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"DATA_DIR_OPTION"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"DATASHARE_TIME_CLASS_PROPERTY"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"DatashareApiKey(SecretKey, User)","u":"%3Cinit%3E(javax.crypto.SecretKey,org.icij.datashare.user.User)"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"DatashareApiKey(String, User)","u":"%3Cinit%3E(java.lang.String,org.icij.datashare.user.User)"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"DatashareApiKey(String, User, Date)","u":"%3Cinit%3E(java.lang.String,org.icij.datashare.user.User,java.util.Date)"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"DatashareApiKey(User)","u":"%3Cinit%3E(org.icij.datashare.user.User)"},{"p":"org.icij.datashare.time","c":"DatashareDateUtils","l":"DatashareDateUtils()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"DatashareMockTime()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"DatashareTime()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"date"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"DATE"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"DATE"},{"p":"org.icij.datashare.time","c":"DateChangeListener","l":"dateChanged()"},{"p":"org.icij.datashare","c":"Stage","l":"DEDUPLICATE"},{"p":"org.icij.datashare.text.nlp","c":"SentenceBatches","l":"DEFAULT_BATCH_SIZE"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"DEFAULT_CACHING"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"DEFAULT_DATASHARE_PROPERTIES_FILE_NAME"},{"p":"org.icij.datashare","c":"Entity","l":"DEFAULT_DIGESTER"},{"p":"org.icij.datashare.text","c":"Hasher","l":"DEFAULT_ENCODING"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"DEFAULT_ENCODING"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"DEFAULT_ENTITIES"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"DEFAULT_IDLE_TIMEOUT_MS"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"DEFAULT_METADATA_FIELD_PREFIX"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"DEFAULT_PROJECT_OPTION"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"DEFAULT_SORT_FIELD"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"DEFAULT_TARGET_STAGES"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"DEFAULT_VALUE_UNKNOWN"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"defaultInstance"},{"p":"org.icij.datashare","c":"Deliverable","l":"delete(Path)","u":"delete(java.nio.file.Path)"},{"p":"org.icij.datashare.user","c":"ApiKeyRepository","l":"delete(User)","u":"delete(org.icij.datashare.user.User)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"delete(User, String)","u":"delete(org.icij.datashare.user.User,java.lang.String)"},{"p":"org.icij.datashare","c":"Repository","l":"deleteAll(String)","u":"deleteAll(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"deleteAll(String)","u":"deleteAll(java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"deleteAll(User)","u":"deleteAll(org.icij.datashare.user.User)"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"deleteBucket()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"deleteNamedEntities(String, Pipeline.Type, Document)","u":"deleteNamedEntities(java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,org.icij.datashare.text.Document)"},{"p":"org.icij.datashare","c":"Repository","l":"deleteUserHistory(User, UserEvent.Type)","u":"deleteUserHistory(org.icij.datashare.user.User,org.icij.datashare.UserEvent.Type)"},{"p":"org.icij.datashare","c":"Repository","l":"deleteUserHistoryEvent(User, int)","u":"deleteUserHistoryEvent(org.icij.datashare.user.User,int)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"description"},{"p":"org.icij.datashare.text","c":"Project","l":"description"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"DESCRIPTION"},{"p":"org.icij.datashare.text","c":"CharsetDeserializer","l":"deserialize(JsonParser, DeserializationContext)","u":"deserialize(com.fasterxml.jackson.core.JsonParser,com.fasterxml.jackson.databind.DeserializationContext)"},{"p":"org.icij.datashare.text","c":"Offsets.Deserializer","l":"deserialize(JsonParser, DeserializationContext)","u":"deserialize(com.fasterxml.jackson.core.JsonParser,com.fasterxml.jackson.databind.DeserializationContext)"},{"p":"org.icij.datashare.text","c":"PathDeserializer","l":"deserialize(JsonParser, DeserializationContext)","u":"deserialize(com.fasterxml.jackson.core.JsonParser,com.fasterxml.jackson.databind.DeserializationContext)"},{"p":"org.icij.datashare.json","c":"JsonUtils","l":"deserialize(String)","u":"deserialize(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Offsets.Deserializer","l":"Deserializer()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.user","c":"User","l":"details"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"dfs(NlpStage, Set<NlpStage>, List<NlpStage>, Map<NlpStage, List<NlpStage>>)","u":"dfs(org.icij.datashare.text.nlp.NlpStage,java.util.Set,java.util.List,java.util.Map)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"DIGEST_PROJECT_NAME_OPTION"},{"p":"org.icij.datashare.text","c":"Hasher","l":"digestLength"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"directory"},{"p":"org.icij.datashare.text","c":"Document","l":"dirname"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"docId"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"document"},{"p":"org.icij.datashare","c":"UserEvent.Type","l":"DOCUMENT"},{"p":"org.icij.datashare.text","c":"Document","l":"Document(Project, String, Path, String, Language, Charset, String, Map<String, Object>, Document.Status, Set<Pipeline.Type>, Date, String, String, Short, Long)","u":"%3Cinit%3E(org.icij.datashare.text.Project,java.lang.String,java.nio.file.Path,java.lang.String,org.icij.datashare.text.Language,java.nio.charset.Charset,java.lang.String,java.util.Map,org.icij.datashare.text.Document.Status,java.util.Set,java.util.Date,java.lang.String,java.lang.String,java.lang.Short,java.lang.Long)"},{"p":"org.icij.datashare.text","c":"Document","l":"Document(Project, String, Path, String, List<Map<String, String>>, Language, Charset, String, Map<String, Object>, Document.Status, Set<Pipeline.Type>, Date, String, String, Short, Long, Set<Tag>)","u":"%3Cinit%3E(org.icij.datashare.text.Project,java.lang.String,java.nio.file.Path,java.lang.String,java.util.List,org.icij.datashare.text.Language,java.nio.charset.Charset,java.lang.String,java.util.Map,org.icij.datashare.text.Document.Status,java.util.Set,java.util.Date,java.lang.String,java.lang.String,java.lang.Short,java.lang.Long,java.util.Set)"},{"p":"org.icij.datashare.text","c":"Document","l":"Document(Project, String, Path, String, List<Map<String, String>>, Language, Date, Charset, String, int, Map<String, Object>, Document.Status, Set<Pipeline.Type>, String, String, Long, Set<Tag>)","u":"%3Cinit%3E(org.icij.datashare.text.Project,java.lang.String,java.nio.file.Path,java.lang.String,java.util.List,org.icij.datashare.text.Language,java.util.Date,java.nio.charset.Charset,java.lang.String,int,java.util.Map,org.icij.datashare.text.Document.Status,java.util.Set,java.lang.String,java.lang.String,java.lang.Long,java.util.Set)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"DocumentBuilder()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"documentId"},{"p":"org.icij.datashare.text","c":"Duplicate","l":"documentId"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"documentId"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"documentId"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"documentNumber"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"documentPath"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"documentStatus"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"DocumentUserRecommendation(Document, ProjectProxy, User)","u":"%3Cinit%3E(org.icij.datashare.text.Document,org.icij.datashare.text.ProjectProxy,org.icij.datashare.user.User)"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"DocumentUserRecommendation(Document, ProjectProxy, User, Date)","u":"%3Cinit%3E(org.icij.datashare.text.Document,org.icij.datashare.text.ProjectProxy,org.icij.datashare.user.User,java.util.Date)"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"DONE"},{"p":"org.icij.datashare","c":"Deliverable","l":"download()"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"download(String, File)","u":"download(java.lang.String,java.io.File)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"downloadIfNecessary(Language)","u":"downloadIfNecessary(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text","c":"Duplicate","l":"Duplicate(Path, String)","u":"%3Cinit%3E(java.nio.file.Path,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Duplicate","l":"Duplicate(Path, String, Hasher)","u":"%3Cinit%3E(java.nio.file.Path,java.lang.String,org.icij.datashare.text.Hasher)"},{"p":"org.icij.datashare.text","c":"Duplicate","l":"Duplicate(String, Path, String)","u":"%3Cinit%3E(java.lang.String,java.nio.file.Path,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"duration"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"duration"},{"p":"org.icij.datashare.text","c":"Language","l":"DUTCH"},{"p":"org.icij.datashare","c":"DynamicClassLoader","l":"DynamicClassLoader()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare","c":"DynamicClassLoader","l":"DynamicClassLoader(ClassLoader)","u":"%3Cinit%3E(java.lang.ClassLoader)"},{"p":"org.icij.datashare.text","c":"Language","l":"DZONGKHA"},{"p":"org.icij.datashare.user","c":"User","l":"email"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"EMAIL"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"EMAIL"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"encoding"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"ENCODING"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"encrypted"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"end"},{"p":"org.icij.datashare.text.nlp","c":"SentenceBatches","l":"ends(String, Language, int)","u":"ends(java.lang.String,org.icij.datashare.text.Language,int)"},{"p":"org.icij.datashare.text","c":"Language","l":"ENGLISH"},{"p":"org.icij.datashare","c":"Stage","l":"ENQUEUEIDX"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"ENTITIES"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.function","c":"Pair","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare","c":"Note","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare","c":"Repository.Aggregate","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.text","c":"Document","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.text","c":"Tag","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.user","c":"User","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare","c":"UserEvent","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"errorMessage"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"errorQuery"},{"p":"org.icij.datashare.text","c":"Language","l":"ESPERANTO"},{"p":"org.icij.datashare.text","c":"Language","l":"ESTONIAN"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper.TestAppender","l":"events"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"evictIdleModels(long)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"evictor"},{"p":"org.icij.datashare.text","c":"Language","l":"EWE"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"execute()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"execute(String)","u":"execute(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"executeRaw(String, String, String)","u":"executeRaw(java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"executeRawStream(String, String, InputStream)","u":"executeRawStream(java.lang.String,java.lang.String,java.io.InputStream)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"exists(String, String)","u":"exists(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"ExtensionLoader(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"EXTENSIONS_DIR"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"extensionsDir"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"extractedAt(Date)","u":"extractedAt(java.util.Date)"},{"p":"org.icij.datashare.text.indexing","c":"ExtractedText","l":"ExtractedText(String, int, int, int)","u":"%3Cinit%3E(java.lang.String,int,int,int)"},{"p":"org.icij.datashare.text.indexing","c":"ExtractedText","l":"ExtractedText(String, int, int, int, String)","u":"%3Cinit%3E(java.lang.String,int,int,int,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Document","l":"extractionDate"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"extractionDate"},{"p":"org.icij.datashare.text","c":"Document","l":"extractionLevel"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"extractionLevel"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"extractor"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"extractorLanguage"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"failed(long)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord.State","l":"FAILURE"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"failures"},{"p":"org.icij.datashare.text","c":"Language","l":"FAROESE"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"field"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"field"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"fieldName"},{"p":"org.icij.datashare.text","c":"Language","l":"FIJIAN"},{"p":"org.icij.datashare.text","c":"FileExtension","l":"FileExtension()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"filename"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"fileTypes"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"filterElements"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"find(Path, String)","u":"find(java.nio.file.Path,java.lang.String)"},{"p":"org.icij.datashare","c":"DynamicClassLoader","l":"findAncestor(ClassLoader)","u":"findAncestor(java.lang.ClassLoader)"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"findClassesInJar(Predicate<Class<?>>, File)","u":"findClassesInJar(java.util.function.Predicate,java.io.File)"},{"p":"org.icij.datashare.text","c":"Language","l":"FINNISH"},{"p":"org.icij.datashare.function","c":"Pair","l":"first"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"FORMAT"},{"p":"org.icij.datashare.time","c":"DatashareDateUtils","l":"formatDate(String)","u":"formatDate(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"FRENCH"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"from"},{"p":"org.icij.datashare.batch","c":"WebQueryPagination","l":"from"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"from(String, NlpTag, Annotations)","u":"from(java.lang.String,org.icij.datashare.text.nlp.NlpTag,org.icij.datashare.text.nlp.Annotations)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"fromClassName(String)","u":"fromClassName(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"fromCode(int)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"fromCode(int)"},{"p":"org.icij.datashare","c":"UserEvent.Type","l":"fromId(int)"},{"p":"org.icij.datashare.user","c":"User","l":"fromJson(String, String)","u":"fromJson(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"fromMap(Map<String, Object>)","u":"fromMap(java.util.Map)"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"fromNameStringList(List<String>)","u":"fromNameStringList(java.util.List)"},{"p":"org.icij.datashare.text","c":"Document","l":"fromNerMask(int)"},{"p":"org.icij.datashare.text","c":"Language","l":"FULAH"},{"p":"org.icij.datashare.function","c":"Functions","l":"Functions()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"fuzziness"},{"p":"org.icij.datashare","c":"HumanReadableSize.Unit","l":"G"},{"p":"org.icij.datashare.text","c":"Language","l":"GAELIC"},{"p":"org.icij.datashare.text","c":"Language","l":"GALICIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"GANDA"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"GATENLP"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"generateSecretKey()"},{"p":"org.icij.datashare.text","c":"Language","l":"GEORGIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"GERMAN"},{"p":"org.icij.datashare.function","c":"ThrowingSupplier","l":"get()"},{"p":"org.icij.datashare.text","c":"Offsets","l":"get(int)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"get(Language)","u":"get(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"get(NlpStage)","u":"get(org.icij.datashare.text.nlp.NlpStage)"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"get(Pipeline.Type)","u":"get(org.icij.datashare.text.nlp.Pipeline.Type)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"get(String)","u":"get(java.lang.String)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"get(String)","u":"get(java.lang.String)"},{"p":"org.icij.datashare.text","c":"FileExtension","l":"get(String)","u":"get(java.lang.String)"},{"p":"org.icij.datashare.user","c":"ApiKeyRepository","l":"get(String)","u":"get(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"get(String, String)","u":"get(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"get(String, String, List<String>)","u":"get(java.lang.String,java.lang.String,java.util.List)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"get(String, String, String)","u":"get(java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"get(String, String, String, List<String>)","u":"get(java.lang.String,java.lang.String,java.lang.String,java.util.List)"},{"p":"org.icij.datashare.user","c":"ApiKeyRepository","l":"get(User)","u":"get(org.icij.datashare.user.User)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"get(User, String)","u":"get(org.icij.datashare.user.User,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"get(User, String, boolean)","u":"get(org.icij.datashare.user.User,java.lang.String,boolean)"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"getAbbreviation()"},{"p":"org.icij.datashare.text","c":"Project","l":"getAllowFromMask()"},{"p":"org.icij.datashare.user","c":"User","l":"getApplicationProjectNames()"},{"p":"org.icij.datashare.user","c":"User","l":"getApplicationProjects()"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"getAsOf()"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"getBase64Encoded(SecretKey)","u":"getBase64Encoded(javax.crypto.SecretKey)"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"getBegin()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"getBounds()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"getBundleUrl(Path)","u":"getBundleUrl(java.nio.file.Path)"},{"p":"org.icij.datashare","c":"Deliverable","l":"getCanonicalPath()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getCategory()"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"getCategory()"},{"p":"org.icij.datashare.reflect","c":"EnumTypeToken","l":"getClassName()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"getClassName()"},{"p":"org.icij.datashare.text","c":"Document","l":"getContent()"},{"p":"org.icij.datashare.text","c":"Document","l":"getContentEncoding()"},{"p":"org.icij.datashare.text","c":"Document","l":"getContentLength()"},{"p":"org.icij.datashare.text","c":"Document","l":"getContentTextLength()"},{"p":"org.icij.datashare.text","c":"Document","l":"getContentTranslated()"},{"p":"org.icij.datashare.text","c":"Document","l":"getContentType()"},{"p":"org.icij.datashare.text","c":"Document","l":"getContentTypeOrDefault()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"getCount()"},{"p":"org.icij.datashare.text","c":"Document","l":"getCreationDate()"},{"p":"org.icij.datashare.user","c":"ApiKey","l":"getCreationDate()"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"getCreationDate()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"getCumulativeCounts()"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"getDefault()"},{"p":"org.icij.datashare.text","c":"CharsetDeserializer","l":"getDefault()"},{"p":"org.icij.datashare","c":"Stage","l":"getDefaultNextStage()"},{"p":"org.icij.datashare","c":"Deliverable","l":"getDescription()"},{"p":"org.icij.datashare.text","c":"Project","l":"getDescription()"},{"p":"org.icij.datashare.user","c":"User","l":"getDetails()"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"getDirectory()"},{"p":"org.icij.datashare.text","c":"Document","l":"getDirname()"},{"p":"org.icij.datashare.text","c":"Document","l":"getDirnameFrom(Path)","u":"getDirnameFrom(java.nio.file.Path)"},{"p":"org.icij.datashare","c":"Repository","l":"getDocument(String)","u":"getDocument(java.lang.String)"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getDocumentId()"},{"p":"org.icij.datashare","c":"Repository","l":"getDocuments(Project, Tag...)","u":"getDocuments(org.icij.datashare.text.Project,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare","c":"Repository","l":"getDocumentsNotTaggedWithPipeline(Project, Pipeline.Type)","u":"getDocumentsNotTaggedWithPipeline(org.icij.datashare.text.Project,org.icij.datashare.text.nlp.Pipeline.Type)"},{"p":"org.icij.datashare","c":"Repository","l":"getDocumentUserRecommendations(int, int)","u":"getDocumentUserRecommendations(int,int)"},{"p":"org.icij.datashare","c":"Repository","l":"getDocumentUserRecommendations(int, int, List<Project>)","u":"getDocumentUserRecommendations(int,int,java.util.List)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"getDuration()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"getEncoding()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"getEncoding()"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"getEnd()"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"getExists()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"getExtractedText(String, String, String, int, int, String)","u":"getExtractedText(java.lang.String,java.lang.String,java.lang.String,int,int,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Document","l":"getExtractionDate()"},{"p":"org.icij.datashare.text","c":"Document","l":"getExtractionLevel()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getExtractor()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getExtractorLanguage()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"getFailures()"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"getField(String)","u":"getField(java.lang.String)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"getFilePath(String)","u":"getFilePath(java.lang.String)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"getFilteredProperties(String...)","u":"getFilteredProperties(java.lang.String...)"},{"p":"org.icij.datashare.text","c":"Document","l":"getHash(Project, Path)","u":"getHash(org.icij.datashare.text.Project,java.nio.file.Path)"},{"p":"org.icij.datashare","c":"Repository","l":"getHealth()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"getHealth()"},{"p":"org.icij.datashare.text","c":"Hasher","l":"getHex(byte[])"},{"p":"org.icij.datashare","c":"Deliverable","l":"getHomepage()"},{"p":"org.icij.datashare","c":"Entity","l":"getId()"},{"p":"org.icij.datashare.text","c":"Document","l":"getId()"},{"p":"org.icij.datashare.text","c":"Duplicate","l":"getId()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getId()"},{"p":"org.icij.datashare.text","c":"Project","l":"getId()"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"getId()"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"getId()"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"getId()"},{"p":"org.icij.datashare.user","c":"User","l":"getId()"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getId(T)"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"getInputQueueName(PropertiesProvider)","u":"getInputQueueName(org.icij.datashare.PropertiesProvider)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"getInstance()"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"getInstance()"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"getJars()"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getJson(T)"},{"p":"org.icij.datashare.user","c":"User","l":"getJsonDetails()"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"getKeyFromFile(File, File)","u":"getKeyFromFile(java.io.File,java.io.File)"},{"p":"org.icij.datashare.text","c":"Project","l":"getLabel()"},{"p":"org.icij.datashare.text","c":"Document","l":"getLanguage()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"getLatencies()"},{"p":"org.icij.datashare","c":"Deliverable","l":"getLocalPath(Path)","u":"getLocalPath(java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"Project","l":"getLogoUrl()"},{"p":"org.icij.datashare.text","c":"Offsets","l":"getLong(int)"},{"p":"org.icij.datashare.text","c":"Project","l":"getMaintainerName()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getMention()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getMentionNorm()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getMentionNormTextLength()"},{"p":"org.icij.datashare.text","c":"Document","l":"getMetadata()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getMetadata()"},{"p":"org.icij.datashare.text","c":"Document","l":"getMetadataTitle(String)","u":"getMetadataTitle(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Document","l":"getMetadataTitle(String, String)","u":"getMetadataTitle(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"getModelsBasePath(Language)","u":"getModelsBasePath(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"getModelsFilesystemPath(Language)","u":"getModelsFilesystemPath(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"getModelsVersion()"},{"p":"org.icij.datashare","c":"Deliverable","l":"getName()"},{"p":"org.icij.datashare.text","c":"Document","l":"getName()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"getName()"},{"p":"org.icij.datashare.text","c":"Project","l":"getName()"},{"p":"org.icij.datashare","c":"Repository","l":"getNamedEntity(String)","u":"getNamedEntity(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"getNbSlices()"},{"p":"org.icij.datashare.text","c":"Document","l":"getNerMask()"},{"p":"org.icij.datashare.text","c":"Document","l":"getNerTags()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"getNerVersion()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"getNerVersion()"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"getNextStage(Stage)","u":"getNextStage(org.icij.datashare.Stage)"},{"p":"org.icij.datashare","c":"Repository","l":"getNotes(Project)","u":"getNotes(org.icij.datashare.text.Project)"},{"p":"org.icij.datashare","c":"Repository","l":"getNotes(Project, String)","u":"getNotes(org.icij.datashare.text.Project,java.lang.String)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"getNow()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"getNumSlice()"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getObject(Map<String, Object>, Class<T>)","u":"getObject(java.util.Map,java.lang.Class)"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getObject(String, String, Map<String, Object>, Class<T>)","u":"getObject(java.lang.String,java.lang.String,java.util.Map,java.lang.Class)"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getOffsets()"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"getOutputQueueNameFor(Stage)","u":"getOutputQueueNameFor(org.icij.datashare.Stage)"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getParent(T)"},{"p":"org.icij.datashare.text","c":"Document","l":"getParentDocument()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getPartsOfSpeech()"},{"p":"org.icij.datashare.text","c":"Document","l":"getPath()"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"getPath()"},{"p":"org.icij.datashare.user","c":"User","l":"getPath()"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"getPipelineTypes()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"getPosTagSet(Language)","u":"getPosTagSet(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"getProcessed()"},{"p":"org.icij.datashare.monitoring","c":"Monitorable","l":"getProgressRate()"},{"p":"org.icij.datashare.text","c":"Document","l":"getProject()"},{"p":"org.icij.datashare","c":"Repository","l":"getProject(String)","u":"getProject(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Document","l":"getProjectId()"},{"p":"org.icij.datashare.user","c":"User","l":"getProjectNames()"},{"p":"org.icij.datashare","c":"Repository","l":"getProjects()"},{"p":"org.icij.datashare.user","c":"User","l":"getProjects()"},{"p":"org.icij.datashare","c":"Repository","l":"getProjects(List<String>)","u":"getProjects(java.util.List)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"getProperties()"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"getProperty(String, Properties)","u":"getProperty(java.lang.String,java.util.Properties)"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"getProperty(String, Properties, Function<String, ? extends T>)","u":"getProperty(java.lang.String,java.util.Properties,java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"getProperty(String, Properties, ThrowingFunction<String, ? extends T>)","u":"getProperty(java.lang.String,java.util.Properties,org.icij.datashare.function.ThrowingFunction)"},{"p":"org.icij.datashare.text","c":"Project","l":"getPublisherName()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getQueries(User, String, int, int, String, String)","u":"getQueries(org.icij.datashare.user.User,java.lang.String,int,int,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getQueries(User, String, int, int, String, String, int)","u":"getQueries(org.icij.datashare.user.User,java.lang.String,int,int,java.lang.String,java.lang.String,int)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"getQueryList()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getQueued()"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"getQueueName(PropertiesProvider, Stage)","u":"getQueueName(org.icij.datashare.PropertiesProvider,org.icij.datashare.Stage)"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"getQueueNameFor(Stage)","u":"getQueueNameFor(org.icij.datashare.Stage)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"getQueues()"},{"p":"org.icij.datashare","c":"Repository","l":"getRecommendations(Project)","u":"getRecommendations(org.icij.datashare.text.Project)"},{"p":"org.icij.datashare","c":"Repository","l":"getRecommendations(Project, List<String>)","u":"getRecommendations(org.icij.datashare.text.Project,java.util.List)"},{"p":"org.icij.datashare","c":"Repository","l":"getRecommentationsBy(Project, List<User>)","u":"getRecommentationsBy(org.icij.datashare.text.Project,java.util.List)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getRecords(User, List<String>)","u":"getRecords(org.icij.datashare.user.User,java.util.List)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getRecords(User, List<String>, BatchSearchRepository.WebQuery)","u":"getRecords(org.icij.datashare.user.User,java.util.List,org.icij.datashare.batch.BatchSearchRepository.WebQuery)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"getRemoteFiles()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getResults(User, String)","u":"getResults(org.icij.datashare.user.User,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getResults(User, String, BatchSearchRepository.WebQuery)","u":"getResults(org.icij.datashare.user.User,java.lang.String,org.icij.datashare.batch.BatchSearchRepository.WebQuery)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getResultsTotal(User, String, BatchSearchRepository.WebQuery)","u":"getResultsTotal(org.icij.datashare.user.User,java.lang.String,org.icij.datashare.batch.BatchSearchRepository.WebQuery)"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getRoot(T)"},{"p":"org.icij.datashare.text","c":"Document","l":"getRootDocument()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"getRootDocument()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"getSettings(String, String...)","u":"getSettings(java.lang.String,java.lang.String...)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"getSizes()"},{"p":"org.icij.datashare.text","c":"Project","l":"getSourcePath()"},{"p":"org.icij.datashare.text","c":"Project","l":"getSourceUrl()"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"getStage()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"getStages()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"getStages()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"getStages()"},{"p":"org.icij.datashare","c":"Repository","l":"getStarredDocuments(Project, User)","u":"getStarredDocuments(org.icij.datashare.text.Project,org.icij.datashare.user.User)"},{"p":"org.icij.datashare","c":"Repository","l":"getStarredDocuments(User)","u":"getStarredDocuments(org.icij.datashare.user.User)"},{"p":"org.icij.datashare.text","c":"Document","l":"getStatus()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"getStringQuery()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"getSum()"},{"p":"org.icij.datashare.text","c":"Document","l":"getTags()"},{"p":"org.icij.datashare","c":"Repository","l":"getTags(Project, String)","u":"getTags(org.icij.datashare.text.Project,java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"getTargetEntities()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"getTargetEntities()"},{"p":"org.icij.datashare.function","c":"ThrowingSupplier","l":"getThrows()"},{"p":"org.icij.datashare.text","c":"Document","l":"getTitle()"},{"p":"org.icij.datashare.text","c":"Document","l":"getTitleNorm()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"getTotal(User, List<String>, BatchSearchRepository.WebQuery)","u":"getTotal(org.icij.datashare.user.User,java.util.List,org.icij.datashare.batch.BatchSearchRepository.WebQuery)"},{"p":"org.icij.datashare","c":"Deliverable","l":"getType()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"getType()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"getType()"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getType(Class<? extends Entity>)","u":"getType(java.lang.Class)"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"getType(T)"},{"p":"org.icij.datashare","c":"Deliverable","l":"getUrl()"},{"p":"org.icij.datashare.user","c":"ApiKey","l":"getUser()"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"getUser()"},{"p":"org.icij.datashare.user","c":"UserTask","l":"getUser()"},{"p":"org.icij.datashare","c":"Repository","l":"getUser(String)","u":"getUser(java.lang.String)"},{"p":"org.icij.datashare","c":"Repository","l":"getUserEvents(User)","u":"getUserEvents(org.icij.datashare.user.User)"},{"p":"org.icij.datashare","c":"Repository","l":"getUserHistory(User, UserEvent.Type, int, int, String, boolean, String...)","u":"getUserHistory(org.icij.datashare.user.User,org.icij.datashare.UserEvent.Type,int,int,java.lang.String,boolean,java.lang.String...)"},{"p":"org.icij.datashare","c":"Repository","l":"getUserHistorySize(User, UserEvent.Type, String...)","u":"getUserHistorySize(org.icij.datashare.user.User,org.icij.datashare.UserEvent.Type,java.lang.String...)"},{"p":"org.icij.datashare","c":"Deliverable","l":"getVersion()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"getVersion()"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"getWith(String, String, boolean)","u":"getWith(java.lang.String,java.lang.String,boolean)"},{"p":"org.icij.datashare.text","c":"Language","l":"GREEK"},{"p":"org.icij.datashare.text","c":"Language","l":"GREENLANDIC"},{"p":"org.icij.datashare.text","c":"Language","l":"GUARANI"},{"p":"org.icij.datashare.text.indexing","c":"LanguageGuesser","l":"guess(String)","u":"guess(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"GUJARATI"},{"p":"org.icij.datashare.text","c":"Language","l":"HAITIAN"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"has(Stage)","u":"has(org.icij.datashare.Stage)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"hasFilteredContentTypes()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"hasFilteredDates()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"hasFilteredProjects()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"hasFilteredPublishStates()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"hasFilteredQueries()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"hasFilteredStates()"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"hash"},{"p":"org.icij.datashare.text","c":"Hasher","l":"hash(byte[])"},{"p":"org.icij.datashare.text","c":"Hasher","l":"hash(InputStream)","u":"hash(java.io.InputStream)"},{"p":"org.icij.datashare.text","c":"Hasher","l":"hash(InputStream, String)","u":"hash(java.io.InputStream,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Hasher","l":"hash(Path)","u":"hash(java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"Hasher","l":"hash(Path, String)","u":"hash(java.nio.file.Path,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Hasher","l":"hash(String)","u":"hash(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Hasher","l":"hash(String, Charset)","u":"hash(java.lang.String,java.nio.charset.Charset)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"hashCode()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"hashCode()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"hashCode()"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"hashCode()"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"hashCode()"},{"p":"org.icij.datashare.function","c":"Pair","l":"hashCode()"},{"p":"org.icij.datashare","c":"Note","l":"hashCode()"},{"p":"org.icij.datashare","c":"Repository.Aggregate","l":"hashCode()"},{"p":"org.icij.datashare.text","c":"Document","l":"hashCode()"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"hashCode()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"hashCode()"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"hashCode()"},{"p":"org.icij.datashare.text","c":"Tag","l":"hashCode()"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"hashCode()"},{"p":"org.icij.datashare.user","c":"User","l":"hashCode()"},{"p":"org.icij.datashare","c":"UserEvent","l":"hashCode()"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"hashedKey"},{"p":"org.icij.datashare.text","c":"Hasher","l":"Hasher(int)","u":"%3Cinit%3E(int)"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"hasQueryTemplate()"},{"p":"org.icij.datashare.text","c":"Language","l":"HAUSA"},{"p":"org.icij.datashare.text","c":"Language","l":"HEBREW"},{"p":"org.icij.datashare.text","c":"Language","l":"HERERO"},{"p":"org.icij.datashare.text","c":"Hasher","l":"HEXES"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"hidden"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"hide()"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"hideNamedEntities(String, String, boolean, int, float, Function<Double, Void>)","u":"hideNamedEntities(java.lang.String,java.lang.String,boolean,int,float,java.util.function.Function)"},{"p":"org.icij.datashare.text","c":"Language","l":"HINDI"},{"p":"org.icij.datashare.text","c":"Language","l":"HIRIMOTU"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"Histogram(double[])","u":"%3Cinit%3E(double[])"},{"p":"org.icij.datashare","c":"HumanReadableSize","l":"HumanReadableSize()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Language","l":"HUNGARIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"ICELANDIC"},{"p":"org.icij.datashare.text","c":"Document","l":"id"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"id"},{"p":"org.icij.datashare.text","c":"Duplicate","l":"id"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"id"},{"p":"org.icij.datashare.user","c":"User","l":"id"},{"p":"org.icij.datashare","c":"UserEvent","l":"id"},{"p":"org.icij.datashare","c":"UserEvent.Type","l":"id"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"IDENTIFIER"},{"p":"org.icij.datashare.function","c":"ThrowingFunction","l":"identity()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"idleTimeoutMs"},{"p":"org.icij.datashare.text","c":"Language","l":"IDO"},{"p":"org.icij.datashare.text","c":"Language","l":"IGBO"},{"p":"org.icij.datashare","c":"Stage","l":"INDEX"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"INDEXED"},{"p":"org.icij.datashare.text","c":"Language","l":"INDONESIAN"},{"p":"org.icij.datashare","c":"Note.Variant","l":"info"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"initialize(Language)","u":"initialize(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"initialize(Language)","u":"initialize(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare","c":"Deliverable","l":"install(File, Path)","u":"install(java.io.File,java.nio.file.Path)"},{"p":"org.icij.datashare","c":"Deliverable","l":"install(Path)","u":"install(java.nio.file.Path)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"instance"},{"p":"org.icij.datashare.text","c":"Language","l":"INTERLIGUE"},{"p":"org.icij.datashare.text","c":"Language","l":"INTERLINGUA"},{"p":"org.icij.datashare.text","c":"Language","l":"INUKTITUT"},{"p":"org.icij.datashare.text","c":"Language","l":"INUPIAQ"},{"p":"org.icij.datashare.text","c":"Language","l":"IRISH"},{"p":"org.icij.datashare.text","c":"Project","l":"isAllowed(InetSocketAddress)","u":"isAllowed(java.net.InetSocketAddress)"},{"p":"org.icij.datashare.text","c":"Project","l":"isAllowed(Project, InetSocketAddress)","u":"isAllowed(org.icij.datashare.text.Project,java.net.InetSocketAddress)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"isCacheable(Document)","u":"isCacheable(org.icij.datashare.text.Document)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"isCaching()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"isCaching()"},{"p":"org.icij.datashare.text","c":"Document","l":"isEmail()"},{"p":"org.icij.datashare.text","c":"StringUtils","l":"isEmpty(String)","u":"isEmpty(java.lang.String)"},{"p":"org.icij.datashare.function","c":"Predicates","l":"isEQ"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"isFileReadable(Path)","u":"isFileReadable(java.nio.file.Path)"},{"p":"org.icij.datashare","c":"Stage","l":"isFirstEnum()"},{"p":"org.icij.datashare.function","c":"Predicates","l":"isGE"},{"p":"org.icij.datashare.user","c":"User","l":"isGranted(Project)","u":"isGranted(org.icij.datashare.text.Project)"},{"p":"org.icij.datashare.user","c":"User","l":"isGranted(String)","u":"isGranted(java.lang.String)"},{"p":"org.icij.datashare.function","c":"Predicates","l":"isGT"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"isHidden()"},{"p":"org.icij.datashare.text","c":"Document","l":"isJson()"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"isJsonQuery()"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"isJsonQuery()"},{"p":"org.icij.datashare","c":"Stage","l":"isLastEnum()"},{"p":"org.icij.datashare.function","c":"Predicates","l":"isLE"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"isLoaded(Language)","u":"isLoaded(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.user","c":"User","l":"isLocal()"},{"p":"org.icij.datashare.function","c":"Predicates","l":"isLT"},{"p":"org.icij.datashare","c":"Stage","l":"isMainStage"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"isMockTime()"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"isNull()"},{"p":"org.icij.datashare.user","c":"User","l":"isNull()"},{"p":"org.icij.datashare.text","c":"Language","l":"iso6391Code"},{"p":"org.icij.datashare.text","c":"Language","l":"iso6391Code()"},{"p":"org.icij.datashare.text","c":"Language","l":"iso6392Code"},{"p":"org.icij.datashare.text","c":"Language","l":"iso6392Code()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"isPresent(Language)","u":"isPresent(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text","c":"Document","l":"isRootDocument()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"isSorted()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"isSync()"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"isSync(String, File)","u":"isSync(java.lang.String,java.io.File)"},{"p":"org.icij.datashare.json","c":"JsonUtils","l":"isValidJson(String)","u":"isValidJson(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"ITALIAN"},{"p":"org.icij.datashare","c":"Repository.Aggregate","l":"item"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"itIsNow(String)","u":"itIsNow(java.lang.String)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"itIsNow(String)","u":"itIsNow(java.lang.String)"},{"p":"org.icij.datashare.time","c":"Time","l":"itIsNow(String)","u":"itIsNow(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"IXAPIPE"},{"p":"org.icij.datashare.text","c":"Language","l":"JAPANESE"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"jars"},{"p":"org.icij.datashare.test","c":"JarUtil","l":"JarUtil()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Language","l":"JAVANESE"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"join"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"joinColon"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"joinComma"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"joinPipe"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"joinSemcol"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"JsonObjectMapper()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.json","c":"JsonUtils","l":"JsonUtils()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"JVM_PROPERTY_NAME"},{"p":"org.icij.datashare","c":"HumanReadableSize.Unit","l":"K"},{"p":"org.icij.datashare.text","c":"Language","l":"KANNADA"},{"p":"org.icij.datashare.text","c":"Language","l":"KANURI"},{"p":"org.icij.datashare.text","c":"Language","l":"KASHMIRI"},{"p":"org.icij.datashare.text","c":"Language","l":"KAZAKH"},{"p":"org.icij.datashare.text","c":"Language","l":"KIKUYU"},{"p":"org.icij.datashare.text","c":"Language","l":"KINYARWANDA"},{"p":"org.icij.datashare.text","c":"Language","l":"KIRGHIZ"},{"p":"org.icij.datashare.text","c":"Language","l":"KOMI"},{"p":"org.icij.datashare.text","c":"Language","l":"KONGO"},{"p":"org.icij.datashare.text","c":"Language","l":"KOREAN"},{"p":"org.icij.datashare.text","c":"Language","l":"KUANYAMA"},{"p":"org.icij.datashare.text","c":"Language","l":"KURDISH"},{"p":"org.icij.datashare.text","c":"Project","l":"label"},{"p":"org.icij.datashare.text","c":"Tag","l":"label"},{"p":"org.icij.datashare.text","c":"Document","l":"language"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"language"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"language"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"language"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"LANGUAGE"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"LANGUAGE"},{"p":"org.icij.datashare.text","c":"Language","l":"Language(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"LAO"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"lastUsed"},{"p":"org.icij.datashare.text.nlp","c":"SentenceBatches","l":"lastWhitespace(String, int, int)","u":"lastWhitespace(java.lang.String,int,int)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"latencies"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"LATENCY_BUCKETS_SECONDS"},{"p":"org.icij.datashare.text","c":"Language","l":"LATIN"},{"p":"org.icij.datashare.text","c":"Language","l":"LATVIAN"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"LEMMA"},{"p":"org.icij.datashare","c":"Note.Variant","l":"light"},{"p":"org.icij.datashare.text","c":"Language","l":"LIMBURGAN"},{"p":"org.icij.datashare.text.indexing","c":"ExtractedText","l":"limit"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"limit(int)"},{"p":"org.icij.datashare.text","c":"Language","l":"LINGALA"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"listeners"},{"p":"org.icij.datashare.text","c":"Language","l":"LITHUANIAN"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"load(Consumer<T>, Predicate<Class<?>>)","u":"load(java.util.function.Consumer,java.util.function.Predicate)"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"load(ExtensionLoader)","u":"load(org.icij.datashare.extension.ExtensionLoader)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"load(Language)","u":"load(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"loadEnvVariables(Properties)","u":"loadEnvVariables(java.util.Properties)"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"loadJars(DynamicClassLoader, File[])","u":"loadJars(org.icij.datashare.DynamicClassLoader,java.io.File[])"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"loadModelFile(Language)","u":"loadModelFile(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.user","c":"User","l":"LOCAL"},{"p":"org.icij.datashare.user","c":"User","l":"local()"},{"p":"org.icij.datashare.text.nlp","c":"SentenceBatches","l":"locale(Language)","u":"locale(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.user","c":"User","l":"localUser(String)","u":"localUser(java.lang.String)"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"LOCATION"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"LogbackAppenderWrapper()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"logErrorInstance(String)","u":"logErrorInstance(java.lang.String)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"logger"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"logger"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"logger"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"logger"},{"p":"org.icij.datashare","c":"Entity","l":"LOGGER"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"LOGGER"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"LOGGER"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"LOGGER"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"LOGGER"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"LOGGER"},{"p":"org.icij.datashare.text","c":"Project","l":"logoUrl"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"logs()"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"logs(Level)","u":"logs(ch.qos.logback.classic.Level)"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"logs(Level)","u":"logs(org.slf4j.event.Level)"},{"p":"org.icij.datashare.text","c":"Language","l":"LUBAKATANGA"},{"p":"org.icij.datashare.text","c":"Language","l":"LUXEMBOURGISH"},{"p":"org.icij.datashare","c":"HumanReadableSize.Unit","l":"M"},{"p":"org.icij.datashare.text","c":"Language","l":"MACEDONIAN"},{"p":"org.icij.datashare.text","c":"Project","l":"maintainerName"},{"p":"org.icij.datashare.text","c":"Language","l":"MALAGASY"},{"p":"org.icij.datashare.text","c":"Language","l":"MALAY"},{"p":"org.icij.datashare.text","c":"Language","l":"MALAYALAM"},{"p":"org.icij.datashare.text","c":"Language","l":"MALDIVIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"MALTESE"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"MANIFEST"},{"p":"org.icij.datashare.text","c":"Language","l":"MANX"},{"p":"org.icij.datashare.text","c":"Language","l":"MAORI"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"MAP_NAME_OPTION"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"mapped"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"MappedInputStream(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"MAPPER"},{"p":"org.icij.datashare.text","c":"Language","l":"MARATHI"},{"p":"org.icij.datashare.text","c":"Language","l":"MARSHALLESE"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"mask"},{"p":"org.icij.datashare.user","c":"ApiKey","l":"match(String)","u":"match(java.lang.String)"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"match(String)","u":"match(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"MAX_MAPPING_SIZE"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"MAX_NESTING_DEPTH"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"MAX_NUMBER_LENGTH"},{"p":"org.icij.datashare.json","c":"JsonObjectMapper","l":"MAX_STRING_LENGTH"},{"p":"org.icij.datashare.text.indexing","c":"ExtractedText","l":"maxOffset"},{"p":"org.icij.datashare.text","c":"Hasher","l":"MD5"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"mention"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"mentionIndicesMap"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"mentionNorm"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"merge(List<NamedEntity>)","u":"merge(java.util.List)"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"mergeByMention(List<NamedEntity>)","u":"mergeByMention(java.util.List)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"mergeWith(Properties)","u":"mergeWith(java.util.Properties)"},{"p":"org.icij.datashare.text","c":"Document","l":"metadata"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"metadata"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"metadata"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"metadata"},{"p":"org.icij.datashare.text","c":"FileExtension","l":"mimeTypesExtensions"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"MITIE"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"mockDate"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"modelLock"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"models"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"modelsBundle"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"ModelsBundle(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"modelsIdleTimeoutMs"},{"p":"org.icij.datashare","c":"UserEvent","l":"modificationDate"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"MODIFIED"},{"p":"org.icij.datashare.text","c":"Language","l":"MOLDAVIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"MOLDOVAN"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"MONEY"},{"p":"org.icij.datashare.text","c":"Language","l":"MONGOLIAN"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"name"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"name"},{"p":"org.icij.datashare.user","c":"User","l":"name"},{"p":"org.icij.datashare","c":"UserEvent","l":"name"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"NamedEntitiesBuilder(Pipeline.Type, String, Language)","u":"%3Cinit%3E(org.icij.datashare.text.nlp.Pipeline.Type,java.lang.String,org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"NamedEntitiesBuilder(Pipeline.Type, String, Language, Map<String, Object>)","u":"%3Cinit%3E(org.icij.datashare.text.nlp.Pipeline.Type,java.lang.String,org.icij.datashare.text.Language,java.util.Map)"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"NamedEntity(NamedEntity.Category, String, Offsets, String, String, Pipeline.Type, Language, Boolean, String, Map<String, Object>)","u":"%3Cinit%3E(org.icij.datashare.text.NamedEntity.Category,java.lang.String,org.icij.datashare.text.Offsets,java.lang.String,java.lang.String,org.icij.datashare.text.nlp.Pipeline.Type,org.icij.datashare.text.Language,java.lang.Boolean,java.lang.String,java.util.Map)"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"NAMESPACE_URI_DC"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"NAMESPACE_URI_DC_TERMS"},{"p":"org.icij.datashare.text","c":"Language","l":"NAURU"},{"p":"org.icij.datashare.text","c":"Language","l":"NAVAJO"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"nbQueries"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"nbResults"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"nbSlices"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"nbSlices"},{"p":"org.icij.datashare.text","c":"Language","l":"NDONGA"},{"p":"org.icij.datashare.text","c":"Language","l":"NEPALI"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"NER"},{"p":"org.icij.datashare.text","c":"Document","l":"nerMask(Set<Pipeline.Type>)","u":"nerMask(java.util.Set)"},{"p":"org.icij.datashare.text","c":"Document","l":"nerTags"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"nerVersion(Pipeline, List<NlpStage>)","u":"nerVersion(org.icij.datashare.text.nlp.Pipeline,java.util.List)"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"nextBuffer()"},{"p":"org.icij.datashare","c":"Deliverable.Type","l":"NLP"},{"p":"org.icij.datashare","c":"Stage","l":"NLP"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"NLP_MODELS_BUNDLE_PROP"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"NLP_MODELS_IDLE_TIMEOUT_PROP"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"NLP_PRELOAD_LANGUAGES_PROP"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"NLP_STAGES_PROP"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"NlpStage()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"NlpTag(NlpStage, int, int)","u":"%3Cinit%3E(org.icij.datashare.text.nlp.NlpStage,int,int)"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"NlpTag(NlpStage, int, int, NamedEntity.Category)","u":"%3Cinit%3E(org.icij.datashare.text.nlp.NlpStage,int,int,org.icij.datashare.text.NamedEntity.Category)"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"NONE"},{"p":"org.icij.datashare.text","c":"StringUtils","l":"normalize(String)","u":"normalize(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"NORTHERNSAMI"},{"p":"org.icij.datashare.text","c":"Language","l":"NORTHNDEBELE"},{"p":"org.icij.datashare.text","c":"Language","l":"NORWEGIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"NORWEGIANBOKMAL"},{"p":"org.icij.datashare.text","c":"Language","l":"NORWEGIANNYNORSK"},{"p":"org.icij.datashare","c":"Note","l":"note"},{"p":"org.icij.datashare","c":"Note","l":"Note(Project, Path, String)","u":"%3Cinit%3E(org.icij.datashare.text.Project,java.nio.file.Path,java.lang.String)"},{"p":"org.icij.datashare","c":"Note","l":"Note(Project, Path, String, Note.Variant)","u":"%3Cinit%3E(org.icij.datashare.text.Project,java.nio.file.Path,java.lang.String,org.icij.datashare.Note.Variant)"},{"p":"org.icij.datashare.function","c":"Predicates","l":"notEmptyList"},{"p":"org.icij.datashare.function","c":"Predicates","l":"notEmptyStr"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"notifyListeners()"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"now()"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"now()"},{"p":"org.icij.datashare.time","c":"Time","l":"now()"},{"p":"org.icij.datashare.user","c":"User","l":"nullUser()"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"NUMBER"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"numSlice"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"numSlice"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"objectExists(String)","u":"objectExists(java.lang.String)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"observe(double)"},{"p":"org.icij.datashare.text","c":"Language","l":"OCCITAN"},{"p":"org.icij.datashare.text","c":"Offsets","l":"of(Collection<? extends Number>)","u":"of(java.util.Collection)"},{"p":"org.icij.datashare.text","c":"Offsets","l":"of(long...)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"ofContentType(String)","u":"ofContentType(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"ExtractedText","l":"offset"},{"p":"org.icij.datashare.text.indexing","c":"SearchedText","l":"offsets"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"offsets"},{"p":"org.icij.datashare.text","c":"Offsets","l":"Offsets()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Offsets","l":"Offsets(int)","u":"%3Cinit%3E(int)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"ofStatus(Document.Status)","u":"ofStatus(org.icij.datashare.text.Document.Status)"},{"p":"org.icij.datashare.text","c":"Language","l":"OJIBWA"},{"p":"org.icij.datashare.text","c":"Language","l":"OLDSLAVONIC"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"open(Path)","u":"open(java.nio.file.Path)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"openBundledModel(Language, String)","u":"openBundledModel(org.icij.datashare.text.Language,java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"OPENNLP"},{"p":"org.icij.datashare.json","c":"OptionalMixin","l":"OptionalMixin()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"order"},{"p":"org.icij.datashare.batch","c":"WebQueryPagination","l":"order"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"ORGANIZATION"},{"p":"org.icij.datashare.text","c":"Language","l":"ORIYA"},{"p":"org.icij.datashare.text","c":"Language","l":"OROMO"},{"p":"org.icij.datashare.text","c":"Language","l":"OSSETIAN"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"overrideQueueNameWithHash()"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"overrideQueueNameWithHash(String)","u":"overrideQueueNameWithHash(java.lang.String)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"overrideWith(Properties)","u":"overrideWith(java.util.Properties)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"overrideWith(PropertiesProvider)","u":"overrideWith(org.icij.datashare.PropertiesProvider)"},{"p":"org.icij.datashare.function","c":"Pair","l":"Pair(T1, T2)","u":"%3Cinit%3E(T1,T2)"},{"p":"org.icij.datashare.text","c":"Language","l":"PALI"},{"p":"org.icij.datashare.text","c":"Language","l":"PANJABI"},{"p":"org.icij.datashare.text","c":"Document","l":"parentDocument"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"parentId"},{"p":"org.icij.datashare.reflect","c":"EnumTypeToken","l":"parse(Class<E>, String)","u":"parse(java.lang.Class,java.lang.String)"},{"p":"org.icij.datashare","c":"HumanReadableSize","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.icij.datashare","c":"Stage","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Hasher","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"parse(String)","u":"parse(java.lang.String)"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"parseAll"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"parseAll"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"parseAll(String)","u":"parseAll(java.lang.String)"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"parseBoolean"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"parseBooleans"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"parseCharset"},{"p":"org.icij.datashare.reflect","c":"EnumTypeToken","l":"parseClassName(Class<?>, Class<E>, String)","u":"parseClassName(java.lang.Class,java.lang.Class,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"PARSED"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"parseInt"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"parseInts"},{"p":"org.icij.datashare.function","c":"Functions","l":"parseLanguage"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"partsOfSpeech"},{"p":"org.icij.datashare.text","c":"Language","l":"PASHTO"},{"p":"org.icij.datashare","c":"Note","l":"path"},{"p":"org.icij.datashare.text","c":"Document","l":"path"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"path"},{"p":"org.icij.datashare.text","c":"Duplicate","l":"path"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"path"},{"p":"org.icij.datashare.text","c":"PathDeserializer","l":"PathDeserializer()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"paths"},{"p":"org.icij.datashare.text","c":"PathSerializer","l":"PathSerializer()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare","c":"HumanReadableSize","l":"pattern"},{"p":"org.icij.datashare.text","c":"Project","l":"pattern"},{"p":"org.icij.datashare.text","c":"Language","l":"PERSIAN"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"PERSON"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"phraseMatches"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"PipelineHelper(PropertiesProvider)","u":"%3Cinit%3E(org.icij.datashare.PropertiesProvider)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"PipelineMetrics()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"PipelineRegistry(PropertiesProvider)","u":"%3Cinit%3E(org.icij.datashare.PropertiesProvider)"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"pipelines"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"pipelines"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"pipelineType"},{"p":"org.icij.datashare","c":"Deliverable.Type","l":"PLUGIN"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"PLUGINS_DIR"},{"p":"org.icij.datashare.text","c":"Language","l":"POLISH"},{"p":"org.icij.datashare.text","c":"Language","l":"PORTUGUESE"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"POS"},{"p":"org.icij.datashare.function","c":"Predicates","l":"Predicates()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"PREFIX"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"PREFIX"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"PREFIX_DC"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"PREFIX_DC_TERMS"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"preload(Collection<Language>)","u":"preload(java.util.Collection)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"preloadLanguages"},{"p":"org.icij.datashare","c":"Note.Variant","l":"primary"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"process(Document)","u":"process(org.icij.datashare.text.Document)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"process(Document)","u":"process(org.icij.datashare.text.Document)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"process(Document, int, int)","u":"process(org.icij.datashare.text.Document,int,int)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"processed"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"processed(long)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"project"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"project"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"project"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"project"},{"p":"org.icij.datashare","c":"Note","l":"project"},{"p":"org.icij.datashare.text","c":"Document","l":"project"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"project"},{"p":"org.icij.datashare.text","c":"Project","l":"project(String)","u":"project(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Project","l":"Project(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Project","l":"Project(String, Path)","u":"%3Cinit%3E(java.lang.String,java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"Project","l":"Project(String, Path, String)","u":"%3Cinit%3E(java.lang.String,java.nio.file.Path,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Project","l":"Project(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Project","l":"Project(String, String, Path, String, String, String, String, String, Date, Date)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.nio.file.Path,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.util.Date,java.util.Date)"},{"p":"org.icij.datashare.text","c":"Project","l":"Project(String, String, String, Path, String, String, String, String, String, Date, Date)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.nio.file.Path,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.util.Date,java.util.Date)"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"ProjectProxy(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"projects"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"projects"},{"p":"org.icij.datashare.user","c":"User","l":"projects"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"propertiesProvider"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"propertiesProvider"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"PropertiesProvider()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"PropertiesProvider(Map<String, Object>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"PropertiesProvider(Properties)","u":"%3Cinit%3E(java.util.Properties)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"PropertiesProvider(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"propertiesToMap(Properties)","u":"propertiesToMap(java.util.Properties)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"Property()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.user","c":"User","l":"provider"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"proxy(String)","u":"proxy(java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"publish(User, String, boolean)","u":"publish(org.icij.datashare.user.User,java.lang.String,boolean)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"published"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"PUBLISHER"},{"p":"org.icij.datashare.text","c":"Project","l":"publisherName"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"publishState"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"publishState"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"putAllIfIsAbsent(Properties, Properties)","u":"putAllIfIsAbsent(java.util.Properties,java.util.Properties)"},{"p":"org.icij.datashare.text","c":"Language","l":"QUECHUA"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"queries"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"queries"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"queries"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"queriesExcluded"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"queriesExcluded"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"queriesExcluded(boolean)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"queriesRetrieved(boolean)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"query"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"query"},{"p":"org.icij.datashare.batch","c":"SearchException","l":"query"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"query"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"query"},{"p":"org.icij.datashare.text.indexing","c":"SearchedText","l":"query"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"query"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"queryAll()"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"queryAsJson()"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"queryTemplate"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"QUEUE_HASH_PROPERTIES"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"QUEUE_NAME_OPTION"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"QUEUE_SEPARATOR"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"queue(String, LongSupplier)","u":"queue(java.lang.String,java.util.function.LongSupplier)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord.State","l":"QUEUED"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"queueHash()"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"queueHashProperties()"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"queueName()"},{"p":"org.icij.datashare.user","c":"User","l":"queueName()"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"queueNameWithHash()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"queues"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"READ_TIMEOUT_MS"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"read()"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"read(byte[], int, int)","u":"read(byte[],int,int)"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"readManifest(Path)","u":"readManifest(java.nio.file.Path)"},{"p":"org.icij.datashare","c":"Repository","l":"recommend(Project, User, List<String>)","u":"recommend(org.icij.datashare.text.Project,org.icij.datashare.user.User,java.util.List)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"refresh(String)","u":"refresh(java.lang.String)"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"register(Class<? extends Pipeline>)","u":"register(java.lang.Class)"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"register(DateChangeListener)","u":"register(org.icij.datashare.time.DateChangeListener)"},{"p":"org.icij.datashare.extension","c":"PipelineRegistry","l":"register(Pipeline.Type)","u":"register(org.icij.datashare.text.nlp.Pipeline.Type)"},{"p":"org.icij.datashare.extension","c":"ExtensionLoader","l":"registerClassesInJar(Consumer<T>, Predicate<Class<?>>, File)","u":"registerClassesInJar(java.util.function.Consumer,java.util.function.Predicate,java.io.File)"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"RELATION"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"release(Language)","u":"release(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"released"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"RemoteFiles(AmazonS3, String)","u":"%3Cinit%3E(com.amazonaws.services.s3.AmazonS3,java.lang.String)"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"removeNewLines"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"removePattFrom"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"removeQueue(String, LongSupplier)","u":"removeQueue(java.lang.String,java.util.function.LongSupplier)"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"removeSpaces"},{"p":"org.icij.datashare","c":"Repository","l":"renameSavedSearch(User, int, String)","u":"renameSavedSearch(org.icij.datashare.user.User,int,java.lang.String)"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper","l":"reset()"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper.TestAppender","l":"reset()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"reset(String)","u":"reset(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"RESOURCE_NAME_KEY"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"RESUME_OPTION"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"RIGHTS"},{"p":"org.icij.datashare.text","c":"Language","l":"ROMANIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"ROMANSH"},{"p":"org.icij.datashare.text","c":"Document","l":"rootDocument"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"rootDocument"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"rootId"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"rootId"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"rootId"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"rootId"},{"p":"org.icij.datashare.text","c":"Language","l":"RUNDI"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord.State","l":"RUNNING"},{"p":"org.icij.datashare.text","c":"Language","l":"RUSSIAN"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"S3_DATASHARE_BUCKET_NAME"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"S3_DATASHARE_ENDPOINT"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"S3_REGION"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"s3Client"},{"p":"org.icij.datashare.text","c":"Language","l":"SAMOAN"},{"p":"org.icij.datashare.text","c":"Language","l":"SANGO"},{"p":"org.icij.datashare.text","c":"Language","l":"SANSKRIT"},{"p":"org.icij.datashare.text","c":"Language","l":"SARDINIAN"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"save()"},{"p":"org.icij.datashare.user","c":"ApiKeyRepository","l":"save(ApiKey)","u":"save(org.icij.datashare.user.ApiKey)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"save(BatchSearch)","u":"save(org.icij.datashare.batch.BatchSearch)"},{"p":"org.icij.datashare","c":"Repository","l":"save(Note)","u":"save(org.icij.datashare.Note)"},{"p":"org.icij.datashare","c":"Repository","l":"save(Project)","u":"save(org.icij.datashare.text.Project)"},{"p":"org.icij.datashare","c":"Repository","l":"save(User)","u":"save(org.icij.datashare.user.User)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"saveResults(String, String, List<Document>)","u":"saveResults(java.lang.String,java.lang.String,java.util.List)"},{"p":"org.icij.datashare","c":"Stage","l":"SCAN"},{"p":"org.icij.datashare","c":"Stage","l":"SCANIDX"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"scroll(Indexer.ScrollQuery)","u":"scroll(org.icij.datashare.text.indexing.Indexer.ScrollQuery)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"scroll(String)","u":"scroll(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"scroll(String, String)","u":"scroll(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"ScrollQuery(String, int, int, String)","u":"%3Cinit%3E(java.lang.String,int,int,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"ScrollQueryBuilder()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare","c":"UserEvent.Type","l":"SEARCH"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"search(List<String>, Class<? extends Entity>)","u":"search(java.util.List,java.lang.Class)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"search(List<String>, Class<? extends Entity>, SearchQuery)","u":"search(java.util.List,java.lang.Class,org.icij.datashare.text.indexing.SearchQuery)"},{"p":"org.icij.datashare.text.indexing","c":"SearchedText","l":"SearchedText(int[], int, String)","u":"%3Cinit%3E(int[],int,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"SearchedText","l":"SearchedText(int[], int, String, String)","u":"%3Cinit%3E(int[],int,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"SearchException","l":"SearchException(String, Throwable)","u":"%3Cinit%3E(java.lang.String,java.lang.Throwable)"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"SearchQuery(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"SearchResult(String, ProjectProxy, String, String, Path, Date, String, long, int)","u":"%3Cinit%3E(java.lang.String,org.icij.datashare.text.ProjectProxy,java.lang.String,java.lang.String,java.nio.file.Path,java.util.Date,java.lang.String,long,int)"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"SearchResult(String, String, String, Path, Date, String, long, int)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.nio.file.Path,java.util.Date,java.lang.String,long,int)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"searchTextOccurrences(String, String, String, String)","u":"searchTextOccurrences(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"searchTextOccurrences(String, String, String, String, String)","u":"searchTextOccurrences(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.function","c":"Pair","l":"second"},{"p":"org.icij.datashare","c":"Note.Variant","l":"secondary"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"SENTENCE"},{"p":"org.icij.datashare.text.nlp","c":"SentenceBatches","l":"SentenceBatches()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Language","l":"SERBIAN"},{"p":"org.icij.datashare.json","c":"JsonUtils","l":"serialize(Map<String, Object>)","u":"serialize(java.util.Map)"},{"p":"org.icij.datashare.text","c":"Offsets.Serializer","l":"serialize(Offsets, JsonGenerator, SerializerProvider)","u":"serialize(org.icij.datashare.text.Offsets,com.fasterxml.jackson.core.JsonGenerator,com.fasterxml.jackson.databind.SerializerProvider)"},{"p":"org.icij.datashare.text","c":"PathSerializer","l":"serialize(Path, JsonGenerator, SerializerProvider)","u":"serialize(java.nio.file.Path,com.fasterxml.jackson.core.JsonGenerator,com.fasterxml.jackson.databind.SerializerProvider)"},{"p":"org.icij.datashare.text","c":"Offsets.Serializer","l":"Serializer()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Document","l":"serialVersionUID"},{"p":"org.icij.datashare.text","c":"Language","l":"serialVersionUID"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"serialVersionUID"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"serialVersionUID"},{"p":"org.icij.datashare.text","c":"Project","l":"serialVersionUID"},{"p":"org.icij.datashare.text","c":"ProjectProxy","l":"serialVersionUID"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"serialVersionUID"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"SET_NAME_OPTION"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"set(Pipeline.Type...)","u":"set(org.icij.datashare.text.nlp.Pipeline.Type...)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"setBundle(ModelsBundle)","u":"setBundle(org.icij.datashare.text.nlp.ModelsBundle)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"setIdleTimeout(long)"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"setMockDate(Date)","u":"setMockDate(java.util.Date)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"setMockDate(Date)","u":"setMockDate(java.util.Date)"},{"p":"org.icij.datashare.time","c":"Time","l":"setMockDate(Date)","u":"setMockDate(java.util.Date)"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"setMockDate(String)","u":"setMockDate(java.lang.String)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"setMockDate(String)","u":"setMockDate(java.lang.String)"},{"p":"org.icij.datashare.time","c":"Time","l":"setMockDate(String)","u":"setMockDate(java.lang.String)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"setMockTime(boolean)"},{"p":"org.icij.datashare.user","c":"User","l":"setProjectNames(List<String>)","u":"setProjectNames(java.util.List)"},{"p":"org.icij.datashare.user","c":"User","l":"setProjects(List<Project>)","u":"setProjects(java.util.List)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"setProperty(String, String)","u":"setProperty(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"setState(String, BatchSearchRecord.State)","u":"setState(java.lang.String,org.icij.datashare.batch.BatchSearchRecord.State)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository","l":"setState(String, SearchException)","u":"setState(java.lang.String,org.icij.datashare.batch.SearchException)"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"SETTINGS_FILE_PARAMETER_KEY"},{"p":"org.icij.datashare","c":"PropertiesProvider.SettingsNotFound","l":"SettingsNotFound()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"settingsPath"},{"p":"org.icij.datashare.text","c":"Hasher","l":"SHA_1"},{"p":"org.icij.datashare.text","c":"Hasher","l":"SHA_256"},{"p":"org.icij.datashare.text","c":"Hasher","l":"SHA_384"},{"p":"org.icij.datashare.text","c":"Hasher","l":"SHA_512"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"sha256(Path)","u":"sha256(java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"Language","l":"SHONA"},{"p":"org.icij.datashare.text","c":"Hasher","l":"shorten(String, int)","u":"shorten(java.lang.String,int)"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"shutdown()"},{"p":"org.icij.datashare.text","c":"Language","l":"SICHUANYI"},{"p":"org.icij.datashare.text","c":"Language","l":"SINDHI"},{"p":"org.icij.datashare.text","c":"Language","l":"SINHALESE"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"size"},{"p":"org.icij.datashare.batch","c":"WebQueryPagination","l":"size"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"size"},{"p":"org.icij.datashare.text","c":"Offsets","l":"size"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"SIZE_BUCKETS"},{"p":"org.icij.datashare.text","c":"Offsets","l":"size()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"size(String, long)","u":"size(java.lang.String,long)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"sizes"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle.MappedInputStream","l":"skip(long)"},{"p":"org.icij.datashare.time","c":"DatashareMockTime","l":"sleep(int)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"sleep(int)"},{"p":"org.icij.datashare.time","c":"Time","l":"sleep(int)"},{"p":"org.icij.datashare.text","c":"Language","l":"SLOVAK"},{"p":"org.icij.datashare.text","c":"Language","l":"SLOVENIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"SOMALI"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"sort"},{"p":"org.icij.datashare.batch","c":"WebQueryPagination","l":"sort"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"SOURCE"},{"p":"org.icij.datashare.text","c":"Project","l":"sourcePath"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"SourcePath()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"SourcePath(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"Project","l":"sourceUrl"},{"p":"org.icij.datashare.text","c":"Language","l":"SOUTHERNSOTHO"},{"p":"org.icij.datashare.text","c":"Language","l":"SOUTHNDEBELE"},{"p":"org.icij.datashare.text","c":"Language","l":"SPANISH"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"split"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"splitColon"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"splitComma"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"splitPipe"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"splitSemcol"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"stage"},{"p":"org.icij.datashare.text.nlp","c":"NlpTag","l":"stage"},{"p":"org.icij.datashare","c":"Stage","l":"Stage(boolean)","u":"%3Cinit%3E(boolean)"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"stage(Stage)","u":"stage(org.icij.datashare.Stage)"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"stageDependencies"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"StageMetrics()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics","l":"stages"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"stages"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"stages"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"STAGES"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"STAGES_OPT"},{"p":"org.icij.datashare","c":"PipelineHelper","l":"STAGES_SEPARATOR"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"stagesDependenciesTC(List<NlpStage>)","u":"stagesDependenciesTC(java.util.List)"},{"p":"org.icij.datashare","c":"Repository","l":"star(Project, User, List<String>)","u":"star(org.icij.datashare.text.Project,org.icij.datashare.user.User,java.util.List)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"state"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"state"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"state"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord.State","l":"State()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Document","l":"status"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"Status(short)","u":"%3Cinit%3E(short)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.ScrollQuery","l":"stringQuery"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"stringQuery"},{"p":"org.icij.datashare.text","c":"StringUtils","l":"StringUtils()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"SUBJECT"},{"p":"org.icij.datashare","c":"Note.Variant","l":"success"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord.State","l":"SUCCESS"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.Histogram","l":"sum"},{"p":"org.icij.datashare.text","c":"Language","l":"SUNDANESE"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"supportedStages()"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"supports(NlpStage, Language)","u":"supports(org.icij.datashare.text.nlp.NlpStage,org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"supports(NlpStage, Language)","u":"supports(org.icij.datashare.text.nlp.NlpStage,org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text","c":"Language","l":"SWAHILI"},{"p":"org.icij.datashare.text","c":"Language","l":"SWATI"},{"p":"org.icij.datashare.text","c":"Language","l":"SWEDISH"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"SYNC_MODELS_OPTION"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"syncModels(boolean)"},{"p":"org.icij.datashare.time","c":"DatashareTime","l":"systemPropertyInstance"},{"p":"org.icij.datashare","c":"Repository","l":"tag(Project, List<String>, Tag...)","u":"tag(org.icij.datashare.text.Project,java.util.List,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"tag(Project, List<String>, Tag...)","u":"tag(org.icij.datashare.text.Project,java.util.List,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"tag(Project, String, String, Tag...)","u":"tag(org.icij.datashare.text.Project,java.lang.String,java.lang.String,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare","c":"Repository","l":"tag(Project, String, Tag...)","u":"tag(org.icij.datashare.text.Project,java.lang.String,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.text","c":"Tag","l":"tag(String)","u":"tag(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Tag","l":"Tag(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Tag","l":"Tag(String, User)","u":"%3Cinit%3E(java.lang.String,org.icij.datashare.user.User)"},{"p":"org.icij.datashare.text","c":"Tag","l":"Tag(String, User, Date)","u":"%3Cinit%3E(java.lang.String,org.icij.datashare.user.User,java.util.Date)"},{"p":"org.icij.datashare.text","c":"Language","l":"TAGALOG"},{"p":"org.icij.datashare.text","c":"Document","l":"tags"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"tags"},{"p":"org.icij.datashare.text.nlp","c":"Annotations","l":"tags"},{"p":"org.icij.datashare.text","c":"Language","l":"TAHITIAN"},{"p":"org.icij.datashare.text","c":"Language","l":"TAJIK"},{"p":"org.icij.datashare.text","c":"Language","l":"TAMIL"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"targetEntities"},{"p":"org.icij.datashare.text.indexing","c":"ExtractedText","l":"targetLanguage"},{"p":"org.icij.datashare.text.indexing","c":"SearchedText","l":"targetLanguage"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"targetStages"},{"p":"org.icij.datashare.text","c":"Language","l":"TATAR"},{"p":"org.icij.datashare","c":"PropertiesProvider","l":"TCP_LISTEN_PORT"},{"p":"org.icij.datashare.text","c":"Language","l":"TELUGU"},{"p":"org.icij.datashare.text.nlp","c":"AbstractPipeline","l":"terminate(Language)","u":"terminate(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline","l":"terminate(Language)","u":"terminate(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"TEST"},{"p":"org.icij.datashare.test","c":"LogbackAppenderWrapper.TestAppender","l":"TestAppender()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Language","l":"THAI"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"thatMatchesFieldValue(String, Object)","u":"thatMatchesFieldValue(java.lang.String,java.lang.Object)"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"ThrowingFunctions()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Language","l":"TIBETAN"},{"p":"org.icij.datashare.text","c":"Language","l":"TIGRINYA"},{"p":"org.icij.datashare.monitoring","c":"PipelineMetrics.StageMetrics","l":"time(String, long)","u":"time(java.lang.String,long)"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"TITLE"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"TOKEN"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"toLinkedHashMap(LinkedHashSet<String>)","u":"toLinkedHashMap(java.util.LinkedHashSet)"},{"p":"org.icij.datashare.text","c":"Offsets","l":"toLongArray()"},{"p":"org.icij.datashare.text","c":"Language","l":"TONGA"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"toOffsets(List<? extends Number>)","u":"toOffsets(java.util.List)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"toString()"},{"p":"org.icij.datashare.batch","c":"BatchSearch","l":"toString()"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"toString()"},{"p":"org.icij.datashare.batch","c":"SearchException","l":"toString()"},{"p":"org.icij.datashare.batch","c":"SearchResult","l":"toString()"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"toString()"},{"p":"org.icij.datashare","c":"Note","l":"toString()"},{"p":"org.icij.datashare","c":"Repository.Aggregate","l":"toString()"},{"p":"org.icij.datashare.text","c":"Document","l":"toString()"},{"p":"org.icij.datashare.text","c":"Hasher","l":"toString()"},{"p":"org.icij.datashare.text.indexing","c":"SearchQuery","l":"toString()"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"toString()"},{"p":"org.icij.datashare.text","c":"Offsets","l":"toString()"},{"p":"org.icij.datashare.text","c":"Project","l":"toString()"},{"p":"org.icij.datashare.text","c":"SourcePath","l":"toString()"},{"p":"org.icij.datashare.text","c":"Tag","l":"toString()"},{"p":"org.icij.datashare","c":"UserEvent","l":"toString()"},{"p":"org.icij.datashare","c":"Repository.AggregateList","l":"totalCount"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"totalHits()"},{"p":"org.icij.datashare.function","c":"ThrowingFunctions","l":"trim"},{"p":"org.icij.datashare.text","c":"Language","l":"TSONGA"},{"p":"org.icij.datashare.text","c":"Language","l":"TSWANA"},{"p":"org.icij.datashare.text","c":"Language","l":"TURKISH"},{"p":"org.icij.datashare.text","c":"Language","l":"TURKMEN"},{"p":"org.icij.datashare.text","c":"Language","l":"TWI"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"type"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"type"},{"p":"org.icij.datashare","c":"UserEvent","l":"type"},{"p":"org.icij.datashare.text.nlp","c":"DocumentMetadataConstants","l":"TYPE"},{"p":"org.icij.datashare","c":"Deliverable.Type","l":"Type()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"Type(short)","u":"%3Cinit%3E(short)"},{"p":"org.icij.datashare","c":"UserEvent.Type","l":"Type(short)","u":"%3Cinit%3E(short)"},{"p":"org.icij.datashare.text","c":"Language","l":"UIGHUR"},{"p":"org.icij.datashare.text","c":"Language","l":"UKRAINIAN"},{"p":"org.icij.datashare.function","c":"QuadFunction","l":"uncurry(Function<A, Function<B, Function<C, Function<D, R>>>>)","u":"uncurry(java.util.function.Function)"},{"p":"org.icij.datashare.function","c":"TerFunction","l":"uncurry(Function<A, Function<B, Function<C, R>>>)","u":"uncurry(java.util.function.Function)"},{"p":"org.icij.datashare.text","c":"NamedEntity","l":"unhide()"},{"p":"org.icij.datashare","c":"HumanReadableSize.Unit","l":"Unit(long)","u":"%3Cinit%3E(long)"},{"p":"org.icij.datashare","c":"Deliverable.Type","l":"UNKNOWN"},{"p":"org.icij.datashare.text","c":"Language","l":"UNKNOWN"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"UNKNOWN"},{"p":"org.icij.datashare.text.nlp","c":"AbstractModels","l":"unload(Language)","u":"unload(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare","c":"Repository","l":"unrecommend(Project, User, List<String>)","u":"unrecommend(org.icij.datashare.text.Project,org.icij.datashare.user.User,java.util.List)"},{"p":"org.icij.datashare","c":"Repository","l":"unstar(Project, User, List<String>)","u":"unstar(org.icij.datashare.text.Project,org.icij.datashare.user.User,java.util.List)"},{"p":"org.icij.datashare","c":"Repository","l":"untag(Project, List<String>, Tag...)","u":"untag(org.icij.datashare.text.Project,java.util.List,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"untag(Project, List<String>, Tag...)","u":"untag(org.icij.datashare.text.Project,java.util.List,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"untag(Project, String, String, Tag...)","u":"untag(org.icij.datashare.text.Project,java.lang.String,java.lang.String,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare","c":"Repository","l":"untag(Project, String, Tag...)","u":"untag(org.icij.datashare.text.Project,java.lang.String,org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"update(String, T)","u":"update(java.lang.String,T)"},{"p":"org.icij.datashare.text","c":"Project","l":"updateDate"},{"p":"org.icij.datashare.text.indexing","c":"Indexer","l":"updateSettings(String, Map<String, String>)","u":"updateSettings(java.lang.String,java.util.Map)"},{"p":"org.icij.datashare.io","c":"RemoteFiles","l":"upload(File, String)","u":"upload(java.io.File,java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"URDU"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"uri"},{"p":"org.icij.datashare","c":"UserEvent","l":"uri"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"user"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"user"},{"p":"org.icij.datashare","c":"DocumentUserRecommendation","l":"user"},{"p":"org.icij.datashare.text","c":"Tag","l":"user"},{"p":"org.icij.datashare.user","c":"DatashareApiKey","l":"user"},{"p":"org.icij.datashare","c":"UserEvent","l":"user"},{"p":"org.icij.datashare.user","c":"User","l":"User(Map<String, Object>)","u":"%3Cinit%3E(java.util.Map)"},{"p":"org.icij.datashare.user","c":"User","l":"User(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"org.icij.datashare.user","c":"User","l":"User(String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.user","c":"User","l":"User(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.user","c":"User","l":"User(String, String, String, String, Map<String, Object>)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.util.Map)"},{"p":"org.icij.datashare.user","c":"User","l":"User(String, String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.user","c":"User","l":"User(User)","u":"%3Cinit%3E(org.icij.datashare.user.User)"},{"p":"org.icij.datashare","c":"UserEvent","l":"UserEvent(int, User, UserEvent.Type, String, URI, Date, Date)","u":"%3Cinit%3E(int,org.icij.datashare.user.User,org.icij.datashare.UserEvent.Type,java.lang.String,java.net.URI,java.util.Date,java.util.Date)"},{"p":"org.icij.datashare","c":"UserEvent","l":"UserEvent(User, UserEvent.Type, String, URI)","u":"%3Cinit%3E(org.icij.datashare.user.User,org.icij.datashare.UserEvent.Type,java.lang.String,java.net.URI)"},{"p":"org.icij.datashare","c":"UserEvent","l":"UserEvent(User, UserEvent.Type, String, URI, Date, Date)","u":"%3Cinit%3E(org.icij.datashare.user.User,org.icij.datashare.UserEvent.Type,java.lang.String,java.net.URI,java.util.Date,java.util.Date)"},{"p":"org.icij.datashare","c":"UserEvent","l":"UserEvent(User, UserEvent.Type, String, URI, Date, Date, int)","u":"%3Cinit%3E(org.icij.datashare.user.User,org.icij.datashare.UserEvent.Type,java.lang.String,java.net.URI,java.util.Date,java.util.Date,int)"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"uuid"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord","l":"uuid"},{"p":"org.icij.datashare.text","c":"Language","l":"UZBEK"},{"p":"org.icij.datashare.json","c":"OptionalMixin","l":"value"},{"p":"org.icij.datashare.text.indexing","c":"IndexType","l":"value()"},{"p":"org.icij.datashare.text","c":"Hasher","l":"valueOf(int)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord.State","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare","c":"Deliverable.Type","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare","c":"HumanReadableSize.Unit","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare","c":"Note.Variant","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare","c":"Stage","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Hasher","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare","c":"UserEvent.Type","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Offsets","l":"values"},{"p":"org.icij.datashare.batch","c":"BatchSearchRecord.State","l":"values()"},{"p":"org.icij.datashare","c":"Deliverable.Type","l":"values()"},{"p":"org.icij.datashare","c":"HumanReadableSize.Unit","l":"values()"},{"p":"org.icij.datashare","c":"Note.Variant","l":"values()"},{"p":"org.icij.datashare","c":"Stage","l":"values()"},{"p":"org.icij.datashare.text","c":"Document.Status","l":"values()"},{"p":"org.icij.datashare.text","c":"Hasher","l":"values()"},{"p":"org.icij.datashare.text","c":"Language","l":"values()"},{"p":"org.icij.datashare.text","c":"NamedEntity.Category","l":"values()"},{"p":"org.icij.datashare.text.nlp","c":"NlpStage","l":"values()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Property","l":"values()"},{"p":"org.icij.datashare.text.nlp","c":"Pipeline.Type","l":"values()"},{"p":"org.icij.datashare","c":"UserEvent.Type","l":"values()"},{"p":"org.icij.datashare","c":"Note","l":"variant"},{"p":"org.icij.datashare","c":"Note.Variant","l":"Variant()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.text","c":"Language","l":"VENDA"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"verified"},{"p":"org.icij.datashare.text.nlp","c":"ModelsBundle","l":"verify(Path)","u":"verify(java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"Language","l":"VIETNAMESE"},{"p":"org.icij.datashare.text","c":"Language","l":"VOLAPUK"},{"p":"org.icij.datashare.text","c":"Language","l":"WALLOON"},{"p":"org.icij.datashare","c":"Note.Variant","l":"warning"},{"p":"org.icij.datashare","c":"Deliverable.Type","l":"WEB"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"WebQuery(int, int, String, String, String, String, List<String>, List<String>, List<String>, List<String>, String, boolean, boolean, List<String>)","u":"%3Cinit%3E(int,int,java.lang.String,java.lang.String,java.lang.String,java.lang.String,java.util.List,java.util.List,java.util.List,java.util.List,java.lang.String,boolean,boolean,java.util.List)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"WebQueryBuilder()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.batch","c":"WebQueryPagination","l":"WebQueryPagination(String, String, int, int)","u":"%3Cinit%3E(java.lang.String,java.lang.String,int,int)"},{"p":"org.icij.datashare.text","c":"Language","l":"WELSH"},{"p":"org.icij.datashare.text","c":"Language","l":"WESTERNFRISIAN"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Charset)","u":"with(java.nio.charset.Charset)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Document.Status)","u":"with(org.icij.datashare.text.Document.Status)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"with(int, boolean)","u":"with(int,boolean)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Language)","u":"with(org.icij.datashare.text.Language)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(List<Map<String, String>>)","u":"with(java.util.List)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Map<String, Object>)","u":"with(java.util.Map)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Path)","u":"with(java.nio.file.Path)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Pipeline.Type...)","u":"with(org.icij.datashare.text.nlp.Pipeline.Type...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"with(Pipeline.Type...)","u":"with(org.icij.datashare.text.nlp.Pipeline.Type...)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Project)","u":"with(org.icij.datashare.text.Project)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(String)","u":"with(java.lang.String)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"with(Tag...)","u":"with(org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"with(Tag...)","u":"with(org.icij.datashare.text.Tag...)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withBatchDate(List<String>)","u":"withBatchDate(java.util.List)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"withContentLength(long)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withContentTypes(List<String>)","u":"withContentTypes(java.util.List)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"withDefaultValues(String)","u":"withDefaultValues(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"withDuration(String)","u":"withDuration(java.lang.String)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"withExtractionLevel(short)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withField(String)","u":"withField(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"withFieldValues(String, String...)","u":"withFieldValues(java.lang.String,java.lang.String...)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"withId(String)","u":"withId(java.lang.String)"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"withMetadata(Map<String, Object>)","u":"withMetadata(java.util.Map)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"without(Pipeline.Type...)","u":"without(org.icij.datashare.text.nlp.Pipeline.Type...)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"withoutNerVersion(Pipeline.Type, String)","u":"withoutNerVersion(org.icij.datashare.text.nlp.Pipeline.Type,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"withoutSource(String...)","u":"withoutSource(java.lang.String...)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"withParentId(String)","u":"withParentId(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.QueryBuilderSearcher","l":"withPrefixQuery(String, String...)","u":"withPrefixQuery(java.lang.String,java.lang.String...)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withProjects(List<String>)","u":"withProjects(java.util.List)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withPublishState(String)","u":"withPublishState(java.lang.String)"},{"p":"org.icij.datashare.batch","c":"BatchSearchRepository.WebQuery","l":"withQueries"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withQueries"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withQueries(List<String>)","u":"withQueries(java.util.List)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withQuery(String)","u":"withQuery(java.lang.String)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withRange(int, int)","u":"withRange(int,int)"},{"p":"org.icij.datashare.text","c":"NamedEntitiesBuilder","l":"withRoot(String)","u":"withRoot(java.lang.String)"},{"p":"org.icij.datashare.text","c":"DocumentBuilder","l":"withRootId(String)","u":"withRootId(java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"withSlices(int, int)","u":"withSlices(int,int)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withSortOrder(String, String)","u":"withSortOrder(java.lang.String,java.lang.String)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"withSource(boolean)"},{"p":"org.icij.datashare.text.indexing","c":"Indexer.Searcher","l":"withSource(String...)","u":"withSource(java.lang.String...)"},{"p":"org.icij.datashare.batch","c":"WebQueryBuilder","l":"withState(List<String>)","u":"withState(java.util.List)"},{"p":"org.icij.datashare.text.indexing","c":"ScrollQueryBuilder","l":"withStringQuery(String)","u":"withStringQuery(java.lang.String)"},{"p":"org.icij.datashare.text","c":"Language","l":"WOLOF"},{"p":"org.icij.datashare.user","c":"User","l":"XEMX_APPLICATIONS_KEY"},{"p":"org.icij.datashare.user","c":"User","l":"XEMX_DATASHARE_KEY"},{"p":"org.icij.datashare.text","c":"Language","l":"XHOSA"},{"p":"org.icij.datashare.text","c":"Language","l":"YIDDISH"},{"p":"org.icij.datashare.text","c":"Language","l":"YORUBA"},{"p":"org.icij.datashare.text","c":"Language","l":"ZHUANG"},{"p":"org.icij.datashare.batch","c":"BatchDownload","l":"ZIP_FORMAT"},{"p":"org.icij.datashare.function","c":"Functions","l":"zip(Stream<? extends A>, Stream<? extends B>, BiFunction<? super A, ? super B, ? extends C>)","u":"zip(java.util.stream.Stream,java.util.stream.Stream,java.util.function.BiFunction)"},{"p":"org.icij.datashare.text","c":"Language","l":"ZULU"}];updateSearchResults();
\ No newline at end of file
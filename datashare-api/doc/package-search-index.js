@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"org.icij.datashare"},{"l":"org.icij.datashare.batch"},{"l":"org.icij.datashare.extension"},{"l":"org.icij.datashare.function"},{"l":"org.icij.datashare.io"},{"l":"org.icij.datashare.json"},{"l":"org.icij.datashare.monitoring"},{"l":"org.icij.datashare.reflect"},{"l":"org.icij.datashare.test"},{"l":"org.icij.datashare.text"},{"l":"org.icij.datashare.text.indexing"},{"l":"org.icij.datashare.text.nlp"},{"l":"org.icij.datashare.time"},{"l":"org.icij.datashare.user"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"p":"org.icij.datashare.text.nlp","l":"AbstractModels"},{"p":"org.icij.datashare.text.nlp","l":"AbstractPipeline"},{"p":"org.icij.datashare","l":"Repository.Aggregate"},{"p":"org.icij.datashare","l":"Repository.AggregateList"},{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.icij.datashare.text.nlp","l":"Annotations"},{"p":"org.icij.datashare.user","l":"ApiKey"},{"p":"org.icij.datashare.user","l":"ApiKeyRepository"},{"p":"org.icij.datashare.batch","l":"BatchDownload"},{"p":"org.icij.datashare.batch","l":"BatchSearch"},{"p":"org.icij.datashare.batch","l":"BatchSearchRecord"},{"p":"org.icij.datashare.batch","l":"BatchSearchRepository"},{"p":"org.icij.datashare.text","l":"NamedEntity.Category"},{"p":"org.icij.datashare.text","l":"CharsetDeserializer"},{"p":"org.icij.datashare","l":"CollectionUtils"},{"p":"org.icij.datashare.user","l":"DatashareApiKey"},{"p":"org.icij.datashare.time","l":"DatashareDateUtils"},{"p":"org.icij.datashare.text.nlp","l":"DatashareListener"},{"p":"org.icij.datashare.time","l":"DatashareMockTime"},{"p":"org.icij.datashare.time","l":"DatashareTime"},{"p":"org.icij.datashare.time","l":"DateChangeListener"},{"p":"org.icij.datashare","l":"Deliverable"},{"p":"org.icij.datashare.text","l":"Offsets.Deserializer"},{"p":"org.icij.datashare.text","l":"Document"},{"p":"org.icij.datashare.text","l":"DocumentBuilder"},{"p":"org.icij.datashare.text.nlp","l":"DocumentMetadataConstants"},{"p":"org.icij.datashare","l":"DocumentUserRecommendation"},{"p":"org.icij.datashare.text","l":"Duplicate"},{"p":"org.icij.datashare","l":"DynamicClassLoader"},{"p":"org.icij.datashare","l":"Entity"},{"p":"org.icij.datashare.reflect","l":"EnumTypeToken"},{"p":"org.icij.datashare.extension","l":"ExtensionLoader"},{"p":"org.icij.datashare.text.indexing","l":"ExtractedText"},{"p":"org.icij.datashare.text","l":"FileExtension"},{"p":"org.icij.datashare.function","l":"Functions"},{"p":"org.icij.datashare.text","l":"Hasher"},{"p":"org.icij.datashare.monitoring","l":"PipelineMetrics.Histogram"},{"p":"org.icij.datashare","l":"HumanReadableSize"},{"p":"org.icij.datashare.text.indexing","l":"Indexer"},{"p":"org.icij.datashare.text.indexing","l":"IndexId"},{"p":"org.icij.datashare.text.indexing","l":"IndexParent"},{"p":"org.icij.datashare.text.indexing","l":"IndexRoot"},{"p":"org.icij.datashare.text.indexing","l":"IndexType"},{"p":"org.icij.datashare.test","l":"JarUtil"},{"p":"org.icij.datashare.json","l":"JsonObjectMapper"},{"p":"org.icij.datashare.json","l":"JsonUtils"},{"p":"org.icij.datashare.text","l":"Language"},{"p":"org.icij.datashare.text.indexing","l":"LanguageGuesser"},{"p":"org.icij.datashare.test","l":"LogbackAppenderWrapper"},{"p":"org.icij.datashare.text.nlp","l":"ModelsBundle.MappedInputStream"},{"p":"org.icij.datashare.text.nlp","l":"ModelsBundle"},{"p":"org.icij.datashare.monitoring","l":"Monitorable"},{"p":"org.icij.datashare.text","l":"NamedEntitiesBuilder"},{"p":"org.icij.datashare.text","l":"NamedEntity"},{"p":"org.icij.datashare.text.nlp","l":"NlpStage"},{"p":"org.icij.datashare.text.nlp","l":"NlpTag"},{"p":"org.icij.datashare","l":"Note"},{"p":"org.icij.datashare.text","l":"Offsets"},{"p":"org.icij.datashare.json","l":"OptionalMixin"},{"p":"org.icij.datashare.function","l":"Pair"},{"p":"org.icij.datashare.text","l":"PathDeserializer"},{"p":"org.icij.datashare.text","l":"PathSerializer"},{"p":"org.icij.datashare.text.nlp","l":"Pipeline"},{"p":"org.icij.datashare","l":"PipelineHelper"},{"p":"org.icij.datashare.monitoring","l":"PipelineMetrics"},{"p":"org.icij.datashare.extension","l":"PipelineRegistry"},{"p":"org.icij.datashare.function","l":"Predicates"},{"p":"org.icij.datashare.text","l":"Project"},{"p":"org.icij.datashare.text","l":"ProjectProxy"},{"p":"org.icij.datashare","l":"PropertiesProvider"},{"p":"org.icij.datashare.text.nlp","l":"Pipeline.Property"},{"p":"org.icij.datashare.function","l":"QuadFunction"},{"p":"org.icij.datashare.text.indexing","l":"Indexer.QueryBuilderSearcher"},{"p":"org.icij.datashare.io","l":"RemoteFiles"},{"p":"org.icij.datashare","l":"Repository"},{"p":"org.icij.datashare","l":"RepositoryFactory"},{"p":"org.icij.datashare.text.indexing","l":"Indexer.ScrollQuery"},{"p":"org.icij.datashare.text.indexing","l":"ScrollQueryBuilder"},{"p":"org.icij.datashare.text.indexing","l":"SearchedText"},{"p":"org.icij.datashare.text.indexing","l":"Indexer.Searcher"},{"p":"org.icij.datashare.batch","l":"SearchException"},{"p":"org.icij.datashare.text.indexing","l":"SearchQuery"},{"p":"org.icij.datashare.batch","l":"SearchResult"},{"p":"org.icij.datashare.text.nlp","l":"SentenceBatches"},{"p":"org.icij.datashare.text","l":"Offsets.Serializer"},{"p":"org.icij.datashare","l":"PropertiesProvider.SettingsNotFound"},{"p":"org.icij.datashare.text","l":"SourcePath"},{"p":"org.icij.datashare","l":"Stage"},{"p":"org.icij.datashare.monitoring","l":"PipelineMetrics.StageMetrics"},{"p":"org.icij.datashare.batch","l":"BatchSearchRecord.State"},{"p":"org.icij.datashare.text","l":"Document.Status"},{"p":"org.icij.datashare.text","l":"StringUtils"},{"p":"org.icij.datashare.text","l":"Tag"},{"p":"org.icij.datashare.function","l":"TerFunction"},{"p":"org.icij.datashare.test","l":"LogbackAppenderWrapper.TestAppender"},{"p":"org.icij.datashare.function","l":"ThrowingBiConsumer"},{"p":"org.icij.datashare.function","l":"ThrowingBiFunction"},{"p":"org.icij.datashare.function","l":"ThrowingConsumer"},{"p":"org.icij.datashare.function","l":"ThrowingFunction"},{"p":"org.icij.datashare.function","l":"ThrowingFunctions"},{"p":"org.icij.datashare.function","l":"ThrowingSupplier"},{"p":"org.icij.datashare.time","l":"Time"},{"p":"org.icij.datashare","l":"Deliverable.Type"},{"p":"org.icij.datashare.text.nlp","l":"Pipeline.Type"},{"p":"org.icij.datashare","l":"UserEvent.Type"},{"p":"org.icij.datashare","l":"HumanReadableSize.Unit"},{"p":"org.icij.datashare.user","l":"User"},{"p":"org.icij.datashare","l":"UserEvent"},{"p":"org.icij.datashare.user","l":"UserTask"},{"p":"org.icij.datashare","l":"Note.Variant"},{"p":"org.icij.datashare.batch","l":"BatchSearchRepository.WebQuery"},{"p":"org.icij.datashare.batch","l":"WebQueryBuilder"},{"p":"org.icij.datashare.batch","l":"WebQueryPagination"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1,142 @@
+package org.icij.datashare.monitoring;
+
+import org.icij.datashare.Stage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counters, histograms and queue depths of the pipeline stages.
+ *
+ * <p>There is one instance for the JVM shared by the pipeline tasks (see {@link #getInstance()}),
+ * it is exported by the status resource in openmetrics format. Recording is lock free
+ * so that it can be called for each document by the stage workers.</p>
+ */
+public class PipelineMetrics {
+    static final double[] LATENCY_BUCKETS_SECONDS = {0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 60};
+    static final double[] SIZE_BUCKETS = {1, 10, 100, 1000, 10000};
+    private static final PipelineMetrics instance = new PipelineMetrics();
+    private final Map<Stage, StageMetrics> stages = new ConcurrentHashMap<>();
+
+    public static PipelineMetrics getInstance() {
+        return instance;
+    }
+
+    public StageMetrics stage(Stage stage) {
+        return stages.computeIfAbsent(stage, s -> new StageMetrics());
+    }
+
+    /**
+     * @return the metrics of the stages that have been recorded, in the pipeline order
+     */
+    public SortedMap<Stage, StageMetrics> getStages() {
+        SortedMap<Stage, StageMetrics> sorted = new TreeMap<>(Stage.comparator);
+        sorted.putAll(stages);
+        return sorted;
+    }
+
+    public void clear() {
+        stages.clear();
+    }
+
+    public static class StageMetrics {
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final Map<String, Histogram> latencies = new ConcurrentSkipListMap<>();
+        private final Map<String, Histogram> sizes = new ConcurrentSkipListMap<>();
+        private final Map<String, LongSupplier> queues = new ConcurrentSkipListMap<>();
+
+        public void processed(long nbItems) {
+            processed.add(nbItems);
+        }
+
+        public void failed(long nbItems) {
+            failures.add(nbItems);
+        }
+
+        /**
+         * records the duration of an operation of the stage (ex: parse, index, ner)
+         */
+        public void time(String operation, long durationNanos) {
+            latencies.computeIfAbsent(operation, o -> new Histogram(LATENCY_BUCKETS_SECONDS)).observe(durationNanos / 1e9);
+        }
+
+        /**
+         * records the size of a batch (ex: the elements polled from a queue or the entities of a bulk request)
+         */
+        public void size(String name, long size) {
+            sizes.computeIfAbsent(name, n -> new Histogram(SIZE_BUCKETS)).observe(size);
+        }
+
+        /**
+         * registers a queue depth that is read when metrics are exported. It replaces the previous one with the same name.
+         */
+        public void queue(String name, LongSupplier depth) {
+            queues.put(name, depth);
+        }
+
+        /**
+         * unregisters the queue depth if it has not been replaced by another one
+         */
+        public void removeQueue(String name, LongSupplier depth) {
+            queues.remove(name, depth);
+        }
+
+        public long getProcessed() { return processed.sum(); }
+        public long getFailures() { return failures.sum(); }
+        public Map<String, Histogram> getLatencies() { return Collections.unmodifiableMap(latencies); }
+        public Map<String, Histogram> getSizes() { return Collections.unmodifiableMap(sizes); }
+        public Map<String, LongSupplier> getQueues() { return Collections.unmodifiableMap(queues); }
+    }
+
+    public static class Histogram {
+        private final double[] bounds;
+        private final LongAdder[] buckets;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        Histogram(double[] bounds) {
+            this.bounds = bounds;
+            this.buckets = new LongAdder[bounds.length];
+            for (int i = 0; i < bounds.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void observe(double value) {
+            for (int i = 0; i < bounds.length; i++) {
+                if (value <= bounds[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(value);
+        }
+
+        public double[] getBounds() { return bounds.clone(); }
+
+        /**
+         * @return the number of values lower or equal than each bound (the +Inf bucket is {@link #getCount()})
+         */
+        public long[] getCumulativeCounts() {
+            long[] cumulative = new long[bounds.length];
+            long total = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                total += buckets[i].sum();
+                cumulative[i] = total;
+            }
+            return cumulative;
+        }
+
+        public long getCount() { return count.sum(); }
+        public double getSum() { return sum.sum(); }
+    }
+}
@@ -3,17 +3,20 @@ package org.icij.datashare.text;
 import org.icij.datashare.function.Pair;
 import org.icij.datashare.text.nlp.Pipeline;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static java.util.Arrays.asList;
+
 public class NamedEntitiesBuilder {
     private final Pipeline.Type type;
     private final String docId;
     private final Language language;
-    private final Map<Pair<String, NamedEntity.Category>, List<Long>> mentionIndicesMap = new LinkedHashMap<>();
+    private final Map<Pair<String, NamedEntity.Category>, Offsets> mentionIndicesMap = new LinkedHashMap<>();
     private Map<String, Object> metadata;
 
     private String rootId;
@@ -38,11 +41,39 @@ public class NamedEntitiesBuilder {
     }
 
     public NamedEntitiesBuilder add(NamedEntity.Category category, String mention, long index) {
-        mentionIndicesMap.putIfAbsent(new Pair<>(mention, category), new LinkedList<>());
-        mentionIndicesMap.computeIfPresent(new Pair<>(mention, category), (k, v) -> { v.add(index); return v;});
+        mentionIndicesMap.computeIfAbsent(new Pair<>(mention, category), k -> new Offsets()).addLong(index);
         return this;
     }
 
+    /**
+     * merges the named entities of a document that have the same mention, category and extractor
+     * (ex: found in several chunks of the document) into one entity with all the offsets.
+     * Mentions that only have the same normalized form (ex: another case) are not merged, so that the mention
+     * of each offset is kept. The first metadata are kept, the entities that are not merged are returned as is.
+     */
+    public static List<NamedEntity> mergeByMention(List<NamedEntity> namedEntities) {
+        Map<List<Object>, List<NamedEntity>> byMention = new LinkedHashMap<>();
+        for (NamedEntity namedEntity : namedEntities) {
+            byMention.computeIfAbsent(asList(namedEntity.getDocumentId(), namedEntity.getMention(), namedEntity.getCategory(),
+                    namedEntity.getExtractor()), k -> new ArrayList<>()).add(namedEntity);
+        }
+        if (byMention.size() == namedEntities.size()) {
+            return namedEntities;
+        }
+        return byMention.values().stream().map(NamedEntitiesBuilder::merge).collect(Collectors.toList());
+    }
+
+    private static NamedEntity merge(List<NamedEntity> sameMention) {
+        NamedEntity first = sameMention.get(0);
+        if (sameMention.size() == 1) {
+            return first;
+        }
+        Offsets offsets = new Offsets(sameMention.stream().mapToInt(ne -> ne.getOffsets().size()).sum());
+        sameMention.stream().flatMapToLong(ne -> Arrays.stream(ne.getOffsets().toLongArray())).sorted().forEach(offsets::addLong);
+        return NamedEntity.create(first.getCategory(), first.getMention(), offsets, first.getDocumentId(), first.getRootDocument(),
+                first.getExtractor(), first.getExtractorLanguage(), first.getMetadata());
+    }
+
     public NamedEntitiesBuilder withRoot(String rootId) {
         this.rootId = rootId;
         return this;
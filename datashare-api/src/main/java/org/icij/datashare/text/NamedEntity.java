@@ -18,7 +18,6 @@ import org.icij.datashare.text.nlp.Pipeline;
 
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -52,7 +51,7 @@ public final class NamedEntity implements Entity {
     @IndexRoot
     @JsonIgnore
     private final String rootDocument;
-    private final List<Long> offsets = new LinkedList<>();
+    private final Offsets offsets;
     private final Pipeline.Type extractor;
     private final Language extractorLanguage;
     private final String partsOfSpeech;
@@ -114,7 +113,7 @@ public final class NamedEntity implements Entity {
                                      String rootDocument,
                                      Pipeline.Type extr,
                                      Language extrLang) {
-        return new NamedEntity(cat, mention, offsets, doc, rootDocument, extr, extrLang, false, null, null);
+        return new NamedEntity(cat, mention, toOffsets(offsets), doc, rootDocument, extr, extrLang, false, null, null);
     }
 
     public static NamedEntity create(Category cat,
@@ -126,7 +125,11 @@ public final class NamedEntity implements Entity {
                                      Language extrLang,
                                      Map<String, Object> metadata
                                      ) {
-        return new NamedEntity(cat, mention, offsets, doc, rootDocument, extr, extrLang, false, null, metadata);
+        return new NamedEntity(cat, mention, toOffsets(offsets), doc, rootDocument, extr, extrLang, false, null, metadata);
+    }
+
+    private static Offsets toOffsets(List<? extends Number> offsets) {
+        return offsets instanceof Offsets ? (Offsets) offsets : Offsets.of(offsets);
     }
 
     public static List<NamedEntity> allFrom(String text, Annotations annotations) {
@@ -152,7 +155,7 @@ public final class NamedEntity implements Entity {
     private NamedEntity(
                         @JsonProperty("category") Category category,
                         @JsonProperty("mention") String mention,
-                        @JsonProperty("offsets") List<Long> offsets,
+                        @JsonProperty("offsets") Offsets offsets,
                         @JsonProperty("documentId") String documentId,
                         @JsonProperty("rootDocument") String rootDocument,
                         @JsonProperty("extractor") Pipeline.Type extractor,
@@ -175,7 +178,7 @@ public final class NamedEntity implements Entity {
         this.mention = mention;
         this.documentId = documentId;
         this.rootDocument = rootDocument;
-        this.offsets.addAll(offsets);
+        this.offsets = offsets;
         this.extractor = extractor;
         this.extractorLanguage = extractorLanguage;
         this.hidden = hidden;
@@ -192,8 +195,9 @@ public final class NamedEntity implements Entity {
     public String getDocumentId() { return documentId; }
     @JsonIgnore
     public String getRootDocument() { return rootDocument; }
+    public String getMentionNorm() { return mentionNorm; }
     public int getMentionNormTextLength() {return mentionNorm.length();}
-    public List<Long> getOffsets() { return offsets; }
+    public Offsets getOffsets() { return offsets; }
     public Pipeline.Type getExtractor() { return extractor; }
     public Language getExtractorLanguage() { return extractorLanguage; }
     public Map<String, Object> getMetadata() { return metadata; }
@@ -0,0 +1,138 @@
+package org.icij.datashare.text;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Mention offsets of a named entity, stored in a long array.
+ *
+ * <p>A name can be found hundreds of thousands of times in a document: the offsets are not boxed
+ * while they are collected by {@link NamedEntitiesBuilder} and serialized. It is a list of Long for the
+ * code reading the offsets, and its string form is the same as other lists, so that named entity ids don't change.
+ * They are stored in database as JSON arrays, like before.</p>
+ */
+@JsonSerialize(using = Offsets.Serializer.class)
+@JsonDeserialize(using = Offsets.Deserializer.class)
+public final class Offsets extends AbstractList<Long> implements RandomAccess, Serializable {
+    private long[] values;
+    private int size;
+
+    public Offsets() {
+        this(1);
+    }
+
+    public Offsets(int capacity) {
+        values = new long[Math.max(1, capacity)];
+    }
+
+    public static Offsets of(long... offsets) {
+        Offsets result = new Offsets(offsets.length);
+        for (long offset : offsets) {
+            result.addLong(offset);
+        }
+        return result;
+    }
+
+    /**
+     * @return a copy of the given offsets (that may have been deserialized as integers)
+     */
+    public static Offsets of(Collection<? extends Number> offsets) {
+        Offsets result = new Offsets(offsets.size());
+        for (Number offset : offsets) {
+            result.addLong(offset.longValue());
+        }
+        return result;
+    }
+
+    public void addLong(long offset) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = offset;
+        modCount++;
+    }
+
+    public long getLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public boolean add(Long offset) {
+        addLong(offset);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the same string as other lists (ex: [10, 25, 27]), written from the long array without boxing the offsets
+     */
+    @Override
+    public String toString() {
+        StringBuilder string = new StringBuilder(2 + size * 8).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) string.append(", ");
+            string.append(values[i]);
+        }
+        return string.append(']').toString();
+    }
+
+    static class Serializer extends StdSerializer<Offsets> {
+        Serializer() { super(Offsets.class); }
+
+        @Override
+        public void serialize(Offsets offsets, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeArray(offsets.values, 0, offsets.size);
+        }
+    }
+
+    static class Deserializer extends StdDeserializer<Offsets> {
+        Deserializer() { super(Offsets.class); }
+
+        @Override
+        public Offsets deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartArrayToken()) {
+                return (Offsets) context.handleUnexpectedToken(Offsets.class, parser);
+            }
+            Offsets offsets = new Offsets();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    offsets.addLong(parser.getLongValue());
+                } else {
+                    offsets.addLong(_parseLongPrimitive(parser, context));
+                }
+            }
+            return offsets;
+        }
+    }
+}
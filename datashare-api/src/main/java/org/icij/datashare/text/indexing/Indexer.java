@@ -11,7 +11,11 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 
@@ -22,18 +26,37 @@ public interface Indexer extends Closeable {
     Searcher search(List<String> indexesNames, Class<? extends Entity> entityClass, SearchQuery query);
 
     boolean createIndex(String indexName) throws IOException;
+    boolean createIndex(String indexName, int shards) throws IOException;
     boolean deleteAll(String indexName) throws IOException;
 
+    /**
+     * @return the settings explicitly set on the index, settings left to their default value are absent
+     */
+    Map<String, String> getSettings(String indexName, String... settingNames) throws IOException;
+    boolean updateSettings(String indexName, Map<String, String> settings) throws IOException;
+    void refresh(String indexName) throws IOException;
+
     boolean getHealth();
 
     void close() throws IOException;
 
     boolean bulkAdd(String indexName, Pipeline.Type nerType, List<NamedEntity> namedEntities, Document parent) throws IOException;
+    /**
+     * adds the named entities like {@link #bulkAdd(String, Pipeline.Type, List, Document)} and records the NER version
+     * (see {@link Pipeline#getNerVersion()}) of the parent, replacing the previous version of the same pipeline
+     */
+    boolean bulkAdd(String indexName, Pipeline.Type nerType, String nerVersion, List<NamedEntity> namedEntities, Document parent) throws IOException;
+    /**
+     * deletes the named entities found by the pipeline in the parent, except the ones with the kept ids
+     * (the entities of the last run), and returns the number of deleted entities
+     */
+    long deleteNamedEntities(String indexName, Pipeline.Type nerType, Document parent, Collection<String> keptIds) throws IOException;
     <T extends Entity> boolean bulkAdd(final String indexName, List<T> entities) throws IOException;
     <T extends Entity> boolean bulkUpdate(String indexName, List<T> entities) throws IOException;
     <T extends Entity> void add(String indexName, T obj) throws IOException;
     <T extends Entity> void update(String indexName, T obj) throws IOException;
     <T extends Entity> boolean exists(String indexName, String id) throws IOException;
+    long hideNamedEntities(String indexName, String mentionNorm, boolean hidden, int slices, float requestsPerSecond, Function<Double, Void> progressCallback) throws IOException;
 
     <T extends Entity> T get(String indexName, String id);
     <T extends Entity> T get(String indexName, String id, List<String> sourceExcludes);
@@ -41,6 +64,11 @@ public interface Indexer extends Closeable {
     <T extends Entity> T get(String indexName, String id, String root, List<String> sourceExcludes);
 
     String executeRaw(String method, String url, String body) throws IOException;
+    /**
+     * @param body request body, read before sending the request so that it can be sent again to another host
+     * @return the response body
+     */
+    InputStream executeRawStream(String method, String url, InputStream body) throws IOException;
 
     // from Repository
     boolean tag(Project prj, String documentId, String rootDocument, Tag... tags) throws IOException;
@@ -69,6 +97,11 @@ public interface Indexer extends Closeable {
     interface QueryBuilderSearcher extends Searcher {
         QueryBuilderSearcher ofStatus(Document.Status indexed);
         QueryBuilderSearcher without(Pipeline.Type... nlpPipelines);
+        /**
+         * documents that have not been processed by the pipeline of the NER version, or that have been processed
+         * with another recorded version. Documents processed before versions were recorded are not selected.
+         */
+        QueryBuilderSearcher withoutNerVersion(Pipeline.Type nlpPipeline, String nerVersion);
         QueryBuilderSearcher with(Pipeline.Type... nlpPipelines);
         QueryBuilderSearcher with(Tag... tags);
         QueryBuilderSearcher thatMatchesFieldValue(String key, Object value);
@@ -7,18 +7,37 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.Boolean.parseBoolean;
 
+/**
+ * Registry of the NLP models loaded for each language.
+ *
+ * <p>Models are shared by all the threads: they are published through a concurrent map
+ * and loaded once per language. When a pipeline doesn't cache its models, it {@link #release(Language)}s them
+ * and they are unloaded when they have not been used for the idle timeout, instead of being reloaded
+ * from disk for each document.</p>
+ *
+ * <p>When a {@link ModelsBundle} is set, the models are loaded from this local directory after their checksums
+ * have been verified, and they are never downloaded.</p>
+ */
 public abstract class AbstractModels<T> {
     public final static String JVM_PROPERTY_NAME = "DS_SYNC_NLP_MODELS";
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
     protected final Logger LOGGER = LoggerFactory.getLogger(getClass());
     private static final Path BASE_DIR = Paths.get(".").toAbsolutePath().normalize();
     protected static final Path BASE_CLASSPATH = Paths.get("models");
@@ -31,40 +50,134 @@ public abstract class AbstractModels<T> {
     public final NlpStage stage;
     protected final Map<Language, T> models;
     protected final Pipeline.Type type;
+    private final Map<Language, Long> lastUsed = new ConcurrentHashMap<>();
+    private final Set<Language> released = ConcurrentHashMap.newKeySet();
+    private volatile long idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+    private volatile ModelsBundle bundle;
+    private ScheduledExecutorService evictor;
 
     protected AbstractModels(final Pipeline.Type type, final NlpStage stage) {
         this.stage = stage;
         this.type = type;
-        this.models = new HashMap<>();
+        this.models = new ConcurrentHashMap<>();
     }
 
     protected abstract T loadModelFile(Language language) throws IOException;
     protected abstract String getVersion();
 
     public T get(Language language) throws InterruptedException {
-        if (!isLoaded(language)) {
-            load(language);
+        T model = models.get(language);
+        if (model == null) {
+            model = load(language);
         }
-        return models.get(language);
+        lastUsed.put(language, System.currentTimeMillis());
+        return model;
     }
 
-    private void load(Language language) throws InterruptedException {
+    private T load(Language language) throws InterruptedException {
         Semaphore l = modelLock.get(language);
         l.acquire();
         try {
-            if (isLoaded(language)) return;
-            if (isSync()) {
+            T model = models.get(language);
+            if (model != null) return model;
+            if (bundle != null) {
+                bundle.verify(getModelsBasePath(language));
+            } else if (isSync()) {
                 downloadIfNecessary(language);
             }
-            models.put(language, loadModelFile(language));
+            model = loadModelFile(language);
+            models.put(language, model);
             LOGGER.info("loaded {} model for {}", stage, language);
+            return model;
         } catch (IOException e) {
             LOGGER.error("failed loading " + stage, e);
+            return null;
         } finally {
             l.release();
         }
     }
 
+    /**
+     * loads the models of the languages in a background thread, so that the first documents
+     * don't wait for the models to be loaded.
+     */
+    public Thread preload(Collection<Language> languages) {
+        Thread thread = new Thread(() -> {
+            for (Language language : languages) {
+                try {
+                    get(language);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    LOGGER.error("failed preloading {} model for {}", stage, language, e);
+                }
+            }
+        }, "preload-" + stage.name().toLowerCase() + "-models");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * the caller doesn't need the model anymore: it will be unloaded if it is not used during the idle timeout.
+     */
+    public synchronized void release(Language language) {
+        lastUsed.putIfAbsent(language, System.currentTimeMillis());
+        released.add(language);
+        if (evictor == null) {
+            evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "evict-" + stage.name().toLowerCase() + "-models");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(1000, Math.min(idleTimeoutMs, TimeUnit.MINUTES.toMillis(1)));
+            evictor.scheduleWithFixedDelay(() -> {
+                try {
+                    evictIdleModels(System.currentTimeMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * unloads the released models that have not been used since idle timeout
+     * @return the number of unloaded models
+     */
+    int evictIdleModels(long now) throws InterruptedException {
+        int nbEvicted = 0;
+        for (Language language : released) {
+            long idle = now - lastUsed.getOrDefault(language, now);
+            if (idle >= idleTimeoutMs && isLoaded(language)) {
+                LOGGER.info("unloading {} model for {} (unused for {}ms)", stage, language, idle);
+                unload(language);
+                nbEvicted++;
+            }
+        }
+        return nbEvicted;
+    }
+
+    public void setIdleTimeout(long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    public void setBundle(ModelsBundle bundle) {
+        this.bundle = bundle;
+    }
+
+    /**
+     * @return a memory mapped stream of the model file if it is in the models bundle
+     */
+    protected Optional<InputStream> openBundledModel(Language language, String modelFile) throws IOException {
+        if (bundle == null) {
+            return Optional.empty();
+        }
+        Optional<Path> file = bundle.find(getModelsBasePath(language), modelFile);
+        return file.isPresent() ? Optional.of(ModelsBundle.open(file.get())) : Optional.empty();
+    }
+
     public Path getModelsBasePath(Language language) {
         return BASE_CLASSPATH.
                 resolve(type.name().toLowerCase()).
@@ -78,11 +191,19 @@ public abstract class AbstractModels<T> {
 
     public void addResourceToContextClassLoader(Path resourcePath) {
         DynamicClassLoader classLoader = (DynamicClassLoader)ClassLoader.getSystemClassLoader();
-        final URL resource = classLoader.getResource(resourcePath.toString());
+        final URL resource = bundle == null ? classLoader.getResource(resourcePath.toString()) : getBundleUrl(resourcePath);
         LOGGER.info("adding {} to system classloader", resource == null? null: resource.getPath());
         classLoader.add(resource);
     }
 
+    private URL getBundleUrl(Path resourcePath) {
+        try {
+            return bundle.getDirectory().resolve(resourcePath).toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("invalid models bundle path " + resourcePath, e);
+        }
+    }
+
     protected boolean isPresent(Language language) {
         return Thread.currentThread().getContextClassLoader().getResource(getModelsBasePath(language).toString()) != null;
     }
@@ -109,6 +230,8 @@ public abstract class AbstractModels<T> {
         l.acquire();
         try {
             models.remove(language);
+            lastUsed.remove(language);
+            released.remove(language);
         } finally {
             l.release();
         }
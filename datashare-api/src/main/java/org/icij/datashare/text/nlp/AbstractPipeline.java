@@ -9,7 +9,9 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.Charset;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.icij.datashare.function.ThrowingFunctions.*;
 import static org.icij.datashare.text.nlp.Pipeline.Type.valueOf;
@@ -17,6 +19,9 @@ import static org.icij.datashare.text.nlp.Pipeline.Type.valueOf;
 
 public abstract class AbstractPipeline implements Pipeline {
     public static final String NLP_STAGES_PROP = "nlpStages";
+    public static final String NLP_MODELS_BUNDLE_PROP = "nlpModelsBundle";
+    public static final String NLP_MODELS_IDLE_TIMEOUT_PROP = "nlpModelsIdleTimeout";
+    public static final String NLP_PRELOAD_LANGUAGES_PROP = "nlpPreloadLanguages";
     protected final Logger LOGGER = LoggerFactory.getLogger(getClass());
 
 
@@ -25,6 +30,9 @@ public abstract class AbstractPipeline implements Pipeline {
     protected final List<NlpStage> targetStages;
     protected final List<NamedEntity.Category> targetEntities;
     protected final boolean caching;
+    protected final long modelsIdleTimeoutMs;
+    protected final ModelsBundle modelsBundle;
+    protected final List<Language> preloadLanguages;
     protected List<NlpStage> stages;
 
     protected AbstractPipeline(Properties properties) {
@@ -46,6 +54,18 @@ public abstract class AbstractPipeline implements Pipeline {
                 trim.andThen(Boolean::parseBoolean))
                 .orElse(DEFAULT_CACHING);
 
+        modelsIdleTimeoutMs = getProperty(NLP_MODELS_IDLE_TIMEOUT_PROP, properties,
+                trim.andThen(Long::parseLong).andThen(minutes -> minutes * 60 * 1000))
+                .orElse(AbstractModels.DEFAULT_IDLE_TIMEOUT_MS);
+
+        modelsBundle = getProperty(NLP_MODELS_BUNDLE_PROP, properties,
+                trim.andThen(dir -> new ModelsBundle(Paths.get(dir))))
+                .orElse(null);
+
+        preloadLanguages = getProperty(NLP_PRELOAD_LANGUAGES_PROP, properties,
+                removeSpaces.andThen(splitComma).andThen(l -> l.stream().filter(s -> !s.isEmpty()).map(Language::parse).collect(Collectors.toList())))
+                .orElse(Collections.emptyList());
+
         stageDependencies = new HashMap<NlpStage, List<NlpStage>>() {{
             Arrays.stream(NlpStage.values())
                     .forEach( stage ->
@@ -63,6 +83,12 @@ public abstract class AbstractPipeline implements Pipeline {
     @Override
     public List<NlpStage> getStages() { return stages; }
 
+    /**
+     * {@inheritDoc} The target stages are used, so that the version doesn't depend on the pipeline initialization.
+     */
+    @Override
+    public String getNerVersion() { return Pipeline.nerVersion(this, targetStages); }
+
     @Override
     public boolean isCaching() { return caching; }
 
@@ -0,0 +1,179 @@
+package org.icij.datashare.text.nlp;
+
+import org.icij.datashare.text.Hasher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Local and versioned directory of NLP models, used instead of downloading the models.
+ *
+ * <p>It has the same layout as the downloaded models (<code>models/&lt;pipeline&gt;/&lt;version&gt;/&lt;language&gt;</code>),
+ * and each language directory has a {@value #MANIFEST} file with the SHA-256 of its files
+ * (the output of <code>sha256sum</code>). The files are checked once per JVM, without network access.</p>
+ *
+ * <p>Model files are read through memory mappings: the pages are read from the OS page cache,
+ * shared by all the processes of the host that load the same bundle, instead of being copied
+ * in heap buffers by each process.</p>
+ */
+public class ModelsBundle {
+    public static final String MANIFEST = "SHA256SUMS";
+    static final int MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+    private final Path directory;
+    private final Map<Path, Set<String>> verified = new ConcurrentHashMap<>();
+
+    public ModelsBundle(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    public Path getDirectory() { return directory; }
+
+    /**
+     * checks the files of the models directory against its manifest.
+     *
+     * @param modelsPath path of the models relative to the bundle directory
+     * @return the absolute models directory
+     * @throws IOException if the manifest is missing, or a file is missing or corrupted
+     */
+    public Path verify(Path modelsPath) throws IOException {
+        Path modelsDir = directory.resolve(modelsPath).normalize();
+        if (verified.containsKey(modelsDir)) {
+            return modelsDir;
+        }
+        Map<String, String> checksums = readManifest(modelsDir);
+        for (Map.Entry<String, String> checksum : checksums.entrySet()) {
+            Path file = modelsDir.resolve(checksum.getKey()).normalize();
+            if (!file.startsWith(modelsDir) || !Files.isRegularFile(file)) {
+                throw new IOException("missing model file " + file);
+            }
+            String actual = sha256(file);
+            if (!actual.equalsIgnoreCase(checksum.getValue())) {
+                throw new IOException("invalid checksum for " + file + ": expected " + checksum.getValue() + " but was " + actual);
+            }
+        }
+        verified.put(modelsDir, checksums.keySet());
+        return modelsDir;
+    }
+
+    /**
+     * @return the file of the verified models directory if it is listed in its manifest
+     */
+    public Optional<Path> find(Path modelsPath, String file) throws IOException {
+        Path modelsDir = verify(modelsPath);
+        return verified.get(modelsDir).contains(file) ? Optional.of(modelsDir.resolve(file)) : Optional.empty();
+    }
+
+    private static Map<String, String> readManifest(Path modelsDir) throws IOException {
+        Path manifest = modelsDir.resolve(MANIFEST);
+        if (!Files.isRegularFile(manifest)) {
+            throw new IOException("no " + MANIFEST + " manifest in " + modelsDir);
+        }
+        Map<String, String> checksums = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(manifest, UTF_8);
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+            String[] fields = trimmed.split("\\s+\\*?", 2);
+            if (fields.length != 2 || fields[0].length() != Hasher.SHA_256.digestLength) {
+                throw new IOException("invalid line in " + manifest + ": " + line);
+            }
+            checksums.put(fields[1].replace('\\', '/'), fields[0]);
+        }
+        return checksums;
+    }
+
+    static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAX_MAPPING_SIZE) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPING_SIZE, size - position)));
+            }
+        }
+        return Hasher.getHex(digest.digest());
+    }
+
+    /**
+     * @return a stream reading the file through memory mappings
+     */
+    public static InputStream open(Path file) throws IOException {
+        return new MappedInputStream(file);
+    }
+
+    static class MappedInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long size;
+        private long mapped = 0;
+        private MappedByteBuffer buffer;
+
+        MappedInputStream(Path file) throws IOException {
+            channel = FileChannel.open(file, READ);
+            size = channel.size();
+        }
+
+        @Override
+        public int read() throws IOException {
+            return nextBuffer() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) return 0;
+            if (!nextBuffer()) return -1;
+            int nbRead = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, nbRead);
+            return nbRead;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = 0;
+            while (skipped < n && nextBuffer()) {
+                int step = (int) Math.min(n - skipped, buffer.remaining());
+                buffer.position(buffer.position() + step);
+                skipped += step;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer == null ? 0 : buffer.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            buffer = null;
+            channel.close();
+        }
+
+        private boolean nextBuffer() throws IOException {
+            if (buffer != null && buffer.hasRemaining()) return true;
+            if (mapped >= size) return false;
+            long length = Math.min(MAX_MAPPING_SIZE, size - mapped);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapped, length);
+            mapped += length;
+            return true;
+        }
+    }
+}
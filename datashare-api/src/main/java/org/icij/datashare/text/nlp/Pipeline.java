@@ -2,6 +2,7 @@ package org.icij.datashare.text.nlp;
 
 import org.icij.datashare.reflect.EnumTypeToken;
 import org.icij.datashare.text.Document;
+import org.icij.datashare.text.Hasher;
 import org.icij.datashare.text.Language;
 import org.icij.datashare.text.NamedEntity;
 
@@ -140,4 +141,26 @@ public interface Pipeline {
      */
     Optional<String> getPosTagSet(Language language);
 
+    /**
+     * @return the version of the models used by the pipeline. Named entities found with another version are not reused.
+     */
+    default String getModelsVersion() { return "1"; }
+
+    /**
+     * @return true if the named entities found in doc only depend on its content (and language), so that
+     * they can be reused for other documents with the same content
+     */
+    default boolean isCacheable(Document doc) { return true; }
+
+    /**
+     * @return the version of the named entities found by the pipeline: its type, its models version and a hash
+     * of its options (ex: CORENLP:4.5.5:1a2b3c4d). Documents processed with another version can be processed again.
+     */
+    default String getNerVersion() { return nerVersion(this, getStages()); }
+
+    static String nerVersion(Pipeline pipeline, List<NlpStage> stages) {
+        String options = Hasher.SHA_256.hash(stages + "|" + pipeline.getTargetEntities());
+        return String.join(":", pipeline.getType().name(), pipeline.getModelsVersion(), options.substring(0, 8));
+    }
+
 }
@@ -0,0 +1,59 @@
+package org.icij.datashare.text.nlp;
+
+import org.icij.datashare.text.Language;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Cuts a text into batches of sentences of about the same size, so that NLP annotators
+ * process a large document incrementally instead of building one annotation for the whole text.
+ *
+ * <p>A batch ends at the last sentence boundary before the batch size. If a sentence is longer
+ * than the batch size, the batch ends at the last whitespace, or is cut at the batch size.</p>
+ */
+public final class SentenceBatches {
+    public static final int DEFAULT_BATCH_SIZE = 16 * 1024;
+
+    private SentenceBatches() {}
+
+    /**
+     * @return the end offsets (exclusive) of the successive batches, the last one is the text length
+     */
+    public static List<Integer> ends(String text, Language language, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+        }
+        List<Integer> ends = new ArrayList<>(text.length() / batchSize + 1);
+        BreakIterator sentences = BreakIterator.getSentenceInstance(locale(language));
+        sentences.setText(text);
+        int begin = 0;
+        while (text.length() - begin > batchSize) {
+            int limit = begin + batchSize;
+            int end = sentences.preceding(limit + 1);
+            if (end <= begin) {
+                end = lastWhitespace(text, begin, limit);
+            }
+            ends.add(end);
+            begin = end;
+        }
+        ends.add(text.length());
+        return ends;
+    }
+
+    private static int lastWhitespace(String text, int begin, int limit) {
+        for (int i = limit; i > begin; i--) {
+            if (Character.isWhitespace(text.charAt(i - 1))) {
+                return i;
+            }
+        }
+        // don't split a surrogate pair
+        return Character.isHighSurrogate(text.charAt(limit - 1)) ? limit - 1 : limit;
+    }
+
+    private static Locale locale(Language language) {
+        return language == null || language.iso6391Code() == null ? Locale.ROOT : Locale.forLanguageTag(language.iso6391Code());
+    }
+}
@@ -0,0 +1,69 @@
+package org.icij.datashare.monitoring;
+
+import org.icij.datashare.Stage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.function.LongSupplier;
+
+import static java.util.Arrays.asList;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.Delta.delta;
+
+public class PipelineMetricsTest {
+    private final PipelineMetrics metrics = new PipelineMetrics();
+
+    @Test
+    public void test_counters() {
+        metrics.stage(Stage.INDEX).processed(3);
+        metrics.stage(Stage.INDEX).processed(2);
+        metrics.stage(Stage.INDEX).failed(1);
+
+        assertThat(metrics.stage(Stage.INDEX).getProcessed()).isEqualTo(5);
+        assertThat(metrics.stage(Stage.INDEX).getFailures()).isEqualTo(1);
+        assertThat(metrics.stage(Stage.NLP).getProcessed()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_stages_are_in_pipeline_order() {
+        metrics.stage(Stage.NLP);
+        metrics.stage(Stage.SCAN);
+        metrics.stage(Stage.INDEX);
+
+        assertThat(new ArrayList<>(metrics.getStages().keySet())).isEqualTo(asList(Stage.SCAN, Stage.INDEX, Stage.NLP));
+    }
+
+    @Test
+    public void test_latency_histogram() {
+        metrics.stage(Stage.NLP).time("ner", 2_000_000);
+        metrics.stage(Stage.NLP).time("ner", 200_000_000);
+        metrics.stage(Stage.NLP).time("ner", 120_000_000_000L);
+
+        PipelineMetrics.Histogram histogram = metrics.stage(Stage.NLP).getLatencies().get("ner");
+        assertThat(histogram.getCount()).isEqualTo(3);
+        assertThat(histogram.getSum()).isEqualTo(120.202, delta(1e-9));
+        assertThat(histogram.getCumulativeCounts()).isEqualTo(new long[] {0, 1, 1, 1, 1, 2, 2, 2, 2, 2});
+    }
+
+    @Test
+    public void test_queue_depth_replaces_previous_queue() {
+        metrics.stage(Stage.INDEX).queue("input", () -> 12);
+        metrics.stage(Stage.INDEX).queue("input", () -> 3);
+
+        assertThat(metrics.stage(Stage.INDEX).getQueues().get("input").getAsLong()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_remove_queue_depth_only_if_not_replaced() {
+        LongSupplier first = () -> 12;
+        LongSupplier second = () -> 3;
+        metrics.stage(Stage.INDEX).queue("input", first);
+        metrics.stage(Stage.INDEX).queue("input", second);
+
+        metrics.stage(Stage.INDEX).removeQueue("input", first);
+        assertThat(metrics.stage(Stage.INDEX).getQueues().get("input").getAsLong()).isEqualTo(3);
+
+        metrics.stage(Stage.INDEX).removeQueue("input", second);
+        assertThat(metrics.stage(Stage.INDEX).getQueues()).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package org.icij.datashare.text;
+
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.icij.datashare.json.JsonObjectMapper.MAPPER;
+
+public class OffsetsTest {
+    @Test
+    public void test_add_beyond_capacity() {
+        Offsets offsets = new Offsets(1);
+        for (long i = 0; i < 100; i++) {
+            offsets.addLong(i * 10);
+        }
+        assertThat(offsets).hasSize(100);
+        assertThat(offsets.getLong(99)).isEqualTo(990L);
+        assertThat(offsets.get(12)).isEqualTo(120L);
+    }
+
+    @Test
+    public void test_equals_and_string_form_like_other_lists() {
+        assertThat(Offsets.of(12, 34)).isEqualTo(new LinkedList<>(asList(12L, 34L)));
+        assertThat(Offsets.of(12, 34).toString()).isEqualTo(new LinkedList<>(asList(12L, 34L)).toString());
+        assertThat(Offsets.of(12, 34).hashCode()).isEqualTo(asList(12L, 34L).hashCode());
+    }
+
+    @Test
+    public void test_of_integers() {
+        assertThat(Offsets.of(asList(1, 2, 3)).toLongArray()).isEqualTo(new long[] {1, 2, 3});
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_get_out_of_bounds() {
+        Offsets.of(1).getLong(1);
+    }
+
+    @Test
+    public void test_string_form_of_empty_and_large_offsets() {
+        assertThat(new Offsets().toString()).isEqualTo("[]");
+        assertThat(Offsets.of(-1, 1_000_000_000_000L).toString()).isEqualTo(asList(-1L, 1_000_000_000_000L).toString());
+    }
+
+    @Test
+    public void test_json() throws Exception {
+        assertThat(MAPPER.writeValueAsString(Offsets.of(12, 34))).isEqualTo("[12,34]");
+        assertThat(MAPPER.readValue("[12,34]", Offsets.class)).isEqualTo(asList(12L, 34L));
+    }
+
+    @Test
+    public void test_named_entity_json_round_trip() throws Exception {
+        NamedEntity namedEntity = NamedEntity.create(NamedEntity.Category.PERSON, "foo", asList(12L, 34L), "docId", "rootId",
+                org.icij.datashare.text.nlp.Pipeline.Type.CORENLP, Language.ENGLISH);
+
+        String json = MAPPER.writeValueAsString(namedEntity);
+        NamedEntity read = MAPPER.readValue(json, NamedEntity.class);
+
+        assertThat(json).contains("\"offsets\":[12,34]");
+        assertThat((List<Long>) read.getOffsets()).isEqualTo(asList(12L, 34L));
+    }
+}
@@ -1,16 +1,32 @@
 package org.icij.datashare.text.nlp;
 
 import org.icij.datashare.text.Language;
+import org.icij.datashare.text.Hasher;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.assertions.MapAssert.entry;
 import static org.icij.datashare.text.Language.*;
 
 public class AbstractModelsTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
     @Before public void setUp() { System.clearProperty(AbstractModels.JVM_PROPERTY_NAME);}
 
     @Test
@@ -42,10 +58,111 @@ public class AbstractModelsTest {
         assertThat(models.hasBeenDownloaded).isFalse();
     }
 
+    @Test
+    public void test_released_model_is_unloaded_after_idle_timeout() throws Exception {
+        AbstractModels.syncModels(false);
+        ConcreteModelsForTesting models = new ConcreteModelsForTesting(Pipeline.Type.CORENLP, NlpStage.NER);
+        models.setIdleTimeout(1000);
+        models.get(ENGLISH);
+        models.release(ENGLISH);
+
+        assertThat(models.evictIdleModels(System.currentTimeMillis() + 1000)).isEqualTo(1);
+        assertThat(models.isLoaded(ENGLISH)).isFalse();
+    }
+
+    @Test
+    public void test_released_model_is_kept_before_idle_timeout() throws Exception {
+        AbstractModels.syncModels(false);
+        ConcreteModelsForTesting models = new ConcreteModelsForTesting(Pipeline.Type.CORENLP, NlpStage.NER);
+        models.setIdleTimeout(60_000);
+        models.get(ENGLISH);
+        models.release(ENGLISH);
+
+        assertThat(models.evictIdleModels(System.currentTimeMillis())).isEqualTo(0);
+        assertThat(models.isLoaded(ENGLISH)).isTrue();
+    }
+
+    @Test
+    public void test_model_not_released_is_not_unloaded() throws Exception {
+        AbstractModels.syncModels(false);
+        ConcreteModelsForTesting models = new ConcreteModelsForTesting(Pipeline.Type.CORENLP, NlpStage.NER);
+        models.setIdleTimeout(1000);
+        models.get(ENGLISH);
+
+        assertThat(models.evictIdleModels(System.currentTimeMillis() + 2000)).isEqualTo(0);
+        assertThat(models.isLoaded(ENGLISH)).isTrue();
+    }
+
+    @Test
+    public void test_preload_models() throws Exception {
+        AbstractModels.syncModels(false);
+        ConcreteModelsForTesting models = new ConcreteModelsForTesting(Pipeline.Type.CORENLP, NlpStage.NER);
+
+        models.preload(asList(ENGLISH, FRENCH)).join();
+
+        assertThat(models.isLoaded(ENGLISH)).isTrue();
+        assertThat(models.isLoaded(FRENCH)).isTrue();
+        assertThat(models.nbLoads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void test_concurrent_get_loads_model_once() throws Exception {
+        AbstractModels.syncModels(false);
+        ConcreteModelsForTesting models = new ConcreteModelsForTesting(Pipeline.Type.CORENLP, NlpStage.NER);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<HashMap>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return models.get(SPANISH);
+                }));
+            }
+            start.countDown();
+            HashMap first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<HashMap> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(models.nbLoads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_models_bundle_is_verified_and_not_downloaded() throws Exception {
+        ConcreteModelsForTesting models = new ConcreteModelsForTesting(Pipeline.Type.CORENLP, NlpStage.NER);
+        Path modelsDir = Files.createDirectories(folder.getRoot().toPath().resolve(models.getModelsBasePath(ENGLISH)));
+        Files.write(modelsDir.resolve("model.bin"), "model".getBytes(UTF_8));
+        Files.write(modelsDir.resolve(ModelsBundle.MANIFEST), (Hasher.SHA_256.hash("model") + "  model.bin\n").getBytes(UTF_8));
+        models.setBundle(new ModelsBundle(folder.getRoot().toPath()));
+
+        assertThat(models.get(ENGLISH)).includes(entry("foo", "bar"));
+        assertThat(models.hasBeenDownloaded).isFalse();
+        assertThat(models.openBundledModel(ENGLISH, "model.bin").isPresent()).isTrue();
+        assertThat(models.openBundledModel(ENGLISH, "other.bin").isPresent()).isFalse();
+    }
+
+    @Test
+    public void test_invalid_models_bundle_is_not_loaded() throws Exception {
+        ConcreteModelsForTesting models = new ConcreteModelsForTesting(Pipeline.Type.CORENLP, NlpStage.NER);
+        Path modelsDir = Files.createDirectories(folder.getRoot().toPath().resolve(models.getModelsBasePath(ENGLISH)));
+        Files.write(modelsDir.resolve("model.bin"), "corrupted".getBytes(UTF_8));
+        Files.write(modelsDir.resolve(ModelsBundle.MANIFEST), (Hasher.SHA_256.hash("model") + "  model.bin\n").getBytes(UTF_8));
+        models.setBundle(new ModelsBundle(folder.getRoot().toPath()));
+
+        assertThat(models.get(ENGLISH)).isNull();
+        assertThat(models.isLoaded(ENGLISH)).isFalse();
+        assertThat(models.hasBeenDownloaded).isFalse();
+        assertThat(models.nbLoads.get()).isEqualTo(0);
+    }
+
     private static class ConcreteModelsForTesting extends AbstractModels<HashMap> {
         boolean hasBeenDownloaded = false;
+        final AtomicInteger nbLoads = new AtomicInteger();
         ConcreteModelsForTesting(Pipeline.Type type, NlpStage stage) { super(type, stage);}
-        @Override protected HashMap loadModelFile(Language language) { return new HashMap() {{
+        @Override protected HashMap loadModelFile(Language language) { nbLoads.incrementAndGet(); return new HashMap() {{
             put("foo", "bar");
         }};}
         @Override protected String getVersion() { return "1.0";}
@@ -0,0 +1,102 @@
+package org.icij.datashare.text.nlp;
+
+import org.icij.datashare.text.Hasher;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class ModelsBundleTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+    private final Path modelsPath = Paths.get("models", "corenlp", "1-0", "en");
+
+    @Test
+    public void test_verify_bundle() throws Exception {
+        Path modelsDir = createModels("ner/model.ser.gz", "model content");
+        ModelsBundle bundle = new ModelsBundle(folder.getRoot().toPath());
+
+        assertThat(bundle.verify(modelsPath).toString()).isEqualTo(modelsDir.toString());
+        assertThat(bundle.find(modelsPath, "ner/model.ser.gz")).isEqualTo(Optional.of(modelsDir.resolve("ner/model.ser.gz")));
+        assertThat(bundle.find(modelsPath, "ner/unknown.ser.gz")).isEqualTo(Optional.empty());
+    }
+
+    @Test(expected = IOException.class)
+    public void test_verify_bundle_without_manifest() throws Exception {
+        Files.createDirectories(folder.getRoot().toPath().resolve(modelsPath));
+        new ModelsBundle(folder.getRoot().toPath()).verify(modelsPath);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_verify_bundle_with_corrupted_file() throws Exception {
+        Path modelsDir = createModels("ner/model.ser.gz", "model content");
+        Files.write(modelsDir.resolve("ner/model.ser.gz"), "corrupted content".getBytes(UTF_8));
+
+        new ModelsBundle(folder.getRoot().toPath()).verify(modelsPath);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_verify_bundle_with_missing_file() throws Exception {
+        Path modelsDir = createModels("ner/model.ser.gz", "model content");
+        Files.delete(modelsDir.resolve("ner/model.ser.gz"));
+
+        new ModelsBundle(folder.getRoot().toPath()).verify(modelsPath);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_verify_bundle_with_file_outside_models_dir() throws Exception {
+        Path modelsDir = Files.createDirectories(folder.getRoot().toPath().resolve(modelsPath));
+        Files.write(folder.getRoot().toPath().resolve("other"), "content".getBytes(UTF_8));
+        Files.write(modelsDir.resolve(ModelsBundle.MANIFEST), (Hasher.SHA_256.hash("content") + "  ../../../../other\n").getBytes(UTF_8));
+
+        new ModelsBundle(folder.getRoot().toPath()).verify(modelsPath);
+    }
+
+    @Test
+    public void test_sha256_is_the_same_as_hasher() throws Exception {
+        Path file = folder.newFile("file").toPath();
+        Files.write(file, "file content".getBytes(UTF_8));
+
+        assertThat(ModelsBundle.sha256(file)).isEqualTo(Hasher.SHA_256.hash("file content"));
+    }
+
+    @Test
+    public void test_open_mapped_file() throws Exception {
+        byte[] content = new byte[100_000];
+        new Random(12).nextBytes(content);
+        Path file = folder.newFile("model").toPath();
+        Files.write(file, content);
+
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        try (InputStream stream = ModelsBundle.open(file)) {
+            read.write(stream.read());
+            assertThat(stream.skip(9)).isEqualTo(9);
+            read.write(new byte[9]);
+            stream.transferTo(read);
+            assertThat(stream.read()).isEqualTo(-1);
+        }
+        byte[] expected = content.clone();
+        Arrays.fill(expected, 1, 10, (byte) 0);
+        assertThat(read.toByteArray()).isEqualTo(expected);
+    }
+
+    private Path createModels(String file, String content) throws IOException {
+        Path modelsDir = Files.createDirectories(folder.getRoot().toPath().resolve(modelsPath));
+        Path modelFile = modelsDir.resolve(file);
+        Files.createDirectories(modelFile.getParent());
+        Files.write(modelFile, content.getBytes(UTF_8));
+        Files.write(modelsDir.resolve(ModelsBundle.MANIFEST), (Hasher.SHA_256.hash(content) + "  " + file + "\n").getBytes(UTF_8));
+        return modelsDir;
+    }
+}
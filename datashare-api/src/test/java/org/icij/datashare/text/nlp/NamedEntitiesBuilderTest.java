@@ -8,6 +8,8 @@ import org.junit.Test;
 
 import java.util.List;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.icij.datashare.text.NamedEntity.Category.LOCATION;
 import static org.icij.datashare.text.NamedEntity.Category.PERSON;
@@ -63,4 +65,41 @@ public class NamedEntitiesBuilderTest {
                 add(PERSON, "mention1", 12L).withMetadata(meta).build().get(0);
         assertThat(namedEntity.getMetadata()).isEqualTo(meta);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_merge_by_mention_without_duplicates_returns_same_entities() {
+        List<NamedEntity> namedEntities = asList(
+                NamedEntity.create(LOCATION, "Paris", singletonList(10L), "docId", "rootId", CORENLP, Language.ENGLISH),
+                NamedEntity.create(PERSON, "Paris", singletonList(20L), "docId", "rootId", CORENLP, Language.ENGLISH),
+                NamedEntity.create(LOCATION, "Paris", singletonList(30L), "docId", "rootId", EMAIL, Language.ENGLISH));
+
+        assertThat(NamedEntitiesBuilder.mergeByMention(namedEntities)).isSameAs(namedEntities);
+    }
+
+    @Test
+    public void test_merge_by_mention() {
+        NamedEntity paris = NamedEntity.create(LOCATION, "Paris", asList(10L, 40L), "docId", "rootId", CORENLP, Language.ENGLISH);
+        NamedEntity rome = NamedEntity.create(LOCATION, "Rome", singletonList(20L), "docId", "rootId", CORENLP, Language.ENGLISH);
+        NamedEntity parisOtherChunk = NamedEntity.create(LOCATION, "Paris", asList(5L, 30L), "docId", "rootId", CORENLP, Language.ENGLISH);
+
+        List<NamedEntity> merged = NamedEntitiesBuilder.mergeByMention(asList(paris, rome, parisOtherChunk));
+
+        assertThat(merged).hasSize(2);
+        assertThat(merged.get(0).getMention()).isEqualTo("Paris");
+        assertThat(merged.get(0).getRootDocument()).isEqualTo("rootId");
+        assertThat(merged.get(0).getOffsets()).containsExactly(5L, 10L, 30L, 40L);
+        assertThat(merged.get(0).getId()).isEqualTo(
+                NamedEntity.create(LOCATION, "Paris", asList(5L, 10L, 30L, 40L), "docId", "rootId", CORENLP, Language.ENGLISH).getId());
+        assertThat(merged.get(1)).isSameAs(rome);
+    }
+
+    @Test
+    public void test_merge_by_mention_keeps_mentions_with_same_normalized_form() {
+        List<NamedEntity> namedEntities = asList(
+                NamedEntity.create(LOCATION, "Paris", singletonList(10L), "docId", "rootId", CORENLP, Language.ENGLISH),
+                NamedEntity.create(LOCATION, "PARIS", singletonList(20L), "docId", "rootId", CORENLP, Language.ENGLISH),
+                NamedEntity.create(LOCATION, "Pâris", singletonList(30L), "docId", "rootId", CORENLP, Language.ENGLISH));
+
+        assertThat(NamedEntitiesBuilder.mergeByMention(namedEntities)).isSameAs(namedEntities);
+    }
+}
@@ -0,0 +1,49 @@
+package org.icij.datashare.text.nlp;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.icij.datashare.text.Language.ENGLISH;
+
+public class SentenceBatchesTest {
+    @Test
+    public void test_text_shorter_than_batch_size() {
+        assertThat(SentenceBatches.ends("One sentence.", ENGLISH, 100)).isEqualTo(singletonList(13));
+    }
+
+    @Test
+    public void test_empty_text() {
+        assertThat(SentenceBatches.ends("", ENGLISH, 100)).isEqualTo(singletonList(0));
+    }
+
+    @Test
+    public void test_batches_end_at_sentence_boundaries() {
+        String text = "This is Paris. This is London. This is Rome.";
+
+        List<Integer> ends = SentenceBatches.ends(text, ENGLISH, 32);
+
+        assertThat(ends).isEqualTo(asList(31, 44));
+        assertThat(text.substring(0, 31)).isEqualTo("This is Paris. This is London. ");
+    }
+
+    @Test
+    public void test_long_sentence_is_cut_at_whitespace() {
+        String text = "a long sentence without any boundary";
+
+        assertThat(SentenceBatches.ends(text, ENGLISH, 10)).isEqualTo(asList(7, 16, 24, 28, 36));
+    }
+
+    @Test
+    public void test_word_longer_than_batch_size_is_cut() {
+        assertThat(SentenceBatches.ends("abcdefghij", ENGLISH, 4)).isEqualTo(asList(4, 8, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_batch_size_must_be_positive() {
+        SentenceBatches.ends("text", ENGLISH, 0);
+    }
+}
@@ -1,52 +1,186 @@
 package org.icij.datashare;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.ExistsRequest;
 import joptsimple.AbstractOptionSpec;
 import joptsimple.OptionParser;
 import joptsimple.OptionSet;
-import org.icij.datashare.text.Document;
-import org.icij.datashare.text.DocumentBuilder;
-import org.icij.datashare.text.Hasher;
+import org.apache.tika.metadata.Metadata;
+import org.icij.datashare.cli.DatashareCliOptions;
+import org.icij.datashare.extract.MemoryDocumentCollectionFactory;
+import org.icij.datashare.nlp.OptimaizeLanguageGuesser;
+import org.icij.datashare.text.Language;
 import org.icij.datashare.text.indexing.Indexer;
+import org.icij.datashare.text.indexing.LanguageGuesser;
 import org.icij.datashare.text.indexing.elasticsearch.ElasticsearchConfiguration;
 import org.icij.datashare.text.indexing.elasticsearch.ElasticsearchIndexer;
+import org.icij.datashare.text.indexing.elasticsearch.ElasticsearchSpewer;
+import org.icij.extract.document.DocumentFactory;
+import org.icij.extract.document.EmbeddedTikaDocument;
+import org.icij.extract.document.PathIdentifier;
+import org.icij.extract.document.TikaDocument;
+import org.icij.extract.queue.DocumentQueue;
+import org.icij.spewer.FieldNames;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.stream.IntStream;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.apache.tika.metadata.HttpHeaders.CONTENT_ENCODING;
+import static org.apache.tika.metadata.HttpHeaders.CONTENT_LENGTH;
+import static org.apache.tika.metadata.HttpHeaders.CONTENT_TYPE;
+import static org.icij.datashare.json.JsonObjectMapper.MAPPER;
 import static org.icij.datashare.text.indexing.elasticsearch.ElasticsearchConfiguration.INDEX_ADDRESS_PROP;
 
+/**
+ * Offline ingestion benchmark.
+ * <p>
+ * It generates a reproducible synthetic corpus (same seed, same documents) and drives it through the indexing path
+ * of datashare: the memory document queue, then the ElasticsearchSpewer that indexes the documents in elasticsearch
+ * and feeds the NLP queue. Throughput and latency percentiles of each stage are printed as JSON at the end of the run.
+ * </p>
+ * The target index is deleted and created again before each run, so it should not be a project index.
+ */
 public class DocumentIngestor {
     private static final Logger logger = LoggerFactory.getLogger(DocumentIngestor.class);
-    static ExecutorService executorService;
-    static Queue<List<Document>> documentQueue = new LinkedList<>();
+    static final Path POISON = Path.of("POISON");
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         OptionSet optionSet = parseArgs(args);
-        Integer nbThreads = (Integer) optionSet.valueOf("t");
-        Integer bulkSize = (Integer) optionSet.valueOf("bulkSize");
         String elasticsearchUrl = (String) optionSet.valueOf("elasticsearchAddress");
-        String indexName = (String) optionSet.valueOf("indexName");
-        Integer nbDocuments = (Integer) optionSet.valueOf("nbDocuments");
+        Config config = new Config(
+                (String) optionSet.valueOf("indexName"),
+                (Integer) optionSet.valueOf("nbDocuments"),
+                (Integer) optionSet.valueOf("nbThread"),
+                (Long) optionSet.valueOf("seed"),
+                (SizeDistribution) optionSet.valueOf("sizeDistribution"),
+                (Integer) optionSet.valueOf("meanSize"),
+                Arrays.stream(((String) optionSet.valueOf("languages")).split(",")).map(Language::parse).collect(toList()),
+                (Integer) optionSet.valueOf("embeddedDepth"),
+                (Double) optionSet.valueOf("entityDensity"),
+                (Integer) optionSet.valueOf("queueMemoryCapacity"));
         PropertiesProvider propertiesProvider = new PropertiesProvider(new HashMap<>() {{
             put(INDEX_ADDRESS_PROP, elasticsearchUrl);
         }});
-        Indexer indexer = new ElasticsearchIndexer(ElasticsearchConfiguration.createESClient(propertiesProvider), propertiesProvider);
+        ElasticsearchClient client = ElasticsearchConfiguration.createESClient(propertiesProvider);
+        Indexer indexer = new ElasticsearchIndexer(client, propertiesProvider);
 
-        logger.info("ingest {} documents in elasticsearch {} with bulk of {} and {} threads", nbDocuments, elasticsearchUrl, bulkSize, nbThreads);
-        executorService = Executors.newFixedThreadPool(nbThreads);
-        new DocumentProducer(nbDocuments, bulkSize).run();
-        IntStream.range(0, nbThreads).forEach(n -> executorService.submit(new DocumentConsumer(indexer, indexName)));
-        executorService.shutdown();
+        logger.info("benchmark ingestion in elasticsearch {} with {}", elasticsearchUrl, config);
+        deleteIndexIfExists(client, config.indexName);
+        Map<String, Object> report = new DocumentIngestor(indexer, new OptimaizeLanguageGuesser(), config).run();
+        String json = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        if (optionSet.has("report")) {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue((File) optionSet.valueOf("report"), report);
+        }
+        System.out.println(json);
+        indexer.close();
+    }
+
+    /**
+     * the index is created again with the datashare settings and mappings by the spewer
+     */
+    static void deleteIndexIfExists(ElasticsearchClient client, String indexName) throws IOException {
+        if (client.indices().exists(ExistsRequest.of(er -> er.index(indexName))).value()) {
+            logger.info("deleting index {}", indexName);
+            client.indices().delete(DeleteIndexRequest.of(dir -> dir.index(indexName)));
+        }
+    }
+
+    private final Indexer indexer;
+    private final LanguageGuesser languageGuesser;
+    private final Config config;
+    private final Map<String, StageStats> stages = new LinkedHashMap<>();
+
+    DocumentIngestor(Indexer indexer, LanguageGuesser languageGuesser, Config config) {
+        this.indexer = indexer;
+        this.languageGuesser = languageGuesser;
+        this.config = config;
+        asList("queue", "generate", "index").forEach(stage -> stages.put(stage, new StageStats()));
+    }
+
+    /**
+     * runs the benchmark and returns the report: the configuration and for each stage the number of documents,
+     * the throughput in documents per second and the latency percentiles in milliseconds.
+     */
+    Map<String, Object> run() throws Exception {
+        PropertiesProvider propertiesProvider = new PropertiesProvider(new HashMap<>() {{
+            put(DatashareCliOptions.QUEUE_MEMORY_CAPACITY_OPT, String.valueOf(config.queueMemoryCapacity));
+        }});
+        MemoryDocumentCollectionFactory<Path> queueFactory = new MemoryDocumentCollectionFactory<>(propertiesProvider);
+        MemoryDocumentCollectionFactory<String> nlpQueueFactory = new MemoryDocumentCollectionFactory<>(propertiesProvider);
+        DocumentQueue<Path> queue = queueFactory.createQueue("benchmark:queue", Path.class);
+        ElasticsearchSpewer spewer = new ElasticsearchSpewer(indexer, nlpQueueFactory, languageGuesser, new FieldNames(), propertiesProvider);
+        spewer.createIndexIfNotExists(config.indexName);
+
+        SyntheticCorpus corpus = new SyntheticCorpus(config);
+        Map<Path, Long> enqueuedAt = new ConcurrentHashMap<>();
+        AtomicLong indexedDocuments = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(config.nbThreads);
+        long start = System.nanoTime();
+        List<Future<Long>> consumers = Arrays.stream(new int[config.nbThreads]).mapToObj(i -> executor.submit(() -> {
+            long nbDocs = 0;
+            for (Path path = queue.take(); !POISON.equals(path); path = queue.take()) {
+                long polled = System.nanoTime();
+                stages.get("queue").add(polled - enqueuedAt.remove(path));
+                TikaDocument document = corpus.create(path);
+                long generated = System.nanoTime();
+                stages.get("generate").add(generated - polled);
+                spewer.write(document);
+                stages.get("index").add(System.nanoTime() - generated);
+                indexedDocuments.addAndGet(1 + config.embeddedDepth);
+                nbDocs++;
+            }
+            return nbDocs;
+        })).collect(toList());
+
+        for (int n = 0; n < config.nbDocuments; n++) {
+            Path path = corpus.path(n);
+            enqueuedAt.put(path, System.nanoTime());
+            queue.put(path);
+        }
+        for (int i = 0; i < config.nbThreads; i++) {
+            queue.put(POISON);
+        }
+        for (Future<Long> consumer : consumers) {
+            consumer.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        long nlpQueueSize = nlpQueueFactory.getQueues(String.class).stream().mapToLong(DocumentQueue::size).sum();
+        queue.delete();
+        nlpQueueFactory.getQueues(String.class).forEach(DocumentQueue::delete);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        report.put("rootDocuments", config.nbDocuments);
+        report.put("indexedDocuments", indexedDocuments.get());
+        report.put("documentsPerSecond", indexedDocuments.get() * 1e9 / elapsed);
+        report.put("nlpQueueSize", nlpQueueSize);
+        Map<String, Object> stageReports = new LinkedHashMap<>();
+        stages.forEach((name, stats) -> stageReports.put(name, stats.report(elapsed)));
+        report.put("stages", stageReports);
+        return report;
     }
 
     private static OptionSet parseArgs(String[] args) {
@@ -58,25 +192,59 @@ public class DocumentIngestor {
                 .ofType(String.class)
                 .defaultsTo("http://elasticsearch:9200");
         parser.acceptsAll(
-                asList("i", "indexName"), "Name of the index")
+                asList("i", "indexName"), "Name of the index (it is deleted before the run)")
                 .withRequiredArg()
                 .ofType(String.class)
-                .defaultsTo("local-datashare");
+                .defaultsTo("benchmark-datashare");
         parser.acceptsAll(
-                asList("n", "nbDocuments"), "Number of documents")
+                asList("n", "nbDocuments"), "Number of root documents")
                 .withRequiredArg()
                 .ofType(Integer.class)
                 .defaultsTo(1000);
         parser.acceptsAll(
-                asList("b", "bulkSize"), "Bulk size")
+                asList("t", "nbThread"), "number of threads")
                 .withRequiredArg()
                 .ofType(Integer.class)
-                .defaultsTo(10);
+                .defaultsTo(Runtime.getRuntime().availableProcessors());
         parser.acceptsAll(
-                asList("t", "nbThread"), "number of threads")
+                asList("s", "seed"), "Seed of the synthetic corpus")
+                .withRequiredArg()
+                .ofType(Long.class)
+                .defaultsTo(42L);
+        parser.acceptsAll(
+                asList("d", "sizeDistribution"), "Distribution of the document sizes " + Arrays.toString(SizeDistribution.values()))
+                .withRequiredArg()
+                .ofType(SizeDistribution.class)
+                .defaultsTo(SizeDistribution.LOGNORMAL);
+        parser.acceptsAll(
+                asList("m", "meanSize"), "Mean size of the documents content in bytes")
                 .withRequiredArg()
                 .ofType(Integer.class)
-                .defaultsTo(Runtime.getRuntime().availableProcessors());
+                .defaultsTo(4096);
+        parser.acceptsAll(
+                asList("l", "languages"), "Comma separated languages of the documents")
+                .withRequiredArg()
+                .ofType(String.class)
+                .defaultsTo("ENGLISH");
+        parser.acceptsAll(
+                asList("e", "embeddedDepth"), "Number of embedded documents levels for each root document")
+                .withRequiredArg()
+                .ofType(Integer.class)
+                .defaultsTo(0);
+        parser.acceptsAll(
+                asList("entityDensity"), "Number of named entities for 100 words")
+                .withRequiredArg()
+                .ofType(Double.class)
+                .defaultsTo(2.0);
+        parser.acceptsAll(
+                asList("q", "queueMemoryCapacity"), "Number of queue elements kept in memory")
+                .withRequiredArg()
+                .ofType(Integer.class)
+                .defaultsTo(DatashareCliOptions.DEFAULT_QUEUE_MEMORY_CAPACITY);
+        parser.acceptsAll(
+                asList("r", "report"), "File where the JSON report is written (it is always printed)")
+                .withRequiredArg()
+                .ofType(File.class);
         try {
             OptionSet optionSet = parser.parse(args);
             if (optionSet.has(optionSpec)) {
@@ -101,51 +269,133 @@ public class DocumentIngestor {
         }
     }
 
-    static class DocumentConsumer implements Callable<Integer> {
-        private final Indexer indexer;
-        private final String indexName;
-        public DocumentConsumer(Indexer indexer, String indexName) {
-            this.indexer = indexer;
-            this.indexName = indexName;
-        }
-        @Override
-        public Integer call() throws Exception {
-            List<Document> bulkList = documentQueue.poll();
-            int addedDocs = 0;
-            while (bulkList != null) {
-                try {
-                    indexer.bulkAdd(indexName, bulkList);
-                    addedDocs += bulkList.size();
-                } catch (IOException ex) {
-                    logger.warn("error while inserting " + ex);
-                }
-                bulkList = documentQueue.poll();
+    enum SizeDistribution { FIXED, UNIFORM, LOGNORMAL }
+
+    record Config(String indexName, int nbDocuments, int nbThreads, long seed, SizeDistribution sizeDistribution,
+                  int meanSize, List<Language> languages, int embeddedDepth, double entityDensity, int queueMemoryCapacity) {}
+
+    /**
+     * Latencies of a stage in nanoseconds. They are all kept to compute exact percentiles
+     * (8 bytes per document).
+     */
+    static class StageStats {
+        private long[] latencies = new long[1024];
+        private int size = 0;
+
+        synchronized void add(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        synchronized Map<String, Object> report(long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("count", size);
+            report.put("throughput", elapsedNanos == 0 ? 0 : size * 1e9 / elapsedNanos);
+            report.put("p50Ms", percentile(sorted, 50));
+            report.put("p90Ms", percentile(sorted, 90));
+            report.put("p99Ms", percentile(sorted, 99));
+            report.put("maxMs", percentile(sorted, 100));
+            return report;
+        }
+
+        static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
             }
-            logger.info("exit consumer, {} added documents", addedDocs);
-            return addedDocs;
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
         }
     }
 
-    static class DocumentProducer implements Runnable {
-        private final long nbDocs;
-        private final int bulkSize;
-
-        public DocumentProducer(long nbDocs, int bulkSize) {
-            this.nbDocs = nbDocs;
-            this.bulkSize = bulkSize;
-        }
-        @Override
-        public void run() {
-            for (int b = 0; b < nbDocs/bulkSize ; b++) {
-                List<Document> bulkList = new LinkedList<>();
-                for (int i = 0; i<bulkSize; i++) {
-                    String name = String.format("document-%d-%d", i, b);
-                    bulkList.add(DocumentBuilder.createDoc(Hasher.SHA_384.hash(name)).with(name + CONTENT).build());
+    /**
+     * Creates the documents of the corpus from their path: the document n is always the same for a given seed
+     * whatever the thread or the order it is created in.
+     */
+    static class SyntheticCorpus {
+        private final Config config;
+        private final DocumentFactory documentFactory = new DocumentFactory().withIdentifier(new PathIdentifier());
+
+        SyntheticCorpus(Config config) {
+            this.config = config;
+        }
+
+        Path path(int n) {
+            return Path.of("/benchmark", String.valueOf(config.seed), String.format("document-%d.txt", n));
+        }
+
+        TikaDocument create(Path path) {
+            String fileName = path.getFileName().toString();
+            int n = Integer.parseInt(fileName.substring("document-".length(), fileName.length() - ".txt".length()));
+            Random random = new Random(config.seed * 31 + n);
+            TikaDocument root = documentFactory.create(path, metadata());
+            setContent(root, random);
+            TikaDocument parent = root;
+            for (int level = 1; level <= config.embeddedDepth; level++) {
+                EmbeddedTikaDocument embed = parent.addEmbed("embedded-" + level, new PathIdentifier(),
+                        parent.getPath().resolve("embedded-" + level + ".txt"), metadata());
+                setContent(embed, random);
+                parent = embed;
+            }
+            return root;
+        }
+
+        String content(Random random) {
+            Language language = config.languages.get(random.nextInt(config.languages.size()));
+            String[] words = WORDS.getOrDefault(language, WORDS.get(Language.ENGLISH));
+            int size = size(random);
+            StringBuilder content = new StringBuilder(size + 32);
+            while (content.length() < size) {
+                if (random.nextDouble() * 100 < config.entityDensity) {
+                    content.append(ENTITIES[random.nextInt(ENTITIES.length)]);
+                } else {
+                    content.append(words[random.nextInt(words.length)]);
                 }
-                documentQueue.add(bulkList);
+                content.append(random.nextInt(12) == 0 ? ". " : " ");
             }
-            logger.info("exit producer queue size is {} bulks of {}", documentQueue.size(), bulkSize);
+            return content.toString();
+        }
+
+        private void setContent(TikaDocument document, Random random) {
+            String content = content(random);
+            document.getMetadata().set(CONTENT_LENGTH, String.valueOf(content.getBytes(UTF_8).length));
+            document.setReader(new StringReader(content));
+        }
+
+        private int size(Random random) {
+            return switch (config.sizeDistribution) {
+                case FIXED -> config.meanSize;
+                case UNIFORM -> random.nextInt(2 * config.meanSize + 1);
+                // sigma = 1 and mu chosen so that the mean is meanSize
+                case LOGNORMAL -> (int) Math.min(Integer.MAX_VALUE / 2, config.meanSize * Math.exp(random.nextGaussian() - 0.5));
+            };
+        }
+
+        private static Metadata metadata() {
+            Metadata metadata = new Metadata();
+            metadata.set(CONTENT_TYPE, "text/plain; charset=UTF-8");
+            metadata.set(CONTENT_ENCODING, "UTF-8");
+            return metadata;
         }
     }
-    static String CONTENT = " Sed ut perspiciatis unde omnis iste natus error sit voluptatem accusantium doloremque laudantium, totam rem aperiam, eaque ipsa quae ab illo inventore veritatis et quasi architecto beatae vitae dicta sunt explicabo. Nemo enim ipsam voluptatem quia voluptas sit aspernatur aut odit aut fugit, sed quia consequuntur magni dolores eos qui ratione voluptatem sequi nesciunt. Neque porro quisquam est, qui dolorem ipsum quia dolor sit amet, consectetur, adipisci velit, sed quia non numquam eius modi tempora incidunt ut labore et dolore magnam aliquam quaerat voluptatem. Ut enim ad minima veniam, quis nostrum exercitationem ullam corporis suscipit laboriosam, nisi ut aliquid ex ea commodi consequatur? Quis autem vel eum iure reprehenderit qui in ea voluptate velit esse quam nihil molestiae consequatur, vel illum qui dolorem eum fugiat quo voluptas nulla pariatur?";
+
+    static final String[] ENTITIES = {"Alice Martin", "Carlos Gomez", "Olga Petrova", "Kenji Sato", "Fatima Benali",
+            "Paris", "Panama", "Luxembourg", "Nairobi", "Buenos Aires",
+            "Mossack Fonseca", "Appleby", "Deutsche Bank", "World Bank", "Interpol"};
+    static final Map<Language, String[]> WORDS = Map.of(
+            Language.ENGLISH, ("the of and to in is that for it as was with be by on not he this are or his from at which " +
+                    "but have an they you were her she there been one all we their has would when if so no will more " +
+                    "company account transfer offshore payment contract report director agreement bank").split(" "),
+            Language.FRENCH, ("le de un être et à il avoir ne je son que se qui ce dans en du elle au pour pas vous par " +
+                    "sur faire plus dire me on mon lui nous comme mais pouvoir avec tout société compte virement " +
+                    "paiement contrat rapport directeur accord banque").split(" "),
+            Language.SPANISH, ("el la de que y a en un ser se no haber por con su para como estar tener le lo todo pero " +
+                    "más hacer o poder decir este ir otro ese empresa cuenta transferencia pago contrato informe " +
+                    "director acuerdo banco").split(" "),
+            Language.GERMAN, ("der die und in den von zu das mit sich des auf für ist im dem nicht ein eine als auch es " +
+                    "an werden aus er hat dass sie nach Firma Konto Überweisung Zahlung Vertrag Bericht Direktor " +
+                    "Vereinbarung Bank").split(" "));
 }
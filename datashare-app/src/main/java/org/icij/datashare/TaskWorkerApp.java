@@ -9,11 +9,19 @@ import org.redisson.api.RedissonClient;
 
 import java.util.Properties;
 
+import static java.lang.Integer.parseInt;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_TASK_WORKERS;
+import static org.icij.datashare.cli.DatashareCliOptions.TASK_WORKERS_LIMITS_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.TASK_WORKERS_OPT;
+
 
 public class TaskWorkerApp {
     public static void start(Properties properties) throws Exception {
         CommonMode mode = CommonMode.create(properties);
-        TaskWorkerLoop batchSearchLoop = new TaskWorkerLoop(mode.get(DatashareTaskFactory.class), mode.get(TaskSupplier.class));
+        PropertiesProvider propertiesProvider = mode.get(PropertiesProvider.class);
+        TaskWorkerLoop batchSearchLoop = new TaskWorkerLoop(mode.get(DatashareTaskFactory.class), mode.get(TaskSupplier.class),
+                parseInt(propertiesProvider.get(TASK_WORKERS_OPT).orElse(String.valueOf(DEFAULT_TASK_WORKERS))),
+                TaskWorkerLoop.parseTaskLimits(propertiesProvider.get(TASK_WORKERS_LIMITS_OPT).orElse(null)));
         batchSearchLoop.call();
         batchSearchLoop.close();
         mode.get(Indexer.class).close();// to avoid being blocked
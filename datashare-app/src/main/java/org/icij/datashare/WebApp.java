@@ -9,7 +9,9 @@ import org.icij.datashare.cli.DatashareCli;
 import org.icij.datashare.cli.Mode;
 import org.icij.datashare.cli.QueueType;
 import org.icij.datashare.mode.CommonMode;
+import org.icij.datashare.tasks.BatchDownloadCleaner;
 import org.icij.datashare.tasks.BatchSearchRunner;
+import org.icij.datashare.web.NerResource;
 
 import java.awt.*;
 import java.io.IOException;
@@ -49,6 +51,9 @@ public class WebApp {
             Desktop.getDesktop().browse(URI.create(new URI("http://localhost:")+mode.properties().getProperty(PropertiesProvider.TCP_LISTEN_PORT)));
         }
         requeueDatabaseBatchSearches(mode.get(BatchSearchRepository.class), mode.get(TaskManager.class));
+        mode.get(BatchDownloadCleaner.class).schedule();
+        NerResource nerResource = mode.get(NerResource.class);
+        Runtime.getRuntime().addShutdownHook(new Thread(nerResource::close));
         webServerThread.join();
     }
 
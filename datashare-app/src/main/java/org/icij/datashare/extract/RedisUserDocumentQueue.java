@@ -9,12 +9,23 @@ import org.icij.extract.redis.RedissonClientFactory;
 import org.icij.task.Options;
 import org.redisson.RedissonShutdownException;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.protocol.RedisCommands;
 
 import java.nio.charset.Charset;
+import java.util.List;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.icij.datashare.PropertiesProvider.QUEUE_NAME_OPTION;
 
-public class RedisUserDocumentQueue<T> extends RedisDocumentQueue<T> {
+public class RedisUserDocumentQueue<T> extends RedisDocumentQueue<T> implements BatchQueue<T> {
+    // LRANGE + LTRIM of the head of the list, stopping after the poison (ARGV[2])
+    private static final String POLL_BATCH_SCRIPT =
+            "local vals = redis.call('lrange', KEYS[1], 0, tonumber(ARGV[1]) - 1); " +
+            "local n = #vals; " +
+            "for i, v in ipairs(vals) do if v == ARGV[2] then n = i; break; end; end; " +
+            "redis.call('ltrim', KEYS[1], n, -1); " +
+            "return {unpack(vals, 1, n)};";
     private final String queueName;
 
     @Inject
@@ -37,6 +48,15 @@ public class RedisUserDocumentQueue<T> extends RedisDocumentQueue<T> {
         }
     }
 
+    @Override
+    public List<T> pollBatch(int maxElements, T poison) {
+        if (maxElements <= 0) {
+            return emptyList();
+        }
+        return get(commandExecutor.evalWriteAsync(getRawName(), codec, RedisCommands.EVAL_LIST, POLL_BATCH_SCRIPT,
+                singletonList(getRawName()), maxElements, encode(poison)));
+    }
+
     public String getQueueName() {
         return queueName;
     }
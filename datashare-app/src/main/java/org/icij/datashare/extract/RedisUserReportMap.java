@@ -9,7 +9,7 @@ import org.redisson.api.RedissonClient;
 
 import java.nio.charset.Charset;
 
-public class RedisUserReportMap extends RedisReportMap {
+public class RedisUserReportMap extends RedisReportMap implements PipelinedReportMap {
 
     @Inject
     public RedisUserReportMap(PropertiesProvider propertiesProvider, RedissonClient redissonClient, @Assisted String mapName) {
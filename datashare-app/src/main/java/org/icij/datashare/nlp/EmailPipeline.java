@@ -11,8 +11,6 @@ import org.icij.datashare.text.nlp.NlpStage;
 
 import java.nio.charset.Charset;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -24,8 +22,9 @@ import static org.icij.datashare.text.nlp.Pipeline.Type.EMAIL;
  * this is a fake NLP pipeline. It just uses syntactic methods to find
  * emails in document contents.
  * <p>
- * it uses the regexp mentioned here :
+ * it finds the addresses matched by the regexp mentioned here :
  * https://stackoverflow.com/questions/201323/how-to-validate-an-email-address-using-a-regular-expression
+ * with a linear time scanner (see {@link EmailScanner}).
  * <p>
  * It implements the same API as the NLP pipelines to integrate seamlessly to datashare.
  *
@@ -42,13 +41,6 @@ public class EmailPipeline extends AbstractPipeline {
     private static final String RAW_HEADER_FIELD_PREFIX = "Message-Raw-Header-";
     private static final String MESSAGE_FIELD_PREFIX = "Message-";
     private static final String MESSAGE_HEADER_FIELD = "emailHeaderField";
-    final Pattern pattern = Pattern.compile("(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b" +
-            "\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@" +
-            "(?:(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?|" +
-            "\\[(?:(?:(2(5[0-5]|[0-4][0-9])|1[0-9][0-9]|[1-9]?[0-9]))\\.){3}" +
-            "(?:(2(5[0-5]|[0-4][0-9])|1[0-9][0-9]|[1-9]?[0-9])|[a-z0-9-]*[a-z0-9]:" +
-            "(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|" +
-            "\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)\\])");
 
     private final Set<String> parsedEmailHeaders = unmodifiableSet(new HashSet<>(asList(
             tika("Dc-Title"),
@@ -88,11 +80,11 @@ public class EmailPipeline extends AbstractPipeline {
 
     @Override
     public List<NamedEntity> process(Document doc, int contentLength, int contentOffset) {
-        Matcher matcher = pattern.matcher(doc.getContent().substring(contentOffset, Math.min(contentLength + contentOffset, doc.getContentTextLength())));
+        EmailScanner scanner = new EmailScanner(doc.getContent().substring(contentOffset, Math.min(contentLength + contentOffset, doc.getContentTextLength())));
         NamedEntitiesBuilder namedEntitiesBuilder = new NamedEntitiesBuilder(EMAIL, doc.getId(), doc.getLanguage()).withRoot(doc.getRootDocument());
-        while (matcher.find()) {
-            String email = matcher.group(0);
-            int start = matcher.start();
+        while (scanner.find()) {
+            String email = scanner.group();
+            int start = scanner.start();
             namedEntitiesBuilder.add(NamedEntity.Category.EMAIL, email, start + contentOffset);
         }
         List<NamedEntity> entities = namedEntitiesBuilder.build();
@@ -112,9 +104,9 @@ public class EmailPipeline extends AbstractPipeline {
                         EMAIL, doc.getId(), doc.getLanguage())
                         .withRoot(doc.getRootDocument())
                         .withMetadata(meta);
-                    Matcher metaMatcher = pattern.matcher(m.toString());
-                    while (metaMatcher.find()) {
-                        builder.add(NamedEntity.Category.EMAIL, metaMatcher.group(0),
+                    EmailScanner metaScanner = new EmailScanner(m.toString());
+                    while (metaScanner.find()) {
+                        builder.add(NamedEntity.Category.EMAIL, metaScanner.group(),
                             -1);
                     }
                     return builder.build();
@@ -166,4 +158,7 @@ public class EmailPipeline extends AbstractPipeline {
 
     @Override
     public Optional<String> getPosTagSet(Language language) { return Optional.empty();}
+
+    @Override
+    public boolean isCacheable(Document doc) { return !"message/rfc822".equals(doc.getContentType());}
 }
@@ -0,0 +1,242 @@
+package org.icij.datashare.nlp;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds the email addresses matched by the RFC 5322 regular expression that was used by {@link EmailPipeline}
+ * (same addresses, same offsets), in linear time.
+ *
+ * <p>The regular expression backtracks on long runs of characters allowed in the local part or in
+ * quoted strings (punctuation, base64, ...) because each start position is scanned to the end of the run.
+ * Here a run is scanned once: the local part can only end right before an <code>@</code>, so a run of atoms
+ * and dots has at most one candidate address. The end of quoted strings, of address literals and of domains
+ * only depends on their start position, they are memoized for the other start positions.</p>
+ *
+ * <p>It is used like a {@link java.util.regex.Matcher}: {@link #find()} then {@link #start()}, {@link #end()}
+ * and {@link #group()}. As with the regular expression, letters are matched in lower case only.</p>
+ */
+final class EmailScanner {
+    private static final int FAIL = -1;
+    private final String text;
+    private final int length;
+    private final Map<Integer, Integer> domainEnds = new HashMap<>();
+    private int[] quotedEnds;
+    private int[] literalEnds;
+    private int from = 0;
+    private int start = -1;
+    private int end = -1;
+
+    EmailScanner(String text) {
+        this.text = text;
+        this.length = text.length();
+    }
+
+    boolean find() {
+        int position = from;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (isAtom(c) || c == '.') {
+                // dot-atom local part: atoms separated by single dots, directly followed by @
+                int localStart = -1;
+                int runEnd = position;
+                for (; runEnd < length && (isAtom(text.charAt(runEnd)) || text.charAt(runEnd) == '.'); runEnd++) {
+                    if (text.charAt(runEnd) != '.') {
+                        if (localStart < 0) localStart = runEnd;
+                    } else if (runEnd + 1 < length && text.charAt(runEnd + 1) == '.') {
+                        localStart = -1;
+                    }
+                }
+                if (localStart >= 0 && runEnd < length && text.charAt(runEnd) == '@' && text.charAt(runEnd - 1) != '.') {
+                    int domainEnd = domainEnd(runEnd + 1);
+                    if (domainEnd != FAIL) {
+                        return found(localStart, domainEnd);
+                    }
+                }
+                position = runEnd;
+            } else {
+                if (c == '"') {
+                    int close = quotedEnd(position + 1);
+                    if (close + 1 < length && text.charAt(close) == '"' && text.charAt(close + 1) == '@') {
+                        int domainEnd = domainEnd(close + 2);
+                        if (domainEnd != FAIL) {
+                            return found(position, domainEnd);
+                        }
+                    }
+                }
+                position++;
+            }
+        }
+        from = length;
+        start = end = -1;
+        return false;
+    }
+
+    int start() { checkMatch(); return start; }
+    int end() { checkMatch(); return end; }
+    String group() { checkMatch(); return text.substring(start, end); }
+
+    private boolean found(int start, int end) {
+        this.start = start;
+        this.end = end;
+        this.from = end;
+        return true;
+    }
+
+    private void checkMatch() {
+        if (start < 0) throw new IllegalStateException("No match available");
+    }
+
+    private int domainEnd(int position) {
+        return domainEnds.computeIfAbsent(position, p -> {
+            if (p >= length) return FAIL;
+            if (isLabel(text.charAt(p))) return hostnameEnd(p);
+            if (text.charAt(p) == '[') return addressLiteralEnd(p + 1);
+            return FAIL;
+        });
+    }
+
+    /**
+     * (label '.')+ label where label is [a-z0-9]([a-z0-9-]*[a-z0-9])?
+     */
+    private int hostnameEnd(int position) {
+        int nbLabels = 0;
+        int lastLabelEnd = -1;
+        while (true) {
+            int runEnd = runEnd(position);
+            if (runEnd < length && text.charAt(runEnd) == '.' && runEnd > position &&
+                    isLabel(text.charAt(position)) && isLabel(text.charAt(runEnd - 1))) {
+                nbLabels++;
+                lastLabelEnd = runEnd;
+                position = runEnd + 1;
+            } else {
+                break;
+            }
+        }
+        if (nbLabels == 0) return FAIL;
+        if (position < length && isLabel(text.charAt(position))) {
+            int labelEnd = runEnd(position);
+            while (!isLabel(text.charAt(labelEnd - 1))) labelEnd--;
+            return labelEnd;
+        }
+        // the last label followed by a dot is the top level label
+        return nbLabels > 1 ? lastLabelEnd : FAIL;
+    }
+
+    /**
+     * '[' (octet '.'){3} (octet | tag ':' literal+) ']'
+     */
+    private int addressLiteralEnd(int position) {
+        for (int i = 0; i < 3; i++) {
+            position = octetEnd(position, '.');
+            if (position == FAIL) return FAIL;
+            position++;
+        }
+        int octetEnd = octetEnd(position, ']');
+        if (octetEnd != FAIL) return octetEnd + 1;
+
+        int tagEnd = runEnd(position);
+        if (tagEnd == position || tagEnd >= length || text.charAt(tagEnd) != ':' || !isLabel(text.charAt(tagEnd - 1))) {
+            return FAIL;
+        }
+        int literal = tagEnd + 1;
+        if (literal >= length) return FAIL;
+        int literalEnd = FAIL;
+        if (isLiteral(text.charAt(literal))) literalEnd = literalEnd(literal + 1);
+        if (literalEnd == FAIL && isEscape(literal)) literalEnd = literalEnd(literal + 2);
+        return literalEnd;
+    }
+
+    /**
+     * @return the end of a decimal number from 0 to 255 without leading zero followed by the separator, or FAIL
+     */
+    private int octetEnd(int position, char separator) {
+        int digitsEnd = position;
+        while (digitsEnd < length && digitsEnd - position <= 3 && isDigit(text.charAt(digitsEnd))) digitsEnd++;
+        int nbDigits = digitsEnd - position;
+        if (nbDigits == 0 || nbDigits > 3 || digitsEnd >= length || text.charAt(digitsEnd) != separator) return FAIL;
+        if (nbDigits > 1 && text.charAt(position) == '0') return FAIL;
+        if (nbDigits == 3 && Integer.parseInt(text.substring(position, digitsEnd)) > 255) return FAIL;
+        return digitsEnd;
+    }
+
+    /**
+     * End of the literal+ ']' of an address literal, when at least one literal has been read.
+     * The regular expression reads as many literals as possible (including ']') then backtracks
+     * to the last ']': the result is computed backwards for all the positions reachable from the given one.
+     */
+    private int literalEnd(int position) {
+        if (position >= length) return FAIL;
+        if (literalEnds == null) literalEnds = new int[length];
+        if (literalEnds[position] != 0) return literalEnds[position];
+
+        int farthest = position;
+        for (int i = position; i <= farthest && i < length; i++) {
+            if (literalEnds[i] != 0) continue; // the positions reachable from i are already computed
+            if (isLiteral(text.charAt(i))) farthest = Math.max(farthest, i + 1);
+            if (isEscape(i)) farthest = Math.max(farthest, i + 2);
+        }
+        for (int i = Math.min(farthest, length - 1); i >= position; i--) {
+            if (literalEnds[i] != 0) continue;
+            int result = FAIL;
+            if (isLiteral(text.charAt(i))) result = i + 1 < length ? literalEnds[i + 1] : FAIL;
+            if (result == FAIL && isEscape(i)) result = i + 2 < length ? literalEnds[i + 2] : FAIL;
+            if (result == FAIL && text.charAt(i) == ']') result = i + 1;
+            literalEnds[i] = result;
+        }
+        return literalEnds[position];
+    }
+
+    /**
+     * @return the position where the content of a quoted string starting at position stops
+     */
+    private int quotedEnd(int position) {
+        if (quotedEnds == null) quotedEnds = new int[length + 1];
+        int i = position;
+        while (i < length && quotedEnds[i] == 0) {
+            if (isQuoted(text.charAt(i))) {
+                i++;
+            } else if (isEscape(i)) {
+                i += 2;
+            } else {
+                break;
+            }
+        }
+        int stop = i < length && quotedEnds[i] != 0 ? quotedEnds[i] : i;
+        for (int j = position; j < i; ) {
+            quotedEnds[j] = stop;
+            j += isQuoted(text.charAt(j)) ? 1 : 2;
+        }
+        quotedEnds[i] = stop;
+        return stop;
+    }
+
+    private int runEnd(int position) {
+        int i = position;
+        while (i < length && (isLabel(text.charAt(i)) || text.charAt(i) == '-')) i++;
+        return i;
+    }
+
+    private boolean isEscape(int position) {
+        return text.charAt(position) == '\\' && position + 1 < length && isEscaped(text.charAt(position + 1));
+    }
+
+    static boolean isDigit(char c) { return c >= '0' && c <= '9'; }
+
+    static boolean isLabel(char c) { return c >= 'a' && c <= 'z' || isDigit(c); }
+
+    static boolean isAtom(char c) { return isLabel(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0; }
+
+    static boolean isQuoted(char c) {
+        return c >= 0x01 && c <= 0x08 || c == 0x0b || c == 0x0c || c >= 0x0e && c <= 0x1f ||
+                c == 0x21 || c >= 0x23 && c <= 0x5b || c >= 0x5d && c <= 0x7f;
+    }
+
+    static boolean isEscaped(char c) {
+        return c >= 0x01 && c <= 0x09 || c == 0x0b || c == 0x0c || c >= 0x0e && c <= 0x7f;
+    }
+
+    static boolean isLiteral(char c) {
+        return c >= 0x01 && c <= 0x08 || c == 0x0b || c == 0x0c || c >= 0x0e && c <= 0x1f || c >= 0x21 && c <= 0x7f;
+    }
+}
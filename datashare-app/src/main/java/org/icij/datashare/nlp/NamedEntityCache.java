@@ -0,0 +1,201 @@
+package org.icij.datashare.nlp;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.icij.datashare.text.Document;
+import org.icij.datashare.text.Hasher;
+import org.icij.datashare.text.NamedEntity;
+import org.icij.datashare.text.Offsets;
+import org.icij.datashare.text.nlp.Pipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static org.icij.datashare.json.JsonObjectMapper.MAPPER;
+
+/**
+ * Disk store of the named entities found by a pipeline, keyed by the hash of the content chunk and its offset,
+ * the language and the pipeline {@link Pipeline#getNerVersion() NER version}.
+ *
+ * <p>Documents with the same content under different ids (forwarded emails, attachments duplicated
+ * in several mailboxes) are then processed once: the cached entities are copied to the new document,
+ * with the same offsets.</p>
+ *
+ * <p>There is one JSON file per key. Files are written atomically so the store can be shared by several
+ * NLP workers on the same file system, and the directory can be deleted at any time.</p>
+ *
+ * <p>When the size of the written entries exceeds the maximum size, the oldest files are deleted until the directory
+ * is back under 80% of the maximum size.</p>
+ */
+public class NamedEntityCache {
+    private static final Logger logger = LoggerFactory.getLogger(NamedEntityCache.class);
+    private static final TypeReference<List<CachedEntity>> ENTITIES_TYPE = new TypeReference<>() {};
+    static final double EVICTION_RATIO = 0.8;
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final AtomicLong sizeBytes;
+
+    public NamedEntityCache(Path directory, long maxSizeBytes) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+        this.sizeBytes = new AtomicLong(directorySize());
+    }
+
+    /**
+     * @return the key of the named entities found by pipeline in the content chunk of doc.
+     * Only the chunk is hashed, so the whole content is hashed once for all the chunks of a document.
+     */
+    public String key(Pipeline pipeline, Document doc, int contentLength, int contentOffset) {
+        String content = doc.getContent();
+        return Hasher.SHA_256.hash(String.join("\n",
+                Hasher.SHA_256.hash(content.substring(contentOffset, Math.min(content.length(), contentOffset + contentLength))),
+                String.valueOf(doc.getLanguage()),
+                String.valueOf(pipeline.getNerVersion()),
+                contentOffset + ":" + contentLength));
+    }
+
+    public Optional<List<NamedEntity>> get(String key, Pipeline.Type type, Document doc) {
+        Path file = path(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            List<CachedEntity> entities = MAPPER.readValue(file.toFile(), ENTITIES_TYPE);
+            return Optional.of(entities.stream().map(e -> NamedEntity.create(e.category, e.mention, e.offsets,
+                    doc.getId(), doc.getRootDocument(), type, doc.getLanguage(), e.metadata)).collect(toList()));
+        } catch (IOException e) {
+            logger.warn("cannot read cached named entities {}, they will be computed again", file, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, List<NamedEntity> namedEntities) {
+        Path file = path(key);
+        Path tmp = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            MAPPER.writeValue(tmp.toFile(), namedEntities.stream().map(CachedEntity::new).collect(toList()));
+            long written = Files.size(tmp);
+            Files.move(tmp, file, ATOMIC_MOVE);
+            if (sizeBytes.addAndGet(written) > maxSizeBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            logger.warn("cannot cache named entities in {}", file, e);
+        } finally {
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException e) {
+                logger.warn("cannot delete {}", tmp, e);
+            }
+        }
+    }
+
+    /**
+     * deletes the oldest files of the directory until its size is under the eviction ratio of the max size.
+     * The files written by the other workers are taken into account because the directory is listed.
+     */
+    synchronized void evict() {
+        if (sizeBytes.get() <= maxSizeBytes) {
+            return;
+        }
+        List<CacheFile> files = listFiles();
+        long size = files.stream().mapToLong(f -> f.size).sum();
+        long targetSize = (long) (maxSizeBytes * EVICTION_RATIO);
+        files.sort(Comparator.comparingLong(f -> f.lastModified));
+        int nbDeleted = 0;
+        for (Iterator<CacheFile> it = files.iterator(); it.hasNext() && size > targetSize; ) {
+            CacheFile file = it.next();
+            try {
+                if (Files.deleteIfExists(file.path)) {
+                    nbDeleted++;
+                }
+                size -= file.size;
+            } catch (IOException e) {
+                logger.warn("cannot delete cached named entities {}", file.path, e);
+            }
+        }
+        sizeBytes.set(size);
+        logger.info("deleted {} cached named entities files, cache size is {} bytes", nbDeleted, size);
+    }
+
+    long size() {
+        return sizeBytes.get();
+    }
+
+    private long directorySize() {
+        return listFiles().stream().mapToLong(f -> f.size).sum();
+    }
+
+    private List<CacheFile> listFiles() {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(p -> p.getFileName().toString().endsWith(".json")).map(CacheFile::of)
+                    .filter(Objects::nonNull).collect(toCollection(ArrayList::new));
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("cannot list named entities cache {}", directory, e);
+            return new ArrayList<>();
+        }
+    }
+
+    Path path(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".json");
+    }
+
+    private static class CacheFile {
+        final Path path;
+        final long size;
+        final long lastModified;
+
+        private CacheFile(Path path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static CacheFile of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new CacheFile(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                // deleted by another worker
+                return null;
+            }
+        }
+    }
+
+    static class CachedEntity {
+        public NamedEntity.Category category;
+        public String mention;
+        public Offsets offsets;
+        public Map<String, Object> metadata;
+
+        CachedEntity() {}
+
+        CachedEntity(NamedEntity namedEntity) {
+            category = namedEntity.getCategory();
+            mention = namedEntity.getMention();
+            offsets = namedEntity.getOffsets();
+            metadata = namedEntity.getMetadata();
+        }
+    }
+}
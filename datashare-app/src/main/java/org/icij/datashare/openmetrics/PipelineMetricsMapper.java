@@ -0,0 +1,79 @@
+package org.icij.datashare.openmetrics;
+
+import org.icij.datashare.Stage;
+import org.icij.datashare.monitoring.PipelineMetrics;
+import org.icij.datashare.monitoring.PipelineMetrics.Histogram;
+import org.icij.datashare.monitoring.PipelineMetrics.StageMetrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.LongSupplier;
+
+public class PipelineMetricsMapper {
+    private final String metricName;
+    private final PipelineMetrics metrics;
+    private final String environment;
+
+    public PipelineMetricsMapper(String metricName, PipelineMetrics metrics) {
+        this(metricName, metrics, null);
+    }
+
+    public PipelineMetricsMapper(String metricName, PipelineMetrics metrics, String environment) {
+        this.metricName = metricName;
+        this.metrics = metrics;
+        this.environment = environment == null ? "" : String.format("environment=\"%s\",", environment);
+    }
+
+    @Override
+    public String toString() {
+        SortedMap<Stage, StageMetrics> stages = metrics.getStages();
+        if (stages.isEmpty()) return "";
+        StringBuilder lines = new StringBuilder();
+
+        header(lines, "processed_total", "counter", "Items processed by the pipeline stage");
+        stages.forEach((stage, stageMetrics) -> line(lines, "processed_total", stage, "", stageMetrics.getProcessed()));
+        header(lines, "failures_total", "counter", "Items that failed in the pipeline stage");
+        stages.forEach((stage, stageMetrics) -> line(lines, "failures_total", stage, "", stageMetrics.getFailures()));
+
+        header(lines, "queue_depth", "gauge", "Number of elements in the input and output queues of the pipeline stage");
+        stages.forEach((stage, stageMetrics) -> {
+            for (Map.Entry<String, LongSupplier> queue : stageMetrics.getQueues().entrySet()) {
+                try {
+                    line(lines, "queue_depth", stage, String.format("queue=\"%s\",", queue.getKey()), queue.getValue().getAsLong());
+                } catch (RuntimeException ex) {
+                    // the queue backend (ex: redis) can be unreachable, the other metrics are still exported
+                }
+            }
+        });
+
+        header(lines, "latency_seconds", "histogram", "Duration of the pipeline stage operations");
+        stages.forEach((stage, stageMetrics) -> stageMetrics.getLatencies().forEach((operation, histogram) ->
+                histogram(lines, "latency_seconds", stage, String.format("operation=\"%s\",", operation), histogram)));
+        header(lines, "batch_size", "histogram", "Size of the batches handled by the pipeline stage");
+        stages.forEach((stage, stageMetrics) -> stageMetrics.getSizes().forEach((name, histogram) ->
+                histogram(lines, "batch_size", stage, String.format("batch=\"%s\",", name), histogram)));
+        return lines.toString();
+    }
+
+    private void header(StringBuilder lines, String name, String type, String help) {
+        lines.append(String.format("# HELP %s_pipeline_%s %s\n", metricName, name, help));
+        lines.append(String.format("# TYPE %s_pipeline_%s %s\n", metricName, name, type));
+    }
+
+    private void histogram(StringBuilder lines, String name, Stage stage, String labels, Histogram histogram) {
+        double[] bounds = histogram.getBounds();
+        long[] counts = histogram.getCumulativeCounts();
+        for (int i = 0; i < bounds.length; i++) {
+            line(lines, name + "_bucket", stage, String.format("%sle=\"%s\",", labels, bounds[i]), counts[i]);
+        }
+        long count = histogram.getCount();
+        line(lines, name + "_bucket", stage, labels + "le=\"+Inf\",", count);
+        line(lines, name + "_sum", stage, labels, histogram.getSum());
+        line(lines, name + "_count", stage, labels, count);
+    }
+
+    private void line(StringBuilder lines, String name, Stage stage, String labels, Object value) {
+        String allLabels = String.format("%sstage=\"%s\",%s", environment, stage, labels);
+        lines.append(String.format("%s_pipeline_%s{%s} %s\n", metricName, name, allLabels.substring(0, allLabels.length() - 1), value));
+    }
+}
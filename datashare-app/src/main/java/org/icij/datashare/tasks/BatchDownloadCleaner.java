@@ -8,20 +8,57 @@ import org.icij.datashare.time.DatashareTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
 import static java.util.regex.Pattern.compile;
 
-public class BatchDownloadCleaner implements Runnable {
+/**
+ * Deletes the batch download zip files after their time to live, and the temporary zip files left by
+ * batch download runners that have been killed.
+ * <p>
+ * The files are indexed by expiry date in a priority queue. It is built with one listing of the download directory
+ * the first time the cleaner runs, then it is updated with the events of a WatchService,
+ * so the scheduled runs only delete the expired files without listing the directory.
+ * If the directory cannot be watched (for example it doesn't exist yet), it is listed and
+ * the watch is registered again at each run.
+ * </p>
+ */
+public class BatchDownloadCleaner implements Runnable, Closeable {
+    static final long CLEAN_INTERVAL_SECONDS = 60;
+    // a temporary zip that has not been written for this delay is an orphan
+    static final long ORPHAN_TMP_DELAY_MS = 1000L * 60 * 60;
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final Pattern filePattern = compile(BatchDownload.ZIP_FORMAT.replace("%s", "[a-z0-9\\.:|_Z\\-\\[GMT\\]]+"));
     private final Path downloadDir;
     private final int ttlHour;
+    private final PriorityQueue<Artifact> expiries = new PriorityQueue<>(Comparator.comparingLong(Artifact::expiresAt));
+    private final Map<Path, Long> indexedExpiries = new HashMap<>();
+    private WatchService watchService;
+    private boolean indexed = false;
+    private boolean watchFailureLogged = false;
+    private ScheduledExecutorService scheduler;
 
     @Inject
     public BatchDownloadCleaner(final PropertiesProvider propertiesProvider) {
@@ -29,12 +66,142 @@ public class BatchDownloadCleaner implements Runnable {
         ttlHour = Integer.parseInt(propertiesProvider.getProperties().getProperty(DatashareCliOptions.BATCH_DOWNLOAD_ZIP_TTL_OPT));
     }
 
+    /**
+     * runs the cleaner every CLEAN_INTERVAL_SECONDS in a background thread
+     */
+    public synchronized BatchDownloadCleaner schedule() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "batch-download-cleaner");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this, 0, CLEAN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void run() {
+        try {
+            if (!indexed) {
+                if (watchService == null) {
+                    startWatching();
+                }
+                index();
+            } else {
+                updateIndex();
+            }
+            deleteExpired();
+        } catch (RuntimeException ex) {
+            // the scheduled executor would not run the cleaner again
+            logger.error("error while cleaning batch downloads in {}", downloadDir, ex);
+        }
+    }
+
     @Override
-    public void run() {
-        logger.debug("deleting temporary zip files from {}", downloadDir);
+    public synchronized void close() throws IOException {
+        ofNullable(scheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void index() {
+        logger.info("indexing batch download files from {}", downloadDir);
+        expiries.clear();
+        indexedExpiries.clear();
         stream(ofNullable(downloadDir.toFile().listFiles()).orElse(new File[] {}))
-                .filter(f -> filePattern.matcher(f.getName()).matches())
-                .filter(f -> DatashareTime.getInstance().currentTimeMillis() - f.lastModified() >= ttlHour * 1000L * 60 * 60)
-                .forEach(File::delete);
+                .forEach(f -> indexFile(f.toPath()));
+        indexed = true;
+    }
+
+    private void updateIndex() {
+        if (watchService == null) {
+            startWatching();
+            index(); // no filesystem events: falls back to listing the directory
+            return;
+        }
+        WatchKey key;
+        try {
+            while ((key = watchService.poll()) != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        index();
+                    } else {
+                        indexFile(downloadDir.resolve((Path) event.context()));
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException ex) {
+            watchService = null;
+        }
+    }
+
+    private void indexFile(Path file) {
+        String fileName = file.getFileName().toString();
+        long lastModified = file.toFile().lastModified();
+        if (lastModified == 0) {
+            return; // already deleted
+        }
+        if (filePattern.matcher(fileName).matches()) {
+            addExpiry(file, lastModified + ttlHour * 1000L * 60 * 60);
+        } else if (fileName.endsWith(BatchDownloadRunner.TMP_SUFFIX) &&
+                filePattern.matcher(fileName.substring(0, fileName.length() - BatchDownloadRunner.TMP_SUFFIX.length())).matches()) {
+            addExpiry(file, lastModified + ORPHAN_TMP_DELAY_MS);
+        }
+    }
+
+    private void addExpiry(Path file, long expiresAt) {
+        indexedExpiries.put(file, expiresAt);
+        expiries.add(new Artifact(file, expiresAt));
+    }
+
+    private void deleteExpired() {
+        long now = DatashareTime.getInstance().currentTimeMillis();
+        while (!expiries.isEmpty() && expiries.peek().expiresAt <= now) {
+            Artifact artifact = expiries.poll();
+            if (!Long.valueOf(artifact.expiresAt).equals(indexedExpiries.get(artifact.file))) {
+                continue; // the file has been modified after, there is a more recent expiry
+            }
+            indexedExpiries.remove(artifact.file);
+            if (artifact.isOrphan() && artifact.file.toFile().lastModified() > artifact.expiresAt - ORPHAN_TMP_DELAY_MS) {
+                indexFile(artifact.file); // still written by a runner
+                continue;
+            }
+            try {
+                if (Files.deleteIfExists(artifact.file)) {
+                    logger.info("deleted {} batch download file {}", artifact.isOrphan() ? "orphan" : "expired", artifact.file);
+                }
+            } catch (IOException ex) {
+                logger.warn("cannot delete batch download file {}", artifact.file, ex);
+            }
+        }
+    }
+
+    private void startWatching() {
+        try {
+            watchService = downloadDir.getFileSystem().newWatchService();
+            downloadDir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            watchFailureLogged = false;
+        } catch (IOException | UnsupportedOperationException ex) {
+            if (!watchFailureLogged) {
+                logger.warn("cannot watch {}, the directory will be listed for each cleaning", downloadDir, ex);
+                watchFailureLogged = true;
+            }
+            try {
+                if (watchService != null) watchService.close();
+            } catch (IOException ignored) {
+                // not watching anyway
+            }
+            watchService = null;
+        }
+    }
+
+    private record Artifact(Path file, long expiresAt) {
+        boolean isOrphan() {
+            return file.getFileName().toString().endsWith(BatchDownloadRunner.TMP_SUFFIX);
+        }
     }
 }
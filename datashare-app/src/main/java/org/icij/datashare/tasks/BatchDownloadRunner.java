@@ -35,6 +35,8 @@ import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -50,6 +52,7 @@ import static org.icij.datashare.cli.DatashareCliOptions.*;
 
 public class BatchDownloadRunner implements Callable<UriResult>, Monitorable, UserTask {
     private final static Logger logger = LoggerFactory.getLogger(BatchDownloadRunner.class);
+    static final String TMP_SUFFIX = ".tmp";
     static final int MAX_SCROLL_SIZE = 3500;
     static final int MAX_BATCH_RESULT_SIZE = 10000;
     private final DocumentVerifier documentVerifier;
@@ -122,8 +125,11 @@ public class BatchDownloadRunner implements Callable<UriResult>, Monitorable, Us
                     docsToProcess = searcher.scroll(scrollDuration).collect(toList());
                 }
             }
+            Files.move(tmpFile(batchDownload), batchDownload.filename, StandardCopyOption.ATOMIC_MOVE);
         } catch (ElasticsearchException esEx) {
             throw ElasticSearchAdapterException.createFrom(esEx);
+        } finally {
+            Files.deleteIfExists(tmpFile(batchDownload));
         }
         UriResult result = new UriResult(batchDownload.filename.toUri(), Files.size(batchDownload.filename));
         logger.info("created batch download file {} of {} entries for user {}", result, numberOfResults.get(), batchDownload.user.getId());
@@ -155,6 +161,14 @@ public class BatchDownloadRunner implements Callable<UriResult>, Monitorable, Us
         return getClass().getSimpleName() + "@" + getBatchDownload().uuid;
     }
 
+    /**
+     * the zip is written in a temporary file and moved when it is complete, so a killed runner
+     * doesn't leave an incomplete zip that could be downloaded (see BatchDownloadCleaner for the cleaning)
+     */
+    static Path tmpFile(BatchDownload batchDownload) {
+        return batchDownload.filename.resolveSibling(batchDownload.filename.getFileName() + TMP_SUFFIX);
+    }
+
     private BatchDownload getBatchDownload() {
         return (BatchDownload) task.args.get("batchDownload");
     }
@@ -165,7 +179,7 @@ public class BatchDownloadRunner implements Callable<UriResult>, Monitorable, Us
         private final PropertiesProvider propertiesProvider;
 
         protected Zipper(BatchDownload batchDownload, PropertiesProvider propertiesProvider) throws IOException {
-            this(batchDownload, propertiesProvider, new ZipOutputStream(new FileOutputStream(batchDownload.filename.toFile())));
+            this(batchDownload, propertiesProvider, new ZipOutputStream(new FileOutputStream(tmpFile(batchDownload).toFile())));
         }
 
         protected Zipper(BatchDownload batchDownload,  PropertiesProvider propertiesProvider, ZipOutputStream zipOutputStream) {
@@ -219,7 +233,7 @@ public class BatchDownloadRunner implements Callable<UriResult>, Monitorable, Us
         }
 
         public ZipperWithPassword(BatchDownload batchDownload, PropertiesProvider propertiesProvider, MailSender mailSender, String password, String rootHost) throws IOException {
-            super(batchDownload, propertiesProvider, new ZipOutputStream(new FileOutputStream(batchDownload.filename.toFile()), password.toCharArray()));
+            super(batchDownload, propertiesProvider, new ZipOutputStream(new FileOutputStream(tmpFile(batchDownload).toFile()), password.toCharArray()));
             this.password = password;
             this.passwordSender = mailSender;
             this.rootHost = rootHost;
@@ -16,6 +16,7 @@ public interface DatashareTaskFactory extends org.icij.datashare.asynctasks.Task
     ExtractNlpTask createExtractNlpTask(Task<Long> taskView, Function<Double, Void> updateCallback);
     EnqueueFromIndexTask createEnqueueFromIndexTask(Task<Long> taskView, Function<Double, Void> updateCallback);
     DeduplicateTask createDeduplicateTask(Task<Long> taskView, Function<Double, Void> updateCallback);
+    HideNamedEntitiesTask createHideNamedEntitiesTask(Task<Long> taskView, Function<Double, Void> updateCallback);
 
     GenApiKeyTask createGenApiKey(User user);
     DelApiKeyTask createDelApiKey(User user);
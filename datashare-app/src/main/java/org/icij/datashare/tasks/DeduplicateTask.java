@@ -5,15 +5,20 @@ import com.google.inject.assistedinject.Assisted;
 import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.Stage;
 import org.icij.datashare.asynctasks.Task;
+import org.icij.datashare.extract.BatchQueue;
 import org.icij.datashare.extract.DocumentCollectionFactory;
 import org.icij.extract.queue.DocumentQueue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static java.util.stream.Collectors.toList;
+
 /**
  * filters the document queue with extracted docs
  */
@@ -28,9 +33,10 @@ public class DeduplicateTask extends PipelineTask<Path> {
     }
 
     @Override
-    public Long call() throws Exception {
-        super.call();
+    protected Long runTask() throws Exception {
+        long start = System.nanoTime();
         int duplicates = inputQueue.removeDuplicates();
+        metrics.time("removeDuplicates", System.nanoTime() - start);
         transferToOutputQueue();
         logger.info("removed {} duplicate paths in inputQueue {}", duplicates, inputQueue.getName());
         return (long)duplicates;
@@ -43,10 +49,17 @@ public class DeduplicateTask extends PipelineTask<Path> {
     long transferToOutputQueue(Predicate<Path> filter) throws Exception {
         long originalSize = inputQueue.size();
         try (DocumentQueue<Path> outputQueue = factory.createQueue(getOutputQueueName(), Path.class)) {
-            Path path;
-            while (!(path = inputQueue.take()).equals(PATH_POISON)) {
-                if (filter.test(path)) {
-                    outputQueue.add(path);
+            boolean poisoned = false;
+            while (!poisoned) {
+                List<Path> paths = BatchQueue.poll(inputQueue, queueBatchSize, PATH_POISON, 1, TimeUnit.MINUTES);
+                poisoned = !paths.isEmpty() && paths.get(paths.size() - 1).equals(PATH_POISON);
+                List<Path> filtered = paths.stream().filter(p -> !p.equals(PATH_POISON) && filter.test(p)).collect(toList());
+                metrics.size("poll", paths.size());
+                if (!filtered.isEmpty()) {
+                    long start = System.nanoTime();
+                    outputQueue.addAll(filtered);
+                    metrics.time("enqueue", System.nanoTime() - start);
+                    metrics.processed(filtered.size());
                 }
             }
             outputQueue.add(PATH_POISON);
@@ -7,6 +7,7 @@ import org.icij.datashare.Entity;
 import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.Stage;
 import org.icij.datashare.asynctasks.Task;
+import org.icij.datashare.extension.PipelineRegistry;
 import org.icij.datashare.extract.DocumentCollectionFactory;
 import org.icij.datashare.text.Document;
 import org.icij.datashare.text.indexing.Indexer;
@@ -17,6 +18,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.Integer.parseInt;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -25,6 +27,7 @@ import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_PROJECT_OPT;
 import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_SCROLL_DURATION;
 import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_SCROLL_SIZE;
 import static org.icij.datashare.cli.DatashareCliOptions.NLP_PIPELINE_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.NLP_REPROCESS_OUTDATED_OPT;
 import static org.icij.datashare.cli.DatashareCliOptions.SCROLL_DURATION_OPT;
 import static org.icij.datashare.cli.DatashareCliOptions.SCROLL_SIZE_OPT;
 
@@ -32,18 +35,21 @@ public class EnqueueFromIndexTask extends PipelineTask<String> {
     private final DocumentCollectionFactory<String> factory;
     Logger logger = LoggerFactory.getLogger(getClass());
     private final Pipeline.Type nlpPipeline;
+    private final String nerVersion;
     private final String projectName;
     private final Indexer indexer;
     private final String scrollDuration;
     private final int scrollSize;
 
     @Inject
-    public EnqueueFromIndexTask(final DocumentCollectionFactory<String> factory, final Indexer indexer,
+    public EnqueueFromIndexTask(final DocumentCollectionFactory<String> factory, final Indexer indexer, final PipelineRegistry registry,
                                 @Assisted Task<Long> taskView, @Assisted final Function<Double, Void> updateCallback) {
         super(Stage.ENQUEUEIDX, taskView.getUser(), factory, new PropertiesProvider(taskView.args), String.class);
         this.factory = factory;
         this.indexer = indexer;
         this.nlpPipeline = Pipeline.Type.parse((String) taskView.args.getOrDefault(NLP_PIPELINE_OPT, Pipeline.Type.CORENLP.name()));
+        this.nerVersion = parseBoolean(propertiesProvider.get(NLP_REPROCESS_OUTDATED_OPT).orElse("false")) ?
+                registry.get(nlpPipeline).getNerVersion() : null;
         this.projectName = (String)taskView.args.getOrDefault(DEFAULT_PROJECT_OPT, DEFAULT_DEFAULT_PROJECT);
         this.scrollDuration = propertiesProvider.get(SCROLL_DURATION_OPT).orElse(DEFAULT_SCROLL_DURATION);
         this.scrollSize = parseInt(propertiesProvider.get(SCROLL_SIZE_OPT).orElse(String.valueOf(DEFAULT_SCROLL_SIZE)));
@@ -51,19 +57,25 @@ public class EnqueueFromIndexTask extends PipelineTask<String> {
     }
 
     @Override
-    public Long call() throws Exception {
-        super.call();
-        Indexer.Searcher searcher = indexer.search(singletonList(projectName), Document.class)
-                .without(nlpPipeline).withSource("rootDocument").limit(scrollSize);
-        logger.info("resuming NLP name finding for index {} and {} with {} scroll and size of {} : {} documents found", projectName, nlpPipeline,
-                scrollDuration, scrollSize, searcher.totalHits());
+    protected Long runTask() throws Exception {
+        Indexer.QueryBuilderSearcher query = indexer.search(singletonList(projectName), Document.class);
+        Indexer.Searcher searcher = (nerVersion == null ? query.without(nlpPipeline) : query.withoutNerVersion(nlpPipeline, nerVersion))
+                .withSource("rootDocument").limit(scrollSize);
+        logger.info("resuming NLP name finding for index {} and {} with {} scroll and size of {} : {} documents found", projectName,
+                nerVersion == null ? nlpPipeline : nerVersion, scrollDuration, scrollSize, searcher.totalHits());
         List<? extends Entity> docsToProcess = searcher.scroll(scrollDuration).collect(toList());
         long totalHits = searcher.totalHits();
 
         try (DocumentQueue<String> outputQueue = factory.createQueue(getOutputQueueName(), String.class)) {
             do {
-                docsToProcess.forEach(doc -> outputQueue.add(doc.getId()));
+                long start = System.nanoTime();
+                outputQueue.addAll(docsToProcess.stream().map(Entity::getId).collect(toList()));
+                metrics.time("enqueue", System.nanoTime() - start);
+                metrics.size("scroll", docsToProcess.size());
+                metrics.processed(docsToProcess.size());
+                start = System.nanoTime();
                 docsToProcess = searcher.scroll(scrollDuration).collect(toList());
+                metrics.time("scroll", System.nanoTime() - start);
             } while (!docsToProcess.isEmpty());
             outputQueue.add(STRING_POISON);
             logger.info("enqueued into {} {} files without {} pipeline tags", outputQueue.getName(), totalHits, nlpPipeline);
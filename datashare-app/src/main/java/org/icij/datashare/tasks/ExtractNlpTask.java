@@ -8,35 +8,72 @@ import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.Stage;
 import org.icij.datashare.asynctasks.Task;
 import org.icij.datashare.extension.PipelineRegistry;
+import org.icij.datashare.extract.BatchQueue;
 import org.icij.datashare.extract.DocumentCollectionFactory;
 import org.icij.datashare.monitoring.Monitorable;
+import org.icij.datashare.nlp.NamedEntityCache;
 import org.icij.datashare.text.Document;
+import org.icij.datashare.text.Language;
 import org.icij.datashare.text.NamedEntity;
 import org.icij.datashare.text.Project;
 import org.icij.datashare.text.indexing.Indexer;
 import org.icij.datashare.text.nlp.Pipeline;
+import org.icij.datashare.text.nlp.SentenceBatches;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.parseInt;
 import static java.lang.String.valueOf;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_DEFAULT_PROJECT;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_NLP_CACHE_MAX_SIZE;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_NLP_PARALLELISM;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_NLP_REPROCESS_OUTDATED;
 import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_PROJECT_OPT;
 import static org.icij.datashare.cli.DatashareCliOptions.MAX_CONTENT_LENGTH_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.NLP_CACHE_DIR_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.NLP_CACHE_MAX_SIZE_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.NLP_PARALLELISM_OPT;
 import static org.icij.datashare.cli.DatashareCliOptions.NLP_PIPELINE_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.NLP_REPROCESS_OUTDATED_OPT;
+import static org.icij.datashare.text.NamedEntitiesBuilder.mergeByMention;
 import static org.icij.extract.document.Identifier.shorten;
 
 public class ExtractNlpTask extends PipelineTask<String> implements Monitorable {
     private static final int DEFAULT_MAX_CONTENT_LENGTH = 1024 * 1024;
+    private static final int MAX_HIDDEN_MENTIONS = 10_000;
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final Indexer indexer;
     private final Pipeline nlpPipeline;
     private final Project project;
     private final int maxContentLengthChars;
+    private final boolean reprocessOutdated;
+    private final NamedEntityCache cache;
+    private final ExecutorService chunkExecutor;
+    private Language lastLanguage;
 
     @Inject
     public ExtractNlpTask(Indexer indexer, PipelineRegistry registry, final DocumentCollectionFactory<String> factory, @Assisted Task<Long> taskView, @Assisted final Function<Double, Void> updateCallback) {
@@ -49,62 +86,253 @@ public class ExtractNlpTask extends PipelineTask<String> implements Monitorable
         this.nlpPipeline = pipeline;
         project = Project.project(ofNullable((String)taskView.args.get(DEFAULT_PROJECT_OPT)).orElse(DEFAULT_DEFAULT_PROJECT));
         maxContentLengthChars = (int) HumanReadableSize.parse(ofNullable((String)taskView.args.get(MAX_CONTENT_LENGTH_OPT)).orElse(valueOf(DEFAULT_MAX_CONTENT_LENGTH)));
+        reprocessOutdated = parseBoolean(propertiesProvider.get(NLP_REPROCESS_OUTDATED_OPT).orElse(valueOf(DEFAULT_NLP_REPROCESS_OUTDATED)));
+        long cacheMaxSize = HumanReadableSize.parse(ofNullable((String)taskView.args.get(NLP_CACHE_MAX_SIZE_OPT)).orElse(DEFAULT_NLP_CACHE_MAX_SIZE));
+        cache = ofNullable((String)taskView.args.get(NLP_CACHE_DIR_OPT)).map(dir -> new NamedEntityCache(Paths.get(dir), cacheMaxSize)).orElse(null);
         this.indexer = indexer;
+        int parallelism = parseInt(propertiesProvider.get(NLP_PARALLELISM_OPT).orElse(String.valueOf(DEFAULT_NLP_PARALLELISM)));
+        chunkExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "nlp-chunk-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
-    public Long call() throws Exception {
-        super.call();
+    protected Long runTask() throws Exception {
         logger.info("extracting Named Entities with pipeline {} for {} from queue {}", nlpPipeline.getType(), project, inputQueue.getName());
-        String docId;
         long nbMessages = 0;
-        while (!(STRING_POISON.equals(docId = inputQueue.poll(60, TimeUnit.SECONDS)))) {
-            try {
-                if (docId != null) {
-                    findNamedEntities(project, docId);
-                    nbMessages++;
+        boolean poisoned = false;
+        // ids of the polled batch that are not processed yet, put back in the queue if the task stops
+        Deque<String> pending = new ArrayDeque<>();
+        try {
+            while (!poisoned) {
+                List<String> docIds = BatchQueue.poll(inputQueue, queueBatchSize, STRING_POISON, 60, TimeUnit.SECONDS);
+                metrics.size("poll", docIds.size());
+                int poisonIndex = docIds.indexOf(STRING_POISON);
+                if (poisonIndex >= 0) {
+                    poisoned = true;
+                    docIds = docIds.subList(0, poisonIndex);
+                }
+                pending = new ArrayDeque<>(groupByLanguage(project, docIds));
+                while (!pending.isEmpty()) {
+                    try {
+                        findNamedEntities(project, pending.peek());
+                        nbMessages++;
+                        metrics.processed(1);
+                    } catch (InterruptedException e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        metrics.failed(1);
+                        logger.error("cannot extract entities of doc {}", pending.peek(), e);
+                    }
+                    pending.poll();
                 }
-            } catch (Throwable e) {
-                logger.error("error in ExtractNlpTask loop", e);
             }
+        } finally {
+            chunkExecutor.shutdownNow();
+            requeue(pending, poisoned);
         }
         logger.info("exiting ExtractNlpTask loop after {} messages.", nbMessages);
         return nbMessages;
     }
 
-    void findNamedEntities(final Project project, final String id) throws InterruptedException {
+    private void requeue(Collection<String> docIds, boolean poisoned) {
+        if (docIds.isEmpty()) {
+            return;
+        }
+        logger.info("putting back {} unprocessed document id(s) in queue {}", docIds.size(), inputQueue.getName());
         try {
-            Document doc = indexer.get(project.getName(), id);
-            if (doc != null) {
-                logger.info("extracting {} entities for document {}", nlpPipeline.getType(), shorten(doc.getId(), 4));
-                if (nlpPipeline.initialize(doc.getLanguage())) {
-                    int nbEntities = 0;
-                    if (doc.getContent().length() < this.maxContentLengthChars) {
-                        List<NamedEntity> namedEntities = nlpPipeline.process(doc);
-                        indexer.bulkAdd(project.getName(), nlpPipeline.getType(), namedEntities, doc);
-                        nbEntities = namedEntities.size();
-                    } else {
-                        int nbChunks = doc.getContent().length() / this.maxContentLengthChars + 1;
-                        logger.info("document is too large, extracting entities for {} document chunks", nbChunks);
-                        for (int chunkIndex = 0; chunkIndex < nbChunks; chunkIndex++) {
-                            List<NamedEntity> namedEntities = nlpPipeline.process(doc, maxContentLengthChars, chunkIndex * maxContentLengthChars);
-                            if (chunkIndex < nbChunks - 1) {
-                                indexer.bulkAdd(project.getName(), namedEntities);
-                            } else {
-                                indexer.bulkAdd(project.getName(), nlpPipeline.getType(), namedEntities, doc);
-                            }
-                            nbEntities += namedEntities.size();
+            inputQueue.addAll(docIds);
+            if (poisoned) {
+                inputQueue.add(STRING_POISON);
+            }
+        } catch (RuntimeException e) {
+            logger.error("cannot put back {} document id(s) in queue {}", docIds.size(), inputQueue.getName(), e);
+        }
+    }
+
+    void findNamedEntities(final Project project, final String id) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Document doc = indexer.get(project.getName(), id);
+        metrics.time("get", System.nanoTime() - start);
+        if (doc != null) {
+            logger.info("extracting {} entities for document {}", nlpPipeline.getType(), shorten(doc.getId(), 4));
+            lastLanguage = doc.getLanguage();
+            if (nlpPipeline.initialize(doc.getLanguage())) {
+                String nerVersion = nlpPipeline.getNerVersion();
+                boolean reprocessing = reprocessOutdated && doc.getNerTags() != null && doc.getNerTags().contains(nlpPipeline.getType());
+                List<NamedEntity> namedEntities;
+                boolean written;
+                if (doc.getContent().length() < this.maxContentLengthChars) {
+                    namedEntities = process(doc, doc.getContentTextLength(), 0);
+                    if (reprocessing) {
+                        keepHiddenMentions(project, doc, namedEntities);
+                    }
+                    start = System.nanoTime();
+                    written = indexer.bulkAdd(project.getName(), nlpPipeline.getType(), nerVersion, namedEntities, doc);
+                    metrics.time("bulk", System.nanoTime() - start);
+                    metrics.size("bulk", namedEntities.size());
+                } else {
+                    List<Future<List<NamedEntity>>> chunks = submitChunks(doc);
+                    logger.info("document is too large, extracting entities for {} document chunks", chunks.size());
+                    List<NamedEntity> chunksEntities = new ArrayList<>();
+                    try {
+                        for (Future<List<NamedEntity>> chunk : chunks) {
+                            chunksEntities.addAll(waitFor(chunk));
+                        }
+                    } finally {
+                        chunks.forEach(chunk -> chunk.cancel(true));
+                    }
+                    // the same names are found in several chunks: they are merged before being written
+                    namedEntities = mergeByMention(chunksEntities);
+                    metrics.size("merge", chunksEntities.size() - namedEntities.size());
+                    if (reprocessing) {
+                        keepHiddenMentions(project, doc, namedEntities);
+                    }
+                    written = true;
+                    int bulkSize = Math.max(1, (namedEntities.size() + chunks.size() - 1) / chunks.size());
+                    for (int from = 0; from < namedEntities.size() || from == 0; from += bulkSize) {
+                        List<NamedEntity> bulk = namedEntities.subList(from, Math.min(from + bulkSize, namedEntities.size()));
+                        start = System.nanoTime();
+                        if (from + bulkSize < namedEntities.size()) {
+                            written &= indexer.bulkAdd(project.getName(), bulk);
+                        } else {
+                            written &= indexer.bulkAdd(project.getName(), nlpPipeline.getType(), nerVersion, bulk, doc);
                         }
+                        metrics.time("bulk", System.nanoTime() - start);
+                        metrics.size("bulk", bulk.size());
                     }
-                    logger.info("added {} named entities to document {}", nbEntities, shorten(doc.getId(), 4));
-                    nlpPipeline.terminate(doc.getLanguage());
                 }
-            } else {
-                logger.warn("no document found in index with id " + id);
+                if (reprocessing) {
+                    deleteStaleEntities(project, doc, namedEntities, written);
+                }
+                logger.info("added {} named entities to document {}", namedEntities.size(), shorten(doc.getId(), 4));
+                nlpPipeline.terminate(doc.getLanguage());
+            }
+        } else {
+            logger.warn("no document found in index with id " + id);
+        }
+    }
+
+    /**
+     * hides the named entities whose mention was hidden in the previous run of the pipeline on doc,
+     * because they are written again with the default hidden flag.
+     */
+    private void keepHiddenMentions(final Project project, final Document doc, final List<NamedEntity> namedEntities) throws IOException {
+        Set<String> hiddenMentions = indexer.search(singletonList(project.getName()), NamedEntity.class)
+                .thatMatchesFieldValue("documentId", doc.getId())
+                .thatMatchesFieldValue("extractor", nlpPipeline.getType().toString())
+                .thatMatchesFieldValue("isHidden", true)
+                .withSource("mention", "extractor").limit(MAX_HIDDEN_MENTIONS).execute()
+                .map(ne -> ((NamedEntity) ne).getMentionNorm()).collect(toSet());
+        namedEntities.stream().filter(ne -> hiddenMentions.contains(ne.getMentionNorm())).forEach(NamedEntity::hide);
+    }
+
+    /**
+     * deletes the named entities of the previous run of the pipeline on doc that were not found again.
+     * They are kept if the new entities could not all be written.
+     */
+    private void deleteStaleEntities(final Project project, final Document doc, final List<NamedEntity> namedEntities, boolean written) throws IOException {
+        if (!written) {
+            logger.warn("named entities of document {} were not all written, keeping the entities of previous {} run", shorten(doc.getId(), 4), nlpPipeline.getType());
+            return;
+        }
+        long start = System.nanoTime();
+        long nbDeleted = indexer.deleteNamedEntities(project.getName(), nlpPipeline.getType(), doc,
+                namedEntities.stream().map(NamedEntity::getId).collect(toSet()));
+        metrics.time("delete", System.nanoTime() - start);
+        logger.info("deleted {} named entities of previous {} run for document {}", nbDeleted, nlpPipeline.getType(), shorten(doc.getId(), 4));
+    }
+
+    /**
+     * orders the ids of a polled batch by language, starting with the language of the last processed document,
+     * so that the pipeline processes runs of documents with the same language instead of switching models.
+     * Documents are only reordered inside the batch, and keep the queue order inside a language.
+     */
+    List<String> groupByLanguage(final Project project, final List<String> docIds) {
+        if (docIds.size() < 2) {
+            return docIds;
+        }
+        long start = System.nanoTime();
+        Map<Language, List<String>> idsByLanguage = new LinkedHashMap<>();
+        if (lastLanguage != null) {
+            idsByLanguage.put(lastLanguage, new ArrayList<>());
+        }
+        Map<String, Language> languages = getLanguages(project, docIds);
+        for (String docId : docIds) {
+            idsByLanguage.computeIfAbsent(languages.get(docId), l -> new ArrayList<>()).add(docId);
+        }
+        metrics.time("language", System.nanoTime() - start);
+        return idsByLanguage.values().stream().flatMap(List::stream).collect(toList());
+    }
+
+    /**
+     * @return the languages of the documents, read with one search request that only returns the language field
+     */
+    private Map<String, Language> getLanguages(final Project project, final List<String> ids) {
+        try {
+            return indexer.search(singletonList(project.getName()), Document.class)
+                    .withFieldValues("_id", ids.toArray(new String[0]))
+                    .withSource("language").limit(ids.size()).execute()
+                    .map(Document.class::cast)
+                    .filter(doc -> doc.getLanguage() != null)
+                    .collect(toMap(Document::getId, Document::getLanguage, (language, other) -> language));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("cannot get languages of {} docs", ids.size(), e);
+            return emptyMap();
+        }
+    }
+
+    /**
+     * splits the content of doc into chunks ending at sentence boundaries, that are processed in parallel
+     * by the NLP parallelism threads. The named entities offsets are relative to the whole content.
+     */
+    private List<Future<List<NamedEntity>>> submitChunks(Document doc) {
+        List<Future<List<NamedEntity>>> chunks = new ArrayList<>();
+        int chunkBegin = 0;
+        for (int chunkEnd : SentenceBatches.ends(doc.getContent(), doc.getLanguage(), maxContentLengthChars)) {
+            int contentOffset = chunkBegin;
+            int contentLength = chunkEnd - chunkBegin;
+            chunks.add(chunkExecutor.submit(() -> process(doc, contentLength, contentOffset)));
+            chunkBegin = chunkEnd;
+        }
+        return chunks;
+    }
+
+    private static <V> V waitFor(Future<V> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
             }
-        } catch (IOException e) {
-            logger.error("cannot extract entities of doc " + id, e);
+            throw new IllegalStateException("cannot extract entities of document chunk", e.getCause());
+        }
+    }
+
+    private List<NamedEntity> process(Document doc, int contentLength, int contentOffset) throws InterruptedException {
+        String key = null;
+        if (cache != null && nlpPipeline.isCacheable(doc)) {
+            long start = System.nanoTime();
+            key = cache.key(nlpPipeline, doc, contentLength, contentOffset);
+            Optional<List<NamedEntity>> cached = cache.get(key, nlpPipeline.getType(), doc);
+            metrics.time("cache", System.nanoTime() - start);
+            if (cached.isPresent()) {
+                logger.info("found {} cached entities for document {}", cached.get().size(), shorten(doc.getId(), 4));
+                return cached.get();
+            }
+        }
+        long start = System.nanoTime();
+        List<NamedEntity> namedEntities = contentOffset == 0 && contentLength == doc.getContentTextLength() ?
+                nlpPipeline.process(doc) : nlpPipeline.process(doc, contentLength, contentOffset);
+        metrics.time("ner", System.nanoTime() - start);
+        if (key != null) {
+            cache.put(key, namedEntities);
         }
+        return namedEntities;
     }
 
     @Override
@@ -0,0 +1,85 @@
+package org.icij.datashare.tasks;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import org.icij.datashare.PropertiesProvider;
+import org.icij.datashare.asynctasks.CancelException;
+import org.icij.datashare.asynctasks.CancellableTask;
+import org.icij.datashare.asynctasks.Task;
+import org.icij.datashare.text.indexing.Indexer;
+import org.icij.datashare.user.User;
+import org.icij.datashare.user.UserTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Float.parseFloat;
+import static java.lang.Integer.parseInt;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_NAMED_ENTITIES_UPDATE_SLICES;
+import static org.icij.datashare.cli.DatashareCliOptions.NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.NAMED_ENTITIES_UPDATE_SLICES_OPT;
+
+/**
+ * Hides (or shows again) all the named entities of a project with the same normalized mention.
+ * The update is made by elasticsearch (update by query) so the entities are not loaded in memory.
+ */
+public class HideNamedEntitiesTask implements Callable<Long>, UserTask, CancellableTask {
+    public static final String PROJECT_ARG = "project";
+    public static final String MENTION_NORM_ARG = "mentionNorm";
+    public static final String HIDDEN_ARG = "hidden";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final Indexer indexer;
+    private final Task<Long> taskView;
+    private final Function<Double, Void> updateCallback;
+    private final int slices;
+    private final float requestsPerSecond;
+    private volatile Thread callThread;
+    private volatile boolean requeueCancel;
+
+    @Inject
+    public HideNamedEntitiesTask(Indexer indexer, PropertiesProvider propertiesProvider,
+                                 @Assisted Task<Long> taskView, @Assisted Function<Double, Void> updateCallback) {
+        this.indexer = indexer;
+        this.taskView = taskView;
+        this.updateCallback = updateCallback;
+        this.slices = parseInt(propertiesProvider.get(NAMED_ENTITIES_UPDATE_SLICES_OPT)
+                .orElse(String.valueOf(DEFAULT_NAMED_ENTITIES_UPDATE_SLICES)));
+        this.requestsPerSecond = parseFloat(propertiesProvider.get(NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND_OPT)
+                .orElse(String.valueOf(DEFAULT_NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND)));
+    }
+
+    @Override
+    public Long call() throws Exception {
+        callThread = Thread.currentThread();
+        String project = (String) taskView.args.get(PROJECT_ARG);
+        String mentionNorm = (String) taskView.args.get(MENTION_NORM_ARG);
+        boolean hidden = parseBoolean(String.valueOf(taskView.args.getOrDefault(HIDDEN_ARG, "true")));
+        logger.info("{} named entities \"{}\" in {} with {} slices and {} requests/s",
+                hidden ? "hiding" : "unhiding", mentionNorm, project, slices, requestsPerSecond);
+        try {
+            long updated = indexer.hideNamedEntities(project, mentionNorm, hidden, slices, requestsPerSecond, updateCallback);
+            logger.info("{} named entities \"{}\" updated in {}", updated, mentionNorm, project);
+            return updated;
+        } catch (InterruptedIOException e) {
+            logger.info("cancelling named entities update \"{}\" in {} requeue={}", mentionNorm, project, requeueCancel);
+            throw new CancelException(requeueCancel);
+        }
+    }
+
+    @Override
+    public void cancel(boolean requeue) {
+        requeueCancel = requeue;
+        if (callThread != null) callThread.interrupt();
+    }
+
+    @Override
+    public User getUser() {
+        return taskView.getUser();
+    }
+}
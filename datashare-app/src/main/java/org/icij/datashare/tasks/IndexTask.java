@@ -6,14 +6,15 @@ import java.util.function.Function;
 import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.Stage;
 import org.icij.datashare.asynctasks.Task;
+import org.icij.datashare.extract.CheckpointReporter;
 import org.icij.datashare.extract.DocumentCollectionFactory;
 import org.icij.datashare.monitoring.Monitorable;
+import org.icij.datashare.text.indexing.elasticsearch.ElasticsearchConfiguration;
 import org.icij.datashare.text.indexing.elasticsearch.ElasticsearchSpewer;
 import org.icij.extract.document.DocumentFactory;
 import org.icij.extract.extractor.DocumentConsumer;
 import org.icij.extract.extractor.Extractor;
 import org.icij.extract.queue.DocumentQueueDrainer;
-import org.icij.extract.report.Reporter;
 import org.icij.task.Options;
 import org.icij.task.annotation.Option;
 import org.icij.task.annotation.OptionsClass;
@@ -22,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 
 import static java.lang.Math.max;
 import static java.util.concurrent.TimeUnit.MINUTES;
@@ -33,10 +35,14 @@ import static org.icij.datashare.cli.DatashareCliOptions.*;
 @OptionsClass(DocumentQueueDrainer.class)
 @Option(name = DEFAULT_PROJECT_OPT, description = "the default project name")
 @Option(name = "projectName", description = "task project name")
+@Option(name = EXPECTED_CORPUS_SIZE_OPT, description = "expected corpus size used to choose the number of shards")
 public class IndexTask extends PipelineTask<Path> implements Monitorable{
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final DocumentQueueDrainer<Path> drainer;
     private final DocumentConsumer consumer;
+    private final ElasticsearchSpewer spewer;
+    private final Extractor extractor;
+    private final CheckpointReporter checkpoint;
     private long totalToProcess;
     private final Integer parallelism;
 
@@ -46,32 +52,50 @@ public class IndexTask extends PipelineTask<Path> implements Monitorable{
         parallelism = propertiesProvider.get(PARALLELISM_OPT).map(Integer::parseInt).orElse(Runtime.getRuntime().availableProcessors());
 
         Options<String> allTaskOptions = options().createFrom(Options.from(taskView.args));
-        ((ElasticsearchSpewer) spewer.configure(allTaskOptions)).createIndexIfNotExists();
+        this.spewer = (ElasticsearchSpewer) spewer.configure(allTaskOptions);
+        this.spewer.createIndexIfNotExists();
 
         DocumentFactory documentFactory = new DocumentFactory().configure(allTaskOptions);
-        Extractor extractor = new Extractor(documentFactory).configure(allTaskOptions);
+        extractor = new Extractor(documentFactory).configure(allTaskOptions);
 
         consumer = new DocumentConsumer(spewer, extractor, this.parallelism);
         if (propertiesProvider.getProperties().get(REPORT_NAME_OPT) != null) {
             logger.info("report map enabled with name set to {}", propertiesProvider.getProperties().get(REPORT_NAME_OPT));
-            consumer.setReporter(new Reporter(factory.createMap(propertiesProvider.getProperties().get(REPORT_NAME_OPT).toString())));
+            checkpoint = new CheckpointReporter(factory, propertiesProvider.getProperties().get(REPORT_NAME_OPT).toString(), taskView.id);
+            consumer.setReporter(checkpoint);
+        } else {
+            checkpoint = null;
         }
         drainer = new DocumentQueueDrainer<>(inputQueue, consumer).configure(allTaskOptions);
     }
 
     @Override
-    public Long call() throws Exception {
-        super.call();
+    protected Long runTask() throws Exception {
         logger.info("Processing up to {} file(s) in parallel", parallelism);
-        totalToProcess = drainer.drain(PATH_POISON).get();
-        drainer.shutdown();
-        drainer.awaitTermination(10, SECONDS); // drain is finished
-        logger.info("drained {} documents. Waiting for consumer to shutdown", totalToProcess);
+        Map<String, String> originalSettings = applyIngestProfile();
+        Exception error = null;
+        try {
+            if (checkpoint != null) {
+                int nbRecovered = checkpoint.recover(extractor, spewer);
+                logger.info("recovered {} file(s) that were being extracted when the previous task stopped", nbRecovered);
+            }
+            totalToProcess = drainer.drain(PATH_POISON).get();
+            drainer.shutdown();
+            drainer.awaitTermination(10, SECONDS); // drain is finished
+            logger.info("drained {} documents. Waiting for consumer to shutdown", totalToProcess);
 
-        consumer.shutdown();
-        // documents could be currently processed
-        while (!consumer.awaitTermination(30, MINUTES)) {
-            logger.info("Consumer has not terminated yet.");
+            consumer.shutdown();
+            // documents could be currently processed
+            while (!consumer.awaitTermination(30, MINUTES)) {
+                logger.info("Consumer has not terminated yet.");
+            }
+        } catch (Exception e) {
+            error = e;
+            throw e;
+        } finally {
+            if (originalSettings != null) {
+                restoreIngestProfile(originalSettings, error);
+            }
         }
 
         if (consumer.getReporter() != null) consumer.getReporter().close();
@@ -79,6 +103,26 @@ public class IndexTask extends PipelineTask<Path> implements Monitorable{
         return totalToProcess;
     }
 
+    private Map<String, String> applyIngestProfile() throws IOException {
+        if (!propertiesProvider.get(INGEST_PROFILE_OPT).map(Boolean::parseBoolean).orElse(DEFAULT_INGEST_PROFILE)) {
+            return null;
+        }
+        return spewer.applyIngestSettings(ElasticsearchConfiguration.ingestSettings(
+                propertiesProvider.get(INGEST_TRANSLOG_FLUSH_THRESHOLD_OPT).orElse(null)));
+    }
+
+    private void restoreIngestProfile(Map<String, String> originalSettings, Exception error) {
+        try {
+            spewer.restoreSettings(originalSettings);
+        } catch (Exception e) {
+            // must not hide the task error if any
+            logger.error("cannot restore settings {} of index {}", originalSettings, spewer.indexName, e);
+            if (error != null) {
+                error.addSuppressed(e);
+            }
+        }
+    }
+
     @Override
     public double getProgressRate() {
         totalToProcess = max(inputQueue.size(), totalToProcess);
@@ -5,6 +5,7 @@ import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.Stage;
 import org.icij.datashare.asynctasks.CancellableTask;
 import org.icij.datashare.extract.DocumentCollectionFactory;
+import org.icij.datashare.monitoring.PipelineMetrics;
 import org.icij.datashare.user.User;
 import org.icij.datashare.user.UserTask;
 import org.icij.extract.queue.DocumentQueue;
@@ -12,8 +13,12 @@ import org.icij.task.DefaultTask;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.function.LongSupplier;
 
+import static java.lang.Integer.parseInt;
 import static java.util.Optional.ofNullable;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_QUEUE_BATCH_SIZE;
+import static org.icij.datashare.cli.DatashareCliOptions.QUEUE_BATCH_SIZE_OPT;
 
 public abstract class PipelineTask<T> extends DefaultTask<Long> implements UserTask, CancellableTask {
     protected final DocumentQueue<T> inputQueue;
@@ -21,6 +26,8 @@ public abstract class PipelineTask<T> extends DefaultTask<Long> implements UserT
     protected final Stage stage;
     protected final User user;
     protected final PropertiesProvider propertiesProvider;
+    protected final int queueBatchSize;
+    protected final PipelineMetrics.StageMetrics metrics;
     private final DocumentCollectionFactory<T> factory;
     public static Path PATH_POISON = Paths.get("POISON");
     public static String STRING_POISON = "POISON";
@@ -31,8 +38,10 @@ public abstract class PipelineTask<T> extends DefaultTask<Long> implements UserT
         this.stage = stage;
         this.user = user;
         this.factory = factory;
+        this.queueBatchSize = parseInt(propertiesProvider.get(QUEUE_BATCH_SIZE_OPT).orElse(String.valueOf(DEFAULT_QUEUE_BATCH_SIZE)));
         this.inputQueue = getInputQueue(clazz);
         this.outputQueue = getOutputQueue(clazz);
+        this.metrics = PipelineMetrics.getInstance().stage(stage);
     }
 
     @Override
@@ -40,11 +49,26 @@ public abstract class PipelineTask<T> extends DefaultTask<Long> implements UserT
         ofNullable(taskThread).ifPresent(Thread::interrupt);
     }
 
+    /**
+     * runs the task with the depths of its queues registered in the stage metrics
+     */
+    @Override
     public Long call() throws Exception {
         taskThread = Thread.currentThread();
-        return 0L;
+        LongSupplier inputDepth = ofNullable(inputQueue).map(q -> (LongSupplier) q::size).orElse(null);
+        LongSupplier outputDepth = ofNullable(outputQueue).map(q -> (LongSupplier) q::size).orElse(null);
+        ofNullable(inputDepth).ifPresent(depth -> metrics.queue("input", depth));
+        ofNullable(outputDepth).ifPresent(depth -> metrics.queue("output", depth));
+        try {
+            return runTask();
+        } finally {
+            ofNullable(inputDepth).ifPresent(depth -> metrics.removeQueue("input", depth));
+            ofNullable(outputDepth).ifPresent(depth -> metrics.removeQueue("output", depth));
+        }
     }
 
+    protected abstract Long runTask() throws Exception;
+
     @Override
     public User getUser() { return user;}
 
@@ -62,8 +62,7 @@ public class ScanIndexTask extends PipelineTask<Path> {
     }
 
     @Override
-    public Long call() throws Exception {
-        super.call();
+    protected Long runTask() throws Exception {
         logger.info("scanning index {} with {} scroll, scroll size {} and {} slice(s)", projectName, scrollDuration, scrollSize, scrollSlices);
         Optional<Long> nb = IntStream.range(0, scrollSlices).parallel().mapToObj(this::slicedScroll).reduce(Long::sum);
         logger.info("imported {} paths into map {}", nb.get(), getMapName());
@@ -76,10 +75,17 @@ public class ScanIndexTask extends PipelineTask<Path> {
         long nbProcessed = 0;
         do {
             try {
+                long start = System.nanoTime();
                 docsToProcess = search.scroll(createScrollQuery().withDuration(scrollDuration).withSlices(sliceNum, scrollSlices).build()).collect(toList());
+                metrics.time("scroll", System.nanoTime() - start);
+                start = System.nanoTime();
                 reportMap.putAll(docsToProcess.stream().map(d -> ((Document) d).getPath()).collect(toMap(p -> p, p -> new Report(ExtractionStatus.SUCCESS), (a, b) -> b)));
+                metrics.time("report", System.nanoTime() - start);
+                metrics.size("scroll", docsToProcess.size());
+                metrics.processed(docsToProcess.size());
                 nbProcessed += docsToProcess.size();
             } catch (IOException e) {
+                metrics.failed(1);
                 logger.error("error in slice {}", sliceNum, e);
             }
         } while (!docsToProcess.isEmpty());
@@ -29,10 +29,12 @@ public class ScanTask extends PipelineTask<Path> {
     }
 
     @Override
-    public Long call() throws Exception {
-        super.call();
+    protected Long runTask() throws Exception {
         ScannerVisitor scannerVisitor = scanner.createScannerVisitor(path);
+        long start = System.nanoTime();
         Long scanned = scannerVisitor.call();
+        metrics.time("scan", System.nanoTime() - start);
+        metrics.processed(scanned);
         outputQueue.add(PATH_POISON);
         return scanned;
     }
@@ -10,23 +10,39 @@ import net.codestory.http.Context;
 import net.codestory.http.annotations.*;
 import net.codestory.http.constants.HttpStatus;
 import net.codestory.http.payload.Payload;
+import org.icij.datashare.HumanReadableSize;
+import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.text.indexing.Indexer;
 import org.icij.datashare.utils.IndexAccessVerifier;
 import org.icij.datashare.utils.PayloadFormatter;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.HashMap;
 
 import static net.codestory.http.payload.Payload.created;
 import static net.codestory.http.payload.Payload.ok;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_SEARCH_PROXY_CACHE_MAX_SIZE;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_SEARCH_PROXY_CACHE_TTL;
+import static org.icij.datashare.cli.DatashareCliOptions.SEARCH_PROXY_CACHE_MAX_SIZE_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.SEARCH_PROXY_CACHE_TTL_OPT;
 
 @Singleton
 @Prefix("/api/index")
 public class IndexResource {
     private final Indexer indexer;
+    private final SearchResponseCache responseCache;
 
-    @Inject
     public IndexResource(Indexer indexer) {
+        this(indexer, new PropertiesProvider(new HashMap<>()));
+    }
+
+    @Inject
+    public IndexResource(Indexer indexer, PropertiesProvider propertiesProvider) {
         this.indexer = indexer;
+        int cacheTtl = propertiesProvider.get(SEARCH_PROXY_CACHE_TTL_OPT).map(Integer::parseInt).orElse(DEFAULT_SEARCH_PROXY_CACHE_TTL);
+        this.responseCache = cacheTtl > 0 ? new SearchResponseCache(cacheTtl,
+                HumanReadableSize.parse(propertiesProvider.get(SEARCH_PROXY_CACHE_MAX_SIZE_OPT).orElse(DEFAULT_SEARCH_PROXY_CACHE_MAX_SIZE))) : null;
     }
     
     @Operation(description = "Create the index for the current user if it doesn't exist.")
@@ -67,6 +83,7 @@ public class IndexResource {
     }
 
     @Operation(description = "The search endpoint is just a proxy in front of Elasticsearch, everything sent is forwarded to Elasticsearch.<br>" +
+            "If searchProxyCacheTtl is set, POST _search and _count responses are cached for that many seconds (GET requests are not cached).<br>" +
             "DELETE method is not allowed.<br>Path can be of the form :<br>" +
             "- _search/scroll<br>" +
             "- index_name/_search<br>" +
@@ -80,7 +97,13 @@ public class IndexResource {
     @Post("/search/:path:")
     public Payload esPost(@Parameter(name = "index", description = "elasticsearch path", in = ParameterIn.PATH) final String path, Context context, final net.codestory.http.Request request) throws IOException {
         try {
-            return PayloadFormatter.json(indexer.executeRaw("POST", IndexAccessVerifier.checkPath(path, context), new String(request.contentAsBytes())));
+            String url = IndexAccessVerifier.checkPath(path, context);
+            if (responseCache != null && SearchResponseCache.isCacheable(url)) {
+                byte[] body = request.contentAsBytes();
+                return PayloadFormatter.json(responseCache.get(SearchResponseCache.key("POST", url, body),
+                        () -> indexer.executeRawStream("POST", url, new ByteArrayInputStream(body)).readAllBytes()));
+            }
+            return PayloadFormatter.json(indexer.executeRawStream("POST", url, request.inputStream()));
         } catch ( IllegalArgumentException e){
             return PayloadFormatter.error(e, HttpStatus.BAD_REQUEST);
         }
@@ -94,7 +117,7 @@ public class IndexResource {
     @Get("/search/:path:")
     public Payload esGet(@Parameter(name = "path", description = "elasticsearch path", in = ParameterIn.PATH) final String path, Context context) throws IOException {
         try {
-            return PayloadFormatter.json(indexer.executeRaw("GET", IndexAccessVerifier.checkPath(path, context), ""));
+            return PayloadFormatter.json(indexer.executeRawStream("GET", IndexAccessVerifier.checkPath(path, context), null));
         } catch (IllegalArgumentException e){
             return PayloadFormatter.error(e, HttpStatus.BAD_REQUEST);
         }
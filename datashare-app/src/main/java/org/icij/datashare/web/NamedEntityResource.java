@@ -5,32 +5,41 @@ import com.google.inject.Singleton;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import net.codestory.http.Context;
 import net.codestory.http.annotations.Get;
 import net.codestory.http.annotations.Options;
 import net.codestory.http.annotations.Prefix;
 import net.codestory.http.annotations.Put;
 import net.codestory.http.payload.Payload;
-import org.icij.datashare.Entity;
+import org.icij.datashare.asynctasks.TaskManager;
+import org.icij.datashare.tasks.HideNamedEntitiesTask;
 import org.icij.datashare.text.NamedEntity;
 import org.icij.datashare.text.indexing.Indexer;
+import org.icij.datashare.user.User;
+import org.icij.datashare.web.TaskResource.TaskResponse;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Map;
 
-import static java.util.Collections.singletonList;
-import static java.util.stream.Collectors.toList;
 import static net.codestory.http.errors.NotFoundException.notFoundIfNull;
 import static net.codestory.http.payload.Payload.ok;
+import static org.icij.datashare.tasks.HideNamedEntitiesTask.HIDDEN_ARG;
+import static org.icij.datashare.tasks.HideNamedEntitiesTask.MENTION_NORM_ARG;
+import static org.icij.datashare.tasks.HideNamedEntitiesTask.PROJECT_ARG;
 
 @Singleton
 @Prefix("/api")
 public class NamedEntityResource {
     private final Indexer indexer;
+    private final TaskManager taskManager;
 
     @Inject
-    public NamedEntityResource(final Indexer indexer) {
+    public NamedEntityResource(final Indexer indexer, final TaskManager taskManager) {
         this.indexer = indexer;
+        this.taskManager = taskManager;
     }
 
     @Operation(description = "Returns the named entity given an id and a document id.")
@@ -49,14 +58,36 @@ public class NamedEntityResource {
         return ok().withAllowMethods("OPTIONS", "PUT");
     }
 
-    @Operation(description = "Hide all named entities with the given normalized mention")
-    @ApiResponse(responseCode = "200", description = "returns 200 OK")
+    @Operation(description = "Hide all named entities with the given normalized mention. " +
+            "The update is run in a background task whose progress can be followed with the task API.")
+    @ApiResponse(responseCode = "200", description = "returns 200 and the json task id", content = @Content(schema = @Schema(implementation = TaskResponse.class)))
     @Put("/:project/namedEntities/hide/:mentionNorm")
     public Payload hide(@Parameter(name = "project", description = "current project", in = ParameterIn.PATH) final String project,
-                        @Parameter(name = "mentionNorm", description = "normalized mention", in = ParameterIn.PATH) final String mentionNorm) throws IOException {
-        List<? extends Entity> nes = indexer.search(singletonList(project), NamedEntity.class).
-                thatMatchesFieldValue("mentionNorm", mentionNorm).execute().map(ne -> ((NamedEntity)ne).hide()).collect(toList());
-        indexer.bulkUpdate(project, nes);
-        return ok();
+                        @Parameter(name = "mentionNorm", description = "normalized mention", in = ParameterIn.PATH) final String mentionNorm,
+                        Context context) throws IOException {
+        return startHideTask(project, mentionNorm, true, (User) context.currentUser());
+    }
+
+    @Operation(description = "Preflight request for unhide endpoint")
+    @ApiResponse(responseCode = "200", description = "returns PUT")
+    @Options("/:project/namedEntities/unhide/:mentionNorm")
+    public Payload unhidePreflight(final String project, final String mentionNorm) {
+        return ok().withAllowMethods("OPTIONS", "PUT");
+    }
+
+    @Operation(description = "Show again all named entities with the given normalized mention. " +
+            "The update is run in a background task whose progress can be followed with the task API.")
+    @ApiResponse(responseCode = "200", description = "returns 200 and the json task id", content = @Content(schema = @Schema(implementation = TaskResponse.class)))
+    @Put("/:project/namedEntities/unhide/:mentionNorm")
+    public Payload unhide(@Parameter(name = "project", description = "current project", in = ParameterIn.PATH) final String project,
+                          @Parameter(name = "mentionNorm", description = "normalized mention", in = ParameterIn.PATH) final String mentionNorm,
+                          Context context) throws IOException {
+        return startHideTask(project, mentionNorm, false, (User) context.currentUser());
+    }
+
+    private Payload startHideTask(String project, String mentionNorm, boolean hidden, User user) throws IOException {
+        String taskId = taskManager.startTask(HideNamedEntitiesTask.class.getName(), user,
+                Map.of(PROJECT_ARG, project, MENTION_NORM_ARG, mentionNorm, HIDDEN_ARG, hidden));
+        return new JsonPayload(new TaskResponse(taskId));
     }
 }
@@ -1,37 +1,83 @@
 package org.icij.datashare.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import net.codestory.http.Context;
 import net.codestory.http.annotations.Get;
 import net.codestory.http.annotations.Post;
 import net.codestory.http.annotations.Prefix;
+import net.codestory.http.convert.TypeConvert;
+import net.codestory.http.payload.Payload;
+import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.extension.PipelineRegistry;
 import org.icij.datashare.text.DocumentBuilder;
 import org.icij.datashare.text.Language;
 import org.icij.datashare.text.NamedEntity;
 import org.icij.datashare.text.indexing.LanguageGuesser;
 import org.icij.datashare.text.nlp.Pipeline;
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static java.lang.Integer.parseInt;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_NLP_PARALLELISM;
+import static org.icij.datashare.cli.DatashareCliOptions.NLP_PARALLELISM_OPT;
+import static org.icij.datashare.json.JsonObjectMapper.MAPPER;
 
 @Singleton
 @Prefix("/api/ner")
-public class NerResource {
+public class NerResource implements Closeable {
+    /** the language is guessed on the beginning of the text only */
+    static final int LANGUAGE_GUESS_MAX_LENGTH = 4096;
+    private final Logger logger = LoggerFactory.getLogger(getClass());
     private final PipelineRegistry pipelineRegistry;
     private final LanguageGuesser languageGuesser;
+    private final ExecutorService executor;
+    private final int maxPendingTexts;
+    private final Set<String> initializedPipelines = ConcurrentHashMap.newKeySet();
 
-    @Inject
     public NerResource(final PipelineRegistry pipelineRegistry, final LanguageGuesser languageGuesser) {
+        this(pipelineRegistry, languageGuesser, new PropertiesProvider());
+    }
+
+    @Inject
+    public NerResource(final PipelineRegistry pipelineRegistry, final LanguageGuesser languageGuesser, final PropertiesProvider propertiesProvider) {
         this.pipelineRegistry = pipelineRegistry;
         this.languageGuesser = languageGuesser;
+        int parallelism = parseInt(propertiesProvider.get(NLP_PARALLELISM_OPT).orElse(String.valueOf(DEFAULT_NLP_PARALLELISM)));
+        this.maxPendingTexts = 2 * parallelism;
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ner-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Operation(description = "Gets the list of registered pipelines.")
@@ -47,12 +93,175 @@ public class NerResource {
     @Post("/findNames/:pipeline")
     public List<NamedEntity> getAnnotations(@Parameter(name = "pipeline", description = "pipeline to use", in = ParameterIn.PATH) final String pipeline,
                                             @Parameter(name = "text", description = "text to analyze in the request body", in = ParameterIn.QUERY) String text) throws Exception {
-        LoggerFactory.getLogger(getClass()).info(String.valueOf(getClass().getClassLoader()));
         Pipeline p = pipelineRegistry.get(Pipeline.Type.parse(pipeline));
-        Language language = languageGuesser.guess(text);
-        if (p.initialize(language)) {
+        Language language = guessLanguage(text);
+        if (initialize(p, language)) {
             return p.process(DocumentBuilder.createDoc("inline").with(text).with(language).build());
         }
         return emptyList();
     }
+
+    @Operation(description = "Batch version of findNames. The body is NDJSON with one text per line " +
+            "(<pre>{\"id\": \"1\", \"text\": \"text to analyze\", \"language\": \"ENGLISH\"}</pre> language is optional).<br>" +
+            "Texts are processed concurrently by nlpParallelism workers and the NDJSON response has one line per text in the same order " +
+            "with the id, the language, the processing duration in milliseconds and the named entities (or an error).<br>" +
+            "Lines are read as the response is written, with at most twice nlpParallelism texts being processed. " +
+            "An invalid line is not processed and has an error line in the response.")
+    @ApiResponse(responseCode = "200", description = "returns the NDJSON stream of results")
+    @Post("/findNames/:pipeline/batch")
+    public Payload getAnnotationsBatch(@Parameter(name = "pipeline", description = "pipeline to use", in = ParameterIn.PATH) final String pipeline,
+                                       Context context) throws IOException {
+        Pipeline p = pipelineRegistry.get(Pipeline.Type.parse(pipeline));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(context.request().inputStream(), UTF_8));
+        return new Payload("application/x-ndjson", new BatchResultStream(p, reader));
+    }
+
+    /**
+     * shuts down the workers of the batch endpoint
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(10, SECONDS)) {
+                logger.warn("ner workers have not terminated");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Future<byte[]> submit(Pipeline pipeline, String line, int lineNumber) {
+        JsonNode item;
+        try {
+            item = MAPPER.readTree(line);
+        } catch (JsonProcessingException e) {
+            return invalidLine(null, lineNumber, e.getOriginalMessage());
+        }
+        if (!item.isObject() || !item.path("text").isTextual()) {
+            return invalidLine(item.path("id").asText(null), lineNumber, "an object with a text field is expected");
+        }
+        return executor.submit(() -> toNdjsonLine(process(pipeline, item)));
+    }
+
+    private static Future<byte[]> invalidLine(String id, int lineNumber, String message) {
+        return CompletableFuture.completedFuture(toNdjsonLine(new NerResult(id, null, 0, emptyList(), format("invalid line %d: %s", lineNumber, message))));
+    }
+
+    private NerResult process(Pipeline pipeline, JsonNode item) {
+        String id = item.path("id").asText(null);
+        long start = System.currentTimeMillis();
+        Language language = null;
+        try {
+            String text = item.path("text").asText("");
+            language = item.hasNonNull("language") ? Language.parse(item.get("language").asText()) : guessLanguage(text);
+            List<NamedEntity> namedEntities = initialize(pipeline, language) ?
+                    pipeline.process(DocumentBuilder.createDoc(id == null ? "inline" : id).with(text).with(language).build()) : emptyList();
+            return new NerResult(id, language, System.currentTimeMillis() - start, namedEntities, null);
+        } catch (Exception e) {
+            logger.error("error processing text {}", id, e);
+            return new NerResult(id, language, System.currentTimeMillis() - start, emptyList(), e.toString());
+        }
+    }
+
+    private Language guessLanguage(String text) {
+        return languageGuesser.guess(text.length() > LANGUAGE_GUESS_MAX_LENGTH ? text.substring(0, LANGUAGE_GUESS_MAX_LENGTH) : text);
+    }
+
+    private boolean initialize(Pipeline pipeline, Language language) throws InterruptedException {
+        String key = pipeline.getType() + "-" + language;
+        if (initializedPipelines.contains(key)) {
+            return true;
+        }
+        boolean initialized = pipeline.initialize(language);
+        if (initialized) {
+            initializedPipelines.add(key);
+        }
+        return initialized;
+    }
+
+    private static byte[] toNdjsonLine(NerResult result) {
+        return (TypeConvert.toJson(result) + "\n").getBytes(UTF_8);
+    }
+
+    /**
+     * response of the batch endpoint: the lines of the request are read and submitted as the results are written,
+     * so that there are at most maxPendingTexts texts submitted and not yet written.
+     */
+    private class BatchResultStream extends InputStream {
+        private final Pipeline pipeline;
+        private final BufferedReader reader;
+        private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        private InputStream current = InputStream.nullInputStream();
+        private int lineNumber = 0;
+        private boolean endOfInput = false;
+
+        private BatchResultStream(Pipeline pipeline, BufferedReader reader) {
+            this.pipeline = pipeline;
+            this.reader = reader;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b;
+            while ((b = current.read()) == -1) {
+                if (!nextResult()) return -1;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) return 0;
+            int nbRead;
+            while ((nbRead = current.read(bytes, offset, length)) == -1) {
+                if (!nextResult()) return -1;
+            }
+            return nbRead;
+        }
+
+        @Override
+        public void close() throws IOException {
+            pending.forEach(result -> result.cancel(true));
+            pending.clear();
+            reader.close();
+        }
+
+        private boolean nextResult() throws IOException {
+            submitNextLines();
+            Future<byte[]> result = pending.poll();
+            if (result == null) {
+                return false;
+            }
+            current = new ByteArrayInputStream(waitFor(result));
+            return true;
+        }
+
+        private void submitNextLines() throws IOException {
+            while (!endOfInput && pending.size() < maxPendingTexts) {
+                String line = reader.readLine();
+                if (line == null) {
+                    endOfInput = true;
+                    return;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    pending.add(submit(pipeline, line, lineNumber));
+                }
+            }
+        }
+
+        private byte[] waitFor(Future<byte[]> result) throws IOException {
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for ner result");
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    public record NerResult(String id, Language language, long durationMs, List<NamedEntity> namedEntities, String error) {}
 }
@@ -0,0 +1,74 @@
+package org.icij.datashare.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.icij.datashare.json.JsonObjectMapper.MAPPER;
+
+/**
+ * Short-lived cache for the idempotent elasticsearch requests proxied by {@link IndexResource}
+ * (_search and _count, without scroll).
+ *
+ * Only POST requests are cached: the GET proxy forwards any path, and its requests are sent without cache.
+ *
+ * Keys are made of the method, the url (that starts with the indices the user has been granted)
+ * and the request body with whitespaces removed.
+ */
+class SearchResponseCache {
+    private final Cache<String, byte[]> cache;
+
+    SearchResponseCache(int ttlSeconds, long maxSizeInBytes) {
+        cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, SECONDS)
+                .maximumWeight(maxSizeInBytes)
+                .<String, byte[]>weigher((key, value) -> key.length() + value.length)
+                .build();
+    }
+
+    static boolean isCacheable(String url) {
+        String[] pathAndQuery = url.split("\\?", 2);
+        if (pathAndQuery.length > 1 && pathAndQuery[1].contains("scroll")) {
+            return false;
+        }
+        String[] pathParts = pathAndQuery[0].split("/");
+        if ("_search".equals(pathParts[0])) {
+            return false;
+        }
+        String endpoint = pathParts[pathParts.length - 1];
+        return "_search".equals(endpoint) || "_count".equals(endpoint);
+    }
+
+    static String key(String method, String url, byte[] body) {
+        String normalizedBody;
+        try {
+            normalizedBody = body.length == 0 ? "" : MAPPER.readTree(body).toString();
+        } catch (IOException e) {
+            normalizedBody = new String(body, StandardCharsets.UTF_8);
+        }
+        return method + " " + url + " " + normalizedBody;
+    }
+
+    byte[] get(String key, Callable<byte[]> loader) throws IOException {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    long size() {
+        return cache.size();
+    }
+}
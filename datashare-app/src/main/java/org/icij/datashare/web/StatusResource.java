@@ -14,6 +14,8 @@ import net.codestory.http.constants.HttpStatus;
 import net.codestory.http.payload.Payload;
 import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.Repository;
+import org.icij.datashare.monitoring.PipelineMetrics;
+import org.icij.datashare.openmetrics.PipelineMetricsMapper;
 import org.icij.datashare.openmetrics.StatusMapper;
 import org.icij.datashare.extract.DocumentCollectionFactory;
 import org.icij.datashare.text.indexing.Indexer;
@@ -39,7 +41,7 @@ public class StatusResource {
     }
 
     @Operation(description = "Retrieve the status of databus connection, database connection and index.",
-            parameters = { @Parameter(name = "format=openmetrics", description = "if provided in the URL it will return the status in openmetrics format", in = ParameterIn.QUERY) })
+            parameters = { @Parameter(name = "format=openmetrics", description = "if provided in the URL it will return the status and the pipeline stages metrics in openmetrics format", in = ParameterIn.QUERY) })
     @ApiResponse(responseCode = "200", description = "returns the status of datashare elements", useReturnTypeSchema = true)
     @ApiResponse(responseCode = "504", description = "proxy error when elasticsearch is down", useReturnTypeSchema = true)
     @ApiResponse(responseCode = "503", description = "service unavailable when other services are down", useReturnTypeSchema = true)
@@ -47,8 +49,10 @@ public class StatusResource {
     public Payload getStatus(Context context) {
         Status status = new Status(repository.getHealth(), indexer.getHealth());
         if ("openmetrics".equals(context.request().query().get("format"))) {
+            String platform = propertiesProvider.get("platform").orElse(null);
             return new Payload("text/plain;version=0.0.4",
-                    new StatusMapper("datashare", status, propertiesProvider.get("platform").orElse(null)).toString());
+                    new StatusMapper("datashare", status, platform).toString() +
+                    new PipelineMetricsMapper("datashare", PipelineMetrics.getInstance(), platform));
         } else {
             return new Payload("application/json", status, status.getHttpStatus());
         }
@@ -83,13 +83,16 @@ public class TaskResource {
         this.propertiesProvider = propertiesProvider;
     }
     @Operation(description = "Gets all the user tasks.<br>" +
-            "A filter can be added with a pattern contained in the task name.",
-            parameters = {@Parameter(name = "filter", description = "pattern contained in the task name", in = ParameterIn.QUERY)})
+            "A filter can be added with a pattern contained in the task name.<br>" +
+            "The results are only returned with withResults=true, otherwise they are read with /api/task/:id/result.",
+            parameters = {@Parameter(name = "filter", description = "pattern contained in the task name", in = ParameterIn.QUERY),
+                    @Parameter(name = "withResults", description = "if true the tasks are returned with their results (default false)", in = ParameterIn.QUERY)})
     @ApiResponse(responseCode = "200", description = "returns the list of tasks", useReturnTypeSchema = true)
     @Get("/all")
     public List<Task<?>> tasks(Context context) {
         Pattern pattern = Pattern.compile(StringUtils.isEmpty(context.get("filter")) ? ".*": String.format(".*%s.*", context.get("filter")));
-        return taskManager.getTasks((User) context.currentUser(), pattern);
+        boolean withResults = parseBoolean(ofNullable(context.get("withResults")).orElse("false"));
+        return taskManager.getTasks((User) context.currentUser(), pattern, withResults);
     }
 
     @Operation(description = "Gets one task with its id.")
@@ -120,8 +123,8 @@ public class TaskResource {
     @ApiResponse(responseCode = "404", description = "returns 404 if the task doesn't exist")
     @Get("/:id/result")
     public Payload getTaskResult(@Parameter(name = "id", description = "task id", in = ParameterIn.PATH) String id, Context context) throws IOException {
-        Task<?> task = forbiddenIfNotSameUser(context, notFoundIfNull(taskManager.getTask(id)));
-        Object result = task.getResult();
+        forbiddenIfNotSameUser(context, notFoundIfNull(taskManager.getTask(id)));
+        Object result = taskManager.getTaskResult(id);
         if (result instanceof UriResult) {
             UriResult uriResult = (UriResult) result;
             Path filePath = Path.of(uriResult.uri.getPath());
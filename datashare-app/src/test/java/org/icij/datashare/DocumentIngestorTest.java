@@ -0,0 +1,76 @@
+package org.icij.datashare;
+
+import org.icij.datashare.text.Language;
+import org.icij.datashare.text.indexing.Indexer;
+import org.icij.extract.document.TikaDocument;
+import org.icij.spewer.Spewer;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.icij.datashare.DocumentIngestor.SizeDistribution.FIXED;
+import static org.icij.datashare.DocumentIngestor.SizeDistribution.LOGNORMAL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DocumentIngestorTest {
+    @Test
+    public void test_synthetic_corpus_is_reproducible() throws Exception {
+        DocumentIngestor.Config config = config(LOGNORMAL, 2);
+        DocumentIngestor.SyntheticCorpus corpus = new DocumentIngestor.SyntheticCorpus(config);
+
+        TikaDocument document = corpus.create(corpus.path(12));
+        TikaDocument sameDocument = new DocumentIngestor.SyntheticCorpus(config).create(corpus.path(12));
+
+        assertThat(Spewer.toString(document.getReader())).isEqualTo(Spewer.toString(sameDocument.getReader()));
+        assertThat(document.getEmbeds()).hasSize(1);
+        assertThat(document.getEmbeds().get(0).getEmbeds()).hasSize(1);
+        assertThat(Spewer.toString(document.getEmbeds().get(0).getReader()))
+                .isEqualTo(Spewer.toString(sameDocument.getEmbeds().get(0).getReader()));
+    }
+
+    @Test
+    public void test_synthetic_content_size() throws Exception {
+        DocumentIngestor.SyntheticCorpus corpus = new DocumentIngestor.SyntheticCorpus(config(FIXED, 0));
+
+        String content = Spewer.toString(corpus.create(corpus.path(0)).getReader());
+
+        assertThat(content.length()).isGreaterThanOrEqualTo(256);
+        assertThat(content.length()).isLessThan(256 + 32);
+    }
+
+    @Test
+    public void test_percentile() {
+        long[] latencies = {1_000_000, 2_000_000, 3_000_000, 4_000_000};
+
+        assertThat(DocumentIngestor.StageStats.percentile(latencies, 50)).isEqualTo(2.0);
+        assertThat(DocumentIngestor.StageStats.percentile(latencies, 100)).isEqualTo(4.0);
+        assertThat(DocumentIngestor.StageStats.percentile(new long[0], 99)).isEqualTo(0.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_run_reports_stages() throws Exception {
+        Indexer indexer = mock(Indexer.class);
+
+        Map<String, Object> report = new DocumentIngestor(indexer, text -> Language.ENGLISH, config(LOGNORMAL, 1)).run();
+
+        verify(indexer, times(20)).add(eq("benchmark-test"), any());
+        assertThat(report.get("rootDocuments")).isEqualTo(10);
+        assertThat(report.get("indexedDocuments")).isEqualTo(20L);
+        assertThat(report.get("nlpQueueSize")).isEqualTo(20L);
+        Map<String, Map<String, Object>> stages = (Map<String, Map<String, Object>>) report.get("stages");
+        assertThat(stages.keySet()).containsOnly("queue", "generate", "index");
+        assertThat(stages.get("index").get("count")).isEqualTo(10);
+    }
+
+    private static DocumentIngestor.Config config(DocumentIngestor.SizeDistribution sizeDistribution, int embeddedDepth) {
+        return new DocumentIngestor.Config("benchmark-test", 10, 2, 42L, sizeDistribution, 256,
+                List.of(Language.ENGLISH, Language.FRENCH), embeddedDepth, 5.0, 4);
+    }
+}
@@ -10,6 +10,8 @@ import java.nio.file.Path;
 import java.util.HashMap;
 
 import static java.nio.file.Paths.get;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.icij.datashare.user.User.nullUser;
 
@@ -54,4 +56,28 @@ public class RedisUserDocumentQueueTest {
         assertThat(redis.keys("extract:queue_foo")).hasSize(1);
         assertThat(redis.lpop("extract:queue_foo")).isEqualTo("/path/to/doc");
     }
+
+    @Test
+    public void test_poll_batch_stops_after_poison() {
+        RedisUserDocumentQueue<String> queue = new RedisUserDocumentQueue<>(nullUser(), new PropertiesProvider(new HashMap<>() {{
+            put("redisAddress", "redis://redis:6379");
+        }}), String.class);
+        queue.addAll(asList("id1", "id2", "POISON", "id3"));
+
+        assertThat(queue.pollBatch(10, "POISON")).isEqualTo(asList("id1", "id2", "POISON"));
+        assertThat(queue.pollBatch(10, "POISON")).isEqualTo(singletonList("id3"));
+        assertThat(queue.pollBatch(10, "POISON")).isEmpty();
+    }
+
+    @Test
+    public void test_poll_batch_max_elements() {
+        RedisUserDocumentQueue<String> queue = new RedisUserDocumentQueue<>(nullUser(), new PropertiesProvider(new HashMap<>() {{
+            put("redisAddress", "redis://redis:6379");
+        }}), String.class);
+        queue.addAll(asList("id1", "id2", "id3"));
+
+        assertThat(queue.pollBatch(2, "POISON")).isEqualTo(asList("id1", "id2"));
+        assertThat(queue.pollBatch(0, "POISON")).isEmpty();
+        assertThat(queue.size()).isEqualTo(1);
+    }
 }
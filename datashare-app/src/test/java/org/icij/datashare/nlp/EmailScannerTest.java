@@ -0,0 +1,136 @@
+package org.icij.datashare.nlp;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class EmailScannerTest {
+    // the regexp that was used by the EmailPipeline, the scanner must find the same addresses
+    static final Pattern RFC_5322 = Pattern.compile("(?:[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*|\"(?:[\\x01-\\x08\\x0b" +
+            "\\x0c\\x0e-\\x1f\\x21\\x23-\\x5b\\x5d-\\x7f]|\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])*\")@" +
+            "(?:(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?|" +
+            "\\[(?:(?:(2(5[0-5]|[0-4][0-9])|1[0-9][0-9]|[1-9]?[0-9]))\\.){3}" +
+            "(?:(2(5[0-5]|[0-4][0-9])|1[0-9][0-9]|[1-9]?[0-9])|[a-z0-9-]*[a-z0-9]:" +
+            "(?:[\\x01-\\x08\\x0b\\x0c\\x0e-\\x1f\\x21-\\x5a\\x53-\\x7f]|" +
+            "\\\\[\\x01-\\x09\\x0b\\x0c\\x0e-\\x7f])+)\\])");
+
+    @Test
+    public void test_no_email() {
+        assertThat(scan("no email here, only an arobase (@).")).isEqualTo(emptyList());
+    }
+
+    @Test
+    public void test_emails() {
+        assertThat(scan("from foo@bar.com to baz.qux@sub.domain.org")).isEqualTo(asList("5:foo@bar.com", "20:baz.qux@sub.domain.org"));
+    }
+
+    @Test
+    public void test_local_part_after_double_dot() {
+        assertThat(scan("a..b@domain.com")).isEqualTo(asList("3:b@domain.com"));
+    }
+
+    @Test
+    public void test_upper_case_is_not_matched() {
+        assertThat(scan("John.Doe@Example.com mary@EXAMPLE.com")).isEqualTo(emptyList());
+    }
+
+    @Test
+    public void test_domain_ending_with_dot() {
+        assertThat(scan("write to foo@domain.com. or foo@a.b.-c")).isEqualTo(asList("9:foo@domain.com", "28:foo@a.b"));
+    }
+
+    @Test
+    public void test_quoted_local_part() {
+        assertThat(scan("\"john\\ \\\"doe\\\"\"@domain.com")).isEqualTo(asList("0:\"john\\ \\\"doe\\\"\"@domain.com"));
+    }
+
+    @Test
+    public void test_address_literals() {
+        assertThat(scan("foo@[192.168.0.1] bar@[1.2.3.ipv6:a]b]")).isEqualTo(asList("0:foo@[192.168.0.1]", "18:bar@[1.2.3.ipv6:a]b]"));
+        assertThat(scan("foo@[192.168.0.256]")).isEqualTo(emptyList());
+    }
+
+    @Test
+    public void test_random_texts_same_as_regexp() {
+        Random random = new Random(1234);
+        String alphabet = "ab1-._@\"\\[]:. !#9\t\n0252Z";
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertThat(scan(text.toString())).as(text.toString()).isEqualTo(regexp(text.toString()));
+        }
+    }
+
+    @Test
+    public void test_adversarial_corpus_same_as_regexp() {
+        for (Map.Entry<String, String> input : adversarialCorpus(2000).entrySet()) {
+            assertThat(scan(input.getValue())).as(input.getKey()).isEqualTo(regexp(input.getValue()));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void test_adversarial_corpus_is_scanned_in_linear_time() {
+        for (String input : adversarialCorpus(1024 * 1024).values()) {
+            EmailScanner scanner = new EmailScanner(input);
+            while (scanner.find()) {
+                scanner.group();
+            }
+        }
+    }
+
+    /**
+     * inputs that make the regexp backtrack: each one is repeated up to the given size
+     */
+    static Map<String, String> adversarialCorpus(int size) {
+        Map<String, String> corpus = new LinkedHashMap<>();
+        corpus.put("atoms", repeat("a", size));
+        corpus.put("punctuation", repeat("!#$%&'*+/=?^_`{|}~-", size));
+        corpus.put("base64", repeat("qujlzxbhc3n3b3jk+/0a9=", size));
+        corpus.put("dotted atoms", repeat("a.", size));
+        corpus.put("atoms and arobases", repeat("a@", size));
+        corpus.put("long domain", "a@" + repeat("b.", size) + "-");
+        corpus.put("quotes", repeat("\"", size));
+        corpus.put("escaped quotes", "\"" + repeat("\\\"", size));
+        corpus.put("quoted arobases", repeat("\"a@", size));
+        corpus.put("address literal", "a@[1.2.3.a:" + repeat("]", size) + " ");
+        corpus.put("address literals", repeat("a@[1.2.3.a:", size));
+        corpus.put("escaped address literal", "a@[1.2.3.a:" + repeat("\\\t", size));
+        return corpus;
+    }
+
+    private static String repeat(String pattern, int size) {
+        return pattern.repeat(Math.max(1, size / pattern.length()));
+    }
+
+    private static List<String> scan(String text) {
+        List<String> emails = new ArrayList<>();
+        EmailScanner scanner = new EmailScanner(text);
+        while (scanner.find()) {
+            assertThat(scanner.end()).isEqualTo(scanner.start() + scanner.group().length());
+            emails.add(scanner.start() + ":" + scanner.group());
+        }
+        return emails;
+    }
+
+    private static List<String> regexp(String text) {
+        List<String> emails = new ArrayList<>();
+        Matcher matcher = RFC_5322.matcher(text);
+        while (matcher.find()) {
+            emails.add(matcher.start() + ":" + matcher.group());
+        }
+        return emails;
+    }
+}
@@ -0,0 +1,111 @@
+package org.icij.datashare.nlp;
+
+import org.icij.datashare.PropertiesProvider;
+import org.icij.datashare.text.Document;
+import org.icij.datashare.text.NamedEntity;
+import org.icij.datashare.text.nlp.Pipeline;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.icij.datashare.text.DocumentBuilder.createDoc;
+import static org.icij.datashare.text.Language.ENGLISH;
+import static org.icij.datashare.text.Language.FRENCH;
+import static org.icij.datashare.text.NamedEntity.Category.EMAIL;
+
+public class NamedEntityCacheTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+    private final EmailPipeline pipeline = new EmailPipeline(new PropertiesProvider());
+
+    @Test
+    public void test_get_unknown_key() throws Exception {
+        NamedEntityCache cache = new NamedEntityCache(folder.getRoot().toPath(), 1024 * 1024);
+        Document doc = createDoc("id").with("content").build();
+
+        assertThat(cache.get(cache.key(pipeline, doc, 7, 0), Pipeline.Type.EMAIL, doc).isPresent()).isFalse();
+    }
+
+    @Test
+    public void test_entities_are_copied_to_document_with_same_content() throws Exception {
+        NamedEntityCache cache = new NamedEntityCache(folder.getRoot().toPath(), 1024 * 1024);
+        Document doc = createDoc("id").with("mail foo@bar.com").with(ENGLISH).build();
+        Document duplicate = createDoc("duplicate").with("mail foo@bar.com").with(ENGLISH).withRootId("root").build();
+        cache.put(cache.key(pipeline, doc, 16, 0), pipeline.process(doc));
+
+        Optional<List<NamedEntity>> namedEntities = cache.get(cache.key(pipeline, duplicate, 16, 0), Pipeline.Type.EMAIL, duplicate);
+
+        assertThat(namedEntities.isPresent()).isTrue();
+        assertThat(namedEntities.get()).hasSize(1);
+        NamedEntity namedEntity = namedEntities.get().get(0);
+        assertThat(namedEntity.getMention()).isEqualTo("foo@bar.com");
+        assertThat(namedEntity.getCategory()).isEqualTo(EMAIL);
+        assertThat(namedEntity.getOffsets()).isEqualTo(singletonList(5L));
+        assertThat(namedEntity.getDocumentId()).isEqualTo("duplicate");
+        assertThat(namedEntity.getRootDocument()).isEqualTo("root");
+    }
+
+    @Test
+    public void test_key_depends_on_content_language_and_chunk() {
+        NamedEntityCache cache = new NamedEntityCache(folder.getRoot().toPath(), 1024 * 1024);
+        Document doc = createDoc("id").with("content").with(ENGLISH).build();
+
+        assertThat(cache.key(pipeline, createDoc("other").with("content").with(ENGLISH).build(), 7, 0)).isEqualTo(cache.key(pipeline, doc, 7, 0));
+        assertThat(asList(
+                cache.key(pipeline, createDoc("id").with("other content").with(ENGLISH).build(), 7, 0),
+                cache.key(pipeline, createDoc("id").with("content").with(FRENCH).build(), 7, 0),
+                cache.key(pipeline, doc, 3, 4))).excludes(cache.key(pipeline, doc, 7, 0));
+    }
+
+    @Test
+    public void test_corrupted_entry_is_a_miss() throws Exception {
+        NamedEntityCache cache = new NamedEntityCache(folder.getRoot().toPath(), 1024 * 1024);
+        Document doc = createDoc("id").with("content").build();
+        String key = cache.key(pipeline, doc, 7, 0);
+        Files.createDirectories(cache.path(key).getParent());
+        Files.writeString(cache.path(key), "not json");
+
+        assertThat(cache.get(key, Pipeline.Type.EMAIL, doc).isPresent()).isFalse();
+    }
+
+    @Test
+    public void test_email_headers_are_not_cacheable() {
+        assertThat(pipeline.isCacheable(createDoc("id").with("content").ofContentType("message/rfc822").build())).isFalse();
+        assertThat(pipeline.isCacheable(createDoc("id").with("content").ofContentType("text/plain").build())).isTrue();
+    }
+
+    @Test
+    public void test_key_of_chunk_does_not_depend_on_the_rest_of_the_content() {
+        NamedEntityCache cache = new NamedEntityCache(folder.getRoot().toPath(), 1024 * 1024);
+
+        assertThat(cache.key(pipeline, createDoc("id").with("chunk content").with(ENGLISH).build(), 5, 0))
+                .isEqualTo(cache.key(pipeline, createDoc("id").with("chunk other content").with(ENGLISH).build(), 5, 0));
+    }
+
+    @Test
+    public void test_oldest_entries_are_deleted_when_cache_exceeds_max_size() throws Exception {
+        Document doc = createDoc("id").with("mail foo@bar.com").with(ENGLISH).build();
+        NamedEntityCache cache = new NamedEntityCache(folder.getRoot().toPath(), 1024 * 1024);
+        cache.put(cache.key(pipeline, doc, 16, 0), pipeline.process(doc));
+        long entrySize = cache.size();
+        cache = new NamedEntityCache(folder.getRoot().toPath(), 3 * entrySize);
+        assertThat(cache.size()).isEqualTo(entrySize);
+
+        String oldest = cache.key(pipeline, doc, 16, 0);
+        Files.setLastModifiedTime(cache.path(oldest), FileTime.fromMillis(0));
+        for (int offset = 1; offset <= 3; offset++) {
+            cache.put(cache.key(pipeline, doc, 16 - offset, offset), pipeline.process(doc));
+        }
+
+        assertThat(cache.size()).isLessThan(3 * entrySize);
+        assertThat(Files.exists(cache.path(oldest))).isFalse();
+        assertThat(cache.get(cache.key(pipeline, doc, 13, 3), Pipeline.Type.EMAIL, doc).isPresent()).isTrue();
+    }
+}
@@ -0,0 +1,55 @@
+package org.icij.datashare.openmetrics;
+
+import org.icij.datashare.Stage;
+import org.icij.datashare.monitoring.PipelineMetrics;
+import org.junit.Test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class PipelineMetricsMapperTest {
+    private final PipelineMetrics metrics = new PipelineMetrics();
+
+    @Test
+    public void test_empty() {
+        assertThat(new PipelineMetricsMapper("metric_name", metrics).toString()).isEmpty();
+    }
+
+    @Test
+    public void test_counters_and_queues() {
+        metrics.stage(Stage.INDEX).processed(12);
+        metrics.stage(Stage.INDEX).failed(1);
+        metrics.stage(Stage.INDEX).queue("input", () -> 34);
+
+        assertThat(new PipelineMetricsMapper("metric_name", metrics).toString()).contains("" +
+                "# HELP metric_name_pipeline_processed_total Items processed by the pipeline stage\n" +
+                "# TYPE metric_name_pipeline_processed_total counter\n" +
+                "metric_name_pipeline_processed_total{stage=\"INDEX\"} 12\n" +
+                "# HELP metric_name_pipeline_failures_total Items that failed in the pipeline stage\n" +
+                "# TYPE metric_name_pipeline_failures_total counter\n" +
+                "metric_name_pipeline_failures_total{stage=\"INDEX\"} 1\n").contains("" +
+                "metric_name_pipeline_queue_depth{stage=\"INDEX\",queue=\"input\"} 34\n");
+    }
+
+    @Test
+    public void test_unreachable_queue_is_skipped() {
+        metrics.stage(Stage.NLP).queue("input", () -> { throw new IllegalStateException("redis down"); });
+
+        assertThat(new PipelineMetricsMapper("metric_name", metrics).toString())
+                .contains("metric_name_pipeline_processed_total{stage=\"NLP\"} 0\n")
+                .excludes("queue=\"input\"");
+    }
+
+    @Test
+    public void test_histogram() {
+        metrics.stage(Stage.NLP).time("ner", 20_000_000);
+        metrics.stage(Stage.NLP).size("bulk", 50);
+
+        assertThat(new PipelineMetricsMapper("metric_name", metrics, "platform").toString()).contains("" +
+                "metric_name_pipeline_latency_seconds_bucket{environment=\"platform\",stage=\"NLP\",operation=\"ner\",le=\"0.01\"} 0\n" +
+                "metric_name_pipeline_latency_seconds_bucket{environment=\"platform\",stage=\"NLP\",operation=\"ner\",le=\"0.05\"} 1\n").contains("" +
+                "metric_name_pipeline_latency_seconds_bucket{environment=\"platform\",stage=\"NLP\",operation=\"ner\",le=\"+Inf\"} 1\n" +
+                "metric_name_pipeline_latency_seconds_sum{environment=\"platform\",stage=\"NLP\",operation=\"ner\"} 0.02\n" +
+                "metric_name_pipeline_latency_seconds_count{environment=\"platform\",stage=\"NLP\",operation=\"ner\"} 1\n").contains("" +
+                "metric_name_pipeline_batch_size_bucket{environment=\"platform\",stage=\"NLP\",batch=\"bulk\",le=\"100.0\"} 1\n");
+    }
+}
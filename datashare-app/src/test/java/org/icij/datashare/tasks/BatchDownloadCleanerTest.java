@@ -16,6 +16,8 @@ import java.util.HashMap;
 import static org.icij.datashare.batch.BatchDownload.createFilename;
 
 public class BatchDownloadCleanerTest {
+    // polling watch services (without native filesystem events) check the directory every 10s
+    private static final long WATCH_EVENT_TIMEOUT_MS = 15_000;
     @Rule public DatashareTimeRule time = new DatashareTimeRule();
     @Rule public TemporaryFolder downloadDir = new TemporaryFolder();
 
@@ -50,17 +52,86 @@ public class BatchDownloadCleanerTest {
     @Test
     public void test_remove_zip_file_with_correct_patterns_after_a_given_delay() throws IOException {
         File file = downloadDir.newFile(createFilename(User.local()).toString());
-        BatchDownloadCleaner batchDownloadCleaner = new BatchDownloadCleaner(new PropertiesProvider(new HashMap<>() {{
+        try (BatchDownloadCleaner batchDownloadCleaner = new BatchDownloadCleaner(new PropertiesProvider(new HashMap<>() {{
             put("batchDownloadDir", downloadDir.getRoot().toPath().toString());
             put("batchDownloadTimeToLive", "1");
-        }}));
-        DatashareTime.getInstance().addMilliseconds(100); // same reason as previous test
+        }}))) {
+            DatashareTime.getInstance().addMilliseconds(100); // same reason as previous test
 
-        batchDownloadCleaner.run();
-        Assertions.assertThat(file).exists();
+            batchDownloadCleaner.run();
+            Assertions.assertThat(file).exists();
+
+            DatashareTime.getInstance().addMilliseconds(1000 * 60 * 60 + 1000);
+            batchDownloadCleaner.run();
+            Assertions.assertThat(file).doesNotExist();
+        }
+    }
+
+    @Test
+    public void test_remove_orphan_temporary_zip_after_a_given_delay() throws IOException {
+        File tmpFile = downloadDir.newFile(createFilename(User.local()) + BatchDownloadRunner.TMP_SUFFIX);
+        try (BatchDownloadCleaner batchDownloadCleaner = new BatchDownloadCleaner(new PropertiesProvider(new HashMap<>() {{
+            put("batchDownloadDir", downloadDir.getRoot().toPath().toString());
+            put("batchDownloadTimeToLive", "0");
+        }}))) {
+            DatashareTime.getInstance().addMilliseconds(100);
+
+            batchDownloadCleaner.run();
+            Assertions.assertThat(tmpFile).exists();
+
+            DatashareTime.getInstance().addMilliseconds((int) BatchDownloadCleaner.ORPHAN_TMP_DELAY_MS + 1000);
+            batchDownloadCleaner.run();
+            Assertions.assertThat(tmpFile).doesNotExist();
+        }
+    }
 
-        DatashareTime.getInstance().addMilliseconds(1000 * 60 * 60 + 1000);
+    @Test
+    public void test_remove_zip_file_created_after_first_run() throws Exception {
+        try (BatchDownloadCleaner batchDownloadCleaner = new BatchDownloadCleaner(new PropertiesProvider(new HashMap<>() {{
+            put("batchDownloadDir", downloadDir.getRoot().toPath().toString());
+            put("batchDownloadTimeToLive", "1");
+        }}))) {
+            batchDownloadCleaner.run();
+            File file = downloadDir.newFile(createFilename(User.local()).toString());
+            DatashareTime.getInstance().addMilliseconds(1000 * 60 * 60 + 1000);
+
+            runUntilDeleted(batchDownloadCleaner, file);
+            Assertions.assertThat(file).doesNotExist();
+        }
+    }
+
+    @Test
+    public void test_watch_download_dir_created_after_first_run() throws Exception {
+        File dir = new File(downloadDir.getRoot(), "downloads");
+        try (BatchDownloadCleaner batchDownloadCleaner = new BatchDownloadCleaner(new PropertiesProvider(new HashMap<>() {{
+            put("batchDownloadDir", dir.toString());
+            put("batchDownloadTimeToLive", "1");
+        }}))) {
+            batchDownloadCleaner.run();
+
+            Assertions.assertThat(dir.mkdir()).isTrue();
+            File listedFile = new File(dir, createFilename(User.local()).toString());
+            Assertions.assertThat(listedFile.createNewFile()).isTrue();
+            batchDownloadCleaner.run();
+            File watchedFile = new File(dir, "archive_local_0000-00-00T00:00:00Z[GMT].zip");
+            Assertions.assertThat(watchedFile.createNewFile()).isTrue();
+
+            DatashareTime.getInstance().addMilliseconds(1000 * 60 * 60 + 1000);
+            runUntilDeleted(batchDownloadCleaner, watchedFile);
+            Assertions.assertThat(listedFile).doesNotExist();
+            Assertions.assertThat(watchedFile).doesNotExist();
+        }
+    }
+
+    /**
+     * the filesystem events are delivered asynchronously, the cleaner runs until they are received
+     */
+    private static void runUntilDeleted(BatchDownloadCleaner batchDownloadCleaner, File file) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WATCH_EVENT_TIMEOUT_MS;
         batchDownloadCleaner.run();
-        Assertions.assertThat(file).doesNotExist();
+        while (file.exists() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            batchDownloadCleaner.run();
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,10 @@ package org.icij.datashare.tasks;
 import co.elastic.clients.elasticsearch._types.Refresh;
 import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.asynctasks.Task;
+import org.icij.datashare.extension.PipelineRegistry;
 import org.icij.datashare.extract.MemoryDocumentCollectionFactory;
 import org.icij.datashare.test.ElasticsearchRule;
+import org.icij.datashare.text.Document;
 import org.icij.datashare.text.indexing.elasticsearch.ElasticsearchIndexer;
 import org.icij.datashare.text.nlp.Pipeline;
 import org.icij.datashare.user.User;
@@ -15,10 +17,14 @@ import org.junit.Test;
 import java.io.IOException;
 import java.util.Map;
 
+import static java.util.Collections.emptyList;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.icij.datashare.cli.DatashareCliOptions.NLP_PIPELINE_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.NLP_REPROCESS_OUTDATED_OPT;
 import static org.icij.datashare.test.ElasticsearchRule.TEST_INDEX;
 import static org.icij.datashare.text.DocumentBuilder.createDoc;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class EnqueueFromIndexTaskTest {
     @ClassRule
@@ -38,8 +44,34 @@ public class EnqueueFromIndexTaskTest {
                 "queueName", "test:queue",
                 NLP_PIPELINE_OPT, Pipeline.Type.OPENNLP.name());
         MemoryDocumentCollectionFactory<String> factory = new MemoryDocumentCollectionFactory<>();
-        EnqueueFromIndexTask resumeNlpTask = new EnqueueFromIndexTask(factory, indexer, new Task<>(EnqueueFromIndexTask.class.getName(), new User("test"), properties), null);
+        EnqueueFromIndexTask resumeNlpTask = new EnqueueFromIndexTask(factory, indexer, new PipelineRegistry(new PropertiesProvider()), new Task<>(EnqueueFromIndexTask.class.getName(), new User("test"), properties), null);
         resumeNlpTask.call();
         assertThat(factory.queues.get("test:queue:nlp")).hasSize(21); // with poison
     }
+
+    @Test
+    public void test_enqueue_outdated_documents() throws Exception {
+        indexer.add(TEST_INDEX, createDoc("notProcessed").build());
+        Document upToDate = createDoc("upToDate").build();
+        Document outdated = createDoc("outdated").build();
+        indexer.add(TEST_INDEX, upToDate);
+        indexer.add(TEST_INDEX, outdated);
+        indexer.bulkAdd(TEST_INDEX, Pipeline.Type.CORENLP, "CORENLP:2:abcd", emptyList(), upToDate);
+        indexer.bulkAdd(TEST_INDEX, Pipeline.Type.CORENLP, "CORENLP:1:abcd", emptyList(), outdated);
+        Pipeline pipeline = mock(Pipeline.class);
+        when(pipeline.getNerVersion()).thenReturn("CORENLP:2:abcd");
+        PipelineRegistry registry = mock(PipelineRegistry.class);
+        when(registry.get(Pipeline.Type.CORENLP)).thenReturn(pipeline);
+        Map<String, Object> properties = Map.of(
+                "defaultProject", "test-datashare",
+                "stages", "ENQUEUEIDX",
+                "queueName", "test:queue",
+                NLP_PIPELINE_OPT, Pipeline.Type.CORENLP.name(),
+                NLP_REPROCESS_OUTDATED_OPT, "true");
+        MemoryDocumentCollectionFactory<String> factory = new MemoryDocumentCollectionFactory<>();
+
+        new EnqueueFromIndexTask(factory, indexer, registry, new Task<>(EnqueueFromIndexTask.class.getName(), new User("test"), properties), null).call();
+
+        assertThat(factory.queues.get("test:queue:nlp")).containsOnly("notProcessed", "outdated", "POISON");
+    }
 }
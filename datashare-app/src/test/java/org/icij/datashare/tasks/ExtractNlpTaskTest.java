@@ -1,32 +1,58 @@
 package org.icij.datashare.tasks;
 
+import org.icij.datashare.Stage;
 import org.icij.datashare.asynctasks.Task;
 import org.icij.datashare.extract.MemoryDocumentCollectionFactory;
+import org.icij.datashare.monitoring.PipelineMetrics;
 import org.icij.datashare.text.Document;
 import org.icij.datashare.text.Language;
+import org.icij.datashare.text.NamedEntity;
 import org.icij.datashare.text.indexing.Indexer;
 import org.icij.datashare.text.nlp.AbstractPipeline;
 import org.icij.datashare.user.User;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.icij.datashare.text.DocumentBuilder.createDoc;
+import static org.fest.assertions.Assertions.assertThat;
 import static org.icij.datashare.text.Language.ENGLISH;
+import static org.icij.datashare.text.Language.FRENCH;
+import static org.icij.datashare.text.NamedEntity.Category.LOCATION;
+import static org.icij.datashare.text.nlp.Pipeline.Type.CORENLP;
 import static org.icij.datashare.text.Project.project;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class ExtractNlpTaskTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
     @Mock private Indexer indexer;
     @Mock private AbstractPipeline pipeline;
     private final MemoryDocumentCollectionFactory<String> factory = new MemoryDocumentCollectionFactory<>();
@@ -81,6 +107,257 @@ public class ExtractNlpTaskTest {
 
         verify(pipeline).initialize(ENGLISH);
         verify(pipeline).process(doc, 32, 0);
-        verify(pipeline).process(doc, 32, 32);
+        verify(pipeline).process(doc, 1, 32);
+    }
+
+    @Test
+    public void test_named_entities_of_same_content_are_found_once_with_cache() throws Exception {
+        ExtractNlpTask nlpTaskWithCache = new ExtractNlpTask(indexer, pipeline, factory, new Task<>(ExtractNlpTask.class.getName(), User.local(), new HashMap<>(){{
+            put("nlpCacheDir", folder.getRoot().toString());
+        }}), null);
+        when(pipeline.initialize(any())).thenReturn(true);
+        when(pipeline.isCacheable(any())).thenReturn(true);
+        Document doc = createDoc("docId").with("content").build();
+        Document duplicate = createDoc("duplicateId").with("content").build();
+        when(pipeline.process(any())).thenReturn(emptyList());
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+        when(indexer.get("projectName", duplicate.getId())).thenReturn(duplicate);
+
+        nlpTaskWithCache.findNamedEntities(project("projectName"), doc.getId());
+        nlpTaskWithCache.findNamedEntities(project("projectName"), duplicate.getId());
+
+        verify(pipeline).process(doc);
+        verify(pipeline, never()).process(duplicate);
+        verify(indexer).bulkAdd("projectName", null, null, emptyList(), duplicate);
+    }
+
+    @Test
+    public void test_chunks_end_at_sentence_boundaries_and_are_processed_in_parallel() throws Exception {
+        ExtractNlpTask parallelNlpTask = new ExtractNlpTask(indexer, pipeline, factory, new Task<>(ExtractNlpTask.class.getName(), User.local(), new HashMap<>(){{
+            put("maxContentLength", "16");
+            put("nlpParallelism", "2");
+        }}), null);
+        when(pipeline.initialize(any())).thenReturn(true);
+        Document doc = createDoc("docId").with("This is Paris. This is Rome.").build();
+        List<NamedEntity> paris = singletonList(NamedEntity.create(LOCATION, "Paris", singletonList(8L), doc.getId(), doc.getId(), CORENLP, ENGLISH));
+        List<NamedEntity> rome = singletonList(NamedEntity.create(LOCATION, "Rome", singletonList(23L), doc.getId(), doc.getId(), CORENLP, ENGLISH));
+        when(pipeline.process(doc, 15, 0)).thenReturn(paris);
+        when(pipeline.process(doc, 13, 15)).thenReturn(rome);
+        when(pipeline.getType()).thenReturn(CORENLP);
+        when(pipeline.getNerVersion()).thenReturn("CORENLP:1:abcd");
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+
+        parallelNlpTask.findNamedEntities(project("projectName"), doc.getId());
+
+        InOrder inOrder = inOrder(indexer);
+        inOrder.verify(indexer).bulkAdd("projectName", paris);
+        inOrder.verify(indexer).bulkAdd("projectName", CORENLP, "CORENLP:1:abcd", rome, doc);
+    }
+
+    @Test
+    public void test_same_mentions_of_chunks_are_merged_before_bulk_add() throws Exception {
+        ExtractNlpTask parallelNlpTask = new ExtractNlpTask(indexer, pipeline, factory, new Task<>(ExtractNlpTask.class.getName(), User.local(), new HashMap<>(){{
+            put("maxContentLength", "16");
+            put("nlpParallelism", "2");
+        }}), null);
+        when(pipeline.initialize(any())).thenReturn(true);
+        Document doc = createDoc("docId").with("This is Paris. Paris is big.").build();
+        when(pipeline.process(doc, 15, 0)).thenReturn(singletonList(NamedEntity.create(LOCATION, "Paris", singletonList(8L), doc.getId(), doc.getId(), CORENLP, ENGLISH)));
+        when(pipeline.process(doc, 13, 15)).thenReturn(singletonList(NamedEntity.create(LOCATION, "Paris", singletonList(15L), doc.getId(), doc.getId(), CORENLP, ENGLISH)));
+        when(pipeline.getType()).thenReturn(CORENLP);
+        when(pipeline.getNerVersion()).thenReturn("CORENLP:1:abcd");
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+
+        parallelNlpTask.findNamedEntities(project("projectName"), doc.getId());
+
+        verify(indexer).bulkAdd("projectName", CORENLP, "CORENLP:1:abcd",
+                singletonList(NamedEntity.create(LOCATION, "Paris", asList(8L, 15L), doc.getId(), doc.getId(), CORENLP, ENGLISH)), doc);
+        verify(indexer, never()).bulkAdd(anyString(), anyList());
+    }
+
+    @Test
+    public void test_named_entities_of_doc_not_chunked_are_not_merged() throws Exception {
+        when(pipeline.initialize(any())).thenReturn(true);
+        Document doc = createDoc("docId").with("Paris. PARIS.").build();
+        List<NamedEntity> namedEntities = asList(
+                NamedEntity.create(LOCATION, "Paris", singletonList(0L), doc.getId(), doc.getId(), CORENLP, ENGLISH),
+                NamedEntity.create(LOCATION, "PARIS", singletonList(7L), doc.getId(), doc.getId(), CORENLP, ENGLISH));
+        when(pipeline.process(doc)).thenReturn(namedEntities);
+        when(pipeline.getType()).thenReturn(CORENLP);
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+
+        nlpTask.findNamedEntities(project("projectName"), doc.getId());
+
+        verify(indexer).bulkAdd("projectName", CORENLP, null, namedEntities, doc);
+    }
+
+    @Test
+    public void test_stale_named_entities_of_previous_run_are_deleted_after_write() throws Exception {
+        ExtractNlpTask reprocessTask = createReprocessTask();
+        NamedEntity ne = NamedEntity.create(LOCATION, "Paris", asList(2L), "docId", "root", CORENLP, ENGLISH);
+        Document doc = createDoc("docId").with("content").with(CORENLP).build();
+        when(pipeline.process(doc)).thenReturn(asList(ne));
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+        when(indexer.bulkAdd("projectName", CORENLP, "CORENLP:2:abcd", asList(ne), doc)).thenReturn(true);
+        mockHiddenMentionsSearch();
+
+        reprocessTask.findNamedEntities(project("projectName"), doc.getId());
+
+        InOrder inOrder = inOrder(indexer);
+        inOrder.verify(indexer).bulkAdd("projectName", CORENLP, "CORENLP:2:abcd", asList(ne), doc);
+        inOrder.verify(indexer).deleteNamedEntities("projectName", CORENLP, doc, Set.of(ne.getId()));
+    }
+
+    @Test
+    public void test_named_entities_of_previous_run_are_kept_if_write_fails() throws Exception {
+        ExtractNlpTask reprocessTask = createReprocessTask();
+        Document doc = createDoc("docId").with("content").with(CORENLP).build();
+        when(pipeline.process(doc)).thenReturn(emptyList());
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+        when(indexer.bulkAdd("projectName", CORENLP, "CORENLP:2:abcd", emptyList(), doc)).thenReturn(false);
+        mockHiddenMentionsSearch();
+
+        reprocessTask.findNamedEntities(project("projectName"), doc.getId());
+
+        verify(indexer, never()).deleteNamedEntities(anyString(), any(), any(), any());
+    }
+
+    @Test
+    public void test_hidden_mentions_of_previous_run_are_kept_hidden() throws Exception {
+        ExtractNlpTask reprocessTask = createReprocessTask();
+        NamedEntity paris = NamedEntity.create(LOCATION, "Paris", asList(2L), "docId", "root", CORENLP, ENGLISH);
+        NamedEntity london = NamedEntity.create(LOCATION, "London", asList(12L), "docId", "root", CORENLP, ENGLISH);
+        Document doc = createDoc("docId").with("content").with(CORENLP).build();
+        when(pipeline.process(doc)).thenReturn(asList(paris, london));
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+        mockHiddenMentionsSearch(NamedEntity.create(LOCATION, "paris", asList(1L), "docId", "root", CORENLP, ENGLISH));
+
+        reprocessTask.findNamedEntities(project("projectName"), doc.getId());
+
+        assertThat(paris.isHidden()).isTrue();
+        assertThat(london.isHidden()).isFalse();
+    }
+
+    @Test
+    public void test_named_entities_are_not_deleted_without_reprocess_outdated() throws Exception {
+        when(pipeline.initialize(any())).thenReturn(true);
+        when(pipeline.getType()).thenReturn(CORENLP);
+        Document doc = createDoc("docId").with("content").with(CORENLP).build();
+        when(pipeline.process(doc)).thenReturn(emptyList());
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+        when(indexer.bulkAdd(eq("projectName"), eq(CORENLP), any(), anyList(), eq(doc))).thenReturn(true);
+
+        nlpTask.findNamedEntities(project("projectName"), doc.getId());
+
+        verify(indexer, never()).search(anyList(), eq(NamedEntity.class));
+        verify(indexer, never()).deleteNamedEntities(anyString(), any(), any(), any());
+    }
+
+    @Test
+    public void test_named_entities_are_not_deleted_for_doc_not_processed() throws Exception {
+        ExtractNlpTask reprocessTask = createReprocessTask();
+        Document doc = createDoc("docId").with("content").build();
+        when(pipeline.process(doc)).thenReturn(emptyList());
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+
+        reprocessTask.findNamedEntities(project("projectName"), doc.getId());
+
+        verify(indexer, never()).deleteNamedEntities(anyString(), any(), any(), any());
+    }
+
+    private ExtractNlpTask createReprocessTask() throws InterruptedException {
+        when(pipeline.initialize(any())).thenReturn(true);
+        when(pipeline.getType()).thenReturn(CORENLP);
+        when(pipeline.getNerVersion()).thenReturn("CORENLP:2:abcd");
+        return new ExtractNlpTask(indexer, pipeline, factory, new Task<>(ExtractNlpTask.class.getName(), User.local(), new HashMap<>(){{
+            put("nlpReprocessOutdated", "true");
+        }}), null);
+    }
+
+    private void mockHiddenMentionsSearch(NamedEntity... hidden) throws IOException {
+        Indexer.QueryBuilderSearcher searcher = mock(Indexer.QueryBuilderSearcher.class, RETURNS_SELF);
+        doAnswer(invocation -> Stream.of(hidden)).when(searcher).execute();
+        when(indexer.search(singletonList("projectName"), NamedEntity.class)).thenReturn(searcher);
+    }
+
+    @Test
+    public void test_unprocessed_doc_ids_are_put_back_in_queue_when_task_is_interrupted() throws Exception {
+        when(pipeline.initialize(any())).thenReturn(true);
+        Document doc = createDoc("docId1").with("content").build();
+        when(indexer.get("projectName", doc.getId())).thenReturn(doc);
+        when(pipeline.process(doc)).thenThrow(new InterruptedException());
+        ExtractNlpTask task = new ExtractNlpTask(indexer, pipeline, factory, new Task<>(ExtractNlpTask.class.getName(), User.local(), new HashMap<>(){{
+            put("defaultProject", "projectName");
+        }}), null);
+        task.inputQueue.addAll(asList("docId1", "docId2", "docId3", "POISON"));
+
+        try {
+            task.call();
+            fail("the task should have been interrupted");
+        } catch (InterruptedException e) {
+            assertThat(new ArrayList<>(task.inputQueue)).isEqualTo(asList("docId1", "docId2", "docId3", "POISON"));
+        }
+        verify(pipeline, never()).process(createDoc("docId2").with("content").build());
+    }
+
+    @Test
+    public void test_failed_doc_is_counted_once_and_queues_are_unregistered() throws Exception {
+        when(pipeline.initialize(any())).thenReturn(true);
+        when(pipeline.getType()).thenReturn(CORENLP);
+        Document doc1 = createDoc("docId1").with("content").build();
+        Document doc2 = createDoc("docId2").with("content").build();
+        when(indexer.get("projectName", doc1.getId())).thenReturn(doc1);
+        when(indexer.get("projectName", doc2.getId())).thenReturn(doc2);
+        doThrow(new IOException("bulk error")).when(indexer).bulkAdd(eq("projectName"), eq(CORENLP), any(), anyList(), eq(doc1));
+        ExtractNlpTask task = new ExtractNlpTask(indexer, pipeline, factory, new Task<>(ExtractNlpTask.class.getName(), User.local(), new HashMap<>(){{
+            put("defaultProject", "projectName");
+        }}), null);
+        task.inputQueue.addAll(asList("docId1", "docId2", "POISON"));
+        PipelineMetrics.StageMetrics metrics = PipelineMetrics.getInstance().stage(Stage.NLP);
+        long processed = metrics.getProcessed();
+        long failures = metrics.getFailures();
+
+        assertThat(task.call()).isEqualTo(1);
+
+        assertThat(metrics.getProcessed() - processed).isEqualTo(1);
+        assertThat(metrics.getFailures() - failures).isEqualTo(1);
+        assertThat(metrics.getQueues()).isEmpty();
+    }
+
+    @Test
+    public void test_group_doc_ids_by_language() throws Exception {
+        mockLanguageSearch(createDoc("en1").with(ENGLISH).build(), createDoc("fr1").with(FRENCH).build(),
+                createDoc("en2").with(ENGLISH).build(), createDoc("fr2").with(FRENCH).build(), createDoc("en3").with(ENGLISH).build());
+
+        assertThat(nlpTask.groupByLanguage(project("projectName"), asList("en1", "fr1", "en2", "fr2", "en3")))
+                .isEqualTo(asList("en1", "en2", "en3", "fr1", "fr2"));
+        verify(indexer, never()).get(eq("projectName"), anyString(), anyList());
+    }
+
+    @Test
+    public void test_group_doc_ids_by_language_starts_with_last_language() throws Exception {
+        when(pipeline.initialize(any())).thenReturn(true);
+        Document french = createDoc("french0").with(FRENCH).build();
+        when(indexer.get("projectName", "french0")).thenReturn(french);
+        mockLanguageSearch(createDoc("en1").with(ENGLISH).build(), createDoc("fr1").with(FRENCH).build(), createDoc("en2").with(ENGLISH).build());
+
+        nlpTask.findNamedEntities(project("projectName"), "french0");
+
+        assertThat(nlpTask.groupByLanguage(project("projectName"), asList("en1", "fr1", "en2")))
+                .isEqualTo(asList("fr1", "en1", "en2"));
+    }
+
+    @Test
+    public void test_group_doc_ids_by_language_with_unknown_doc() throws Exception {
+        mockLanguageSearch(createDoc("en1").with(ENGLISH).build());
+
+        assertThat(nlpTask.groupByLanguage(project("projectName"), asList("unknown", "en1")))
+                .isEqualTo(asList("unknown", "en1"));
+    }
+
+    private void mockLanguageSearch(Document... docs) throws IOException {
+        Indexer.QueryBuilderSearcher searcher = mock(Indexer.QueryBuilderSearcher.class, RETURNS_SELF);
+        doAnswer(invocation -> Stream.of(docs)).when(searcher).execute();
+        when(indexer.search(singletonList("projectName"), Document.class)).thenReturn(searcher);
     }
 }
@@ -0,0 +1,57 @@
+package org.icij.datashare.tasks;
+
+import org.icij.datashare.PropertiesProvider;
+import org.icij.datashare.asynctasks.CancelException;
+import org.icij.datashare.asynctasks.Task;
+import org.icij.datashare.text.indexing.Indexer;
+import org.icij.datashare.user.User;
+import org.junit.Test;
+
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HideNamedEntitiesTaskTest {
+    Indexer indexer = mock(Indexer.class);
+    Function<Double, Void> updateCallback = p -> null;
+
+    @Test
+    public void test_hide_with_default_options() throws Exception {
+        when(indexer.hideNamedEntities("prj", "mention", true, 0, -1, updateCallback)).thenReturn(12L);
+
+        assertThat(createTask(new PropertiesProvider(), Map.of("project", "prj", "mentionNorm", "mention", "hidden", true)).call()).isEqualTo(12L);
+    }
+
+    @Test
+    public void test_unhide_with_slices_and_throttle() throws Exception {
+        PropertiesProvider propertiesProvider = new PropertiesProvider(Map.of(
+                "namedEntitiesUpdateSlices", "4", "namedEntitiesUpdateRequestsPerSecond", "500"));
+
+        createTask(propertiesProvider, Map.of("project", "prj", "mentionNorm", "mention", "hidden", false)).call();
+
+        verify(indexer).hideNamedEntities("prj", "mention", false, 4, 500, updateCallback);
+    }
+
+    @Test(expected = CancelException.class)
+    public void test_cancel() throws Exception {
+        doThrow(new InterruptedIOException()).when(indexer).hideNamedEntities(anyString(), anyString(), anyBoolean(), anyInt(), anyFloat(), any());
+
+        createTask(new PropertiesProvider(), Map.of("project", "prj", "mentionNorm", "mention")).call();
+    }
+
+    private HideNamedEntitiesTask createTask(PropertiesProvider propertiesProvider, Map<String, Object> args) {
+        return new HideNamedEntitiesTask(indexer, propertiesProvider,
+                new Task<>(HideNamedEntitiesTask.class.getName(), User.local(), args), updateCallback);
+    }
+}
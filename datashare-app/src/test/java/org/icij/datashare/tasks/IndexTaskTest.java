@@ -10,10 +10,12 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
 import static org.icij.datashare.user.User.nullUser;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -81,4 +83,23 @@ public class IndexTaskTest {
         Option<String> nameOpt  = new Option<>("projectName", StringOptionParser::new).update("bar");
         assertThat(captor.getValue()).contains(defaultOpt, nameOpt);
     }
+
+    @Test
+    public void test_restore_settings_error_does_not_hide_task_error() throws Exception {
+        ElasticsearchSpewer spewer = mock(ElasticsearchSpewer.class);
+        Mockito.when(spewer.configure(Mockito.any())).thenReturn(spewer);
+        Mockito.when(spewer.applyIngestSettings(Mockito.any())).thenReturn(Map.of("index.refresh_interval", "1s"));
+        IOException restoreError = new IOException("cannot restore");
+        Mockito.doThrow(restoreError).when(spewer).restoreSettings(Mockito.any());
+        IndexTask indexTask = new IndexTask(spewer, mock(DocumentCollectionFactory.class), new Task<>(IndexTask.class.getName(), nullUser(), Map.of("ingestProfile", "true")), null);
+
+        try {
+            indexTask.call();
+            fail("the task should have failed");
+        } catch (Exception e) {
+            assertThat(e).isNotSameAs(restoreError);
+            assertThat(e.getSuppressed()).containsOnly(restoreError);
+        }
+        verify(spewer).restoreSettings(Map.of("index.refresh_interval", "1s"));
+    }
 }
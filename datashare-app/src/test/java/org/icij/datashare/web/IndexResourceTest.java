@@ -73,6 +73,19 @@ public class IndexResourceTest extends AbstractProdWebServerTest {
         post("/api/index/search/unauthorized/_search").should().respond(401);
     }
 
+    @Test
+    public void test_no_auth_post_count_is_cached_with_cache_ttl() throws IOException {
+        configure(routes -> routes.add(new IndexResource(indexer, new PropertiesProvider(new HashMap<>() {{
+            put("searchProxyCacheTtl", "60");
+        }}))).filter(new LocalUserFilter(propertiesProvider, jooqRepository)));
+        post("/api/index/search/test-datashare/_count", "{\"query\": {\"match_all\": {}}}").should().respond(200).contain("\"count\":0");
+
+        indexer.add("test-datashare", DocumentBuilder.createDoc("doc1").build());
+
+        post("/api/index/search/test-datashare/_count", "{\"query\":{\"match_all\":{}}}").should().respond(200).contain("\"count\":0");
+        post("/api/index/search/test-datashare/_count", "{}").should().respond(200).contain("\"count\":1");
+    }
+
     @Test
     public void test_no_auth_options_forward_request_to_elastic() {
         configure(routes -> routes.add(new IndexResource(indexer)).filter(new LocalUserFilter(propertiesProvider, jooqRepository)));
@@ -188,6 +201,7 @@ public class IndexResourceTest extends AbstractProdWebServerTest {
     @After
     public void tearDown() throws Exception {
         esRule.delete("cecile-datashare", "index_name");
+        esRule.removeAll();
     }
 }
 
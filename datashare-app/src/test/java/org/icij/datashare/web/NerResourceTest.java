@@ -10,6 +10,7 @@ import org.icij.datashare.text.nlp.Annotations;
 import org.icij.datashare.text.nlp.NlpStage;
 import org.icij.datashare.text.nlp.Pipeline;
 import org.icij.datashare.web.testhelpers.AbstractProdWebServerTest;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -24,26 +25,35 @@ import static org.fest.assertions.Assertions.assertThat;
 import static org.fest.assertions.MapAssert.entry;
 import static org.icij.datashare.CollectionUtils.asSet;
 import static org.icij.datashare.text.Language.ENGLISH;
+import static org.icij.datashare.text.Language.FRENCH;
 import static org.icij.datashare.text.nlp.Pipeline.Type.CORENLP;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class NerResourceTest extends AbstractProdWebServerTest {
     @Mock Pipeline pipeline;
     @Mock PipelineRegistry registry;
+    private NerResource nerResource;
 
     @Before
     public void setUp() throws Exception {
         initMocks(this);
         doReturn(true).when(pipeline).initialize(any());
         doReturn(pipeline).when(registry).get(any());
-        NerResource nerResource = new NerResource(registry, l -> ENGLISH);
+        nerResource = new NerResource(registry, l -> ENGLISH);
         configure(routes -> routes.add(nerResource));
     }
 
+    @After
+    public void tearDown() {
+        nerResource.close();
+    }
+
     @Test
     public void test_post_empty_text() throws Exception {
         Document doc = DocumentBuilder.createDoc("inline").with("").with(ENGLISH).build();
@@ -79,4 +89,74 @@ public class NerResourceTest extends AbstractProdWebServerTest {
                 entry("offsets", asList(10))
         );
     }
+
+    @Test
+    public void test_post_batch_returns_one_ndjson_line_per_text_in_order() throws Exception {
+        doReturn(asList(NamedEntity.create(NamedEntity.Category.PERSON, "foù", asList(10L), "1", "root", CORENLP, ENGLISH)))
+                .when(pipeline).process(argThat(doc -> doc != null && "1".equals(doc.getId())));
+        doReturn(emptyList()).when(pipeline).process(argThat(doc -> doc != null && "2".equals(doc.getId())));
+
+        Response response = post("/api/ner/findNames/CORENLP/batch",
+                "{\"id\": \"1\", \"text\": \"This the 'foù' file content.\"}\n" +
+                "{\"id\": \"2\", \"text\": \"nothing\", \"language\": \"FRENCH\"}\n").response();
+
+        assertThat(response.code()).isEqualTo(200);
+        String[] lines = response.content().split("\n");
+        assertThat(lines).hasSize(2);
+        Map first = TypeConvert.fromJson(lines[0], Map.class);
+        assertThat(first).includes(entry("id", "1"), entry("language", "ENGLISH"));
+        assertThat((List) first.get("namedEntities")).hasSize(1);
+        assertThat(first.get("durationMs")).isNotNull();
+        Map second = TypeConvert.fromJson(lines[1], Map.class);
+        assertThat(second).includes(entry("id", "2"), entry("language", "FRENCH"), entry("namedEntities", emptyList()));
+        verify(pipeline, times(1)).initialize(ENGLISH);
+        verify(pipeline, times(1)).initialize(FRENCH);
+    }
+
+    @Test
+    public void test_post_batch_with_invalid_line_returns_an_error_line() throws Exception {
+        doReturn(emptyList()).when(pipeline).process(any());
+
+        Response response = post("/api/ner/findNames/CORENLP/batch",
+                "{\"id\": \"1\", \"text\": \"first\"}\n" +
+                "not json\n" +
+                "{\"id\": \"3\"}\n" +
+                "{\"id\": \"4\", \"text\": \"last\"}\n").response();
+
+        assertThat(response.code()).isEqualTo(200);
+        String[] lines = response.content().split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(TypeConvert.fromJson(lines[0], Map.class)).includes(entry("id", "1"), entry("error", null));
+        assertThat((String) TypeConvert.fromJson(lines[1], Map.class).get("error")).startsWith("invalid line 2:");
+        assertThat((String) TypeConvert.fromJson(lines[2], Map.class).get("error")).startsWith("invalid line 3:");
+        assertThat(TypeConvert.fromJson(lines[2], Map.class)).includes(entry("id", "3"));
+        assertThat(TypeConvert.fromJson(lines[3], Map.class)).includes(entry("id", "4"), entry("error", null));
+        verify(pipeline, times(2)).process(any());
+    }
+
+    @Test
+    public void test_post_batch_with_more_texts_than_pending_limit() throws Exception {
+        doReturn(emptyList()).when(pipeline).process(any());
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            body.append("{\"id\": \"").append(i).append("\", \"text\": \"text\"}\n");
+        }
+
+        String[] lines = post("/api/ner/findNames/CORENLP/batch", body.toString()).response().content().split("\n");
+
+        assertThat(lines).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(TypeConvert.fromJson(lines[i], Map.class)).includes(entry("id", String.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void test_pipeline_is_initialized_once_per_language() throws Exception {
+        doReturn(emptyList()).when(pipeline).process(any());
+
+        post("/api/ner/findNames/CORENLP", "text").should().respond(200);
+        post("/api/ner/findNames/CORENLP", "text").should().respond(200);
+
+        verify(pipeline, times(1)).initialize(ENGLISH);
+    }
 }
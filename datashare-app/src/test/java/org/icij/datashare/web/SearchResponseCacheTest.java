@@ -0,0 +1,50 @@
+package org.icij.datashare.web;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class SearchResponseCacheTest {
+    private final SearchResponseCache cache = new SearchResponseCache(60, 1024);
+
+    @Test
+    public void test_is_cacheable() {
+        assertThat(SearchResponseCache.isCacheable("index/_search")).isTrue();
+        assertThat(SearchResponseCache.isCacheable("index1,index2/_count")).isTrue();
+        assertThat(SearchResponseCache.isCacheable("index/doc/_search?routing=foo")).isTrue();
+
+        assertThat(SearchResponseCache.isCacheable("index/_search?scroll=1m")).isFalse();
+        assertThat(SearchResponseCache.isCacheable("_search/scroll")).isFalse();
+        assertThat(SearchResponseCache.isCacheable("index/_doc/id")).isFalse();
+    }
+
+    @Test
+    public void test_key_normalizes_json_body() {
+        assertThat(SearchResponseCache.key("POST", "index/_search", "{ \"query\" : {\n\"match_all\": {} } }".getBytes()))
+                .isEqualTo(SearchResponseCache.key("POST", "index/_search", "{\"query\":{\"match_all\":{}}}".getBytes()));
+        assertThat(SearchResponseCache.key("POST", "index/_search", "not json".getBytes())).isEqualTo("POST index/_search not json");
+    }
+
+    @Test
+    public void test_get_calls_loader_once() throws IOException {
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get("key", () -> { calls.incrementAndGet(); return "value".getBytes(); });
+        byte[] value = cache.get("key", () -> { calls.incrementAndGet(); return "other".getBytes(); });
+
+        assertThat(new String(value)).isEqualTo("value");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_get_does_not_cache_errors() throws IOException {
+        try {
+            cache.get("key", () -> { throw new IOException("es error"); });
+        } finally {
+            assertThat(cache.size()).isEqualTo(0);
+        }
+    }
+}
@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"org.icij.datashare.cli.spi","c":"CliExtension","l":"addOptions(OptionParser)","u":"addOptions(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"algorithm"},{"p":"org.icij.datashare.cli","c":"QueueType","l":"AMQP"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"asProperties(OptionSet, String)","u":"asProperties(joptsimple.OptionSet,java.lang.String)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"asPropertyKey(String, OptionSpec<?>)","u":"asPropertyKey(java.lang.String,joptsimple.OptionSpec)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"asPropertyValue(List<?>)","u":"asPropertyValue(java.util.List)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"AUTH_FILTER_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"AUTH_USERS_PROVIDER_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"authFilter(OptionParser)","u":"authFilter(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"authUsersProvider(OptionParser)","u":"authUsersProvider(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_DOWNLOAD_DIR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_DOWNLOAD_ENCRYPT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_DOWNLOAD_MAX_NB_FILES_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_DOWNLOAD_MAX_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_DOWNLOAD_SCROLL_DURATION_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_DOWNLOAD_SCROLL_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_DOWNLOAD_ZIP_TTL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_QUEUE_TYPE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_SEARCH_MAX_TIME_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_SEARCH_SCROLL_DURATION_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_SEARCH_SCROLL_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BATCH_THROTTLE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchDownloadDir(OptionParser)","u":"batchDownloadDir(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchDownloadEncrypt(OptionParser)","u":"batchDownloadEncrypt(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchDownloadMaxNbFiles(OptionParser)","u":"batchDownloadMaxNbFiles(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchDownloadMaxSize(OptionParser)","u":"batchDownloadMaxSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchDownloadScroll(OptionParser)","u":"batchDownloadScroll(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchDownloadScrollSize(OptionParser)","u":"batchDownloadScrollSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchDownloadTimeToLive(OptionParser)","u":"batchDownloadTimeToLive(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchQueueType(OptionParser)","u":"batchQueueType(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchSearchMaxTime(OptionParser)","u":"batchSearchMaxTime(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchSearchScroll(OptionParser)","u":"batchSearchScroll(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchSearchScrollSize(OptionParser)","u":"batchSearchScrollSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"batchThrottle(OptionParser)","u":"batchThrottle(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BROWSER_OPEN_LINK_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"BUS_TYPE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"busType(OptionParser)","u":"busType(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"CHARSET_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"charset(OptionParser)","u":"charset(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"Mode","l":"CLI"},{"p":"org.icij.datashare.cli","c":"CliExtensionService","l":"CliExtensionService()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"CLUSTER_NAME_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"clusterName(OptionParser)","u":"clusterName(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm.DigestAlgorithmConverter","l":"convert(String)","u":"convert(java.lang.String)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"CORS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"cors(OptionParser)","u":"cors(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"CRE_API_KEY_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"CRE_API_KEY_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"CREATE_INDEX_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"createExtParser(CliExtension)","u":"createExtParser(org.icij.datashare.cli.spi.CliExtension)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"createIndex(OptionParser)","u":"createIndex(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"createParser()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DATA_DIR_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DATA_DIR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DATA_SOURCE_URL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"dataDir(OptionParser)","u":"dataDir(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"DatashareCli()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DatashareCliOptions()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"dataSourceUrl(OptionParser)","u":"dataSourceUrl(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BATCH_DOWNLOAD_DIR"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BATCH_DOWNLOAD_MAX_NB_FILES"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BATCH_DOWNLOAD_MAX_SIZE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BATCH_DOWNLOAD_ZIP_TTL"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BATCH_QUEUE_TYPE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BATCH_SEARCH_MAX_TIME"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BATCH_THROTTLE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BROWSER_OPEN_LINK"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_BUS_TYPE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_CHARSET"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_CLUSTER_NAME"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_CORS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_DATA_DIR"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_DATA_SOURCE_URL"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_DATASHARE_HOME"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_DEFAULT_PROJECT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_DIGEST_METHOD"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_ELASTICSEARCH_ADDRESS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_ELASTICSEARCH_COMPRESSION"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_ELASTICSEARCH_DATA_PATH"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_ELASTICSEARCH_SNIFF"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_EMBEDDED_DOCUMENT_DOWNLOAD_MAX_SIZE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_EXTENSIONS_DIR"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_FOLLOW_SYMLINKS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_INGEST_PROFILE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_LOG_LEVEL"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_MAX_CONTENT_LENGTH"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_MESSAGE_BUS_ADDRESS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_MODE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_NAMED_ENTITIES_UPDATE_SLICES"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_NLP_MODELS_IDLE_TIMEOUT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_NLP_PARALLELISM"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_NLP_PIPELINE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_NLP_REPROCESS_OUTDATED"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_NO_DIGEST_PROJECT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_OCR"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_PARALLELISM"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_PARSER_PARALLELISM"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_PLUGIN_DIR"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_PROJECT_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_PROJECT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_PROTECTED_URI_PREFIX"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_QUEUE_BATCH_SIZE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_QUEUE_MEMORY_CAPACITY"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_QUEUE_NAME"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_QUEUE_TYPE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_REDIS_ADDRESS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_REDIS_POOL_SIZE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_SCROLL_DURATION"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_SCROLL_SIZE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_SCROLL_SLICES"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_SEARCH_PROXY_CACHE_MAX_SIZE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_SEARCH_PROXY_CACHE_TTL"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_SESSION_STORE_TYPE"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_SESSION_TTL_SECONDS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_TASK_WORKERS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_TCP_LISTEN_PORT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_USER"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_USER_NAME_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEFAULT_USER_NAME_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"defaultProject(OptionParser)","u":"defaultProject(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"defaultUser(OptionParser)","u":"defaultUser(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DEL_API_KEY_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"delApiKey(OptionParser)","u":"delApiKey(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DIGEST_ALGORITHM_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"DIGEST_PROJECT_NAME_OPT"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"DigestAlgorithm()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm.DigestAlgorithmConverter","l":"DigestAlgorithmConverter()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"digestMethod(OptionParser)","u":"digestMethod(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"digestProjectName(OptionParser)","u":"digestProjectName(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_ADDRESS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_COMPRESSION_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_CONNECT_TIMEOUT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_DATA_PATH_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_MAX_CONNECTIONS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_MAX_CONNECTIONS_PER_ROUTE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_SNIFF_INTERVAL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_SNIFF_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ELASTICSEARCH_SOCKET_TIMEOUT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"elasticsearchDataPath(OptionParser)","u":"elasticsearchDataPath(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"Mode","l":"EMBEDDED"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"EMBEDDED_DOCUMENT_DOWNLOAD_MAX_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"embeddedDocumentDownloadMaxSize(OptionParser)","u":"embeddedDocumentDownloadMaxSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"enableBrowserOpenLink(OptionParser)","u":"enableBrowserOpenLink(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"enableOcr(OptionParser)","u":"enableOcr(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esCompression(OptionParser)","u":"esCompression(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esConnectTimeout(OptionParser)","u":"esConnectTimeout(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esHost(OptionParser)","u":"esHost(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esMaxConnections(OptionParser)","u":"esMaxConnections(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esMaxConnectionsPerRoute(OptionParser)","u":"esMaxConnectionsPerRoute(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esSniff(OptionParser)","u":"esSniff(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esSniffInterval(OptionParser)","u":"esSniffInterval(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"esSocketTimeout(OptionParser)","u":"esSocketTimeout(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"EXPECTED_CORPUS_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"expectedCorpusSize(OptionParser)","u":"expectedCorpusSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"EXT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"EXTENSION_DELETE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"EXTENSION_INSTALL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"EXTENSION_LIST_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"extensionDelete(OptionParser)","u":"extensionDelete(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"extensionInstall(OptionParser)","u":"extensionInstall(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"extensionList(OptionParser)","u":"extensionList(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"EXTENSIONS_DIR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"extensionsDir(OptionParser)","u":"extensionsDir(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"extOption(OptionParser)","u":"extOption(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"fileParserParallelism(OptionParser)","u":"fileParserParallelism(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"FOLLOW_SYMLINKS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"followSymlinks(OptionParser)","u":"followSymlinks(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"genApiKey(OptionParser)","u":"genApiKey(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"GET_API_KEY_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"getApiKey(OptionParser)","u":"getApiKey(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"CliExtensionService","l":"getExtensions()"},{"p":"org.icij.datashare.cli","c":"CliExtensionService","l":"getInstance()"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"getVersion()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"HELP_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"HELP_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"help(OptionParser)","u":"help(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli.spi","c":"CliExtension","l":"identifier()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"INGEST_PROFILE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"INGEST_TRANSLOG_FLUSH_THRESHOLD_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ingestProfile(OptionParser)","u":"ingestProfile(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ingestTranslogFlushThreshold(OptionParser)","u":"ingestTranslogFlushThreshold(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli.spi","c":"CliExtension","l":"init(Function<Module[], Injector>)","u":"init(java.util.function.Function)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"isWebServer()"},{"p":"org.icij.datashare.cli","c":"Mode","l":"isWebServer()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"LANGUAGE_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"LANGUAGE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"language(OptionParser)","u":"language(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"CliExtensionService","l":"loader"},{"p":"org.icij.datashare.cli","c":"Mode","l":"LOCAL"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"LOG_LEVEL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"LOGGER"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"logLevel(OptionParser)","u":"logLevel(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"MAX_CONTENT_LENGTH_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"maxContentLength(OptionParser)","u":"maxContentLength(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"MD5"},{"p":"org.icij.datashare.cli","c":"QueueType","l":"MEMORY"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"MESSAGE_BUS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"messageBusAddress(OptionParser)","u":"messageBusAddress(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"MODE_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"MODE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"mode()"},{"p":"org.icij.datashare.cli","c":"Mode","l":"Mode(boolean)","u":"%3Cinit%3E(boolean)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"mode(OptionParser)","u":"mode(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NAMED_ENTITIES_UPDATE_SLICES_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"namedEntitiesUpdateRequestsPerSecond(OptionParser)","u":"namedEntitiesUpdateRequestsPerSecond(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"namedEntitiesUpdateSlices(OptionParser)","u":"namedEntitiesUpdateSlices(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"Mode","l":"NER"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_CACHE_DIR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_MODELS_BUNDLE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_MODELS_IDLE_TIMEOUT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_PARALLELISM_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_PARALLELISM_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_PIPELINE_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_PIPELINE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_PRELOAD_LANGUAGES_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NLP_REPROCESS_OUTDATED_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"nlpCacheDir(OptionParser)","u":"nlpCacheDir(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"nlpModelsBundle(OptionParser)","u":"nlpModelsBundle(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"nlpModelsIdleTimeout(OptionParser)","u":"nlpModelsIdleTimeout(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"nlpParallelism(OptionParser)","u":"nlpParallelism(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"nlpPipeline(OptionParser)","u":"nlpPipeline(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"nlpPreloadLanguages(OptionParser)","u":"nlpPreloadLanguages(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"nlpReprocessOutdated(OptionParser)","u":"nlpReprocessOutdated(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"NO_DIGEST_PROJECT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"noDigestProject(OptionParser)","u":"noDigestProject(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_API_URL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_AUTHORIZE_URL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_CALLBACK_PATH_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_CLIENT_ID_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_CLIENT_SECRET_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_DEFAULT_PROJECT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_SCOPE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OAUTH_TOKEN_URL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthApiUrl(OptionParser)","u":"oauthApiUrl(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthAuthorizeUrl(OptionParser)","u":"oauthAuthorizeUrl(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthCallbackPath(OptionParser)","u":"oauthCallbackPath(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthClaimIdAttribute(OptionParser)","u":"oauthClaimIdAttribute(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthClient(OptionParser)","u":"oauthClient(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthDefaultProject(OptionParser)","u":"oauthDefaultProject(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthScope(OptionParser)","u":"oauthScope(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthSecret(OptionParser)","u":"oauthSecret(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"oauthTokenUrl(OptionParser)","u":"oauthTokenUrl(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OCR_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OCR_LANGUAGE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OCR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ocrLanguage(OptionParser)","u":"ocrLanguage(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"OPT_ALIASES"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PARALLELISM_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"parallelism(OptionParser)","u":"parallelism(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"parseArguments(String[])","u":"parseArguments(java.lang.String[])"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PARSER_PARALLELISM_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PARSER_PARALLELISM_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PLUGIN_DELETE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PLUGIN_INSTALL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PLUGIN_LIST_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"pluginDelete(OptionParser)","u":"pluginDelete(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"pluginInstall(OptionParser)","u":"pluginInstall(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"pluginList(OptionParser)","u":"pluginList(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PLUGINS_DIR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"pluginsDir(OptionParser)","u":"pluginsDir(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PORT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"printHelp(OptionParser)","u":"printHelp(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"properties"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"PROTECTED_URI_PREFIX_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"protectedUriPrefix(OptionParser)","u":"protectedUriPrefix(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"QUEUE_BATCH_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"QUEUE_MEMORY_CAPACITY_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"QUEUE_NAME_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"QUEUE_SPILL_DIR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"QUEUE_TYPE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"queueBatchSize(OptionParser)","u":"queueBatchSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"queueMemoryCapacity(OptionParser)","u":"queueMemoryCapacity(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"queueName(OptionParser)","u":"queueName(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"queueSpillDir(OptionParser)","u":"queueSpillDir(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"QueueType","l":"QueueType()","u":"%3Cinit%3E()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"queueType(OptionParser)","u":"queueType(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"QueueType","l":"REDIS"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"REDIS_ADDRESS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"REDIS_POOL_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"redisAddress(OptionParser)","u":"redisAddress(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"redisPoolSize(OptionParser)","u":"redisPoolSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"REPORT_NAME_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"reportName(OptionParser)","u":"reportName(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"RESUME_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"RESUME_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"resume(OptionParser)","u":"resume(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"ROOT_HOST_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"rootHost(OptionParser)","u":"rootHost(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli.spi","c":"CliExtension","l":"run(Properties)","u":"run(java.util.Properties)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SCROLL_DURATION_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SCROLL_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SCROLL_SLICES_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"scroll(OptionParser)","u":"scroll(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"scrollSize(OptionParser)","u":"scrollSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"scrollSlices(OptionParser)","u":"scrollSlices(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SEARCH_PROXY_CACHE_MAX_SIZE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SEARCH_PROXY_CACHE_TTL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"searchProxyCacheMaxSize(OptionParser)","u":"searchProxyCacheMaxSize(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"searchProxyCacheTtl(OptionParser)","u":"searchProxyCacheTtl(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCli","l":"SEPARATOR"},{"p":"org.icij.datashare.cli","c":"Mode","l":"SERVER"},{"p":"org.icij.datashare.cli","c":"CliExtensionService","l":"service"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SESSION_STORE_TYPE_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SESSION_TTL_SECONDS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"sessionStoreType(OptionParser)","u":"sessionStoreType(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"sessionTtlSeconds(OptionParser)","u":"sessionTtlSeconds(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SETTING_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SETTINGS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"settings(OptionParser)","u":"settings(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"SHA_1"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"SHA_256"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"SHA_384"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"SHA_512"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"SMTP_URL_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"smtpUrl(OptionParser)","u":"smtpUrl(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"stages(OptionParser)","u":"stages(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"Mode","l":"TASK_WORKER"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"TASK_WORKERS_LIMITS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"TASK_WORKERS_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"taskWorkers(OptionParser)","u":"taskWorkers(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"taskWorkersLimits(OptionParser)","u":"taskWorkersLimits(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"TCP_LISTEN_PORT_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"tcpListenPort(OptionParser)","u":"tcpListenPort(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"toAbsolute()"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"toString()"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.cli","c":"Mode","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.cli","c":"QueueType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm.DigestAlgorithmConverter","l":"valuePattern()"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm","l":"values()"},{"p":"org.icij.datashare.cli","c":"Mode","l":"values()"},{"p":"org.icij.datashare.cli","c":"QueueType","l":"values()"},{"p":"org.icij.datashare.cli","c":"DigestAlgorithm.DigestAlgorithmConverter","l":"valueType()"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"VERSION_ABBR_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"VERSION_OPT"},{"p":"org.icij.datashare.cli","c":"DatashareCliOptions","l":"version(OptionParser)","u":"version(joptsimple.OptionParser)"},{"p":"org.icij.datashare.cli","c":"Mode","l":"webServer"}];updateSearchResults();
\ No newline at end of file
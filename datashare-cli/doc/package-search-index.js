@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"org.icij.datashare.cli"},{"l":"org.icij.datashare.cli.spi"}];updateSearchResults();
\ No newline at end of file
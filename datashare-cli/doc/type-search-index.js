@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"org.icij.datashare.cli.spi","l":"CliExtension"},{"p":"org.icij.datashare.cli","l":"CliExtensionService"},{"p":"org.icij.datashare.cli","l":"DatashareCli"},{"p":"org.icij.datashare.cli","l":"DatashareCliOptions"},{"p":"org.icij.datashare.cli","l":"DigestAlgorithm"},{"p":"org.icij.datashare.cli","l":"DigestAlgorithm.DigestAlgorithmConverter"},{"p":"org.icij.datashare.cli","l":"Mode"},{"p":"org.icij.datashare.cli","l":"QueueType"}];updateSearchResults();
\ No newline at end of file
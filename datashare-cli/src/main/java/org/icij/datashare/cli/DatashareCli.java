@@ -132,6 +132,12 @@ public class DatashareCli {
         DatashareCliOptions.parallelism(parser);
         DatashareCliOptions.fileParserParallelism(parser);
         DatashareCliOptions.nlpParallelism(parser);
+        DatashareCliOptions.nlpModelsIdleTimeout(parser);
+        DatashareCliOptions.nlpCacheDir(parser);
+        DatashareCliOptions.nlpCacheMaxSize(parser);
+        DatashareCliOptions.nlpModelsBundle(parser);
+        DatashareCliOptions.nlpReprocessOutdated(parser);
+        DatashareCliOptions.nlpPreloadLanguages(parser);
         DatashareCliOptions.followSymlinks(parser);
         DatashareCliOptions.enableBrowserOpenLink(parser);
         DatashareCliOptions.embeddedDocumentDownloadMaxSize(parser);
@@ -146,17 +152,33 @@ public class DatashareCli {
         DatashareCliOptions.batchDownloadDir(parser);
         DatashareCliOptions.smtpUrl(parser);
         DatashareCliOptions.maxContentLength(parser);
+        DatashareCliOptions.expectedCorpusSize(parser);
+        DatashareCliOptions.ingestProfile(parser);
+        DatashareCliOptions.ingestTranslogFlushThreshold(parser);
         DatashareCliOptions.clusterName(parser);
         DatashareCliOptions.createIndex(parser);
         DatashareCliOptions.defaultUser(parser);
         DatashareCliOptions.defaultProject(parser);
         DatashareCliOptions.oauthClaimIdAttribute(parser);
         DatashareCliOptions.esHost(parser);
+        DatashareCliOptions.esSniff(parser);
+        DatashareCliOptions.esSniffInterval(parser);
+        DatashareCliOptions.esCompression(parser);
+        DatashareCliOptions.esMaxConnections(parser);
+        DatashareCliOptions.esMaxConnectionsPerRoute(parser);
+        DatashareCliOptions.esConnectTimeout(parser);
+        DatashareCliOptions.esSocketTimeout(parser);
+        DatashareCliOptions.esUpdateByQueryTimeout(parser);
         DatashareCliOptions.queueName(parser);
+        DatashareCliOptions.queueBatchSize(parser);
+        DatashareCliOptions.queueMemoryCapacity(parser);
+        DatashareCliOptions.queueSpillDir(parser);
         DatashareCliOptions.cors(parser);
         DatashareCliOptions.queueType(parser);
         DatashareCliOptions.busType(parser);
         DatashareCliOptions.messageBusAddress(parser);
+        DatashareCliOptions.taskWorkers(parser);
+        DatashareCliOptions.taskWorkersLimits(parser);
         DatashareCliOptions.redisAddress(parser);
         DatashareCliOptions.dataSourceUrl(parser);
         DatashareCliOptions.rootHost(parser);
@@ -164,6 +186,10 @@ public class DatashareCli {
         DatashareCliOptions.delApiKey(parser);
         DatashareCliOptions.getApiKey(parser);
         DatashareCliOptions.sessionTtlSeconds(parser);
+        DatashareCliOptions.searchProxyCacheTtl(parser);
+        DatashareCliOptions.searchProxyCacheMaxSize(parser);
+        DatashareCliOptions.namedEntitiesUpdateSlices(parser);
+        DatashareCliOptions.namedEntitiesUpdateRequestsPerSecond(parser);
         DatashareCliOptions.protectedUriPrefix(parser);
         DatashareCliOptions.authUsersProvider(parser);
         DatashareCliOptions.oauthSecret(parser);
@@ -57,8 +57,17 @@ public final class DatashareCliOptions {
     public static final String DIGEST_ALGORITHM_OPT = "digestAlgorithm";
     public static final String DIGEST_PROJECT_NAME_OPT = "digestProjectName";
     public static final String ELASTICSEARCH_ADDRESS_OPT = "elasticsearchAddress";
+    public static final String ELASTICSEARCH_COMPRESSION_OPT = "elasticsearchCompression";
+    public static final String ELASTICSEARCH_CONNECT_TIMEOUT_OPT = "elasticsearchConnectTimeout";
     public static final String ELASTICSEARCH_DATA_PATH_OPT = "elasticsearchDataPath";
+    public static final String ELASTICSEARCH_MAX_CONNECTIONS_OPT = "elasticsearchMaxConnections";
+    public static final String ELASTICSEARCH_MAX_CONNECTIONS_PER_ROUTE_OPT = "elasticsearchMaxConnectionsPerRoute";
+    public static final String ELASTICSEARCH_SNIFF_INTERVAL_OPT = "elasticsearchSniffInterval";
+    public static final String ELASTICSEARCH_SNIFF_OPT = "elasticsearchSniff";
+    public static final String ELASTICSEARCH_SOCKET_TIMEOUT_OPT = "elasticsearchSocketTimeout";
+    public static final String ELASTICSEARCH_UPDATE_BY_QUERY_TIMEOUT_OPT = "elasticsearchUpdateByQueryTimeout";
     public static final String EMBEDDED_DOCUMENT_DOWNLOAD_MAX_SIZE_OPT = "embeddedDocumentDownloadMaxSize";
+    public static final String EXPECTED_CORPUS_SIZE_OPT = "expectedCorpusSize";
     public static final String EXTENSIONS_DIR_OPT = "extensionsDir";
     public static final String EXTENSION_DELETE_OPT = "extensionDelete";
     public static final String EXTENSION_INSTALL_OPT = "extensionInstall";
@@ -68,6 +77,8 @@ public final class DatashareCliOptions {
     public static final String GET_API_KEY_OPT = "apiKey";
     public static final String HELP_ABBR_OPT = "h";
     public static final String HELP_OPT = "help";
+    public static final String INGEST_PROFILE_OPT = "ingestProfile";
+    public static final String INGEST_TRANSLOG_FLUSH_THRESHOLD_OPT = "ingestTranslogFlushThreshold";
     public static final String LANGUAGE_ABBR_OPT = "l";
     public static final String LANGUAGE_OPT = "language";
     public static final String LOG_LEVEL_OPT = "logLevel";
@@ -75,10 +86,18 @@ public final class DatashareCliOptions {
     public static final String MESSAGE_BUS_OPT = "messageBusAddress";
     public static final String MODE_ABBR_OPT = "m";
     public static final String MODE_OPT = "mode";
+    public static final String NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND_OPT = "namedEntitiesUpdateRequestsPerSecond";
+    public static final String NAMED_ENTITIES_UPDATE_SLICES_OPT = "namedEntitiesUpdateSlices";
+    public static final String NLP_CACHE_DIR_OPT = "nlpCacheDir";
+    public static final String NLP_CACHE_MAX_SIZE_OPT = "nlpCacheMaxSize";
+    public static final String NLP_MODELS_BUNDLE_OPT = "nlpModelsBundle";
+    public static final String NLP_MODELS_IDLE_TIMEOUT_OPT = "nlpModelsIdleTimeout";
     public static final String NLP_PARALLELISM_ABBR_OPT = "np";
     public static final String NLP_PARALLELISM_OPT = "nlpParallelism";
     public static final String NLP_PIPELINE_ABBR_OPT = "nlpp";
     public static final String NLP_PIPELINE_OPT = "nlpPipeline";
+    public static final String NLP_PRELOAD_LANGUAGES_OPT = "nlpPreloadLanguages";
+    public static final String NLP_REPROCESS_OUTDATED_OPT = "nlpReprocessOutdated";
     public static final String NO_DIGEST_PROJECT_OPT = "noDigestProject";
     public static final String OAUTH_API_URL_OPT = "oauthApiUrl";
     public static final String OAUTH_AUTHORIZE_URL_OPT = "oauthAuthorizeUrl";
@@ -100,7 +119,10 @@ public final class DatashareCliOptions {
     public static final String PLUGIN_LIST_OPT = "pluginList";
     public static final String PORT_OPT = "port";
     public static final String PROTECTED_URI_PREFIX_OPT = "protectedUriPrefix";
+    public static final String QUEUE_BATCH_SIZE_OPT = "queueBatchSize";
+    public static final String QUEUE_MEMORY_CAPACITY_OPT = "queueMemoryCapacity";
     public static final String QUEUE_NAME_OPT = "queueName";
+    public static final String QUEUE_SPILL_DIR_OPT = "queueSpillDir";
     public static final String QUEUE_TYPE_OPT = "queueType";
     public static final String REDIS_ADDRESS_OPT = "redisAddress";
     public static final String REDIS_POOL_SIZE_OPT = "redisPoolSize";
@@ -111,17 +133,24 @@ public final class DatashareCliOptions {
     public static final String SCROLL_DURATION_OPT = "scroll";
     public static final String SCROLL_SIZE_OPT = "scrollSize";
     public static final String SCROLL_SLICES_OPT = "scrollSlices";
+    public static final String SEARCH_PROXY_CACHE_MAX_SIZE_OPT = "searchProxyCacheMaxSize";
+    public static final String SEARCH_PROXY_CACHE_TTL_OPT = "searchProxyCacheTtl";
     public static final String SESSION_STORE_TYPE_OPT = "sessionStoreType";
     public static final String SESSION_TTL_SECONDS_OPT = "sessionTtlSeconds";
     public static final String SETTINGS_OPT = "settings";
     public static final String SETTING_ABBR_OPT = "s";
     public static final String SMTP_URL_OPT = "smtpUrl";
+    public static final String TASK_WORKERS_LIMITS_OPT = "taskWorkersLimits";
+    public static final String TASK_WORKERS_OPT = "taskWorkers";
     public static final String TCP_LISTEN_PORT_OPT = "tcpListenPort";
     public static final String VERSION_ABBR_OPT = "v";
     public static final String VERSION_OPT = "version";
 
     private static final Path DEFAULT_DATASHARE_HOME = Paths.get(System.getProperty("user.home"), ".local/share/datashare");
-    private static final Integer DEFAULT_NLP_PARALLELISM = 1;
+    public static final Integer DEFAULT_NLP_PARALLELISM = 1;
+    public static final Integer DEFAULT_NLP_MODELS_IDLE_TIMEOUT = 30;
+    public static final Boolean DEFAULT_NLP_REPROCESS_OUTDATED = false;
+    public static final String DEFAULT_NLP_CACHE_MAX_SIZE = "1G";
     private static final Integer DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors() == 1 ? 2 : Runtime.getRuntime().availableProcessors();
     private static final Integer DEFAULT_PARSER_PARALLELISM = 1;
     public static final DigestAlgorithm DEFAULT_DIGEST_METHOD = DigestAlgorithm.SHA_384;
@@ -154,16 +183,26 @@ public final class DatashareCliOptions {
     public static final String DEFAULT_USER = "local";
     public static final boolean DEFAULT_BROWSER_OPEN_LINK = false;
     public static final boolean DEFAULT_NO_DIGEST_PROJECT = false;
+    public static final boolean DEFAULT_INGEST_PROFILE = false;
+    public static final boolean DEFAULT_ELASTICSEARCH_COMPRESSION = false;
+    public static final boolean DEFAULT_ELASTICSEARCH_SNIFF = false;
     public static final boolean DEFAULT_OCR = true;
     public static final int DEFAULT_BATCH_DOWNLOAD_MAX_NB_FILES = 10000;
     public static final int DEFAULT_BATCH_DOWNLOAD_ZIP_TTL = 24;
     public static final String DEFAULT_PLUGIN_DIR = DEFAULT_DATASHARE_HOME.resolve("plugins").toString();
     public static final int DEFAULT_REDIS_POOL_SIZE = 5;
     public static final String DEFAULT_SCROLL_DURATION = "60000ms";
+    public static final int DEFAULT_QUEUE_BATCH_SIZE = 100;
+    public static final int DEFAULT_QUEUE_MEMORY_CAPACITY = (int) 1e6;
     public static final int DEFAULT_SCROLL_SIZE = 1000;
     public static final int DEFAULT_SCROLL_SLICES = 1;
     public static final int DEFAULT_TCP_LISTEN_PORT = 8080;
     public static final int DEFAULT_SESSION_TTL_SECONDS = 43200;
+    public static final int DEFAULT_TASK_WORKERS = 1;
+    public static final int DEFAULT_SEARCH_PROXY_CACHE_TTL = 0;
+    public static final String DEFAULT_SEARCH_PROXY_CACHE_MAX_SIZE = "50M";
+    public static final int DEFAULT_NAMED_ENTITIES_UPDATE_SLICES = 0;
+    public static final float DEFAULT_NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND = -1;
     public static final String DEFAULT_MAX_CONTENT_LENGTH = "20000000";
 
     // A list of aliases for retro-compatibility when an option changed
@@ -398,6 +437,57 @@ public final class DatashareCliOptions {
                 .defaultsTo(DEFAULT_NLP_PARALLELISM);
     }
 
+    static void nlpCacheDir(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NLP_CACHE_DIR_OPT),
+                "Directory where the named entities found for a document content are stored, to be reused for the documents with the same content. No cache if not set.")
+                .withRequiredArg()
+                .ofType(String.class);
+    }
+
+    static void nlpCacheMaxSize(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NLP_CACHE_MAX_SIZE_OPT), "Maximum size of the named entities cache directory. The oldest entries " +
+                        "are deleted when it is exceeded. Human readable suffix K/M/G for KB/MB/GB (Default 1G)")
+                .withRequiredArg()
+                .withValuesConvertedBy(regex("[0-9]+[KMG]?"))
+                .defaultsTo(DEFAULT_NLP_CACHE_MAX_SIZE);
+    }
+
+    static void nlpReprocessOutdated(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NLP_REPROCESS_OUTDATED_OPT),
+                "When resuming NLP, also enqueue the documents processed with another version of the pipeline (models version or options). Documents processed before versions were recorded are not enqueued again.")
+                .withRequiredArg()
+                .ofType(Boolean.class)
+                .defaultsTo(DEFAULT_NLP_REPROCESS_OUTDATED);
+    }
+
+    static void nlpModelsBundle(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NLP_MODELS_BUNDLE_OPT),
+                "Local directory of NLP models (same layout as the downloaded models, with a SHA256SUMS file per language). Models are verified and loaded from it instead of being downloaded.")
+                .withRequiredArg()
+                .ofType(String.class);
+    }
+
+    static void nlpModelsIdleTimeout(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NLP_MODELS_IDLE_TIMEOUT_OPT),
+                "Time in minutes after which the NLP models of a language that is not used anymore are unloaded (when NLP caching is disabled).")
+                .withRequiredArg()
+                .ofType( Integer.class )
+                .defaultsTo(DEFAULT_NLP_MODELS_IDLE_TIMEOUT);
+    }
+
+    static void nlpPreloadLanguages(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NLP_PRELOAD_LANGUAGES_OPT),
+                "Comma separated list of languages (ex: ENGLISH,FRENCH) whose NLP models are loaded in background when the pipeline starts.")
+                .withRequiredArg()
+                .ofType(String.class);
+    }
+
     public static void batchSearchMaxTime(OptionParser parser) {
          parser.acceptsAll(
                  singletonList(BATCH_SEARCH_MAX_TIME_OPT), "Max time for batch search in seconds")
@@ -486,6 +576,8 @@ public final class DatashareCliOptions {
     public static void reportName(OptionParser parser) {
         parser.acceptsAll(
                 singletonList(REPORT_NAME_OPT), "name of the map for the report map (where index results are stored). " +
+                        "It is also the checkpoint of the index task: extracted files are skipped, the files being extracted " +
+                        "when a task stopped are extracted again and the ones that crashed the task twice are quarantined. " +
                         "No report records are saved if not provided")
                 .withRequiredArg()
                 .ofType(String.class);
@@ -545,12 +637,71 @@ public final class DatashareCliOptions {
 
     static void esHost(OptionParser parser) {
         parser.acceptsAll(
-                singletonList(ELASTICSEARCH_ADDRESS_OPT), "Elasticsearch host address")
+                singletonList(ELASTICSEARCH_ADDRESS_OPT), "Elasticsearch host address. Several comma separated addresses " +
+                        "can be given for a cluster (ex: http://es1:9200,http://es2:9200)")
                 .withRequiredArg()
                 .ofType(String.class)
                 .defaultsTo(DEFAULT_ELASTICSEARCH_ADDRESS);
     }
 
+    static void esSniff(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_SNIFF_OPT), "Discover the Elasticsearch cluster nodes and send requests to all of them")
+                .withRequiredArg()
+                .ofType(Boolean.class)
+                .defaultsTo(DEFAULT_ELASTICSEARCH_SNIFF);
+    }
+
+    static void esSniffInterval(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_SNIFF_INTERVAL_OPT), "Interval in milliseconds between two Elasticsearch nodes discoveries (Default 300000)")
+                .withRequiredArg()
+                .ofType(Integer.class);
+    }
+
+    static void esCompression(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_COMPRESSION_OPT), "Gzip compress the requests bodies sent to Elasticsearch")
+                .withRequiredArg()
+                .ofType(Boolean.class)
+                .defaultsTo(DEFAULT_ELASTICSEARCH_COMPRESSION);
+    }
+
+    static void esMaxConnections(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_MAX_CONNECTIONS_OPT), "Maximum number of connections to Elasticsearch (Default 30)")
+                .withRequiredArg()
+                .ofType(Integer.class);
+    }
+
+    static void esMaxConnectionsPerRoute(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_MAX_CONNECTIONS_PER_ROUTE_OPT), "Maximum number of connections to each Elasticsearch node (Default 10)")
+                .withRequiredArg()
+                .ofType(Integer.class);
+    }
+
+    static void esConnectTimeout(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_CONNECT_TIMEOUT_OPT), "Elasticsearch connection timeout in milliseconds (Default 5000)")
+                .withRequiredArg()
+                .ofType(Integer.class);
+    }
+
+    static void esSocketTimeout(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_SOCKET_TIMEOUT_OPT), "Elasticsearch socket timeout in milliseconds (Default 60000)")
+                .withRequiredArg()
+                .ofType(Integer.class);
+    }
+
+    static void esUpdateByQueryTimeout(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(ELASTICSEARCH_UPDATE_BY_QUERY_TIMEOUT_OPT), "Elasticsearch socket timeout in milliseconds for long update by query requests (Default 3600000)")
+                .withRequiredArg()
+                .ofType(Integer.class);
+    }
+
     static void dataSourceUrl(OptionParser parser) {
         parser.acceptsAll(
                 singletonList(DATA_SOURCE_URL_OPT), "Datasource URL. For using memory you can use 'jdbc:sqlite:file:memorydb.db?mode=memory&cache=shared'")
@@ -583,6 +734,31 @@ public final class DatashareCliOptions {
                 .defaultsTo(DEFAULT_QUEUE_NAME);
     }
 
+    static void queueBatchSize(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(QUEUE_BATCH_SIZE_OPT), "Maximum number of elements read at once from the pipeline queues")
+                .withRequiredArg()
+                .ofType(Integer.class)
+                .defaultsTo(DEFAULT_QUEUE_BATCH_SIZE);
+    }
+
+    static void queueMemoryCapacity(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(QUEUE_MEMORY_CAPACITY_OPT), "Maximum number of elements kept in memory by each memory queue, " +
+                        "the next ones are written to disk in queueSpillDir")
+                .withRequiredArg()
+                .ofType(Integer.class)
+                .defaultsTo(DEFAULT_QUEUE_MEMORY_CAPACITY);
+    }
+
+    static void queueSpillDir(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(QUEUE_SPILL_DIR_OPT), "Directory where the memory queues write the elements that don't fit in memory " +
+                        "(default: java temporary directory)")
+                .withRequiredArg()
+                .ofType(String.class);
+    }
+
     static OptionSpec<Void> help(OptionParser parser) {
         return parser.acceptsAll(asList(HELP_OPT, HELP_ABBR_OPT, "?")).forHelp();
     }
@@ -692,6 +868,22 @@ public final class DatashareCliOptions {
                 .ofType(URI.class);
     }
 
+    public static void taskWorkers(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(TASK_WORKERS_OPT), "Number of tasks run concurrently by a TASK_WORKER process")
+                .withRequiredArg()
+                .ofType(Integer.class)
+                .defaultsTo(DEFAULT_TASK_WORKERS);
+    }
+
+    public static void taskWorkersLimits(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(TASK_WORKERS_LIMITS_OPT), "Maximum number of concurrent tasks by task type for a TASK_WORKER process " +
+                        "(ex: BatchSearchRunner=8,BatchDownloadRunner=2)")
+                .withRequiredArg()
+                .ofType(String.class);
+    }
+
     public static void embeddedDocumentDownloadMaxSize(OptionParser parser) {
         parser.acceptsAll(
                 singletonList(EMBEDDED_DOCUMENT_DOWNLOAD_MAX_SIZE_OPT), "Maximum download size of embedded documents. Human readable suffix K/M/G for KB/MB/GB (Default 1G)")
@@ -726,6 +918,66 @@ public final class DatashareCliOptions {
                 .withValuesConvertedBy(regex("[0-9]+[KMG]?"));
     }
 
+    public static void expectedCorpusSize(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(EXPECTED_CORPUS_SIZE_OPT), "Expected size of the corpus, used to choose the number of shards " +
+                        "when the index is created by the INDEX stage. Human readable suffix K/M/G for KB/MB/GB")
+                .withRequiredArg()
+                .withValuesConvertedBy(regex("[0-9]+[KMG]?"));
+    }
+
+    public static void ingestProfile(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(INGEST_PROFILE_OPT), "Disable index refresh and replicas while the INDEX stage is running. " +
+                        "Original index settings are restored when the stage is over.")
+                .withRequiredArg()
+                .ofType(Boolean.class)
+                .defaultsTo(DEFAULT_INGEST_PROFILE);
+    }
+
+    public static void ingestTranslogFlushThreshold(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(INGEST_TRANSLOG_FLUSH_THRESHOLD_OPT), "Translog flush threshold size used with the ingest profile (ex: 1gb)")
+                .withRequiredArg()
+                .ofType(String.class);
+    }
+
+    public static void searchProxyCacheTtl(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(SEARCH_PROXY_CACHE_TTL_OPT), "Time to live in seconds of the cached _search and _count responses " +
+                        "of the elasticsearch proxy (Default 0: no cache)")
+                .withRequiredArg()
+                .ofType(Integer.class)
+                .defaultsTo(DEFAULT_SEARCH_PROXY_CACHE_TTL);
+    }
+
+    public static void searchProxyCacheMaxSize(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(SEARCH_PROXY_CACHE_MAX_SIZE_OPT), "Maximum size of the elasticsearch proxy response cache. " +
+                        "Human readable suffix K/M/G for KB/MB/GB (Default 50M)")
+                .withRequiredArg()
+                .withValuesConvertedBy(regex("[0-9]+[KMG]?"))
+                .defaultsTo(DEFAULT_SEARCH_PROXY_CACHE_MAX_SIZE);
+    }
+
+    public static void namedEntitiesUpdateSlices(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NAMED_ENTITIES_UPDATE_SLICES_OPT), "Number of slices of the elasticsearch update by query " +
+                        "used to hide/unhide named entities (Default 0: automatic)")
+                .withRequiredArg()
+                .ofType(Integer.class)
+                .defaultsTo(DEFAULT_NAMED_ENTITIES_UPDATE_SLICES);
+    }
+
+    public static void namedEntitiesUpdateRequestsPerSecond(OptionParser parser) {
+        parser.acceptsAll(
+                singletonList(NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND_OPT), "Throttle in documents per second of the elasticsearch " +
+                        "update by query used to hide/unhide named entities (Default -1: no throttle)")
+                .withRequiredArg()
+                .ofType(Float.class)
+                .defaultsTo(DEFAULT_NAMED_ENTITIES_UPDATE_REQUESTS_PER_SECOND);
+    }
+
     public static void sessionStoreType(OptionParser parser) {
         parser.acceptsAll(
                 singletonList(SESSION_STORE_TYPE_OPT), "Type of session store")
@@ -20,6 +20,7 @@ import org.icij.datashare.text.Document;
 import org.icij.datashare.text.DocumentBuilder;
 import org.icij.datashare.text.Language;
 import org.icij.datashare.text.NamedEntity;
+import org.icij.datashare.text.Offsets;
 import org.icij.datashare.text.Project;
 import org.icij.datashare.text.ProjectProxy;
 import org.icij.datashare.text.Tag;
@@ -677,7 +678,7 @@ public class JooqRepository implements Repository {
     private NamedEntity createFrom(NamedEntityRecord record) {
         try {
             return NamedEntity.create(NamedEntity.Category.parse(record.getCategory()),
-                    record.getMention(), MAPPER.readValue(record.getOffsets(), List.class),
+                    record.getMention(), MAPPER.readValue(record.getOffsets(), Offsets.class),
                     record.getDocId(), record.getRootId(), Pipeline.Type.fromCode(record.getExtractor()),
                     Language.parse(record.getExtractorLanguage()));
         } catch (IOException e) {
@@ -0,0 +1,56 @@
+package org.icij.datashare.extract;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue that can remove several elements in one operation (one round trip for redis).
+ * Pipeline stages stop at the poison pill, so elements queued after it are left in the queue.
+ */
+public interface BatchQueue<T> {
+    /**
+     * removes at most maxElements from the head of the queue without waiting.
+     * If the poison is found, it is the last element of the returned list.
+     */
+    List<T> pollBatch(int maxElements, T poison);
+
+    /**
+     * waits at most timeout for the first element and returns it with the next available ones
+     * (at most maxElements, stopping after the poison).
+     *
+     * @return the elements, empty if the timeout has elapsed
+     */
+    static <T> List<T> poll(BlockingQueue<T> queue, int maxElements, T poison, long timeout, TimeUnit unit) throws InterruptedException {
+        List<T> batch = pollAvailable(queue, maxElements, poison);
+        if (batch.isEmpty()) {
+            T first = queue.poll(timeout, unit);
+            if (first != null) {
+                batch.add(first);
+                if (!poison.equals(first)) {
+                    batch.addAll(pollAvailable(queue, maxElements - 1, poison));
+                }
+            }
+        }
+        return batch;
+    }
+
+    private static <T> List<T> pollAvailable(BlockingQueue<T> queue, int maxElements, T poison) {
+        if (maxElements <= 0) {
+            return new ArrayList<>();
+        }
+        if (queue instanceof BatchQueue) {
+            return new ArrayList<>(((BatchQueue<T>) queue).pollBatch(maxElements, poison));
+        }
+        List<T> batch = new ArrayList<>();
+        T element;
+        while (batch.size() < maxElements && (element = queue.poll()) != null) {
+            batch.add(element);
+            if (poison.equals(element)) {
+                break;
+            }
+        }
+        return batch;
+    }
+}
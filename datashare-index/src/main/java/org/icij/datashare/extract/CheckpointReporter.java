@@ -0,0 +1,130 @@
+package org.icij.datashare.extract;
+
+import org.icij.extract.extractor.Extractor;
+import org.icij.extract.report.Report;
+import org.icij.extract.report.ReportMap;
+import org.icij.extract.report.Reporter;
+import org.icij.spewer.Spewer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.icij.extract.extractor.ExtractionStatus.FAILURE_UNKNOWN;
+
+/**
+ * Reporter that checkpoints the extraction in the queue backend, so that an interrupted index task can resume.
+ *
+ * <p>Besides the report map (the paths already extracted, that are skipped), it keeps three maps:</p>
+ * <ul>
+ *     <li><code>&lt;report&gt;:inflight:&lt;task&gt;</code> the paths that are being extracted by the task. They are removed
+ *     when their report is saved, so after a crash it contains the paths that were lost with the worker</li>
+ *     <li><code>&lt;report&gt;:recovering:&lt;task&gt;</code> the path extracted again after a crash</li>
+ *     <li><code>&lt;report&gt;:quarantine</code> the paths that crashed the worker twice. They are not extracted anymore.</li>
+ * </ul>
+ *
+ * {@link #recover(Extractor, Spewer)} must be called before draining the queue. The inflight and recovering maps
+ * are keyed by task id, so several tasks can share the same report map: a task that is run again (with the same id)
+ * only recovers its own paths, not the ones being extracted by the other tasks.
+ *
+ * <p>If the inflight map is a {@link PipelinedReportMap}, the inflight writes are sent without waiting for the
+ * backend reply.</p>
+ */
+public class CheckpointReporter extends Reporter {
+    private static final Logger logger = LoggerFactory.getLogger(CheckpointReporter.class);
+    private final ReportMap inflight;
+    private final ReportMap recovering;
+    private final ReportMap quarantine;
+    private final Set<Path> quarantined = ConcurrentHashMap.newKeySet();
+    private final Map<Path, CompletionStage<Boolean>> pendingInflight = new ConcurrentHashMap<>();
+    private volatile boolean isRecovering = false;
+
+    public CheckpointReporter(DocumentCollectionFactory<?> factory, String reportName, String taskId) {
+        this(factory.createMap(reportName), factory.createMap(reportName + ":inflight:" + taskId),
+                factory.createMap(reportName + ":recovering:" + taskId), factory.createMap(reportName + ":quarantine"));
+    }
+
+    CheckpointReporter(ReportMap reportMap, ReportMap inflight, ReportMap recovering, ReportMap quarantine) {
+        super(reportMap);
+        this.inflight = inflight;
+        this.recovering = recovering;
+        this.quarantine = quarantine;
+    }
+
+    /**
+     * Quarantines the path that was extracted again when the worker crashed, then extracts again one by one
+     * the paths that were being extracted when the worker crashed.
+     * One path at a time is in the recovering map, so if it crashes the worker again it is the one quarantined.
+     *
+     * @return the number of paths extracted again
+     */
+    public int recover(Extractor extractor, Spewer spewer) {
+        for (Path path : new ArrayList<>(recovering.keySet())) {
+            logger.warn("quarantining {}: the worker crashed twice while extracting it", path);
+            quarantine.fastPut(path, new Report(FAILURE_UNKNOWN));
+            recovering.remove(path);
+        }
+        quarantined.addAll(quarantine.keySet());
+        int nbRecovered = 0;
+        isRecovering = true;
+        try {
+            for (Path path : new ArrayList<>(inflight.keySet())) {
+                logger.info("extracting {} again, it was being extracted when the worker stopped", path);
+                recovering.fastPut(path, new Report(FAILURE_UNKNOWN));
+                inflight.remove(path);
+                extractor.extract(path, spewer, this);
+                recovering.remove(path);
+                nbRecovered++;
+            }
+        } finally {
+            isRecovering = false;
+        }
+        return nbRecovered;
+    }
+
+    @Override
+    public boolean skip(Path path) {
+        if (quarantined.contains(path)) {
+            logger.warn("skipping quarantined {}", path);
+            return true;
+        }
+        if (super.skip(path)) {
+            return true;
+        }
+        if (!isRecovering) {
+            if (inflight instanceof PipelinedReportMap) {
+                pendingInflight.put(path, ((PipelinedReportMap) inflight).fastPutAsync(path, new Report(FAILURE_UNKNOWN)));
+            } else {
+                inflight.fastPut(path, new Report(FAILURE_UNKNOWN));
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void save(Path path, Report report) {
+        super.save(path, report);
+        if (inflight instanceof PipelinedReportMap) {
+            PipelinedReportMap pipelinedInflight = (PipelinedReportMap) inflight;
+            CompletionStage<Boolean> put = pendingInflight.remove(path);
+            CompletionStage<Long> removal = put == null ? pipelinedInflight.fastRemoveAsync(path) :
+                    put.thenCompose(added -> pipelinedInflight.fastRemoveAsync(path));
+            removal.whenComplete((removed, error) -> {
+                if (error != null) {
+                    logger.warn("cannot remove {} from inflight paths", path, error);
+                }
+            });
+        } else {
+            inflight.remove(path);
+        }
+    }
+
+    public boolean isQuarantined(Path path) {
+        return quarantined.contains(path) || quarantine.containsKey(path);
+    }
+}
@@ -1,30 +1,50 @@
 package org.icij.datashare.extract;
 
 import com.google.inject.Singleton;
+import org.icij.datashare.PropertiesProvider;
 import org.icij.extract.queue.DocumentQueue;
 import org.icij.extract.queue.MemoryDocumentQueue;
 import org.icij.extract.report.HashMapReportMap;
 import org.icij.extract.report.ReportMap;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import static java.lang.Integer.parseInt;
 import static org.apache.commons.io.FilenameUtils.wildcardMatch;
+import static org.icij.datashare.cli.DatashareCliOptions.DEFAULT_QUEUE_MEMORY_CAPACITY;
+import static org.icij.datashare.cli.DatashareCliOptions.QUEUE_MEMORY_CAPACITY_OPT;
+import static org.icij.datashare.cli.DatashareCliOptions.QUEUE_SPILL_DIR_OPT;
 
 @Singleton
 public class MemoryDocumentCollectionFactory<T> implements DocumentCollectionFactory<T> {
     public final Map<String, DocumentQueue<T>> queues = new ConcurrentHashMap<>();
     final Map<String, ReportMap> maps = new ConcurrentHashMap<>();
-    // The size of the internal file path buffer used by the queue
+    // The number of elements kept in memory by each queue, the others are spilled to disk
+    final int queueMemoryCapacity;
+    final Path queueSpillDir;
+    // The size of the internal buffer used by the queues that cannot be spilled
     final int QUEUE_CAPACITY = (int) 1e6;
 
+    public MemoryDocumentCollectionFactory() {
+        this(new PropertiesProvider());
+    }
+
+    public MemoryDocumentCollectionFactory(PropertiesProvider propertiesProvider) {
+        this.queueMemoryCapacity = parseInt(propertiesProvider.get(QUEUE_MEMORY_CAPACITY_OPT).orElse(String.valueOf(DEFAULT_QUEUE_MEMORY_CAPACITY)));
+        this.queueSpillDir = Path.of(propertiesProvider.get(QUEUE_SPILL_DIR_OPT).orElse(System.getProperty("java.io.tmpdir")));
+    }
+
     @Override
     public DocumentQueue<T> createQueue(String queueName, Class<T> clazz) {
         if (!queues.containsKey(queueName)) {
             synchronized (queues) {
-                queues.put(queueName, new MemoryDocumentQueue<>(queueName, QUEUE_CAPACITY));
+                queues.putIfAbsent(queueName, SpillingDocumentQueue.isSupported(clazz) ?
+                        new SpillingDocumentQueue<>(queueName, clazz, queueMemoryCapacity, queueSpillDir) :
+                        new MemoryDocumentQueue<>(queueName, QUEUE_CAPACITY));
             }
         }
         return queues.get(queueName);
@@ -0,0 +1,17 @@
+package org.icij.datashare.extract;
+
+import org.icij.extract.report.Report;
+import org.icij.extract.report.ReportMap;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Report map that can send its writes without waiting for the reply of the backend,
+ * so that several writes are pipelined on the same connection.
+ */
+public interface PipelinedReportMap extends ReportMap {
+    CompletionStage<Boolean> fastPutAsync(Path key, Report value);
+
+    CompletionStage<Long> fastRemoveAsync(Path... keys);
+}
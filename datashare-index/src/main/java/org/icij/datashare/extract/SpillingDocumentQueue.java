@@ -0,0 +1,677 @@
+package org.icij.datashare.extract;
+
+import org.icij.extract.queue.DocumentQueue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Unbounded {@link DocumentQueue} for the memory mode.
+ *
+ * At most memoryCapacity elements are kept in memory (the head of the queue). When it is full, the following
+ * elements are appended to segment files in spillDir and read back when the head has been consumed.
+ *
+ * Elements are stored in segments with front coding: the length of the prefix shared with the previous
+ * element followed by the remaining suffix. Paths of the same directory only take a few bytes each.
+ *
+ * Segments are append only: a spilled element removed with {@link #remove(Object)} is kept in a tombstone
+ * count and skipped when it is read back, and {@link #removeDuplicates()} only rewrites the segments
+ * that have duplicates.
+ *
+ * Only String and Path elements are supported, as they are read back from their string value.
+ */
+public class SpillingDocumentQueue<T> extends AbstractQueue<T> implements DocumentQueue<T> {
+    static final int SEGMENT_MAX_ELEMENTS = 1_000_000;
+    private final String name;
+    private final int memoryCapacity;
+    private final int segmentMaxElements;
+    private final Path spillDir;
+    private final Function<String, T> decoder;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private Deque<T> head = new ArrayDeque<>();
+    private Deque<Segment> segments = new ArrayDeque<>(); // oldest first
+    private long spilledSize = 0;
+    // number of next occurrences of spilled elements to skip, in reading order
+    private final Map<String, Integer> tombstones = new HashMap<>();
+    private Path queueDir;
+
+    public SpillingDocumentQueue(String name, Class<T> clazz, int memoryCapacity, Path spillDir) {
+        this(name, clazz, memoryCapacity, spillDir, SEGMENT_MAX_ELEMENTS);
+    }
+
+    SpillingDocumentQueue(String name, Class<T> clazz, int memoryCapacity, Path spillDir, int segmentMaxElements) {
+        this.name = name;
+        this.memoryCapacity = memoryCapacity;
+        this.spillDir = spillDir;
+        this.segmentMaxElements = segmentMaxElements;
+        if (!isSupported(clazz)) {
+            throw new IllegalArgumentException("cannot spill elements of type " + clazz.getName() + " (only String and Path are supported)");
+        }
+        this.decoder = clazz == Path.class ? s -> clazz.cast(Path.of(s)) : clazz::cast;
+    }
+
+    public static boolean isSupported(Class<?> clazz) {
+        return clazz == String.class || clazz == Path.class;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        requireNonNull(element);
+        lock.lock();
+        try {
+            add(head, segments, element);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(T element) {
+        offer(element);
+    }
+
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) {
+        return offer(element);
+    }
+
+    @Override
+    public T poll() {
+        lock.lock();
+        try {
+            return pollHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (isEmptyLocked()) {
+                notEmpty.await();
+            }
+            return pollHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (isEmptyLocked()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return pollHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T peek() {
+        lock.lock();
+        try {
+            fillHeadIfEmpty();
+            return head.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> collection, int maxElements) {
+        lock.lock();
+        try {
+            int drained = 0;
+            T element;
+            while (drained < maxElements && (element = pollHead()) != null) {
+                collection.add(element);
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, head.size() + spilledSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * weakly consistent iterator: elements added after its creation may not be returned.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        lock.lock();
+        try {
+            List<T> headSnapshot = new ArrayList<>(head);
+            List<Iterator<String>> segmentIterators = new ArrayList<>();
+            for (Segment segment : segments) {
+                segmentIterators.add(segment.iterator());
+            }
+            Map<String, Integer> skipped = new HashMap<>(tombstones);
+            return new Iterator<>() {
+                final Iterator<T> headIterator = headSnapshot.iterator();
+                final Iterator<Iterator<String>> segmentsIterator = segmentIterators.iterator();
+                Iterator<String> current = null;
+                String next = null;
+
+                @Override
+                public boolean hasNext() {
+                    if (headIterator.hasNext() || next != null) {
+                        return true;
+                    }
+                    while (next == null) {
+                        while ((current == null || !current.hasNext()) && segmentsIterator.hasNext()) {
+                            current = segmentsIterator.next();
+                        }
+                        if (current == null || !current.hasNext()) {
+                            return false;
+                        }
+                        String value = current.next();
+                        if (!consume(skipped, value)) {
+                            next = value;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    if (headIterator.hasNext()) {
+                        return headIterator.next();
+                    }
+                    T element = decoder.apply(next);
+                    next = null;
+                    return element;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes the first occurrence of o. If it has been spilled, the segments are read until it is found
+     * and it is skipped when read back, instead of rewriting the segments.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            if (head.remove(o)) {
+                return true;
+            }
+            Map<String, Integer> skipped = new HashMap<>(tombstones);
+            for (Segment segment : segments) {
+                String[] found = {null};
+                segment.scan(value -> {
+                    if (!consume(skipped, value) && decoder.apply(value).equals(o)) {
+                        found[0] = value;
+                        return false;
+                    }
+                    return true;
+                });
+                if (found[0] != null) {
+                    tombstones.merge(found[0], 1, Integer::sum);
+                    spilledSize--;
+                    releaseSegmentsIfEmpty();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * removes the next occurrences of the elements, keeping the first one. The segments are read a first time
+     * to find the ones with duplicates, and only those are rewritten.
+     */
+    @Override
+    public int removeDuplicates() {
+        lock.lock();
+        try {
+            int removed = 0;
+            Set<String> seen = new HashSet<>();
+            for (Iterator<T> iterator = head.iterator(); iterator.hasNext(); ) {
+                if (!seen.add(iterator.next().toString())) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            Set<Segment> withDuplicates = segmentsWithDuplicates(new HashSet<>(seen));
+            if (withDuplicates.isEmpty()) {
+                return removed;
+            }
+            Map<String, Integer> skipped = new HashMap<>(tombstones);
+            Deque<Segment> newSegments = new ArrayDeque<>();
+            for (Segment segment : segments) {
+                if (!withDuplicates.contains(segment)) {
+                    segment.scan(value -> {
+                        if (!consume(skipped, value)) seen.add(value);
+                        return true;
+                    });
+                    newSegments.add(segment);
+                    continue;
+                }
+                Segment rewritten = new Segment(createSegmentFile());
+                int[] nbDuplicates = {0};
+                segment.scan(value -> {
+                    if (consume(skipped, value)) {
+                        consume(tombstones, value); // the removed element is dropped with the segment
+                    } else if (seen.add(value)) {
+                        rewritten.write(value);
+                    } else {
+                        nbDuplicates[0]++;
+                    }
+                    return true;
+                });
+                segment.delete();
+                newSegments.add(rewritten);
+                removed += nbDuplicates[0];
+                spilledSize -= nbDuplicates[0];
+            }
+            newSegments.forEach(segment -> {
+                if (segment != newSegments.peekLast()) segment.closeWriter();
+            });
+            segments = newSegments;
+            releaseSegmentsIfEmpty();
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Set<Segment> segmentsWithDuplicates(Set<String> seen) {
+        Set<Segment> withDuplicates = new HashSet<>();
+        Map<String, Integer> skipped = new HashMap<>(tombstones);
+        for (Segment segment : segments) {
+            segment.scan(value -> {
+                if (!consume(skipped, value) && !seen.add(value)) {
+                    withDuplicates.add(segment);
+                }
+                return true;
+            });
+        }
+        return withDuplicates;
+    }
+
+    @Override
+    public void clear() {
+        delete();
+    }
+
+    @Override
+    public boolean delete() {
+        lock.lock();
+        try {
+            head.clear();
+            segments.forEach(Segment::delete);
+            segments.clear();
+            tombstones.clear();
+            spilledSize = 0;
+            if (queueDir != null) {
+                Files.deleteIfExists(queueDir);
+                queueDir = null;
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            segments.forEach(Segment::flush);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(Deque<T> toHead, Deque<Segment> toSegments, T element) {
+        if (spilledSize == 0 && toHead.size() < memoryCapacity) {
+            toHead.add(element);
+            return;
+        }
+        Segment tail = toSegments.peekLast();
+        if (tail == null || !tail.isWritable() || tail.written >= segmentMaxElements) {
+            if (tail != null) {
+                tail.closeWriter();
+            }
+            tail = new Segment(createSegmentFile());
+            toSegments.addLast(tail);
+        }
+        tail.write(element.toString());
+        spilledSize++;
+    }
+
+    private T pollHead() {
+        fillHeadIfEmpty();
+        return head.poll();
+    }
+
+    private boolean isEmptyLocked() {
+        return head.isEmpty() && spilledSize == 0;
+    }
+
+    private void fillHeadIfEmpty() {
+        while (head.isEmpty() && spilledSize > 0) {
+            Segment segment = segments.peekFirst();
+            segment.closeWriter();
+            while (head.size() < memoryCapacity && segment.remaining() > 0) {
+                String value = segment.read();
+                if (!consume(tombstones, value)) {
+                    head.add(decoder.apply(value));
+                    spilledSize--;
+                }
+            }
+            if (segment.remaining() == 0) {
+                segment.delete();
+                segments.removeFirst();
+            }
+        }
+        releaseSegmentsIfEmpty();
+    }
+
+    /**
+     * when all the spilled elements have been removed, the remaining segments only have skipped elements
+     */
+    private void releaseSegmentsIfEmpty() {
+        if (spilledSize == 0 && !segments.isEmpty()) {
+            segments.forEach(Segment::delete);
+            segments.clear();
+            tombstones.clear();
+        }
+    }
+
+    /**
+     * @return true if value is one of the occurrences to skip
+     */
+    private static boolean consume(Map<String, Integer> skipped, String value) {
+        Integer count = skipped.get(value);
+        if (count == null) {
+            return false;
+        }
+        if (count == 1) {
+            skipped.remove(value);
+        } else {
+            skipped.put(value, count - 1);
+        }
+        return true;
+    }
+
+    private Path createSegmentFile() {
+        try {
+            if (queueDir == null) {
+                Files.createDirectories(spillDir);
+                queueDir = Files.createTempDirectory(spillDir, name.replaceAll("[^a-zA-Z0-9._-]", "_") + "-");
+                queueDir.toFile().deleteOnExit();
+            }
+            Path file = Files.createTempFile(queueDir, "segment-", ".bin");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * append only file of front coded strings. It is read once after its writer has been closed.
+     */
+    private static class Segment {
+        private final Path file;
+        private DataOutputStream writer;
+        private DataInputStream reader;
+        private String lastWritten = "";
+        private String lastRead = "";
+        private int written = 0;
+        private int read = 0;
+
+        Segment(Path file) {
+            this.file = file;
+            try {
+                this.writer = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        boolean isWritable() {
+            return writer != null;
+        }
+
+        int remaining() {
+            return written - read;
+        }
+
+        void write(String value) {
+            try {
+                int prefix = commonPrefixLength(lastWritten, value);
+                byte[] suffix = value.substring(prefix).getBytes(UTF_8);
+                writeVarInt(writer, prefix);
+                writeVarInt(writer, suffix.length);
+                writer.write(suffix);
+                lastWritten = value;
+                written++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        String read() {
+            try {
+                if (reader == null) {
+                    reader = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+                }
+                lastRead = readNext(reader, lastRead);
+                read++;
+                return lastRead;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * reads the elements that have not been read yet, until visitor returns false.
+         */
+        void scan(Predicate<String> visitor) {
+            flush();
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                String last = "";
+                for (int position = 0; position < written; position++) {
+                    last = readNext(input, last);
+                    if (position >= read && !visitor.test(last)) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Iterator<String> iterator() {
+            flush();
+            int start = read;
+            int end = written;
+            return new Iterator<>() {
+                DataInputStream input;
+                String last = "";
+                int position = 0;
+
+                @Override
+                public boolean hasNext() {
+                    if (Math.max(position, start) < end) {
+                        return true;
+                    }
+                    closeQuietly();
+                    return false;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    try {
+                        if (input == null) {
+                            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+                        }
+                        do {
+                            last = readNext(input, last);
+                            position++;
+                        } while (position <= start);
+                        return last;
+                    } catch (IOException e) {
+                        closeQuietly();
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                private void closeQuietly() {
+                    try {
+                        if (input != null) input.close();
+                    } catch (IOException ignored) {
+                        // read only stream
+                    }
+                }
+            };
+        }
+
+        void flush() {
+            try {
+                if (writer != null) writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void closeWriter() {
+            try {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void delete() {
+            try {
+                closeWriter();
+                if (reader != null) reader.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String readNext(DataInputStream input, String previous) throws IOException {
+            int prefix = readVarInt(input);
+            byte[] suffix = new byte[readVarInt(input)];
+            input.readFully(suffix);
+            return previous.substring(0, prefix) + new String(suffix, UTF_8);
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            // do not split a surrogate pair
+            return i > 0 && Character.isHighSurrogate(b.charAt(i - 1)) ? i - 1 : i;
+        }
+
+        private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                output.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            output.writeByte(value);
+        }
+
+        private static int readVarInt(DataInputStream input) throws IOException {
+            int value = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = input.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
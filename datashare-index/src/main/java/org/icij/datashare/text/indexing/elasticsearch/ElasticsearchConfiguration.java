@@ -17,7 +17,11 @@ import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.sniff.ElasticsearchNodesSniffer;
+import org.elasticsearch.client.sniff.SniffOnFailureListener;
+import org.elasticsearch.client.sniff.Sniffer;
 import org.elasticsearch.common.settings.Settings;
+import org.icij.datashare.HumanReadableSize;
 import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.json.JsonObjectMapper;
 import org.slf4j.Logger;
@@ -27,9 +31,14 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.google.common.io.ByteStreams.toByteArray;
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.SystemUtils.IS_OS_WINDOWS;
 import static org.apache.http.HttpHost.create;
@@ -39,6 +48,8 @@ public class ElasticsearchConfiguration {
     static final String SETTINGS_RESOURCE_NAME = "datashare_index_settings.json";
     static final String SETTINGS_RESOURCE_NAME_WINDOWS = "datashare_index_settings_windows.json";
     static final int INDEX_MAX_RESULT_WINDOW = 100000;
+    static final long TARGET_SHARD_SIZE = HumanReadableSize.parse("30G");
+    static final int MAX_SHARDS = 64;
     static Logger LOGGER = LoggerFactory.getLogger(ElasticsearchConfiguration.class);
 
     static protected final int DEFAULT_SEARCH_FROM = 0;
@@ -50,8 +61,27 @@ public class ElasticsearchConfiguration {
     public static final String INDEX_JOIN_FIELD_NAME_PROP = "indexJoinFieldName";
     public static final String INDEX_TYPE_FIELD_NAME_PROP = "indexTypeFieldName";
     public static final String CLUSTER_PROP = "clusterName";
+    public static final String EXPECTED_CORPUS_SIZE_PROP = "expectedCorpusSize";
+    public static final String INDEX_COMPRESSION_PROP = "elasticsearchCompression";
+    public static final String INDEX_CONNECT_TIMEOUT_PROP = "elasticsearchConnectTimeout";
+    public static final String INDEX_MAX_CONNECTIONS_PER_ROUTE_PROP = "elasticsearchMaxConnectionsPerRoute";
+    public static final String INDEX_MAX_CONNECTIONS_PROP = "elasticsearchMaxConnections";
+    public static final String INDEX_SNIFF_INTERVAL_PROP = "elasticsearchSniffInterval";
+    public static final String INDEX_SNIFF_PROP = "elasticsearchSniff";
+    public static final String INDEX_SOCKET_TIMEOUT_PROP = "elasticsearchSocketTimeout";
+    public static final String INDEX_UPDATE_BY_QUERY_TIMEOUT_PROP = "elasticsearchUpdateByQueryTimeout";
+
+    public static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+    public static final String REPLICAS_SETTING = "index.number_of_replicas";
+    public static final String TRANSLOG_FLUSH_THRESHOLD_SETTING = "index.translog.flush_threshold_size";
 
     public static final String DEFAULT_ADDRESS = "http://localhost:9200";
+    public static final int DEFAULT_CONNECT_TIMEOUT_MS = 5000;
+    public static final int DEFAULT_SOCKET_TIMEOUT_MS = 60000;
+    public static final int DEFAULT_UPDATE_BY_QUERY_TIMEOUT_MS = 60 * 60 * 1000;
+    public static final int DEFAULT_MAX_CONNECTIONS = RestClientBuilder.DEFAULT_MAX_CONN_TOTAL;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = RestClientBuilder.DEFAULT_MAX_CONN_PER_ROUTE;
+    public static final int DEFAULT_SNIFF_INTERVAL_MS = 5 * 60 * 1000;
     public static final String ES_CLUSTER_NAME = "datashare";
     static final String  ES_DOCUMENT_TYPE = "Document";
     static final String  ES_DUPLICATE_TYPE = "Duplicate";
@@ -64,6 +94,8 @@ public class ElasticsearchConfiguration {
 
     final String indexJoinField;
     final String docTypeField;
+    final int connectTimeout;
+    final int updateByQueryTimeout;
     Refresh refreshPolicy = Refresh.False;
 
     final int shards = 1;
@@ -72,54 +104,110 @@ public class ElasticsearchConfiguration {
     ElasticsearchConfiguration(PropertiesProvider propertiesProvider) {
         indexJoinField = propertiesProvider.get(INDEX_JOIN_FIELD_NAME_PROP).orElse(DEFAULT_INDEX_JOIN_FIELD);
         docTypeField = propertiesProvider.get(INDEX_TYPE_FIELD_NAME_PROP).orElse(DEFAULT_DOC_TYPE_FIELD);
+        connectTimeout = propertiesProvider.get(INDEX_CONNECT_TIMEOUT_PROP).map(Integer::parseInt).orElse(DEFAULT_CONNECT_TIMEOUT_MS);
+        updateByQueryTimeout = propertiesProvider.get(INDEX_UPDATE_BY_QUERY_TIMEOUT_PROP).map(Integer::parseInt).orElse(DEFAULT_UPDATE_BY_QUERY_TIMEOUT_MS);
     }
 
     public static ElasticsearchClient createESClient(final PropertiesProvider propertiesProvider) {
         System.setProperty("es.set.netty.runtime.available.processors", "false");
-        try {
-            URL indexUrl = new URL(propertiesProvider.get(INDEX_ADDRESS_PROP).orElse(DEFAULT_ADDRESS));
-            HttpHost httpHost = create(format("%s://%s:%d", indexUrl.getProtocol(), indexUrl.getHost(), indexUrl.getPort()));
-
-            RestClientBuilder.HttpClientConfigCallback clientConfigCallback = httpAsyncClientBuilder -> {
-                httpAsyncClientBuilder.disableAuthCaching();
-                httpAsyncClientBuilder.setDefaultHeaders(
-                        singletonList(new BasicHeader("Content-type", "application/json")));
-                httpAsyncClientBuilder.addInterceptorLast((HttpResponseInterceptor)
-                        (response, context) ->
-                                // This header is expected from the client, versions of ES server below 7.14 don't provide it
-                                // i.e : https://www.elastic.co/guide/en/elasticsearch/reference/7.17/release-notes-7.14.0.html
-                                response.addHeader("X-Elastic-Product", "Elasticsearch"));
-                if (indexUrl.getUserInfo() != null) {
-                    String[] userInfo = indexUrl.getUserInfo().split(":");
-                    LOGGER.info("using credentials from url (user={})", userInfo[0]);
-                    final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-                    credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(userInfo[0], userInfo[1]));
-
-                    httpAsyncClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+        List<URL> indexUrls = parseAddresses(propertiesProvider.get(INDEX_ADDRESS_PROP).orElse(DEFAULT_ADDRESS));
+        HttpHost[] httpHosts = indexUrls.stream()
+                .map(url -> create(format("%s://%s:%d", url.getProtocol(), url.getHost(), url.getPort())))
+                .toArray(HttpHost[]::new);
+        int maxConnections = propertiesProvider.get(INDEX_MAX_CONNECTIONS_PROP).map(Integer::parseInt).orElse(DEFAULT_MAX_CONNECTIONS);
+        int maxConnectionsPerRoute = propertiesProvider.get(INDEX_MAX_CONNECTIONS_PER_ROUTE_PROP).map(Integer::parseInt).orElse(DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+        boolean sniff = propertiesProvider.get(INDEX_SNIFF_PROP).map(Boolean::parseBoolean).orElse(false);
+
+        RestClientBuilder.HttpClientConfigCallback clientConfigCallback = httpAsyncClientBuilder -> {
+            httpAsyncClientBuilder.disableAuthCaching();
+            httpAsyncClientBuilder.setMaxConnTotal(maxConnections);
+            httpAsyncClientBuilder.setMaxConnPerRoute(maxConnectionsPerRoute);
+            httpAsyncClientBuilder.setDefaultHeaders(
+                    singletonList(new BasicHeader("Content-type", "application/json")));
+            httpAsyncClientBuilder.addInterceptorLast((HttpResponseInterceptor)
+                    (response, context) ->
+                            // This header is expected from the client, versions of ES server below 7.14 don't provide it
+                            // i.e : https://www.elastic.co/guide/en/elasticsearch/reference/7.17/release-notes-7.14.0.html
+                            response.addHeader("X-Elastic-Product", "Elasticsearch"));
+            indexUrls.stream().filter(url -> url.getUserInfo() != null).findFirst().ifPresent(url -> {
+                String[] userInfo = url.getUserInfo().split(":");
+                LOGGER.info("using credentials from url (user={})", userInfo[0]);
+                final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(userInfo[0], userInfo[1]));
+
+                httpAsyncClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+            });
+            return httpAsyncClientBuilder;
+        };
+
+        SniffOnFailureListener sniffOnFailureListener = new SniffOnFailureListener();
+        RestClientBuilder restClientBuilder = RestClient.builder(httpHosts)
+                .setRequestConfigCallback(requestConfigBuilder -> requestConfigBuilder
+                        .setConnectTimeout(propertiesProvider.get(INDEX_CONNECT_TIMEOUT_PROP).map(Integer::parseInt).orElse(DEFAULT_CONNECT_TIMEOUT_MS))
+                        .setSocketTimeout(propertiesProvider.get(INDEX_SOCKET_TIMEOUT_PROP).map(Integer::parseInt).orElse(DEFAULT_SOCKET_TIMEOUT_MS)))
+                .setCompressionEnabled(propertiesProvider.get(INDEX_COMPRESSION_PROP).map(Boolean::parseBoolean).orElse(false))
+                .setHttpClientConfigCallback(clientConfigCallback);
+        if (sniff) {
+            restClientBuilder.setFailureListener(sniffOnFailureListener);
+        }
+        RestClient restClient = restClientBuilder.build();
+        LOGGER.info("elasticsearch client created for {} (maxConnections={}, maxConnectionsPerRoute={}, sniff={})",
+                asList(httpHosts), maxConnections, maxConnectionsPerRoute, sniff);
+
+        RestClientTransport transport;
+        if (sniff) {
+            Sniffer sniffer = Sniffer.builder(restClient)
+                    .setSniffIntervalMillis(propertiesProvider.get(INDEX_SNIFF_INTERVAL_PROP).map(Integer::parseInt).orElse(DEFAULT_SNIFF_INTERVAL_MS))
+                    .setNodesSniffer(new ElasticsearchNodesSniffer(restClient, ElasticsearchNodesSniffer.DEFAULT_SNIFF_REQUEST_TIMEOUT,
+                            ElasticsearchNodesSniffer.Scheme.valueOf(indexUrls.get(0).getProtocol().toUpperCase())))
+                    .build();
+            sniffOnFailureListener.setSniffer(sniffer);
+            transport = new SniffingRestClientTransport(restClient, sniffer);
+        } else {
+            transport = new RestClientTransport(restClient, new JacksonJsonpMapper(JsonObjectMapper.MAPPER));
+        }
+        return new ElasticsearchClient(transport);
+    }
+
+    /**
+     * parses a comma separated list of elasticsearch addresses (ex: "http://es1:9200,http://es2:9200")
+     */
+    static List<URL> parseAddresses(String addresses) {
+        List<URL> urls = new ArrayList<>();
+        for (String address : addresses.split(",")) {
+            if (!address.isBlank()) {
+                try {
+                    urls.add(new URL(address.trim()));
+                } catch (MalformedURLException e) {
+                    throw new RuntimeException(e);
                 }
-                return httpAsyncClientBuilder;
-            };
-
-            RestClientTransport transport = new RestClientTransport(RestClient.builder(httpHost)
-                    .setRequestConfigCallback(requestConfigBuilder -> requestConfigBuilder
-                            .setConnectTimeout(5000)
-                            .setSocketTimeout(60000))
-                    .setHttpClientConfigCallback(clientConfigCallback).build(), new JacksonJsonpMapper(JsonObjectMapper.MAPPER));
-            ElasticsearchClient client = new ElasticsearchClient(transport);
-            String clusterName = propertiesProvider.get(CLUSTER_PROP).orElse(ES_CLUSTER_NAME);
-            return client;
-        } catch (MalformedURLException e) {
-            throw new RuntimeException(e);
+            }
+        }
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("no elasticsearch address in " + addresses);
         }
+        return urls;
     }
 
     public static boolean createIndex(ElasticsearchClient client, String indexName) {
+        return createIndex(client, indexName, 0);
+    }
+
+    /**
+     * creates the index if it does not exist.
+     *
+     * @param shards number of primary shards, or 0 to keep the value of the settings resource
+     */
+    public static boolean createIndex(ElasticsearchClient client, String indexName, int shards) {
         ExistsRequest existsRequest = ExistsRequest.of(er -> er.index(indexName));
         try {
             if (!client.indices().exists(existsRequest).value()) {
-                LOGGER.info("index {} does not exist, creating one", indexName);
+                LOGGER.info("index {} does not exist, creating one{}", indexName, shards > 0 ? format(" with %d shard(s)", shards) : "");
                 CreateIndexRequest.Builder createReq = new CreateIndexRequest.Builder().index(indexName);
-                createReq.settings(IndexSettings.of(is -> is.withJson(ElasticsearchConfiguration.getSettings())));
+                createReq.settings(IndexSettings.of(is -> {
+                    is.withJson(ElasticsearchConfiguration.getSettings());
+                    return shards > 0 ? is.numberOfShards(String.valueOf(shards)) : is;
+                }));
                 createReq.mappings(TypeMapping.of(tm -> tm.withJson(ElasticsearchConfiguration.getMapping())));
                 client.indices().create(createReq.build());
                 return true;
@@ -130,6 +218,32 @@ public class ElasticsearchConfiguration {
         return false;
     }
 
+    /**
+     * number of primary shards for a corpus of the given size in bytes,
+     * aiming at shards of about 30GB each.
+     */
+    public static int shardsFor(long expectedCorpusSize) {
+        if (expectedCorpusSize <= 0) {
+            return 1;
+        }
+        return (int) Math.min(MAX_SHARDS, (expectedCorpusSize + TARGET_SHARD_SIZE - 1) / TARGET_SHARD_SIZE);
+    }
+
+    /**
+     * settings applied to an index for the duration of a bulk ingestion: no refresh and no replicas.
+     *
+     * @param translogFlushThreshold if not null, the translog size that triggers a flush (ex: "1gb")
+     */
+    public static Map<String, String> ingestSettings(String translogFlushThreshold) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put(REFRESH_INTERVAL_SETTING, "-1");
+        settings.put(REPLICAS_SETTING, "0");
+        if (translogFlushThreshold != null) {
+            settings.put(TRANSLOG_FLUSH_THRESHOLD_SETTING, translogFlushThreshold);
+        }
+        return settings;
+    }
+
     public static StringReader getSettings() {
         if (IS_OS_WINDOWS) {
             return new StringReader(getResourceContent(SETTINGS_RESOURCE_NAME_WINDOWS));
@@ -174,6 +288,24 @@ public class ElasticsearchConfiguration {
         return new String(resourceBytes);
     }
 
+    /**
+     * closes the sniffer along with the rest client
+     */
+    static class SniffingRestClientTransport extends RestClientTransport {
+        private final Sniffer sniffer;
+
+        SniffingRestClientTransport(RestClient restClient, Sniffer sniffer) {
+            super(restClient, new JacksonJsonpMapper(JsonObjectMapper.MAPPER));
+            this.sniffer = sniffer;
+        }
+
+        @Override
+        public void close() throws IOException {
+            sniffer.close();
+            super.close();
+        }
+    }
+
     static class ConfigurationException extends RuntimeException {
         ConfigurationException(Exception source) {
             super(source);
@@ -2,6 +2,7 @@ package org.icij.datashare.text.indexing.elasticsearch;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.InlineScript;
 import co.elastic.clients.elasticsearch._types.Refresh;
@@ -10,6 +11,8 @@ import co.elastic.clients.elasticsearch._types.ScriptField;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
 import co.elastic.clients.elasticsearch.core.ExistsRequest;
 import co.elastic.clients.elasticsearch.core.GetRequest;
 import co.elastic.clients.elasticsearch.core.GetResponse;
@@ -27,18 +30,24 @@ import co.elastic.clients.elasticsearch.core.bulk.UpdateAction;
 import co.elastic.clients.elasticsearch.core.bulk.UpdateOperation;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.core.search.SourceConfigParam;
+import co.elastic.clients.elasticsearch.indices.PutMappingRequest;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.inject.Inject;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NByteArrayEntity;
 import org.apache.http.nio.entity.NStringEntity;
 import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Cancellable;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.rest.RestStatus;
 import org.icij.datashare.Entity;
@@ -57,12 +66,21 @@ import org.icij.datashare.text.nlp.Pipeline;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static co.elastic.clients.elasticsearch.core.UpdateRequest.Builder;
@@ -83,6 +101,11 @@ import static org.icij.datashare.utils.JsonUtils.mapObjectTomapJsonData;
 public class ElasticsearchIndexer implements Indexer {
     public final ElasticsearchClient client;
     private final ElasticsearchConfiguration esCfg;
+    static final long TASK_POLL_INTERVAL_MS = 500;
+    static final String OPAQUE_ID_HEADER = "X-Opaque-Id";
+    static final String NER_VERSIONS_FIELD = "nerVersions";
+    // indices where the nerVersions keyword mapping has been checked: true if it can be written
+    private final Map<String, Boolean> nerVersionsMapped = new ConcurrentHashMap<>();
 
     static private final Map<String, String> memoizeScript = new HashMap<>();
 
@@ -106,9 +129,15 @@ public class ElasticsearchIndexer implements Indexer {
 
     @Override
     public boolean bulkAdd(final String indexName, Pipeline.Type nerType, List<NamedEntity> namedEntities, Document parent) throws IOException {
+        return bulkAdd(indexName, nerType, null, namedEntities, parent);
+    }
+
+    @Override
+    public boolean bulkAdd(final String indexName, Pipeline.Type nerType, String nerVersion, List<NamedEntity> namedEntities, Document parent) throws IOException {
         BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
 
         String routing = ofNullable(parent.getRootDocument()).orElse(parent.getId());
+        String recordedNerVersion = nerVersion != null && isNerVersionsMapped(indexName) ? nerVersion : null;
         HashMap<String, Object> status = new HashMap<>() {{
             put("status", Document.Status.DONE);
         }};
@@ -120,9 +149,7 @@ public class ElasticsearchIndexer implements Indexer {
             BulkOperation.of(op -> op.update(up -> up.index(indexName)
                     .id(parent.getId())
                     .routing(routing)
-                    .action(a -> a.script(scr -> scr.inline(iscr -> iscr.lang("painless")
-                            .source("if (!ctx._source.nerTags.contains(params.nerTag)) ctx._source.nerTags.add(params.nerTag);")
-                            .params("nerTag", JsonData.of(nerType.toString())))))))
+                    .action(a -> a.script(scr -> scr.inline(createNerTagScript(nerType, recordedNerVersion))))))
         );
 
         for (Entity child : namedEntities) {
@@ -144,6 +171,57 @@ public class ElasticsearchIndexer implements Indexer {
         return true;
     }
 
+    private static InlineScript createNerTagScript(Pipeline.Type nerType, String nerVersion) {
+        if (nerVersion == null) {
+            return InlineScript.of(iscr -> iscr.lang("painless")
+                    .source("if (!ctx._source.nerTags.contains(params.nerTag)) ctx._source.nerTags.add(params.nerTag);")
+                    .params("nerTag", JsonData.of(nerType.toString())));
+        }
+        return InlineScript.of(iscr -> iscr.lang("painless")
+                .source("if (!ctx._source.nerTags.contains(params.nerTag)) ctx._source.nerTags.add(params.nerTag);" +
+                        "if (ctx._source.nerVersions == null) ctx._source.nerVersions = [];" +
+                        "ctx._source.nerVersions.removeIf(v -> v.startsWith(params.nerTag + ':'));" +
+                        "ctx._source.nerVersions.add(params.nerVersion);")
+                .params("nerTag", JsonData.of(nerType.toString()))
+                .params("nerVersion", JsonData.of(nerVersion)));
+    }
+
+    /**
+     * puts the nerVersions keyword mapping the first time versions are written in an index, because the indices
+     * created before this field was added would map it dynamically as text. If the field is already mapped with
+     * another type, the versions are not written in this index.
+     */
+    private boolean isNerVersionsMapped(String indexName) throws IOException {
+        Boolean mapped = nerVersionsMapped.get(indexName);
+        if (mapped == null) {
+            try {
+                client.indices().putMapping(PutMappingRequest.of(pm -> pm.index(indexName)
+                        .properties(NER_VERSIONS_FIELD, p -> p.keyword(k -> k))));
+                mapped = true;
+            } catch (ElasticsearchException e) {
+                LOGGER.error("cannot put {} keyword mapping in index {}, NER versions are not recorded", NER_VERSIONS_FIELD, indexName, e);
+                mapped = false;
+            }
+            nerVersionsMapped.put(indexName, mapped);
+        }
+        return mapped;
+    }
+
+    @Override
+    public long deleteNamedEntities(String indexName, Pipeline.Type nerType, Document parent, Collection<String> keptIds) throws IOException {
+        DeleteByQueryResponse response = client.deleteByQuery(DeleteByQueryRequest.of(d -> d.index(indexName)
+                .routing(ofNullable(parent.getRootDocument()).orElse(parent.getId()))
+                .conflicts(Conflicts.Proceed)
+                .refresh(esCfg.refreshPolicy.equals(Refresh.True))
+                .query(q -> q.bool(b -> {
+                    b.filter(f -> f.term(t -> t.field(esCfg.docTypeField).value("NamedEntity")))
+                            .filter(f -> f.term(t -> t.field("documentId").value(parent.getId())))
+                            .filter(f -> f.term(t -> t.field("extractor").value(nerType.toString())));
+                    return keptIds.isEmpty() ? b : b.mustNot(mn -> mn.ids(ids -> ids.values(new ArrayList<>(keptIds))));
+                }))));
+        return ofNullable(response.deleted()).orElse(0L);
+    }
+
     @Override
     public <T extends Entity> boolean bulkAdd(final String indexName, List<T> objs) throws IOException {
         BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
@@ -223,6 +301,27 @@ public class ElasticsearchIndexer implements Indexer {
         return entity != null ? EntityUtils.toString(entity) : null;
     }
 
+    /**
+     * same as {@link #executeRaw(String, String, String)} but the response body is returned as a stream,
+     * without being converted to a String.
+     *
+     * The request body is read in a byte array entity: unlike a stream entity it is repeatable,
+     * so that the rest client can retry the request on another host when there are several hosts.
+     */
+    @Override
+    public InputStream executeRawStream(String method, String url, InputStream body) throws IOException {
+        Request request = new Request(method, url.startsWith("/") ? url : "/" + url);
+        if (body != null) {
+            byte[] bodyBytes = body.readAllBytes();
+            if (bodyBytes.length > 0) {
+                request.setEntity(new NByteArrayEntity(bodyBytes, ContentType.APPLICATION_JSON));
+            }
+        }
+        RestClient restClient = ((RestClientTransport) client._transport()).restClient();
+        HttpEntity entity = restClient.performRequest(request).getEntity();
+        return entity != null ? entity.getContent() : InputStream.nullInputStream();
+    }
+
     private IndexOperation<Map<String, Object>> createIndexRequest(String index, String type, String id, Map<String, Object> json, String parent, String root) {
         IndexOperation.Builder<Map<String, Object>> req = new IndexOperation.Builder<>();
         req.index(index).id(id);
@@ -528,6 +627,156 @@ public class ElasticsearchIndexer implements Indexer {
         return ElasticsearchConfiguration.createIndex(client, indexName);
     }
 
+    @Override
+    public boolean createIndex(final String indexName, int shards) {
+        return ElasticsearchConfiguration.createIndex(client, indexName, shards);
+    }
+
+    @Override
+    public Map<String, String> getSettings(String indexName, String... settingNames) throws IOException {
+        Request get = new Request("GET", format("%s/_settings/%s", indexName, String.join(",", settingNames)));
+        get.addParameter("flat_settings", "true");
+        RestClient restClient = ((RestClientTransport) client._transport()).restClient();
+        Response response = restClient.performRequest(get);
+        Map<String, Map<String, Map<String, Object>>> indices = MAPPER.readValue(response.getEntity().getContent(), new TypeReference<>() {});
+        Map<String, String> settings = new HashMap<>();
+        // only explicit settings: defaults are left out so that they can be reset with null values
+        ofNullable(indices.get(indexName)).flatMap(index -> ofNullable(index.get("settings")))
+                .ifPresent(explicit -> explicit.forEach((k, v) -> settings.put(k, String.valueOf(v))));
+        return settings;
+    }
+
+    @Override
+    public boolean updateSettings(String indexName, Map<String, String> settings) throws IOException {
+        Request put = new Request("PUT", indexName + "/_settings");
+        put.setEntity(new NStringEntity(MAPPER.writeValueAsString(settings), ContentType.APPLICATION_JSON));
+        RestClient restClient = ((RestClientTransport) client._transport()).restClient();
+        Response response = restClient.performRequest(put);
+        return response.getStatusLine().getStatusCode() == RestStatus.OK.getStatus();
+    }
+
+    @Override
+    public void refresh(String indexName) throws IOException {
+        client.indices().refresh(r -> r.index(indexName));
+    }
+
+    /**
+     * Runs an update by query and waits for its response, with the socket timeout
+     * elasticsearchUpdateByQueryTimeout. While waiting, the running elasticsearch task is found
+     * with its X-Opaque-Id header to report progress. Nothing is stored in the .tasks index.
+     * If the current thread is interrupted, the elasticsearch task is cancelled and an
+     * InterruptedIOException is thrown.
+     *
+     * @param slices number of slices, 0 lets elasticsearch choose
+     * @param requestsPerSecond throttle of the update, unlimited when <= 0
+     * @return the number of updated named entities
+     */
+    @Override
+    public long hideNamedEntities(String indexName, String mentionNorm, boolean hidden, int slices, float requestsPerSecond,
+                                  Function<Double, Void> progressCallback) throws IOException {
+        Map<String, Object> body = Map.of(
+                "query", Map.of("bool", Map.of(
+                        "filter", List.of(
+                                Map.of("term", Map.of(esCfg.docTypeField, "NamedEntity")),
+                                Map.of("term", Map.of("mentionNorm", mentionNorm))),
+                        "must_not", List.of(Map.of("term", Map.of("isHidden", hidden))))),
+                "script", Map.of(
+                        "lang", "painless",
+                        "source", "ctx._source.isHidden = params.isHidden",
+                        "params", Map.of("isHidden", hidden)));
+        String opaqueId = "hide-named-entities-" + UUID.randomUUID();
+        Request post = new Request("POST", indexName + "/_update_by_query");
+        post.addParameter("conflicts", "proceed");
+        post.addParameter("wait_for_completion", "true");
+        post.addParameter("slices", slices > 0 ? String.valueOf(slices) : "auto");
+        post.addParameter("requests_per_second", requestsPerSecond > 0 ? String.valueOf(requestsPerSecond) : "-1");
+        post.addParameter("refresh", String.valueOf(esCfg.refreshPolicy.equals(Refresh.True)));
+        post.setEntity(new NStringEntity(MAPPER.writeValueAsString(body), ContentType.APPLICATION_JSON));
+        post.setOptions(post.getOptions().toBuilder()
+                .addHeader(OPAQUE_ID_HEADER, opaqueId)
+                .setRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(esCfg.connectTimeout)
+                        .setSocketTimeout(esCfg.updateByQueryTimeout).build()));
+        RestClient restClient = ((RestClientTransport) client._transport()).restClient();
+
+        CompletableFuture<Response> responseFuture = new CompletableFuture<>();
+        Cancellable request = restClient.performRequestAsync(post, new ResponseListener() {
+            @Override
+            public void onSuccess(Response response) {
+                responseFuture.complete(response);
+            }
+
+            @Override
+            public void onFailure(Exception exception) {
+                responseFuture.completeExceptionally(exception);
+            }
+        });
+
+        JsonNode response = null;
+        while (response == null) {
+            try {
+                response = MAPPER.readTree(responseFuture.get(TASK_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS).getEntity().getContent());
+            } catch (TimeoutException e) {
+                findUpdateByQueryTask(restClient, opaqueId).ifPresent(task -> {
+                    JsonNode status = task.path("status");
+                    long total = status.path("total").asLong();
+                    if (total > 0) {
+                        long processed = status.path("updated").asLong() + status.path("noops").asLong() + status.path("version_conflicts").asLong();
+                        progressCallback.apply((double) processed / total);
+                    }
+                });
+            } catch (ExecutionException e) {
+                // on a socket timeout the task is still running server side
+                cancelUpdateByQueryTask(restClient, opaqueId);
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                cancelUpdateByQueryTask(restClient, opaqueId);
+                request.cancel();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(format("update by query %s cancelled", opaqueId));
+            }
+        }
+
+        JsonNode failures = response.path("failures");
+        if (failures.size() > 0) {
+            for (JsonNode failure : failures) {
+                LOGGER.error("update by query failed : {}", failure.path("cause").path("reason").asText());
+            }
+            throw new IOException(format("update by query %s failed with %d failure(s) (%d updated) : %s", opaqueId,
+                    failures.size(), response.path("updated").asLong(), failures.get(0).path("cause").path("reason").asText()));
+        }
+        return response.path("updated").asLong();
+    }
+
+    /**
+     * @return the running update by query (the parent task when sliced) sent with the X-Opaque-Id header
+     */
+    private Optional<JsonNode> findUpdateByQueryTask(RestClient restClient, String opaqueId) throws IOException {
+        Request get = new Request("GET", "_tasks");
+        get.addParameter("actions", "*byquery");
+        get.addParameter("detailed", "true");
+        get.addParameter("group_by", "none");
+        JsonNode tasks = MAPPER.readTree(restClient.performRequest(get).getEntity().getContent()).path("tasks");
+        for (JsonNode task : tasks) {
+            if (opaqueId.equals(task.path("headers").path(OPAQUE_ID_HEADER).asText()) && !task.has("parent_task_id")) {
+                return Optional.of(task);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void cancelUpdateByQueryTask(RestClient restClient, String opaqueId) {
+        try {
+            Optional<JsonNode> task = findUpdateByQueryTask(restClient, opaqueId);
+            if (task.isPresent()) {
+                String taskId = task.get().path("node").asText() + ":" + task.get().path("id").asText();
+                restClient.performRequest(new Request("POST", format("_tasks/%s/_cancel", taskId)));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("cannot cancel update by query {}", opaqueId, e);
+        }
+    }
+
     @Override
     public boolean deleteAll(String indexName) throws IOException {
         Request post = new Request("POST", indexName + "/_delete_by_query?refresh");
@@ -75,6 +75,16 @@ class ElasticsearchQueryBuilderSearcher extends ElasticsearchSearcher implements
         return this;
     }
 
+    @Override
+    public Indexer.QueryBuilderSearcher withoutNerVersion(Pipeline.Type nlpPipeline, String nerVersion) {
+        this.boolQueryBuilder.mustNot(q -> q.constantScore(cs -> cs.filter(qt -> qt.term(t -> t.field("nerVersions").value(nerVersion)))));
+        // documents tagged before the NER versions were recorded are up to date
+        this.boolQueryBuilder.mustNot(q -> q.bool(b -> b
+                .filter(f -> f.term(t -> t.field("nerTags").value(nlpPipeline.toString())))
+                .mustNot(mn -> mn.prefix(p -> p.field("nerVersions").value(nlpPipeline + ":")))));
+        return this;
+    }
+
     @Override
     public Indexer.QueryBuilderSearcher with(Pipeline.Type... nlpPipelines) {
         this.boolQueryBuilder.must(q -> q.constantScore(cs -> cs.filter(qt -> qt.terms(t -> t.field("nerTags").terms(tqf -> tqf.value(
@@ -3,6 +3,7 @@ package org.icij.datashare.text.indexing.elasticsearch;
 import com.google.inject.Inject;
 import org.icij.datashare.*;
 import org.icij.datashare.extract.DocumentCollectionFactory;
+import org.icij.datashare.monitoring.PipelineMetrics;
 import org.icij.datashare.json.JsonObjectMapper;
 import org.icij.datashare.text.*;
 import org.icij.datashare.text.indexing.Indexer;
@@ -20,6 +21,8 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.lang.System.currentTimeMillis;
 import static java.util.Optional.ofNullable;
@@ -29,13 +32,16 @@ import static org.icij.datashare.text.Hasher.shorten;
 public class ElasticsearchSpewer extends Spewer implements Serializable {
     private static final Logger logger = LoggerFactory.getLogger(ElasticsearchSpewer.class);
     public static final String DEFAULT_VALUE_UNKNOWN = "unknown";
+    private static final Map<String, IngestProfile> INGEST_PROFILES = new HashMap<>();
 
     private final Indexer indexer;
     private final LanguageGuesser languageGuesser;
     private final int maxContentLength;
     private final Hasher digestAlgorithm;
     private final DocumentQueue<String> nlpQueue;
+    private final PipelineMetrics.StageMetrics metrics = PipelineMetrics.getInstance().stage(Stage.INDEX);
     public String indexName;
+    private long expectedCorpusSize = -1;
 
     @Inject
     public ElasticsearchSpewer(final Indexer indexer, DocumentCollectionFactory<String> nlpQueueFactory, LanguageGuesser languageGuesser, final FieldNames fields,
@@ -58,17 +64,28 @@ public class ElasticsearchSpewer extends Spewer implements Serializable {
         }
         long before = currentTimeMillis();
         String docType = parent == null ? "Document" : "Child";
-        if (parent == null && isDuplicate(doc.getId())) {
-            doc.setDuplicate(true);
-            copy(doc.getReader(), OutputStream.nullOutputStream()); // flush document content reader
-            indexer.add(indexName, new Duplicate(doc.getPath(), doc.getId(), digestAlgorithm));
-            docType = "Duplicate";
-        } else {
-            Document document = getDocument(doc, root, parent, (short) level);
-            indexer.add(indexName, document);
-            if (!nlpQueue.offer(document.getId())) {
-                logger.warn("cannot offer {} to queue {}", document.getId(), nlpQueue.getName());
+        try {
+            if (parent == null && isDuplicate(doc.getId())) {
+                doc.setDuplicate(true);
+                copy(doc.getReader(), OutputStream.nullOutputStream()); // flush document content reader
+                indexer.add(indexName, new Duplicate(doc.getPath(), doc.getId(), digestAlgorithm));
+                docType = "Duplicate";
+            } else {
+                // the content reader is parsing the document, so getDocument is the extraction time
+                long start = System.nanoTime();
+                Document document = getDocument(doc, root, parent, (short) level);
+                metrics.time("extract", System.nanoTime() - start);
+                start = System.nanoTime();
+                indexer.add(indexName, document);
+                metrics.time("index", System.nanoTime() - start);
+                if (!nlpQueue.offer(document.getId())) {
+                    logger.warn("cannot offer {} to queue {}", document.getId(), nlpQueue.getName());
+                }
             }
+            metrics.processed(1);
+        } catch (IOException | RuntimeException ex) {
+            metrics.failed(1);
+            throw ex;
         }
         logger.info("{} {} added to elasticsearch in {}ms: {}", docType,
                 shorten(doc.getId(), 4), currentTimeMillis() - before, doc);
@@ -122,14 +139,78 @@ public class ElasticsearchSpewer extends Spewer implements Serializable {
     public Spewer configure(Options<String> options) {
         super.configure(options);
         setIndex(options.valueIfPresent("projectName").orElse(options.get("defaultProject").value().get()));
+        options.valueIfPresent(ElasticsearchConfiguration.EXPECTED_CORPUS_SIZE_PROP).ifPresent(size -> expectedCorpusSize = HumanReadableSize.parse(size));
         return this;
     }
 
     public Spewer createIndexIfNotExists() throws IOException {
-        indexer.createIndex(indexName);
+        if (expectedCorpusSize > 0) {
+            indexer.createIndex(indexName, ElasticsearchConfiguration.shardsFor(expectedCorpusSize));
+        } else {
+            indexer.createIndex(indexName);
+        }
         return this;
     }
 
+    /**
+     * applies the ingest settings to the index and returns the previous values,
+     * to be given back to {@link #restoreSettings(Map)} when ingestion is over.
+     *
+     * <p>Tasks of the same JVM ingesting in the same index share the profile: the first one applies it
+     * and the last one restores the settings of the index as they were before the first one.
+     * Settings left to their default are returned with null values, so that they are reset to their
+     * default instead of being set explicitly. A setting already at its ingest value (applied by another
+     * process) is also reset to its default.</p>
+     */
+    public Map<String, String> applyIngestSettings(Map<String, String> ingestSettings) throws IOException {
+        synchronized (INGEST_PROFILES) {
+            IngestProfile profile = INGEST_PROFILES.get(indexName);
+            if (profile != null) {
+                profile.nbTasks++;
+                logger.info("ingest settings already applied to index {} ({} task(s))", indexName, profile.nbTasks);
+                return profile.previousSettings;
+            }
+            Map<String, String> previousSettings = new HashMap<>(indexer.getSettings(indexName, ingestSettings.keySet().toArray(new String[0])));
+            ingestSettings.forEach((k, v) -> {
+                if (v.equals(previousSettings.get(k))) {
+                    previousSettings.put(k, null);
+                }
+                previousSettings.putIfAbsent(k, null);
+            });
+            logger.info("applying ingest settings {} to index {} (previous: {})", ingestSettings, indexName, previousSettings);
+            indexer.updateSettings(indexName, ingestSettings);
+            INGEST_PROFILES.put(indexName, new IngestProfile(previousSettings));
+            return previousSettings;
+        }
+    }
+
+    /**
+     * restores the settings returned by {@link #applyIngestSettings(Map)} and refreshes the index,
+     * unless other tasks of the JVM are still ingesting in the index.
+     */
+    public void restoreSettings(Map<String, String> settings) throws IOException {
+        synchronized (INGEST_PROFILES) {
+            IngestProfile profile = INGEST_PROFILES.get(indexName);
+            if (profile != null && --profile.nbTasks > 0) {
+                logger.info("not restoring settings of index {}: {} task(s) still ingesting", indexName, profile.nbTasks);
+                return;
+            }
+            INGEST_PROFILES.remove(indexName);
+            logger.info("restoring settings {} to index {}", settings, indexName);
+            indexer.updateSettings(indexName, settings);
+        }
+        indexer.refresh(indexName);
+    }
+
+    private static class IngestProfile {
+        private final Map<String, String> previousSettings;
+        private int nbTasks = 1;
+
+        private IngestProfile(Map<String, String> previousSettings) {
+            this.previousSettings = previousSettings;
+        }
+    }
+
     public Spewer createIndexIfNotExists(String indexName) throws IOException {
         setIndex(indexName);
         createIndexIfNotExists();
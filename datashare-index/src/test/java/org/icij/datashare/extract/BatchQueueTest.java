@@ -0,0 +1,46 @@
+package org.icij.datashare.extract;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class BatchQueueTest {
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+
+    @Test
+    public void test_poll_empty_queue_returns_empty_list_after_timeout() throws Exception {
+        assertThat(BatchQueue.poll(queue, 10, "POISON", 10, MILLISECONDS)).isEmpty();
+    }
+
+    @Test
+    public void test_poll_max_elements() throws Exception {
+        queue.addAll(asList("a", "b", "c"));
+
+        assertThat(BatchQueue.poll(queue, 2, "POISON", 10, MILLISECONDS)).isEqualTo(asList("a", "b"));
+        assertThat(BatchQueue.poll(queue, 2, "POISON", 10, MILLISECONDS)).isEqualTo(List.of("c"));
+    }
+
+    @Test
+    public void test_poll_stops_after_poison() throws Exception {
+        queue.addAll(asList("a", "POISON", "b"));
+
+        assertThat(BatchQueue.poll(queue, 10, "POISON", 10, MILLISECONDS)).isEqualTo(asList("a", "POISON"));
+        assertThat(queue).containsOnly("b");
+    }
+
+    @Test
+    public void test_poll_uses_batch_queue() throws Exception {
+        BatchQueue<String> batchQueue = (max, poison) -> asList("a", "b");
+        class Queue extends LinkedBlockingQueue<String> implements BatchQueue<String> {
+            @Override public List<String> pollBatch(int maxElements, String poison) { return batchQueue.pollBatch(maxElements, poison);}
+        }
+
+        assertThat(BatchQueue.poll(new Queue(), 10, "POISON", 10, MILLISECONDS)).isEqualTo(asList("a", "b"));
+    }
+}
@@ -0,0 +1,125 @@
+package org.icij.datashare.extract;
+
+import org.icij.extract.extractor.Extractor;
+import org.icij.extract.report.HashMapReportMap;
+import org.icij.extract.report.Report;
+import org.icij.spewer.Spewer;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.icij.extract.extractor.ExtractionStatus.FAILURE_UNKNOWN;
+import static org.icij.extract.extractor.ExtractionStatus.SUCCESS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CheckpointReporterTest {
+    private final HashMapReportMap reportMap = new HashMapReportMap();
+    private final HashMapReportMap inflight = new HashMapReportMap();
+    private final HashMapReportMap recovering = new HashMapReportMap();
+    private final HashMapReportMap quarantine = new HashMapReportMap();
+    private final CheckpointReporter reporter = new CheckpointReporter(reportMap, inflight, recovering, quarantine);
+    private final Extractor extractor = mock(Extractor.class);
+    private final Spewer spewer = mock(Spewer.class);
+
+    @Test
+    public void test_path_is_inflight_until_its_report_is_saved() {
+        Path path = Path.of("/foo/bar.txt");
+
+        assertThat(reporter.skip(path)).isFalse();
+        assertThat(inflight.containsKey(path)).isTrue();
+
+        reporter.save(path, SUCCESS);
+        assertThat(inflight.containsKey(path)).isFalse();
+        assertThat(reporter.skip(path)).isTrue();
+    }
+
+    @Test
+    public void test_recover_extracts_inflight_paths_again() throws Exception {
+        Path path = Path.of("/foo/bar.txt");
+        inflight.put(path, new Report(FAILURE_UNKNOWN));
+        doAnswer(invocation -> {
+            assertThat(recovering.containsKey(path)).isTrue();
+            reporter.skip(path);
+            reporter.save(path, SUCCESS);
+            return null;
+        }).when(extractor).extract(eq(path), eq(spewer), eq(reporter));
+
+        assertThat(reporter.recover(extractor, spewer)).isEqualTo(1);
+
+        assertThat(inflight).isEmpty();
+        assertThat(recovering).isEmpty();
+        assertThat(reportMap.get(path).getStatus()).isEqualTo(SUCCESS);
+    }
+
+    @Test
+    public void test_recover_quarantines_path_that_crashed_while_recovering() throws Exception {
+        Path path = Path.of("/foo/crash.pdf");
+        recovering.put(path, new Report(FAILURE_UNKNOWN));
+
+        assertThat(reporter.recover(extractor, spewer)).isEqualTo(0);
+
+        verify(extractor, never()).extract(any(Path.class), any(Spewer.class), any(CheckpointReporter.class));
+        assertThat(reporter.isQuarantined(path)).isTrue();
+        assertThat(recovering).isEmpty();
+        assertThat(reporter.skip(path)).isTrue();
+        assertThat(inflight).isEmpty();
+    }
+
+    @Test
+    public void test_recover_only_extracts_inflight_paths_of_the_same_task() throws Exception {
+        MemoryDocumentCollectionFactory<Path> factory = new MemoryDocumentCollectionFactory<>();
+        CheckpointReporter task1 = new CheckpointReporter(factory, "report", "task1");
+        CheckpointReporter task2 = new CheckpointReporter(factory, "report", "task2");
+        Path path1 = Path.of("/foo/task1.txt");
+        Path path2 = Path.of("/foo/task2.txt");
+
+        assertThat(task1.skip(path1)).isFalse();
+        assertThat(task2.skip(path2)).isFalse();
+
+        assertThat(new CheckpointReporter(factory, "report", "task1").recover(extractor, spewer)).isEqualTo(1);
+        verify(extractor).extract(eq(path1), eq(spewer), any(CheckpointReporter.class));
+        verify(extractor, never()).extract(eq(path2), eq(spewer), any(CheckpointReporter.class));
+        assertThat(factory.createMap("report:inflight:task2").containsKey(path2)).isTrue();
+    }
+
+    @Test
+    public void test_pipelined_inflight_path_is_removed_after_it_is_added() {
+        PipelinedHashMapReportMap pipelinedInflight = new PipelinedHashMapReportMap();
+        CheckpointReporter pipelinedReporter = new CheckpointReporter(reportMap, pipelinedInflight, recovering, quarantine);
+        Path path = Path.of("/foo/bar.txt");
+
+        assertThat(pipelinedReporter.skip(path)).isFalse();
+        pipelinedReporter.save(path, SUCCESS);
+        assertThat(pipelinedInflight).isEmpty();
+
+        pipelinedInflight.pendingPut.complete(true);
+        assertThat(pipelinedInflight).isEmpty();
+        assertThat(reportMap.get(path).getStatus()).isEqualTo(SUCCESS);
+    }
+
+    static class PipelinedHashMapReportMap extends HashMapReportMap implements PipelinedReportMap {
+        final CompletableFuture<Boolean> pendingPut = new CompletableFuture<>();
+
+        @Override
+        public CompletionStage<Boolean> fastPutAsync(Path key, Report value) {
+            return pendingPut.thenApply(completed -> fastPut(key, value));
+        }
+
+        @Override
+        public CompletionStage<Long> fastRemoveAsync(Path... keys) {
+            long nbRemoved = 0;
+            for (Path key : keys) {
+                nbRemoved += remove(key) == null ? 0 : 1;
+            }
+            return CompletableFuture.completedFuture(nbRemoved);
+        }
+    }
+}
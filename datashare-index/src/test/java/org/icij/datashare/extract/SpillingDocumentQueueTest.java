@@ -0,0 +1,192 @@
+package org.icij.datashare.extract;
+
+import org.icij.datashare.PropertiesProvider;
+import org.icij.extract.queue.DocumentQueue;
+import org.icij.extract.queue.MemoryDocumentQueue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toSet;
+import static org.fest.assertions.Assertions.assertThat;
+
+public class SpillingDocumentQueueTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test_fifo_order_with_spilled_elements() throws Exception {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 2, folder.getRoot().toPath());
+        queue.addAll(asList("/foo/bar/a.txt", "/foo/bar/b.txt", "/foo/bar/c.txt", "/foo/baz/d.txt", "/qux/é.txt"));
+
+        assertThat(queue.size()).isEqualTo(5);
+        assertThat(queue.peek()).isEqualTo("/foo/bar/a.txt");
+        List<String> polled = new ArrayList<>();
+        queue.drainTo(polled);
+        assertThat(polled).isEqualTo(asList("/foo/bar/a.txt", "/foo/bar/b.txt", "/foo/bar/c.txt", "/foo/baz/d.txt", "/qux/é.txt"));
+        assertThat(queue.poll(10, MILLISECONDS)).isNull();
+    }
+
+    @Test
+    public void test_elements_added_while_spilled_are_kept_after_spilled_ones() throws Exception {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 1, folder.getRoot().toPath());
+        queue.addAll(asList("a", "b", "c"));
+
+        assertThat(queue.take()).isEqualTo("a");
+        queue.put("d");
+
+        assertThat(queue.take()).isEqualTo("b");
+        assertThat(queue.take()).isEqualTo("c");
+        assertThat(queue.take()).isEqualTo("d");
+    }
+
+    @Test
+    public void test_path_queue() {
+        SpillingDocumentQueue<Path> queue = new SpillingDocumentQueue<>("test:queue", Path.class, 1, folder.getRoot().toPath());
+        queue.addAll(asList(Path.of("/foo/a.txt"), Path.of("/foo/b.txt")));
+
+        assertThat(queue.poll().toString()).isEqualTo("/foo/a.txt");
+        assertThat(queue.poll().toString()).isEqualTo("/foo/b.txt");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_unsupported_element_type() {
+        new SpillingDocumentQueue<>("test:queue", Integer.class, 1, folder.getRoot().toPath());
+    }
+
+    @Test
+    public void test_memory_factory_only_spills_string_and_path_queues() throws Exception {
+        MemoryDocumentCollectionFactory<Integer> factory = new MemoryDocumentCollectionFactory<>(
+                new PropertiesProvider(Map.of("queueMemoryCapacity", "1", "queueSpillDir", folder.getRoot().toString())));
+        DocumentQueue<Integer> queue = factory.createQueue("test:integers", Integer.class);
+        queue.put(1);
+        queue.put(2);
+
+        assertThat(queue instanceof MemoryDocumentQueue).isTrue();
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(new MemoryDocumentCollectionFactory<String>().createQueue("test:strings", String.class) instanceof SpillingDocumentQueue).isTrue();
+    }
+
+    @Test
+    public void test_iterator_and_contains() {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 2, folder.getRoot().toPath());
+        queue.addAll(asList("a", "b", "c", "d"));
+        queue.poll();
+
+        assertThat(new ArrayList<>(queue)).isEqualTo(asList("b", "c", "d"));
+        assertThat(queue.contains("d")).isTrue();
+        assertThat(queue.contains("a")).isFalse();
+    }
+
+    @Test
+    public void test_remove_duplicates() {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 2, folder.getRoot().toPath());
+        queue.addAll(asList("a", "b", "a", "c", "b", "POISON"));
+
+        assertThat(queue.removeDuplicates()).isEqualTo(2);
+        assertThat(new ArrayList<>(queue)).isEqualTo(asList("a", "b", "c", "POISON"));
+    }
+
+    @Test
+    public void test_remove() {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 1, folder.getRoot().toPath());
+        queue.addAll(asList("a", "b", "c"));
+
+        assertThat(queue.remove("b")).isTrue();
+        assertThat(queue.remove("b")).isFalse();
+        assertThat(new ArrayList<>(queue)).isEqualTo(asList("a", "c"));
+    }
+
+    @Test
+    public void test_remove_spilled_element_removes_first_occurrence() throws Exception {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 1, folder.getRoot().toPath());
+        queue.addAll(asList("a", "b", "c", "b", "d"));
+
+        assertThat(queue.remove("b")).isTrue();
+        assertThat(queue.remove("e")).isFalse();
+
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(new ArrayList<>(queue)).isEqualTo(asList("a", "c", "b", "d"));
+        assertThat(queue.contains("b")).isTrue();
+        List<String> polled = new ArrayList<>();
+        queue.drainTo(polled);
+        assertThat(polled).isEqualTo(asList("a", "c", "b", "d"));
+    }
+
+    @Test
+    public void test_remove_all_spilled_elements_deletes_segments() throws Exception {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 1, folder.getRoot().toPath());
+        queue.addAll(asList("a", "b", "c"));
+
+        assertThat(queue.remove("b")).isTrue();
+        assertThat(queue.remove("c")).isTrue();
+
+        assertThat(countFiles()).isEqualTo(0);
+        queue.addAll(asList("b", "c"));
+        assertThat(new ArrayList<>(queue)).isEqualTo(asList("a", "b", "c"));
+    }
+
+    @Test
+    public void test_remove_duplicates_only_rewrites_segments_with_duplicates() throws Exception {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 1, folder.getRoot().toPath(), 2);
+        queue.addAll(asList("a", "b", "c", "d", "e", "b", "f"));
+        Set<Path> segments = files();
+        assertThat(segments).hasSize(3);
+
+        assertThat(queue.removeDuplicates()).isEqualTo(1);
+
+        Set<Path> newSegments = files();
+        newSegments.retainAll(segments);
+        assertThat(newSegments).hasSize(2);
+        assertThat(new ArrayList<>(queue)).isEqualTo(asList("a", "b", "c", "d", "e", "f"));
+        assertThat(queue.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void test_remove_duplicates_with_removed_spilled_element() throws Exception {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 1, folder.getRoot().toPath(), 2);
+        queue.addAll(asList("a", "b", "c", "b", "d", "b"));
+        assertThat(queue.remove("b")).isTrue();
+
+        assertThat(queue.removeDuplicates()).isEqualTo(1);
+
+        List<String> polled = new ArrayList<>();
+        queue.drainTo(polled);
+        assertThat(polled).isEqualTo(asList("a", "c", "b", "d"));
+    }
+
+    @Test
+    public void test_delete_removes_spill_files() throws Exception {
+        SpillingDocumentQueue<String> queue = new SpillingDocumentQueue<>("test:queue", String.class, 1, folder.getRoot().toPath());
+        queue.addAll(asList("a", "b", "c"));
+        assertThat(countFiles()).isEqualTo(1);
+
+        queue.delete();
+
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(countFiles()).isEqualTo(0);
+        assertThat(folder.getRoot().list()).isEmpty();
+    }
+
+    private Set<Path> files() throws Exception {
+        try (Stream<Path> files = Files.walk(folder.getRoot().toPath())) {
+            return files.filter(Files::isRegularFile).collect(toSet());
+        }
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(folder.getRoot().toPath())) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -6,13 +6,16 @@ import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.RestClient;
+import org.icij.datashare.HumanReadableSize;
 import org.icij.datashare.PropertiesProvider;
 import org.icij.datashare.test.ElasticsearchRule;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.net.URL;
 import java.util.HashMap;
 
+import static java.util.stream.Collectors.toList;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.icij.datashare.test.ElasticsearchRule.TEST_INDEX;
 
@@ -61,4 +64,38 @@ public class ElasticsearchConfigurationTest {
 
         assertThat(response.getHeader("X-Elastic-Product")).isNotNull();
     }
+
+    @Test
+    public void test_create_client_with_several_hosts_and_compression() throws Exception {
+        ElasticsearchClient esClient = ElasticsearchConfiguration.createESClient(new PropertiesProvider(new HashMap<>() {{
+            put("elasticsearchAddress", "http://elasticsearch:9200,http://elasticsearch:9200");
+            put("elasticsearchCompression", "true");
+            put("elasticsearchMaxConnections", "4");
+        }}));
+
+        RestClient restClient = ((RestClientTransport) esClient._transport()).restClient();
+        Response response = restClient.performRequest(new Request("GET", TEST_INDEX));
+
+        assertThat(restClient.getNodes()).hasSize(2);
+        assertThat(EntityUtils.toString(response.getEntity())).contains("settings");
+    }
+
+    @Test
+    public void test_parse_addresses() {
+        assertThat(ElasticsearchConfiguration.parseAddresses("http://es1:9200, http://es2:9200,").stream().map(URL::getHost).collect(toList()))
+                .containsExactly("es1", "es2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_parse_addresses_empty() {
+        ElasticsearchConfiguration.parseAddresses(" ,");
+    }
+
+    @Test
+    public void test_shards_for_expected_corpus_size() {
+        assertThat(ElasticsearchConfiguration.shardsFor(-1)).isEqualTo(1);
+        assertThat(ElasticsearchConfiguration.shardsFor(HumanReadableSize.parse("1G"))).isEqualTo(1);
+        assertThat(ElasticsearchConfiguration.shardsFor(HumanReadableSize.parse("31G"))).isEqualTo(2);
+        assertThat(ElasticsearchConfiguration.shardsFor(HumanReadableSize.parse("100000G"))).isEqualTo(64);
+    }
 }
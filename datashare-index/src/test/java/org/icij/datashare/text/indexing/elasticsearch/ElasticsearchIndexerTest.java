@@ -2,6 +2,9 @@ package org.icij.datashare.text.indexing.elasticsearch;
 
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.core.GetRequest;
+import co.elastic.clients.elasticsearch.core.GetResponse;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.json.JsonException;
 import org.apache.http.ConnectionClosedException;
 import org.elasticsearch.action.update.UpdateRequest;
@@ -22,8 +25,11 @@ import org.junit.After;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -37,6 +43,7 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.elasticsearch.action.support.WriteRequest.RefreshPolicy.IMMEDIATE;
 import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.MapAssert.entry;
 import static org.icij.datashare.test.ElasticsearchRule.TEST_INDEX;
 import static org.icij.datashare.test.ElasticsearchRule.TEST_INDEXES;
 import static org.icij.datashare.text.Document.Status.DONE;
@@ -120,6 +127,67 @@ public class ElasticsearchIndexerTest {
         assertThat(resp.source().getNerTags()).containsOnly(OPENNLP);
     }
 
+    @Test
+    public void test_bulk_add_records_ner_version_of_pipeline() throws IOException {
+        Document doc = createDoc("id").with(INDEXED).build();
+        indexer.add(TEST_INDEX, doc);
+
+        assertThat(indexer.bulkAdd(TEST_INDEX, CORENLP, "CORENLP:1:abcd", emptyList(), doc)).isTrue();
+        assertThat(indexer.bulkAdd(TEST_INDEX, OPENNLP, "OPENNLP:1:abcd", emptyList(), doc)).isTrue();
+        assertThat(indexer.bulkAdd(TEST_INDEX, CORENLP, "CORENLP:2:abcd", emptyList(), doc)).isTrue();
+
+        GetResponse<ObjectNode> resp = es.client.get(GetRequest.of(d -> d.index(TEST_INDEX).id(doc.getId())), ObjectNode.class);
+        assertThat(resp.source().get("nerVersions").toString()).isEqualTo("[\"OPENNLP:1:abcd\",\"CORENLP:2:abcd\"]");
+        assertThat(((Document) indexer.get(TEST_INDEX, doc.getId())).getNerTags()).containsOnly(CORENLP, OPENNLP);
+    }
+
+    @Test
+    public void test_delete_named_entities_of_pipeline() throws IOException {
+        Document doc = createDoc("id").build();
+        indexer.add(TEST_INDEX, doc);
+        NamedEntity ne1 = create(PERSON, "John Doe", singletonList(12L), doc.getId(), doc.getId(), CORENLP, Language.FRENCH);
+        NamedEntity ne2 = create(PERSON, "John Doe", singletonList(12L), doc.getId(), doc.getId(), OPENNLP, Language.FRENCH);
+        indexer.bulkAdd(TEST_INDEX, CORENLP, singletonList(ne1), doc);
+        indexer.bulkAdd(TEST_INDEX, OPENNLP, singletonList(ne2), doc);
+
+        assertThat(indexer.deleteNamedEntities(TEST_INDEX, CORENLP, doc, emptyList())).isEqualTo(1);
+
+        assertThat((NamedEntity) indexer.get(TEST_INDEX, ne1.getId(), doc.getId())).isNull();
+        assertThat((NamedEntity) indexer.get(TEST_INDEX, ne2.getId(), doc.getId())).isNotNull();
+    }
+
+    @Test
+    public void test_delete_named_entities_of_pipeline_keeps_entities_of_last_run() throws IOException {
+        Document doc = createDoc("id").build();
+        indexer.add(TEST_INDEX, doc);
+        NamedEntity stale = create(PERSON, "John Doe", singletonList(12L), doc.getId(), doc.getId(), CORENLP, Language.FRENCH);
+        NamedEntity kept = create(PERSON, "Jane Doe", singletonList(42L), doc.getId(), doc.getId(), CORENLP, Language.FRENCH);
+        indexer.bulkAdd(TEST_INDEX, CORENLP, asList(stale, kept), doc);
+
+        assertThat(indexer.deleteNamedEntities(TEST_INDEX, CORENLP, doc, singletonList(kept.getId()))).isEqualTo(1);
+
+        assertThat((NamedEntity) indexer.get(TEST_INDEX, stale.getId(), doc.getId())).isNull();
+        assertThat((NamedEntity) indexer.get(TEST_INDEX, kept.getId(), doc.getId())).isNotNull();
+    }
+
+    @Test
+    public void test_search_without_ner_version() throws IOException {
+        Document notProcessed = createDoc("notProcessed").with(INDEXED).build();
+        Document upToDate = createDoc("upToDate").with(INDEXED).build();
+        Document outdated = createDoc("outdated").with(INDEXED).build();
+        Document otherPipeline = createDoc("otherPipeline").with(INDEXED).build();
+        Document withoutVersion = createDoc("withoutVersion").with(INDEXED).with(CORENLP).build();
+        for (Document doc : asList(notProcessed, upToDate, outdated, otherPipeline, withoutVersion)) {
+            indexer.add(TEST_INDEX, doc);
+        }
+        indexer.bulkAdd(TEST_INDEX, CORENLP, "CORENLP:2:abcd", emptyList(), upToDate);
+        indexer.bulkAdd(TEST_INDEX, CORENLP, "CORENLP:1:abcd", emptyList(), outdated);
+        indexer.bulkAdd(TEST_INDEX, OPENNLP, "OPENNLP:2:abcd", emptyList(), otherPipeline);
+
+        assertThat(indexer.search(singletonList(TEST_INDEX), Document.class).withoutNerVersion(CORENLP, "CORENLP:2:abcd")
+                .execute().map(Entity::getId).collect(toList())).containsOnly(notProcessed.getId(), outdated.getId(), otherPipeline.getId());
+    }
+
     @Test
     public void test_bulk_add_for_embedded_doc() throws IOException {
         Path path = Paths.get("mail.eml");
@@ -481,6 +549,27 @@ public class ElasticsearchIndexerTest {
         assertThat(((NamedEntity)namedEntities[1]).isHidden()).isTrue();
     }
 
+    @Test
+    public void test_hide_and_unhide_named_entities_by_mention() throws IOException {
+        Document doc = createDoc("id").build();
+        indexer.add(TEST_INDEX, doc);
+        NamedEntity ne1 = create(PERSON, "John Doe", singletonList(12L), doc.getId(), "root", CORENLP, Language.FRENCH);
+        NamedEntity ne2 = create(PERSON, "John Doe", singletonList(42L), doc.getId(), "root", CORENLP, Language.FRENCH);
+        NamedEntity ne3 = create(ORGANIZATION, "AAA", singletonList(123L), doc.getId(), "root", CORENLP, Language.FRENCH);
+        indexer.bulkAdd(TEST_INDEX, CORENLP, asList(ne1, ne2, ne3), doc);
+        List<Double> progress = new ArrayList<>();
+
+        assertThat(indexer.hideNamedEntities(TEST_INDEX, "john doe", true, 2, 100, p -> {progress.add(p); return null;})).isEqualTo(2);
+        assertThat(((NamedEntity) indexer.get(TEST_INDEX, ne1.getId(), doc.getId())).isHidden()).isTrue();
+        assertThat(((NamedEntity) indexer.get(TEST_INDEX, ne2.getId(), doc.getId())).isHidden()).isTrue();
+        assertThat(((NamedEntity) indexer.get(TEST_INDEX, ne3.getId(), doc.getId())).isHidden()).isFalse();
+        assertThat(progress).contains(1.0);
+
+        assertThat(indexer.hideNamedEntities(TEST_INDEX, "john doe", true, 0, -1, p -> null)).isEqualTo(0);
+        assertThat(indexer.hideNamedEntities(TEST_INDEX, "john doe", false, 0, -1, p -> null)).isEqualTo(2);
+        assertThat(((NamedEntity) indexer.get(TEST_INDEX, ne1.getId(), doc.getId())).isHidden()).isFalse();
+    }
+
     @Test
     public void test_delete_by_query() throws Exception {
         Document doc = createDoc("docId").build();
@@ -494,6 +583,23 @@ public class ElasticsearchIndexerTest {
         assertThat(documents.length).isEqualTo(0);
     }
 
+    @Test
+    public void test_get_settings_does_not_return_defaults() throws Exception {
+        Map<String, String> settings = indexer.getSettings(TEST_INDEX, "index.refresh_interval", "index.number_of_shards");
+
+        assertThat(settings.containsKey("index.refresh_interval")).isFalse();
+        assertThat(settings).includes(entry("index.number_of_shards", "1"));
+    }
+
+    @Test
+    public void test_update_settings() throws Exception {
+        assertThat(indexer.updateSettings(TEST_INDEX, Map.of("index.refresh_interval", "-1"))).isTrue();
+        assertThat(indexer.getSettings(TEST_INDEX, "index.refresh_interval")).includes(entry("index.refresh_interval", "-1"));
+
+        assertThat(indexer.updateSettings(TEST_INDEX, new HashMap<>() {{ put("index.refresh_interval", null); }})).isTrue();
+        assertThat(indexer.getSettings(TEST_INDEX, "index.refresh_interval").containsKey("index.refresh_interval")).isFalse();
+    }
+
     @Test
     public void test_query_like_js_front_finds_document_from_its_child_named_entity() throws Exception {
         Document doc = createDoc("id").with("content with john doe").build();
@@ -516,6 +622,16 @@ public class ElasticsearchIndexerTest {
         assertThat(indexer.executeRaw("POST", TEST_INDEX + "/_search", "{\"query\":{\"match\":{\"content\":\"foo\"}}}")).doesNotContain("my content");
     }
 
+    @Test
+    public void test_execute_raw_stream_search() throws Exception {
+        Document doc = createDoc("id").with("my content").with(OPENNLP).build();
+        indexer.add(TEST_INDEX, doc);
+        byte[] body = "{\"query\":{\"match_all\":{}}}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new String(indexer.executeRawStream("POST", TEST_INDEX + "/_search", new ByteArrayInputStream(body)).readAllBytes(), StandardCharsets.UTF_8)).contains("my content");
+        assertThat(new String(indexer.executeRawStream("POST", TEST_INDEX + "/_search", InputStream.nullInputStream()).readAllBytes(), StandardCharsets.UTF_8)).contains("my content");
+    }
+
     @Test
     public void test_execute_raw_with_head() throws Exception {
         assertThat(indexer.executeRaw("HEAD", TEST_INDEX, "")).isNull();
@@ -456,6 +456,79 @@ public class ElasticsearchSpewerTest {
         Mockito.verify(indexer).createIndex("bar");
     }
 
+    @Test
+    public void test_configure_with_expected_corpus_size_is_creating_index_with_shards() throws Exception {
+        Indexer indexer = Mockito.mock(Indexer.class);
+        ElasticsearchSpewer spewer = new ElasticsearchSpewer(indexer, Mockito.mock(DocumentCollectionFactory.class), Mockito.mock(LanguageGuesser.class), new FieldNames(), new PropertiesProvider());
+        spewer.configure(Options.from(new HashMap<>() {{
+            put("defaultProject", "foo");
+            put("expectedCorpusSize", "100G");
+        }}));
+        spewer.createIndexIfNotExists();
+        Mockito.verify(indexer).createIndex("foo", 4);
+    }
+
+    @Test
+    public void test_apply_ingest_settings_returns_previous_settings() throws Exception {
+        Indexer indexer = Mockito.mock(Indexer.class);
+        Mockito.when(indexer.getSettings("foo", "index.refresh_interval", "index.number_of_replicas")).thenReturn(Map.of("index.refresh_interval", "1s"));
+        ElasticsearchSpewer spewer = new ElasticsearchSpewer(indexer, Mockito.mock(DocumentCollectionFactory.class), Mockito.mock(LanguageGuesser.class), new FieldNames(), new PropertiesProvider());
+        spewer.configure(Options.from(new HashMap<>() {{ put("defaultProject", "foo"); }}));
+
+        Map<String, String> previous = spewer.applyIngestSettings(ElasticsearchConfiguration.ingestSettings(null));
+
+        Mockito.verify(indexer).updateSettings("foo", Map.of("index.refresh_interval", "-1", "index.number_of_replicas", "0"));
+        assertThat(previous).includes(entry("index.refresh_interval", "1s"), entry("index.number_of_replicas", null));
+        spewer.restoreSettings(previous);
+    }
+
+    @Test
+    public void test_apply_ingest_settings_resets_settings_already_at_ingest_value() throws Exception {
+        Indexer indexer = Mockito.mock(Indexer.class);
+        Mockito.when(indexer.getSettings("bar", "index.refresh_interval", "index.number_of_replicas")).thenReturn(Map.of("index.refresh_interval", "-1"));
+        ElasticsearchSpewer spewer = new ElasticsearchSpewer(indexer, Mockito.mock(DocumentCollectionFactory.class), Mockito.mock(LanguageGuesser.class), new FieldNames(), new PropertiesProvider());
+        spewer.configure(Options.from(new HashMap<>() {{ put("defaultProject", "bar"); }}));
+
+        Map<String, String> previous = spewer.applyIngestSettings(ElasticsearchConfiguration.ingestSettings(null));
+
+        assertThat(previous).includes(entry("index.refresh_interval", null), entry("index.number_of_replicas", null));
+        spewer.restoreSettings(previous);
+    }
+
+    @Test
+    public void test_concurrent_ingest_settings_are_restored_by_the_last_task() throws Exception {
+        Indexer indexer = Mockito.mock(Indexer.class);
+        Mockito.when(indexer.getSettings("baz", "index.refresh_interval", "index.number_of_replicas")).thenReturn(Map.of("index.refresh_interval", "1s"));
+        ElasticsearchSpewer first = new ElasticsearchSpewer(indexer, Mockito.mock(DocumentCollectionFactory.class), Mockito.mock(LanguageGuesser.class), new FieldNames(), new PropertiesProvider());
+        first.configure(Options.from(new HashMap<>() {{ put("defaultProject", "baz"); }}));
+        ElasticsearchSpewer second = new ElasticsearchSpewer(indexer, Mockito.mock(DocumentCollectionFactory.class), Mockito.mock(LanguageGuesser.class), new FieldNames(), new PropertiesProvider());
+        second.configure(Options.from(new HashMap<>() {{ put("defaultProject", "baz"); }}));
+
+        Map<String, String> firstPrevious = first.applyIngestSettings(ElasticsearchConfiguration.ingestSettings(null));
+        Map<String, String> secondPrevious = second.applyIngestSettings(ElasticsearchConfiguration.ingestSettings(null));
+        assertThat(secondPrevious).isEqualTo(firstPrevious);
+        Mockito.verify(indexer, Mockito.times(1)).getSettings("baz", "index.refresh_interval", "index.number_of_replicas");
+
+        first.restoreSettings(firstPrevious);
+        Mockito.verify(indexer, Mockito.never()).refresh("baz");
+
+        second.restoreSettings(secondPrevious);
+        Mockito.verify(indexer).updateSettings("baz", firstPrevious);
+        Mockito.verify(indexer).refresh("baz");
+    }
+
+    @Test
+    public void test_restore_settings_refreshes_index() throws Exception {
+        Indexer indexer = Mockito.mock(Indexer.class);
+        ElasticsearchSpewer spewer = new ElasticsearchSpewer(indexer, Mockito.mock(DocumentCollectionFactory.class), Mockito.mock(LanguageGuesser.class), new FieldNames(), new PropertiesProvider());
+        spewer.configure(Options.from(new HashMap<>() {{ put("defaultProject", "foo"); }}));
+
+        spewer.restoreSettings(Map.of("index.refresh_interval", "1s"));
+
+        Mockito.verify(indexer).updateSettings("foo", Map.of("index.refresh_interval", "1s"));
+        Mockito.verify(indexer).refresh("foo");
+    }
+
     @After
     public void after() {
         try {
@@ -6,6 +6,7 @@ import edu.stanford.nlp.ling.CoreAnnotations.*;
 import edu.stanford.nlp.ling.CoreLabel;
 import edu.stanford.nlp.ling.HasWord;
 import edu.stanford.nlp.ling.TaggedWord;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
 import edu.stanford.nlp.tagger.maxent.MaxentTagger;
 import edu.stanford.nlp.util.CoreMap;
 import edu.stanford.nlp.util.Triple;
@@ -20,7 +21,9 @@ import org.icij.datashare.text.nlp.AbstractPipeline;
 import org.icij.datashare.text.nlp.Annotations;
 import org.icij.datashare.text.nlp.NlpStage;
 import org.icij.datashare.text.nlp.Pipeline;
+import org.icij.datashare.text.nlp.SentenceBatches;
 import org.icij.datashare.text.nlp.corenlp.models.CoreNlpAnnotator;
+import org.icij.datashare.text.nlp.corenlp.models.CoreNlpModels;
 import org.icij.datashare.text.nlp.corenlp.models.CoreNlpNerModels;
 import org.icij.datashare.text.nlp.corenlp.models.CoreNlpPipelineModels;
 import org.icij.datashare.text.nlp.corenlp.models.CoreNlpPosModels;
@@ -57,6 +60,16 @@ public final class CorenlpPipeline extends AbstractPipeline {
         stageDependencies.get(POS)     .add(SENTENCE);
         stageDependencies.get(LEMMA)   .add(POS);
         stageDependencies.get(NER)     .add(LEMMA);
+
+        CoreNlpPipelineModels.getInstance().setIdleTimeout(modelsIdleTimeoutMs);
+        CoreNlpPipelineModels.getInstance().setBundle(modelsBundle);
+        CoreNlpNerModels.getInstance().setIdleTimeout(modelsIdleTimeoutMs);
+        CoreNlpNerModels.getInstance().setBundle(modelsBundle);
+        CoreNlpPosModels.getInstance().setIdleTimeout(modelsIdleTimeoutMs);
+        CoreNlpPosModels.getInstance().setBundle(modelsBundle);
+        if (!preloadLanguages.isEmpty()) {
+            preloadModels(preloadLanguages);
+        }
     }
 
     /**
@@ -100,7 +113,7 @@ public final class CorenlpPipeline extends AbstractPipeline {
             return allFrom(doc.getContent(), processPosClassifier(doc.getContent(), doc.getId(), doc.getLanguage()));
 
         // Otherwise
-        return allFrom(doc.getContent(), processPipeline(doc.getContent(), doc.getId(), doc.getLanguage()));
+        return processPipeline(doc, contentLength, contentOffset);
     }
 
     /**
@@ -109,11 +122,21 @@ public final class CorenlpPipeline extends AbstractPipeline {
     @Override
     public void terminate(Language language) throws InterruptedException {
         super.terminate(language);
-        // (Don't) keep pipelines and models
+        // (Don't) keep pipelines and models: they are unloaded if they are not used during the idle timeout
         if ( ! caching) {
-            CoreNlpPipelineModels.getInstance().unload(language);
-            CoreNlpNerModels.getInstance().unload(language);
-            CoreNlpPosModels.getInstance().unload(language);
+            CoreNlpPipelineModels.getInstance().release(language);
+            CoreNlpNerModels.getInstance().release(language);
+            CoreNlpPosModels.getInstance().release(language);
+        }
+    }
+
+    private void preloadModels(Collection<Language> languages) {
+        if (singletonList(NER).equals(targetStages)) {
+            CoreNlpNerModels.getInstance().preload(languages);
+        } else if (singletonList(POS).equals(targetStages)) {
+            CoreNlpPosModels.getInstance().preload(languages);
+        } else {
+            CoreNlpPipelineModels.getInstance().preload(languages);
         }
     }
 
@@ -126,57 +149,49 @@ public final class CorenlpPipeline extends AbstractPipeline {
     /**
      * Process with entire pipelines
      *
-     * @param input    the string to annotator
-     * @param hash     the input hash code
-     * @param language the input language
-     * @return
+     * Only the named entities are kept: the chunk is annotated by batches of sentences (see {@link SentenceBatches})
+     * and the entity spans are added to the builder without keeping the sentence, token and POS annotations.
+     *
+     * @param doc the document
      */
-    private Annotations processPipeline(String input, String hash, Language language) throws InterruptedException {
-        Annotations annotations = new Annotations(hash, getType(), language);
+    private List<NamedEntity> processPipeline(Document doc, int contentLength, int contentOffset) throws InterruptedException {
+        NamedEntitiesBuilder namedEntitiesBuilder = new NamedEntitiesBuilder(getType(), doc.getId(), doc.getLanguage()).withRoot(doc.getRootDocument());
+        LOGGER.info("sentencing ~ tokenizing ~ POS-tagging ~ name-finding for {} in document {} (offset {})", doc.getLanguage(), Hasher.shorten(doc.getId(), 4), contentOffset);
+        StanfordCoreNLP pipeline = CoreNlpPipelineModels.getInstance().get(doc.getLanguage());
+        String chunk = doc.getContent().substring(contentOffset, Math.min(contentOffset + contentLength, doc.getContentTextLength()));
+        int batchBegin = 0;
+        for (int batchEnd : SentenceBatches.ends(chunk, doc.getLanguage(), SentenceBatches.DEFAULT_BATCH_SIZE)) {
+            edu.stanford.nlp.pipeline.Annotation coreNlpAnnotation = new edu.stanford.nlp.pipeline.Annotation(chunk.substring(batchBegin, batchEnd));
+            pipeline.annotate(coreNlpAnnotation);
+            for (CoreMap sentence : coreNlpAnnotation.get(SentencesAnnotation.class)) {
+                addEntities(namedEntitiesBuilder, chunk, sentence.get(TokensAnnotation.class), batchBegin, contentOffset);
+            }
+            batchBegin = batchEnd;
+        }
+        return namedEntitiesBuilder.build();
+    }
 
-        // CoreNLP annotations data-structure
-        edu.stanford.nlp.pipeline.Annotation coreNlpAnnotation = new edu.stanford.nlp.pipeline.Annotation(input);
-
-        LOGGER.info("sentencing ~ tokenizing ~ POS-tagging ~ name-finding for " + language.toString());
-
-        // Sentencize input
-        // Tokenize
-        // Pos-tag
-        // NER
-        CoreNlpPipelineModels.getInstance().get(language).annotate(coreNlpAnnotation);
-        // Feed annotations
-        List<CoreMap> sentences = coreNlpAnnotation.get(SentencesAnnotation.class);
-        for (CoreMap sentence : sentences) {
-            int sentenceBegin = sentence.get(CharacterOffsetBeginAnnotation.class);
-            int sentenceEnd = sentence.get(CharacterOffsetEndAnnotation.class);
-            annotations.add(SENTENCE, sentenceBegin, sentenceEnd);
-
-            int nerBegin = 0;
-            NamedEntity.Category prevCat = NamedEntity.Category.NONE;
-
-            List<CoreLabel> tokens = sentence.get(TokensAnnotation.class);
-            for (CoreLabel token : tokens) {
-                int tokenBegin = token.get(CharacterOffsetBeginAnnotation.class);
-                int tokenEnd = token.get(CharacterOffsetEndAnnotation.class);
-                String pos = token.get(PartOfSpeechAnnotation.class); // for now we don't use POS tagging
-                annotations.add(TOKEN, tokenBegin, tokenEnd);
-                annotations.add(POS, tokenBegin, tokenEnd);
-
-                String cat = token.get(NamedEntityTagAnnotation.class);
-                NamedEntity.Category currCat = NamedEntity.Category.parse(cat);
-                if (currCat != NamedEntity.Category.NONE) {
-                    if (prevCat != currCat) {
-                        nerBegin = tokenBegin;
-                    }
-                } else {
-                    if (prevCat != currCat) {
-                        annotations.add(NER, nerBegin, tokenBegin, prevCat);
-                    }
-                }
-                prevCat = currCat;
+    private void addEntities(NamedEntitiesBuilder namedEntitiesBuilder, String chunk, List<CoreLabel> tokens, int batchOffset, int contentOffset) {
+        NamedEntity.Category entityCategory = NamedEntity.Category.NONE;
+        int entityBegin = 0;
+        int entityEnd = 0;
+        for (CoreLabel token : tokens) {
+            NamedEntity.Category category = NamedEntity.Category.parse(token.get(NamedEntityTagAnnotation.class));
+            if (category != entityCategory) {
+                addEntity(namedEntitiesBuilder, chunk, entityCategory, entityBegin, entityEnd, contentOffset);
+                entityBegin = batchOffset + token.get(CharacterOffsetBeginAnnotation.class);
+                entityCategory = category;
             }
+            entityEnd = batchOffset + token.get(CharacterOffsetEndAnnotation.class);
+        }
+        addEntity(namedEntitiesBuilder, chunk, entityCategory, entityBegin, entityEnd, contentOffset);
+    }
+
+    private void addEntity(NamedEntitiesBuilder namedEntitiesBuilder, String chunk, NamedEntity.Category category, int begin, int end, int contentOffset) {
+        if (category != NamedEntity.Category.NONE && category != NamedEntity.Category.UNKNOWN) {
+            String mention = ThrowingFunctions.removeNewLines.apply(chunk.substring(begin, end));
+            namedEntitiesBuilder.add(category, mention, begin + contentOffset);
         }
-        return annotations;
     }
 
 
@@ -191,22 +206,26 @@ public final class CorenlpPipeline extends AbstractPipeline {
      * @param doc the document
      */
     private List<NamedEntity> processNerClassifier(Document doc, int contentLength, int contentOffset) throws InterruptedException {
-        Annotations annotations = new Annotations(doc.getId(), doc.getRootDocument(), getType(), doc.getLanguage());
         NamedEntitiesBuilder namedEntitiesBuilder = new NamedEntitiesBuilder(getType(), doc.getId(), doc.getLanguage()).withRoot(doc.getRootDocument());
         LOGGER.info("name-finding for {} in document {} (offset {})", doc.getLanguage(), Hasher.shorten(doc.getId(), 4), contentOffset);
         // Recognize named entities from input
         final CoreNlpAnnotator<AbstractSequenceClassifier<CoreLabel>> abstractSequenceClassifierCoreNlpAnnotator;
         abstractSequenceClassifierCoreNlpAnnotator = CoreNlpNerModels.getInstance().get(doc.getLanguage());
         String chunk = doc.getContent().substring(contentOffset, Math.min(contentOffset + contentLength, doc.getContentTextLength()));
-        List<Triple<String, Integer, Integer>> items = abstractSequenceClassifierCoreNlpAnnotator.annotator.classifyToCharacterOffsets(chunk);
-        // For each recognized named entity
-        for (Triple<String, Integer, Integer> item : items) {
-            // Triple: <category, begin, end>
-            NamedEntity.Category category = NamedEntity.Category.parse(item.first());
-            int begin = item.second();
-            int end = item.third();
-            String mention = ThrowingFunctions.removeNewLines.apply(chunk.substring(begin, end));
-            namedEntitiesBuilder.add(category, mention, begin + contentOffset);
+        int batchBegin = 0;
+        for (int batchEnd : SentenceBatches.ends(chunk, doc.getLanguage(), SentenceBatches.DEFAULT_BATCH_SIZE)) {
+            String batch = chunk.substring(batchBegin, batchEnd);
+            List<Triple<String, Integer, Integer>> items = abstractSequenceClassifierCoreNlpAnnotator.annotator.classifyToCharacterOffsets(batch);
+            // For each recognized named entity
+            for (Triple<String, Integer, Integer> item : items) {
+                // Triple: <category, begin, end>
+                NamedEntity.Category category = NamedEntity.Category.parse(item.first());
+                int begin = item.second();
+                int end = item.third();
+                String mention = ThrowingFunctions.removeNewLines.apply(batch.substring(begin, end));
+                namedEntitiesBuilder.add(category, mention, batchBegin + begin + contentOffset);
+            }
+            batchBegin = batchEnd;
         }
 
         return namedEntitiesBuilder.build();
@@ -251,6 +270,11 @@ public final class CorenlpPipeline extends AbstractPipeline {
         return annotations;
     }
 
+    @Override
+    public String getModelsVersion() {
+        return CoreNlpModels.VERSION;
+    }
+
     @Override
     public Optional<String> getPosTagSet(Language language) {
         return Optional.of(CoreNlpPosModels.POS_TAGSET.get(language));
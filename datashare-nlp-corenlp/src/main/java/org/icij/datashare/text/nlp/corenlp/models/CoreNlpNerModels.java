@@ -5,10 +5,14 @@ import edu.stanford.nlp.ie.crf.CRFClassifier;
 import edu.stanford.nlp.ling.CoreLabel;
 import org.icij.datashare.text.Language;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.icij.datashare.text.Language.*;
 import static org.icij.datashare.text.nlp.NlpStage.NER;
@@ -72,6 +76,12 @@ public class CoreNlpNerModels extends CoreNlpModels<AbstractSequenceClassifier<C
         }
         super.addResourceToContextClassLoader(modelFilePath);
         try {
+            Optional<InputStream> bundledModel = openBundledModel(language, getInJarModelPath(language));
+            if (bundledModel.isPresent()) {
+                try (InputStream model = new BufferedInputStream(new GZIPInputStream(bundledModel.get()))) {
+                    return new CoreNlpAnnotator<>(CRFClassifier.getClassifier(model));
+                }
+            }
             return new CoreNlpAnnotator<>(CRFClassifier.getClassifier(getInJarModelPath(language)));
         } catch (ClassNotFoundException e) {
             throw new IllegalStateException("cannot find CRFClassifier class", e);
@@ -3,9 +3,13 @@ package org.icij.datashare.text.nlp.corenlp.models;
 import edu.stanford.nlp.tagger.maxent.MaxentTagger;
 import org.icij.datashare.text.Language;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.icij.datashare.text.Language.*;
 import static org.icij.datashare.text.nlp.NlpStage.POS;
@@ -58,9 +62,15 @@ public class CoreNlpPosModels extends CoreNlpModels<MaxentTagger> {
     }
 
     @Override
-    protected CoreNlpAnnotator<MaxentTagger> loadModelFile(Language language) {
+    protected CoreNlpAnnotator<MaxentTagger> loadModelFile(Language language) throws IOException {
         Path modelFilePath = getModelsBasePath(language).resolve(getJarFileName(language));
         super.addResourceToContextClassLoader(modelFilePath);
+        Optional<InputStream> bundledModel = openBundledModel(language, getInJarModelPath(language));
+        if (bundledModel.isPresent()) {
+            try (InputStream model = new BufferedInputStream(bundledModel.get())) {
+                return new CoreNlpAnnotator<>(new MaxentTagger(model));
+            }
+        }
         return new CoreNlpAnnotator<>(new MaxentTagger(getInJarModelPath(language)));
     }
 
@@ -30,8 +30,25 @@ public interface TaskManager extends Closeable {
     <V> Task<V> clearTask(String taskId);
     boolean shutdownAndAwaitTermination(int timeout, TimeUnit timeUnit) throws InterruptedException;
     <V> Task<V> getTask(String taskId);
+
+    /**
+     * @return the result of the task, null if the task doesn't exist or has no result (yet).
+     * Task managers may not return the result with {@link #getTask(String)}.
+     */
+    default <V> V getTaskResult(String taskId) {
+        Task<V> task = getTask(taskId);
+        return task == null ? null : task.getResult();
+    }
     List<Task<?>> getTasks();
     List<Task<?>> getTasks(User user, Pattern pattern);
+
+    /**
+     * @param withResults when false, task managers may not return the results of the tasks,
+     *                    as with {@link #getTasks(User, Pattern)} that returns them only if they are at hand
+     */
+    default List<Task<?>> getTasks(User user, Pattern pattern, boolean withResults) {
+        return getTasks(user, pattern);
+    }
     List<Task<?>> clearDoneTasks();
     void clear();
     boolean save(Task<?> task);
@@ -6,15 +6,19 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.ByteBufOutputStream;
 import org.icij.datashare.asynctasks.bus.amqp.CancelEvent;
+import org.icij.datashare.asynctasks.bus.amqp.ProgressEvent;
 import org.icij.datashare.asynctasks.bus.amqp.TaskEvent;
 import org.icij.datashare.json.JsonObjectMapper;
 import org.icij.datashare.user.User;
 import org.redisson.Redisson;
 import org.redisson.RedissonBlockingQueue;
 import org.redisson.RedissonMap;
+import org.redisson.api.RMap;
+import org.redisson.api.RSet;
 import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.client.handler.State;
 import org.redisson.client.protocol.Decoder;
 import org.redisson.client.protocol.Encoder;
@@ -25,22 +29,39 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
+/**
+ * Tasks are stored in three redis hashes: the state (name, state, progress, error) in taskMapName,
+ * the args in taskMapName:args and the results in taskMapName:results.
+ * Args are written once, and results are only read by {@link #getTaskResult(String)} and
+ * {@link #getTasks(User, Pattern, boolean)} with results, so progress updates and task polling
+ * only transfer the small state objects.
+ */
 public class TaskManagerRedis implements TaskManager {
     private final Runnable eventCallback; // for test
     public static final String EVENT_CHANNEL_NAME = "EVENT";
     private final RedissonMap<String, Task<?>> tasks;
+    private final RedissonMap<String, Task<?>> taskArgs;
+    private final RedissonMap<String, Task<?>> taskResults;
     private final BlockingQueue<Task<?>> taskQueue;
     private final RTopic eventTopic;
+    private final RedissonClient redissonClient;
+    private final String taskMapName;
+    // secondary indexes to avoid decoding all the tasks when listing/clearing them
+    private final RMap<String, String> taskNames;
 
     public TaskManagerRedis(RedissonClient redissonClient, BlockingQueue<Task<?>> taskQueue, String taskMapName) {
         this(redissonClient, taskQueue, taskMapName,null);
@@ -49,41 +70,92 @@ public class TaskManagerRedis implements TaskManager {
     public TaskManagerRedis(RedissonClient redissonClient, BlockingQueue<Task<?>> taskQueue, String taskMapName, Runnable eventCallback) {
         CommandSyncService commandSyncService = new CommandSyncService(((Redisson) redissonClient).getConnectionManager(), new RedissonObjectBuilder(redissonClient));
         this.tasks = new RedissonMap<>(new TaskViewCodec(), commandSyncService, taskMapName, redissonClient, null, null);
+        this.taskArgs = new RedissonMap<>(new TaskViewCodec(), commandSyncService, taskMapName + ":args", redissonClient, null, null);
+        this.taskResults = new RedissonMap<>(new TaskViewCodec(), commandSyncService, taskMapName + ":results", redissonClient, null, null);
         this.taskQueue = taskQueue;
         this.eventTopic = redissonClient.getTopic(EVENT_CHANNEL_NAME);
         this.eventCallback = eventCallback;
+        this.redissonClient = redissonClient;
+        this.taskMapName = taskMapName;
+        this.taskNames = redissonClient.getMap(taskMapName + ":names", StringCodec.INSTANCE);
+        if (taskArgs.isEmpty() && !tasks.isEmpty()) {
+            splitTasks();
+        }
+        if (taskNames.isEmpty() && !tasks.isEmpty()) {
+            reindex();
+        }
         addEventListener(this::handleEvent);
     }
 
+    /**
+     * @return the task without its result, see {@link #getTaskResult(String)}
+     */
     @Override
     public <V> Task<V> getTask(String id) {
-        return (Task<V>) tasks.get(id);
+        Task<V> state = (Task<V>) tasks.get(id);
+        return state == null ? null : withArgs(state, taskArgs.get(id));
+    }
+
+    @Override
+    public <V> V getTaskResult(String id) {
+        Task<V> result = (Task<V>) taskResults.get(id);
+        return result == null ? null : result.getResult();
     }
 
     @Override
     public List<Task<?>> getTasks() {
-        return new LinkedList<>(tasks.values());
+        return new LinkedList<>(getAll(tasks.readAllKeySet()).values());
     }
 
     @Override
     public List<Task<?>> getTasks(User user, Pattern pattern) {
-        return TaskManager.getTasks(tasks.values().stream(), user, pattern);
+        return getTasks(user, pattern, false);
+    }
+
+    @Override
+    public List<Task<?>> getTasks(User user, Pattern pattern, boolean withResults) {
+        Set<String> userTaskIds = userTaskIds(user).readAll();
+        Set<String> matchingIds = taskNames.getAll(userTaskIds).entrySet().stream()
+                .filter(e -> pattern.matcher(e.getValue()).matches()).map(Map.Entry::getKey).collect(toSet());
+        Map<String, Task<?>> matchingTasks = getAll(matchingIds);
+        return new LinkedList<>(withResults ? withResults(matchingTasks).values() : matchingTasks.values());
     }
 
     @Override
     public List<Task<?>> clearDoneTasks() {
-        return tasks.values().stream().filter(Task::isFinished).map(t -> tasks.remove(t.id)).collect(toList());
+        Set<String> doneIds = stateTaskIds(Task.State.DONE).readUnion(
+                stateTaskIds(Task.State.ERROR).getName(), stateTaskIds(Task.State.CANCELLED).getName());
+        Collection<Task<?>> doneTasks = getAll(doneIds).values();
+        doneTasks.forEach(this::removeFromIndexes);
+        String[] ids = doneIds.toArray(new String[0]);
+        tasks.fastRemove(ids);
+        taskArgs.fastRemove(ids);
+        taskResults.fastRemove(ids);
+        return new LinkedList<>(doneTasks);
     }
 
     @Override
     public Task<?> clearTask(String taskId) {
-        return tasks.remove(taskId);
+        Task<?> removed = getTask(taskId);
+        if (removed != null) {
+            removeFromIndexes(removed);
+            tasks.fastRemove(taskId);
+            taskArgs.fastRemove(taskId);
+            taskResults.fastRemove(taskId);
+        }
+        return removed;
+    }
+
+    @Override
+    public Map<String, Boolean> stopAllTasks(User user) {
+        Set<String> runningOrQueued = stateTaskIds(Task.State.RUNNING).readUnion(stateTaskIds(Task.State.QUEUED).getName());
+        runningOrQueued.retainAll(userTaskIds(user).readAll());
+        return runningOrQueued.stream().collect(toMap(id -> id, this::stopTask));
     }
 
     @Override
     public boolean stopTask(String taskId) {
-        Task<?> taskView = getTask(taskId);
-        if (taskView != null) {
+        if (tasks.containsKey(taskId)) {
             return eventTopic.publish(new CancelEvent(taskId, false)) > 0;
         } else {
             logger.warn("unknown task id <{}> for cancel call", taskId);
@@ -91,6 +163,20 @@ public class TaskManagerRedis implements TaskManager {
         return false;
     }
 
+    /**
+     * progress events only read and write the task state
+     */
+    @Override
+    public Task<?> setProgress(ProgressEvent e) {
+        logger.debug("progress event for {}", e.taskId);
+        Task<?> state = tasks.get(e.taskId);
+        if (state != null) {
+            state.setProgress(e.progress);
+            save(state);
+        }
+        return state;
+    }
+
     public void handleEvent(TaskEvent e) {
         ofNullable(TaskManager.super.handleAck(e)).ifPresent(t -> ofNullable(eventCallback).ifPresent(Runnable::run));
     }
@@ -111,6 +197,9 @@ public class TaskManagerRedis implements TaskManager {
         // we cannot close RedissonClient connection pool as it may be used by other keys
         eventTopic.removeAllListeners();
         tasks.delete();
+        taskArgs.delete();
+        taskResults.delete();
+        deleteIndexes();
         if (taskQueue instanceof RedissonBlockingQueue) {
             ((RedissonBlockingQueue<Task<?>>) taskQueue).delete();
         }
@@ -119,14 +208,115 @@ public class TaskManagerRedis implements TaskManager {
     @Override
     public void clear() {
         tasks.clear();
+        taskArgs.clear();
+        taskResults.clear();
+        deleteIndexes();
         taskQueue.clear();
     }
 
     public boolean save(Task<?> task) {
-        Task<?> oldVal = tasks.put(task.id, task);
+        Task<?> oldVal = tasks.put(task.id, stateOf(task));
+        if (oldVal == null) {
+            taskArgs.fastPut(task.id, argsOf(task));
+            addToIndexes(task);
+        } else if (oldVal.getState() != task.getState()) {
+            stateTaskIds(oldVal.getState()).remove(task.id);
+            stateTaskIds(task.getState()).add(task.id);
+        }
+        if (task.getResult() != null) {
+            taskResults.fastPut(task.id, resultOf(task));
+        }
         return oldVal == null;
     }
 
+    private Map<String, Task<?>> getAll(Set<String> ids) {
+        Map<String, Task<?>> args = taskArgs.getAll(ids);
+        return tasks.getAll(ids).entrySet().stream().collect(
+                toMap(Map.Entry::getKey, e -> withArgs(e.getValue(), args.get(e.getKey()))));
+    }
+
+    private Map<String, Task<?>> withResults(Map<String, Task<?>> tasks) {
+        Map<String, Task<?>> results = taskResults.getAll(tasks.keySet());
+        return tasks.entrySet().stream().collect(toMap(Map.Entry::getKey, e -> withResult(e.getValue(), results.get(e.getKey()))));
+    }
+
+    private static <V> Task<V> stateOf(Task<V> task) {
+        Task<V> state = new Task<>(task.id, task.name, task.getState(), task.getProgress(), null, null);
+        state.error = task.getError();
+        return state;
+    }
+
+    private static <V> Task<V> argsOf(Task<V> task) {
+        return new Task<>(task.id, task.name, null, 0, null, task.args);
+    }
+
+    private static <V> Task<V> resultOf(Task<V> task) {
+        return new Task<>(task.id, task.name, null, 0, task.getResult(), null);
+    }
+
+    private static <V> Task<V> withArgs(Task<V> state, Task<?> args) {
+        if (args == null) {
+            return state;
+        }
+        Task<V> task = new Task<>(state.id, state.name, state.getState(), state.getProgress(), null, args.args);
+        task.error = state.getError();
+        return task;
+    }
+
+    private static <V> Task<V> withResult(Task<V> task, Task<?> result) {
+        if (result == null) {
+            return task;
+        }
+        Task<V> taskWithResult = new Task<>(task.id, task.name, task.getState(), task.getProgress(), (V) result.getResult(), task.args);
+        taskWithResult.error = task.getError();
+        return taskWithResult;
+    }
+
+    /**
+     * tasks saved before the split of state/args/results have them all in the task map
+     */
+    private void splitTasks() {
+        logger.info("splitting task args and results for {}", taskMapName);
+        for (Task<?> task : tasks.values()) {
+            tasks.fastPut(task.id, stateOf(task));
+            taskArgs.fastPut(task.id, argsOf(task));
+            if (task.getResult() != null) {
+                taskResults.fastPut(task.id, resultOf(task));
+            }
+        }
+    }
+
+    private void addToIndexes(Task<?> task) {
+        taskNames.fastPut(task.id, task.name);
+        ofNullable(task.getUser()).ifPresent(u -> userTaskIds(u).add(task.id));
+        ofNullable(task.getState()).ifPresent(st -> stateTaskIds(st).add(task.id));
+    }
+
+    private void removeFromIndexes(Task<?> task) {
+        taskNames.fastRemove(task.id);
+        ofNullable(task.getUser()).ifPresent(u -> userTaskIds(u).remove(task.id));
+        ofNullable(task.getState()).ifPresent(st -> stateTaskIds(st).remove(task.id));
+    }
+
+    private void reindex() {
+        logger.info("building task indexes for {}", taskMapName);
+        getAll(tasks.readAllKeySet()).values().forEach(this::addToIndexes);
+    }
+
+    private void deleteIndexes() {
+        taskNames.delete();
+        redissonClient.getKeys().deleteByPattern(taskMapName + ":user:*");
+        redissonClient.getKeys().deleteByPattern(taskMapName + ":state:*");
+    }
+
+    private RSet<String> userTaskIds(User user) {
+        return redissonClient.getSet(taskMapName + ":user:" + user.getId(), StringCodec.INSTANCE);
+    }
+
+    private RSet<String> stateTaskIds(Task.State state) {
+        return redissonClient.getSet(taskMapName + ":state:" + state, StringCodec.INSTANCE);
+    }
+
     @Override
     public void enqueue(Task<?> task) {
         taskQueue.add(task);
@@ -21,14 +21,23 @@ import java.util.function.Consumer;
 
 
 public class TaskSupplierAmqp implements TaskSupplier {
-    final AmqpConsumer<Task, Consumer<Task>> consumer;
+    final List<AmqpConsumer<Task, Consumer<Task>>> consumers = new LinkedList<>();
     final AmqpConsumer<TaskEvent, Consumer<TaskEvent>> eventConsumer;
     final List<Consumer<TaskEvent>> eventCallbackList = new LinkedList<>();
     private final AmqpInterlocutor amqp;
 
     public TaskSupplierAmqp(AmqpInterlocutor amqp) throws IOException {
+        this(amqp, 1);
+    }
+
+    /**
+     * @param nbConsumers number of task consumers. Each one has its own channel so their tasks are run concurrently.
+     */
+    public TaskSupplierAmqp(AmqpInterlocutor amqp, int nbConsumers) throws IOException {
         this.amqp = amqp;
-        consumer = new AmqpConsumer<>(amqp, null, AmqpQueue.TASK, Task.class);
+        for (int i = 0; i < nbConsumers; i++) {
+            consumers.add(new AmqpConsumer<>(amqp, null, AmqpQueue.TASK, Task.class));
+        }
         eventConsumer = new AmqpConsumer<>(amqp, this::handleEvent, AmqpQueue.WORKER_EVENT, TaskEvent.class).consumeEvents();
     }
 
@@ -49,7 +58,7 @@ public class TaskSupplierAmqp implements TaskSupplier {
 
     @Override
     public void consumeTasks(Consumer<Task> taskCallback) {
-        consumer.consumeEvents(taskCallback);
+        consumers.forEach(consumer -> consumer.consumeEvents(taskCallback));
     }
 
     @Override
@@ -93,11 +102,13 @@ public class TaskSupplierAmqp implements TaskSupplier {
 
     @Override
     public void waitForConsumer() {
-        consumer.waitUntilChannelIsClosed();
+        consumers.forEach(AmqpConsumer::waitUntilChannelIsClosed);
     }
 
     @Override
     public void close() throws IOException {
-        consumer.shutdown();
+        for (AmqpConsumer<Task, Consumer<Task>> consumer : consumers) {
+            consumer.shutdown();
+        }
     }
 }
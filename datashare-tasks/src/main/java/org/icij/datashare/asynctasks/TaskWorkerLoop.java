@@ -10,47 +10,85 @@ import sun.misc.Signal;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Arrays.stream;
+import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toMap;
 
-
+/**
+ * Runs the tasks given by the task supplier.
+ * <p>
+ * With nbWorkers &gt; 1 several tasks are run concurrently in this process: the loop only takes
+ * a task from the supplier when a worker is free (for AMQP the supplier has to provide one consumer per worker).
+ * The number of concurrent tasks of a given type can be limited with taskLimits (ex: BatchSearchRunner=8,BatchDownloadRunner=2).
+ * When the limit is reached the polled task is kept pending without holding a worker, and is run when a task of the
+ * same type finishes, while tasks of other types keep being polled. An AMQP task is nack-ed with requeue so that
+ * the consumer can take another task.
+ * </p>
+ */
 public class TaskWorkerLoop implements Callable<Integer>, Closeable {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final TaskFactory factory;
     private final TaskSupplier taskSupplier;
-    final AtomicReference<Callable<?>> currentTaskReference = new AtomicReference<>();
-    final AtomicReference<Task<?>> currentTask = new AtomicReference<>();
+    final ConcurrentHashMap<String, RunningTask> runningTasks = new ConcurrentHashMap<>();
     public static final Task<Serializable> POISON = Task.nullObject();
+    static final int TASK_SLOT_WAIT_MILLIS = 1000;
     private final CountDownLatch waitForMainLoopCalled; // for tests only
     private final int pollTimeMillis;
+    private final int nbWorkers;
+    private final Semaphore workers;
+    private final Map<String, Integer> taskLimits;
+    private final ConcurrentHashMap<String, Semaphore> taskSlots = new ConcurrentHashMap<>();
+    // tasks waiting for a slot of their type, also used as the lock for handing slots over
+    private final Map<String, Deque<Task<Serializable>>> pendingTasks = new HashMap<>();
     private final ConcurrentHashMap<String, Boolean> cancelledTasks;
     private volatile boolean exitAsked = false;
     private volatile Thread loopThread;
-    private int nbTasks = 0;
+    private final AtomicInteger nbTasks = new AtomicInteger(0);
 
     public TaskWorkerLoop(TaskFactory factory, TaskSupplier taskSupplier) {
         this(factory, taskSupplier, new CountDownLatch(1));
     }
 
+    public TaskWorkerLoop(TaskFactory factory, TaskSupplier taskSupplier, int nbWorkers, Map<String, Integer> taskLimits) {
+        this(factory, taskSupplier, new CountDownLatch(1), 60_000, nbWorkers, taskLimits);
+    }
+
     TaskWorkerLoop(TaskFactory factory, TaskSupplier taskSupplier, CountDownLatch countDownLatch) {
         this(factory, taskSupplier, countDownLatch, 60_000);
     }
 
     TaskWorkerLoop(TaskFactory factory, TaskSupplier taskSupplier, CountDownLatch countDownLatch, int pollTimeMillis) {
+        this(factory, taskSupplier, countDownLatch, pollTimeMillis, 1, emptyMap());
+    }
+
+    TaskWorkerLoop(TaskFactory factory, TaskSupplier taskSupplier, CountDownLatch countDownLatch, int pollTimeMillis,
+                   int nbWorkers, Map<String, Integer> taskLimits) {
         this.factory = factory;
         this.taskSupplier = taskSupplier;
         this.waitForMainLoopCalled = countDownLatch;
         this.pollTimeMillis = pollTimeMillis;
+        this.nbWorkers = nbWorkers;
+        this.workers = new Semaphore(nbWorkers);
+        this.taskLimits = taskLimits;
         this.cancelledTasks = new ConcurrentHashMap<>();
         Signal.handle(new Signal("TERM"), signal -> {
             exitAsked = true;
             cancel(null, true);
-            ofNullable(loopThread).ifPresent(Thread::interrupt); // for interrupting poll
+            interruptThreads(); // for interrupting poll and running tasks
         });
         taskSupplier.addEventListener((event -> {
             // TODO: python alignment possible, in Python if the
@@ -66,14 +104,28 @@ public class TaskWorkerLoop implements Callable<Integer>, Closeable {
         }));
     }
 
+    /**
+     * @param limits comma separated list of task name (simple class name or fully qualified name) = max concurrent tasks
+     */
+    public static Map<String, Integer> parseTaskLimits(String limits) {
+        if (limits == null || limits.isBlank()) {
+            return emptyMap();
+        }
+        return stream(limits.split(","))
+                .map(String::trim)
+                .filter(kv -> !kv.isEmpty())
+                .map(kv -> kv.split("="))
+                .collect(toMap(kv -> kv[0].trim(), kv -> Integer.parseInt(kv[1].trim())));
+    }
+
     public Integer call()  {
         waitForMainLoopCalled.countDown();
         if (taskSupplier instanceof TaskSupplierAmqp) {
             taskSupplier.consumeTasks(this::handle);
             taskSupplier.waitForConsumer();
-            return nbTasks;
+            return nbTasks.get();
         } else {
-            return mainLoop();
+            return nbWorkers > 1 ? concurrentLoop() : mainLoop();
         }
     }
 
@@ -92,60 +144,217 @@ public class TaskWorkerLoop implements Callable<Integer>, Closeable {
             }
         }
         logger.info("Exiting loop after {} tasks", nbTasks);
-        return nbTasks;
+        return nbTasks.get();
     }
 
-    void handle(Task<?> task) {
+    private Integer concurrentLoop() {
         loopThread = Thread.currentThread();
-        currentTask.set(task);
-        if (cancelledTasks.get(currentTask.get().id) != null) {
-            logger.info("cancelled task {} not executed", currentTask.get().id);
-            taskSupplier.canceled(currentTask.get(), cancelledTasks.remove(currentTask.get().id));
-        } else {
+        ExecutorService executor = Executors.newFixedThreadPool(nbWorkers, runnable -> new Thread(runnable, "task-worker"));
+        Task<Serializable> task = null;
+        logger.info("Waiting tasks from supplier ({}) with {} workers and limits {}", taskSupplier.getClass(), nbWorkers, taskLimits);
+        try {
+            while (!POISON.equals(task) && !exitAsked) {
+                try {
+                    workers.acquire();
+                    try {
+                        task = taskSupplier.get(pollTimeMillis, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException | RuntimeException e) {
+                        workers.release();
+                        throw e;
+                    }
+                    if (task != null && !POISON.equals(task)) {
+                        submit(executor, task);
+                    } else {
+                        workers.release();
+                    }
+                } catch (InterruptedException e) {
+                    logger.info("get from task supplier has been interrupted");
+                }
+            }
+        } finally {
+            awaitPendingTasks();
+            awaitRunningTasks(executor);
+        }
+        logger.info("Exiting loop after {} tasks", nbTasks);
+        return nbTasks.get();
+    }
+
+    /**
+     * submits the task holding a worker. If the limit of its type is reached, the worker is released
+     * and the task is pending until a running task of the same type hands its slot over.
+     */
+    private void submit(ExecutorService executor, Task<Serializable> task) {
+        Semaphore taskSlot = taskSlot(task);
+        if (taskSlot != null) {
+            synchronized (pendingTasks) {
+                if (!taskSlot.tryAcquire()) {
+                    logger.info("too many running {} tasks, task {} is pending", task.name, task.id);
+                    pendingTasks.computeIfAbsent(task.name, name -> new ArrayDeque<>()).add(task);
+                    workers.release();
+                    return;
+                }
+            }
+        }
+        executor.submit(() -> runAndRelease(executor, task, taskSlot));
+    }
+
+    /**
+     * runs the next pending task of the same type with the slot and the worker of the finished task.
+     * It is submitted with the lock held, so that the executor cannot be shut down meanwhile.
+     *
+     * @return false if there is no pending task, then the slot is released
+     */
+    private boolean runNextPendingTask(ExecutorService executor, String taskName, Semaphore taskSlot) {
+        synchronized (pendingTasks) {
+            Deque<Task<Serializable>> pending = pendingTasks.get(taskName);
+            Task<Serializable> next = pending == null ? null : pending.poll();
+            if (pending != null && pending.isEmpty()) {
+                pendingTasks.remove(taskName);
+                pendingTasks.notifyAll();
+            }
+            if (next == null) {
+                taskSlot.release();
+                return false;
+            }
+            executor.submit(() -> runAndRelease(executor, next, taskSlot));
+            return true;
+        }
+    }
+
+    /**
+     * waits for the pending tasks to be run when the loop has ended with the poison task.
+     * If the exit is asked or the loop thread is interrupted, they are requeued.
+     */
+    private void awaitPendingTasks() {
+        synchronized (pendingTasks) {
             try {
-                Callable<?> taskFn;
-                taskFn = TaskFactoryHelper.createTaskCallable(factory, currentTask.get().name, currentTask.get(),
-                        currentTask.get().progress(taskSupplier::progress));
-                currentTaskReference.set(taskFn);
-                logger.info("running task {}", currentTask.get());
-                taskSupplier.progress(currentTask.get().id, 0);
-                Serializable result = (Serializable) taskFn.call();
-                taskSupplier.result(currentTask.get().id, result);
-                nbTasks++;
-            } catch (CancelException cex) {
-                // TODO: this has to be improved/simplified. The cancellation mechanism relies on
-                //  the fact that the CancellableTask code will properly handle the cancellation.
-                //  However while some task correctly throw a CancelException and correctly forward
-                //  the requeue arg. However some tasks like the PipelineTask simple throw an
-                //  InterruptedException and without rethrowing a new CancelException(requeue) with
-                //  the requeue attribute correctly set. This will lead to unexpected behavior,
-                //  such asking for cancel with requeue argument which is actually ignored.
-                logger.error("task {} cancelled with requeue = {}", currentTask, cex.requeue);
-                taskSupplier.canceled(currentTask.get(), cex.requeue);
-            } catch (InterruptedException iex) {
-                logger.error("task {} interrupted, cancelling it", currentTask.get(), iex);
-                ofNullable(currentTask.get()).ifPresent(t -> taskSupplier.canceled(t, false));
-            } catch (RuntimeException ex) {
-                logger.error("error running task {}", currentTask.get(), ex);
-                if (currentTask.get() != null && !currentTask.get().isNull()) {
-                    taskSupplier.error(currentTask.get().id, new TaskError(ex));
+                while (!exitAsked && !pendingTasks.isEmpty()) {
+                    logger.info("waiting for {} pending task types", pendingTasks.size());
+                    pendingTasks.wait(pollTimeMillis);
                 }
-            } catch (ReflectiveOperationException unknownTask) {
-                throw new NackException(unknownTask, true);
-            } catch (Error | Exception ex) {
-                throw new NackException(ex, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pendingTasks.values().forEach(pending -> pending.forEach(task -> {
+                logger.info("requeuing pending task {}", task.id);
+                taskSupplier.canceled(task, true);
+            }));
+            pendingTasks.clear();
+        }
+    }
+
+    private void awaitRunningTasks(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(pollTimeMillis, TimeUnit.MILLISECONDS)) {
+                logger.info("waiting for {} running tasks", runningTasks.size());
+            }
+        } catch (InterruptedException e) {
+            logger.info("interrupted while waiting for running tasks, cancelling them");
+            cancel(null, true);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runAndRelease(ExecutorService executor, Task<Serializable> task, Semaphore taskSlot) {
+        try {
+            run(task);
+        } catch (NackException nex) {
+            // no nack for the polling suppliers, the task cannot be run by this worker
+            logger.error("task {} cannot be run (requeue={})", task, nex.requeue, nex);
+        } finally {
+            if (taskSlot == null || !runNextPendingTask(executor, task.name, taskSlot)) {
+                workers.release();
+            }
+        }
+    }
+
+    /**
+     * runs the task in the calling thread. If the limit of its type is still reached after
+     * {@value #TASK_SLOT_WAIT_MILLIS}ms, the task is nack-ed with requeue.
+     */
+    void handle(Task<?> task) {
+        Semaphore taskSlot = taskSlot(task);
+        if (taskSlot != null) {
+            try {
+                if (!taskSlot.tryAcquire(TASK_SLOT_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    logger.info("too many running {} tasks, requeuing task {}", task.name, task.id);
+                    throw new NackException(new IllegalStateException("limit reached for " + task.name), true);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NackException(e, true);
+            }
+        }
+        try {
+            run(task);
+        } finally {
+            if (taskSlot != null) {
+                taskSlot.release();
+            }
+        }
+    }
+
+    private void run(Task<?> task) {
+        if (cancelledTasks.get(task.id) != null) {
+            logger.info("cancelled task {} not executed", task.id);
+            taskSupplier.canceled(task, cancelledTasks.remove(task.id));
+            return;
+        }
+        try {
+            try {
+                Callable<?> taskFn = TaskFactoryHelper.createTaskCallable(factory, task.name, task, task.progress(taskSupplier::progress));
+                runningTasks.put(task.id, new RunningTask(task, taskFn, Thread.currentThread()));
+                logger.info("running task {}", task);
+                taskSupplier.progress(task.id, 0);
+                Serializable result = (Serializable) taskFn.call();
+                taskSupplier.result(task.id, result);
+                nbTasks.incrementAndGet();
             } finally {
-                currentTaskReference.set(null);
-                currentTask.set(null);
+                runningTasks.remove(task.id);
+            }
+        } catch (CancelException cex) {
+            // TODO: this has to be improved/simplified. The cancellation mechanism relies on
+            //  the fact that the CancellableTask code will properly handle the cancellation.
+            //  However while some task correctly throw a CancelException and correctly forward
+            //  the requeue arg. However some tasks like the PipelineTask simple throw an
+            //  InterruptedException and without rethrowing a new CancelException(requeue) with
+            //  the requeue attribute correctly set. This will lead to unexpected behavior,
+            //  such asking for cancel with requeue argument which is actually ignored.
+            logger.error("task {} cancelled with requeue = {}", task, cex.requeue);
+            taskSupplier.canceled(task, cex.requeue);
+        } catch (InterruptedException iex) {
+            logger.error("task {} interrupted, cancelling it", task, iex);
+            taskSupplier.canceled(task, false);
+        } catch (RuntimeException ex) {
+            logger.error("error running task {}", task, ex);
+            if (!task.isNull()) {
+                taskSupplier.error(task.id, new TaskError(ex));
             }
+        } catch (ReflectiveOperationException unknownTask) {
+            throw new NackException(unknownTask, true);
+        } catch (Error | Exception ex) {
+            throw new NackException(ex, false);
         }
     }
 
+    private Semaphore taskSlot(Task<?> task) {
+        String simpleName = task.name.substring(Math.max(task.name.lastIndexOf('.'), task.name.lastIndexOf('$')) + 1);
+        Integer limit = ofNullable(taskLimits.get(task.name)).orElse(taskLimits.get(simpleName));
+        return limit == null ? null : taskSlots.computeIfAbsent(task.name, name -> new Semaphore(limit));
+    }
+
     @Override
     public void close() throws IOException {
         exitAsked = true;
         taskSupplier.close();
+        interruptThreads();
+    }
+
+    private void interruptThreads() {
         ofNullable(loopThread).ifPresent(Thread::interrupt);
+        runningTasks.values().forEach(running -> running.thread.interrupt());
     }
 
     public void cancel(String taskId, boolean requeue) {
@@ -155,12 +364,14 @@ public class TaskWorkerLoop implements Callable<Integer>, Closeable {
         //  some useful behavior will be painful to implement:
         //  - global graceful shutdown (task which are not cancellable will run until complete...)
         //  - graceful restart of a task
-        ofNullable(currentTaskReference.get()).ifPresent(t -> {
-            if (CancellableTask.class.isAssignableFrom(t.getClass()) &&
-                    (taskId == null || (currentTask.get() != null && taskId.equals(currentTask.get().id)))) {
-                logger.info("cancelling callable for task {} requeue={}", taskId, requeue);
-                ((CancellableTask) t).cancel(requeue);
-            }
-        });
+        runningTasks.values().stream()
+                .filter(running -> taskId == null || taskId.equals(running.task.id))
+                .filter(running -> running.callable instanceof CancellableTask)
+                .forEach(running -> {
+                    logger.info("cancelling callable for task {} requeue={}", running.task.id, requeue);
+                    ((CancellableTask) running.callable).cancel(requeue);
+                });
     }
+
+    record RunningTask(Task<?> task, Callable<?> callable, Thread thread) {}
 }
@@ -3,9 +3,10 @@ package org.icij.datashare.asynctasks.bus.amqp;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.BuiltinExchangeType;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.ConfirmCallback;
 import com.rabbitmq.client.DefaultConsumer;
 import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.Recoverable;
+import com.rabbitmq.client.RecoveryListener;
 import org.icij.datashare.asynctasks.NackException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,18 +14,28 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
+import static java.util.Collections.emptyList;
+
 /**
  * AmqpChannel is handling publish errors with Publisher Confirm mechanism.
  * It encapsulates a channel, and expose consume/publish related functions.
+ * Publish doesn't wait for each confirm: at most maxInFlight messages can be unconfirmed,
+ * and nack-ed messages are published again publishRetries times.
  * see <a href="https://www.rabbitmq.com/confirms.html#publisher-confirms">rabbitMQ documentation</a>
  */
 public class AmqpChannel {
@@ -34,33 +45,176 @@ public class AmqpChannel {
 	private final boolean exclusive = false;
 	private final boolean autoDelete = false;
 	private final Logger logger = LoggerFactory.getLogger(this.getClass());
-	private final ConcurrentNavigableMap<Long, byte[]> outstandingConfirms = new ConcurrentSkipListMap<>();
+	private final ConcurrentNavigableMap<Long, Outstanding> outstandingConfirms = new ConcurrentSkipListMap<>();
+	private final Semaphore inFlight;
+	private final int maxInFlight;
+	private final int publishRetries;
+	private final int confirmTimeout;
 	final Channel rabbitMqChannel;
 	final AmqpQueue queue;
 	private final int randomQueueNumber;
+	private boolean recovering = false;
 
-	private final ConfirmCallback cleanOutstandingConfirms = (sequenceNumber, multiple) -> {
-		if (multiple) {
-			ConcurrentNavigableMap<Long, byte[]> confirmed = outstandingConfirms.headMap(sequenceNumber, true);
-			confirmed.clear();
-		} else {
-			outstandingConfirms.remove(sequenceNumber);
-		}
-	};
-	
 	public AmqpChannel(Channel channel, AmqpQueue queue) {
+		this(channel, queue, Configuration.DEFAULT_MAX_IN_FLIGHT, Configuration.DEFAULT_PUBLISH_RETRIES, Configuration.DEFAULT_CONFIRM_TIMEOUT);
+	}
+
+	/**
+	 * @param maxInFlight maximum number of published messages not confirmed by the broker, publish blocks when it is reached
+	 * @param publishRetries number of times a nack-ed message is published again before being dropped
+	 * @param confirmTimeout milliseconds to wait for a free publish slot and for outstanding confirms when closing
+	 */
+	public AmqpChannel(Channel channel, AmqpQueue queue, int maxInFlight, int publishRetries, int confirmTimeout) {
 		this.rabbitMqChannel = channel;
-		channel.addConfirmListener(cleanOutstandingConfirms, (sequenceNumber, multiple) -> {
-			byte[] body = outstandingConfirms.get(sequenceNumber);
-			logger.error("Message with body {} has been nack-ed. Sequence number: {}, multiple: {}", new String(body), sequenceNumber, multiple);
-			cleanOutstandingConfirms.handle(sequenceNumber, multiple);
-		});
 		this.queue = queue;
+		this.maxInFlight = maxInFlight;
+		this.inFlight = new Semaphore(maxInFlight);
+		this.publishRetries = publishRetries;
+		this.confirmTimeout = confirmTimeout;
 		this.randomQueueNumber = rand.nextInt(1000);
+		channel.addConfirmListener(this::handleAck, this::handleNack);
+		if (channel instanceof Recoverable) {
+			((Recoverable) channel).addRecoveryListener(new RecoveryListener() {
+				@Override public void handleRecovery(Recoverable recoverable) { publishOutstandingAgain(); }
+				@Override public void handleRecoveryStarted(Recoverable recoverable) { startRecovery(); }
+			});
+		}
 	}
 
+	/**
+	 * publishes the event without waiting for the broker confirm. The confirms are received asynchronously
+	 * (possibly one for several messages) and free the in-flight slots.
+	 */
 	void publish(Event event) throws IOException {
-		rabbitMqChannel.basicPublish(queue.exchange, queue.routingKey, null, event.serialize());
+		try {
+			if (!inFlight.tryAcquire(confirmTimeout, TimeUnit.MILLISECONDS)) {
+				throw new IOException(String.format("timeout waiting for %d outstanding confirms on %s", maxInFlight, this));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for outstanding confirms on " + this);
+		}
+		try {
+			basicPublish(new Outstanding(event.serialize(), 0));
+		} catch (IOException | RuntimeException e) {
+			inFlight.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * waits until all the published messages have been confirmed by the broker.
+	 * @return false if the timeout has elapsed before
+	 */
+	boolean waitForConfirms(long timeoutMs) throws InterruptedException {
+		if (inFlight.tryAcquire(maxInFlight, timeoutMs, TimeUnit.MILLISECONDS)) {
+			inFlight.release(maxInFlight);
+			return true;
+		}
+		return false;
+	}
+
+	int outstandingConfirms() {
+		return outstandingConfirms.size();
+	}
+
+	private void basicPublish(Outstanding message) throws IOException {
+		synchronized (rabbitMqChannel) {
+			waitForRecovery();
+			publishWithSequenceNumber(message);
+		}
+	}
+
+	private void publishWithSequenceNumber(Outstanding message) throws IOException {
+		long sequenceNumber = rabbitMqChannel.getNextPublishSeqNo();
+		outstandingConfirms.put(sequenceNumber, message);
+		try {
+			rabbitMqChannel.basicPublish(queue.exchange, queue.routingKey, null, message.body);
+		} catch (IOException | RuntimeException e) {
+			outstandingConfirms.remove(sequenceNumber);
+			throw e;
+		}
+	}
+
+	private void waitForRecovery() throws IOException {
+		long deadline = System.currentTimeMillis() + confirmTimeout;
+		try {
+			while (recovering) {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					throw new IOException(String.format("timeout waiting for the recovery of %s", this));
+				}
+				rabbitMqChannel.wait(remaining);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for the recovery of " + this);
+		}
+	}
+
+	private void startRecovery() {
+		synchronized (rabbitMqChannel) {
+			recovering = true;
+		}
+	}
+
+	/**
+	 * sequence numbers start again after a channel recovery, so the confirms of the messages
+	 * published before will never be received. They are published again on the new channel,
+	 * and the publications are blocked from the recovery start until they are all published again,
+	 * so that the new sequence numbers don't overwrite the unconfirmed messages.
+	 */
+	private void publishOutstandingAgain() {
+		synchronized (rabbitMqChannel) {
+			try {
+				List<Outstanding> unconfirmed = new ArrayList<>(outstandingConfirms.values());
+				outstandingConfirms.clear();
+				logger.info("channel {} recovered, publishing {} unconfirmed messages again", this, unconfirmed.size());
+				for (Outstanding message : unconfirmed) {
+					try {
+						publishWithSequenceNumber(message);
+					} catch (IOException | RuntimeException e) {
+						logger.error("cannot publish again message {}", new String(message.body), e);
+						inFlight.release();
+					}
+				}
+			} finally {
+				recovering = false;
+				rabbitMqChannel.notifyAll();
+			}
+		}
+	}
+
+	private void handleAck(long sequenceNumber, boolean multiple) {
+		inFlight.release(removeConfirmed(sequenceNumber, multiple).size());
+	}
+
+	private void handleNack(long sequenceNumber, boolean multiple) {
+		for (Outstanding message : removeConfirmed(sequenceNumber, multiple)) {
+			if (message.attempts < publishRetries) {
+				logger.warn("message {} has been nack-ed, publishing it again (attempt {}/{})", new String(message.body), message.attempts + 1, publishRetries);
+				try {
+					basicPublish(new Outstanding(message.body, message.attempts + 1));
+					continue;
+				} catch (IOException | RuntimeException e) {
+					logger.error("cannot publish again message {}", new String(message.body), e);
+				}
+			} else {
+				logger.error("Message with body {} has been nack-ed {} times. Sequence number: {}, multiple: {}", new String(message.body), message.attempts + 1, sequenceNumber, multiple);
+			}
+			inFlight.release();
+		}
+	}
+
+	private Collection<Outstanding> removeConfirmed(long sequenceNumber, boolean multiple) {
+		if (multiple) {
+			ConcurrentNavigableMap<Long, Outstanding> confirmed = outstandingConfirms.headMap(sequenceNumber, true);
+			List<Outstanding> messages = new ArrayList<>(confirmed.values());
+			confirmed.clear();
+			return messages;
+		}
+		Outstanding message = outstandingConfirms.remove(sequenceNumber);
+		return message == null ? emptyList() : List.of(message);
 	}
 
 	String consume(Consumer<byte[]> bodyHandler, ConsumerCriteria criteria, CancelFunction cancelCallback) throws IOException {
@@ -92,11 +246,17 @@ public class AmqpChannel {
 	public void close() throws IOException {
 		try {
 			if (rabbitMqChannel.isOpen()) {
+				if (!outstandingConfirms.isEmpty() && !waitForConfirms(confirmTimeout)) {
+					logger.warn("closing channel {} with {} messages not confirmed", this, outstandingConfirms.size());
+				}
 				rabbitMqChannel.close();
 				logger.info("channel {} was open it has been closed", this);
 			}
 		} catch (TimeoutException e) {
 			throw new RuntimeException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while closing " + this);
 		}
 	}
 
@@ -111,6 +271,7 @@ public class AmqpChannel {
     }
 
 	void initForPublish() throws IOException {
+		rabbitMqChannel.confirmSelect();
 		rabbitMqChannel.exchangeDeclare(queue.exchange, queue.exchangeType, durable);
 	}
 
@@ -131,6 +292,8 @@ public class AmqpChannel {
 		rabbitMqChannel.basicQos(nbMaxMessages);
 	}
 
+	private record Outstanding(byte[] body, int attempts) {}
+
 	@FunctionalInterface
 	interface CancelFunction {
 		void cancel() throws IOException;
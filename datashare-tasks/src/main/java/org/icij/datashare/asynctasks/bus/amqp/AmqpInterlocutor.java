@@ -80,7 +80,7 @@ public class AmqpInterlocutor {
     }
 
     public synchronized AmqpInterlocutor createAmqpChannelForPublish(AmqpQueue queue) throws IOException {
-        AmqpChannel channel = new AmqpChannel(connection.createChannel(), queue);
+        AmqpChannel channel = new AmqpChannel(connection.createChannel(), queue, configuration.maxInFlight, configuration.publishRetries, configuration.confirmTimeout);
         channel.initForPublish();
         publishChannels.put(queue, channel);
         logger.info("publish channel " + channel + " has been created for exchange {}", queue.exchange);
@@ -89,7 +89,7 @@ public class AmqpInterlocutor {
 
     public synchronized AmqpChannel createAmqpChannelForConsume(AmqpQueue queue) throws IOException {
         AmqpChannel channel = new AmqpChannel(connection.createChannel(), queue);
-        channel.initForConsume(configuration.rabbitMq, configuration.nbMaxMessages);
+        channel.initForConsume(configuration.rabbitMq, configuration.prefetch(queue));
         logger.info("consume channel {} has been created for queue {}", channel, channel.queueName(AmqpChannel.WORKER_PREFIX));
         return channel;
     }
@@ -13,6 +13,10 @@ import static java.util.Optional.ofNullable;
  */
 public class Configuration {
 	private static final int DEFAULT_CONNECTION_RECOVERY_DELAY = 5000;
+	static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+	static final int DEFAULT_PUBLISH_RETRIES = 3;
+	static final int DEFAULT_CONFIRM_TIMEOUT = 10000;
+	private static final String PREFETCH_PREFIX = "nbMaxMessages.";
 	public final String host;
 	public final int port;
 	public final String user;
@@ -21,6 +25,10 @@ public class Configuration {
 	public final int requeueDelay;
 	public final int connectionRecoveryDelay;
 	public final boolean rabbitMq;
+	public final int maxInFlight;
+	public final int publishRetries;
+	public final int confirmTimeout;
+	private final Map<AmqpQueue, Integer> prefetch;
 
 	public Configuration(URI amqpAddress) {
 		assert "amqp".equals(amqpAddress.getScheme());
@@ -45,6 +53,12 @@ public class Configuration {
 		String connectionRecoveryDelayStr = properties.get("recoveryDelay");
 		connectionRecoveryDelay = connectionRecoveryDelayStr == null ?
 				DEFAULT_CONNECTION_RECOVERY_DELAY : Integer.parseInt(connectionRecoveryDelayStr);
+		maxInFlight = Integer.parseInt(ofNullable(properties.get("maxInFlight")).orElse(String.valueOf(DEFAULT_MAX_IN_FLIGHT)));
+		publishRetries = Integer.parseInt(ofNullable(properties.get("publishRetries")).orElse(String.valueOf(DEFAULT_PUBLISH_RETRIES)));
+		confirmTimeout = Integer.parseInt(ofNullable(properties.get("confirmTimeout")).orElse(String.valueOf(DEFAULT_CONFIRM_TIMEOUT)));
+		prefetch = properties.entrySet().stream()
+				.filter(e -> e.getKey().startsWith(PREFETCH_PREFIX))
+				.collect(Collectors.toMap(e -> AmqpQueue.valueOf(e.getKey().substring(PREFETCH_PREFIX.length())), e -> Integer.parseInt(e.getValue())));
 	}
 
 	public Configuration(String host, int port, String user, String password, int nbMessageMax) {
@@ -56,10 +70,22 @@ public class Configuration {
 		this.requeueDelay = 30;
 		this.connectionRecoveryDelay = DEFAULT_CONNECTION_RECOVERY_DELAY;
 		this.rabbitMq = true;
+		this.maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+		this.publishRetries = DEFAULT_PUBLISH_RETRIES;
+		this.confirmTimeout = DEFAULT_CONFIRM_TIMEOUT;
+		this.prefetch = Collections.emptyMap();
+	}
+
+	/**
+	 * @return the number of unacknowledged messages a consumer of the queue can receive.
+	 * It is nbMaxMessages unless nbMaxMessages.QUEUE_NAME is given (ex: nbMaxMessages.TASK=1)
+	 */
+	public int prefetch(AmqpQueue queue) {
+		return prefetch.getOrDefault(queue, nbMaxMessages);
 	}
 	
 	@Override public String toString() {
 		return user + "@" + host + ":" + port + "-"  + nbMaxMessages
-				+ " max requeueDelay=" + requeueDelay;
+				+ " max requeueDelay=" + requeueDelay + " maxInFlight=" + maxInFlight;
 	}
 }
@@ -9,13 +9,16 @@ import org.junit.After;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -99,7 +102,71 @@ public class TaskManagerRedisTest {
         assertThat(waitForEvent.await(100, TimeUnit.SECONDS)).isTrue();
 
         assertThat(taskManager.getTasks()).hasSize(1);
-        assertThat(taskManager.getTasks().get(0).getResult()).isEqualTo(expectedResult);
+        assertThat(taskManager.getTasks().get(0).getState()).isEqualTo(Task.State.DONE);
+        assertThat(taskManager.getTasks().get(0).getResult()).isNull();
+        assertThat((String) taskManager.getTaskResult(taskViewId)).isEqualTo(expectedResult);
+    }
+
+    @Test
+    public void test_get_tasks_with_and_without_results() throws Exception {
+        String taskViewId = taskManager.startTask("HelloWorld", User.local(), new HashMap<>());
+        taskSupplier.result(taskViewId, "Hello world!");
+        assertThat(waitForEvent.await(1, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(taskManager.getTasks(User.local(), Pattern.compile(".*")).get(0).getResult()).isNull();
+        assertThat(taskManager.getTasks(User.local(), Pattern.compile(".*"), true).get(0).getResult()).isEqualTo("Hello world!");
+        assertThat(taskManager.getTasks(User.local(), Pattern.compile(".*"), false).get(0).getResult()).isNull();
+        assertThat(taskManager.getTasks(User.local(), Pattern.compile(".*"), false).get(0).getState()).isEqualTo(Task.State.DONE);
+    }
+
+    @Test
+    public void test_get_tasks_by_user_and_name_pattern() throws Exception {
+        taskManager.startTask("org.icij.HelloWorld", User.local(), new HashMap<>());
+        taskManager.startTask("org.icij.Sleep", User.local(), new HashMap<>());
+        taskManager.startTask("org.icij.HelloWorld", new User("foo"), new HashMap<>());
+
+        assertThat(taskManager.getTasks(User.local(), Pattern.compile(".*"))).hasSize(2);
+        assertThat(taskManager.getTasks(User.local(), Pattern.compile(".*Hello.*"))).hasSize(1);
+        assertThat(taskManager.getTasks(new User("foo"), Pattern.compile(".*"))).hasSize(1);
+        assertThat(taskManager.getTasks(new User("bar"), Pattern.compile(".*"))).isEmpty();
+    }
+
+    @Test
+    public void test_clear_done_tasks_keeps_running_tasks() throws Exception {
+        String doneTaskId = taskManager.startTask("sleep", User.local(), new HashMap<>());
+        String queuedTaskId = taskManager.startTask("sleep", User.local(), new HashMap<>());
+        taskSupplier.result(doneTaskId, 12);
+        assertThat(waitForEvent.await(1, TimeUnit.SECONDS)).isTrue();
+
+        List<Task<?>> cleared = taskManager.clearDoneTasks();
+
+        assertThat(cleared).hasSize(1);
+        assertThat(cleared.get(0).id).isEqualTo(doneTaskId);
+        assertThat(taskManager.getTasks(User.local(), Pattern.compile(".*"))).hasSize(1);
+        assertThat(taskManager.getTask(queuedTaskId)).isNotNull();
+        assertThat(taskManager.clearDoneTasks()).isEmpty();
+    }
+
+    @Test
+    public void test_indexes_are_built_for_existing_tasks() throws Exception {
+        taskManager.startTask("HelloWorld", User.local(), new HashMap<>());
+        redissonClient.getMap("test:task:manager:names").delete();
+
+        TaskManagerRedis otherTaskManager = new TaskManagerRedis(redissonClient, taskQueue, "test:task:manager");
+
+        assertThat(otherTaskManager.getTasks(User.local(), Pattern.compile(".*"))).hasSize(1);
+    }
+
+    @Test
+    public void test_task_state_is_stored_apart_from_args_and_result() throws Exception {
+        String taskId = taskManager.startTask("HelloWorld", User.local(), new HashMap<>() {{ put("greeted", "world"); }});
+        taskSupplier.result(taskId, "Hello world !");
+        assertThat(waitForEvent.await(1, TimeUnit.SECONDS)).isTrue();
+
+        String rawState = (String) redissonClient.getMap("test:task:manager", StringCodec.INSTANCE).get(taskId);
+        assertThat(rawState).contains("DONE").excludes("greeted").excludes("Hello world !");
+        assertThat(taskManager.getTask(taskId).args.get("greeted")).isEqualTo("world");
+        assertThat((String) taskManager.getTaskResult(taskId)).isEqualTo("Hello world !");
     }
 
     @Test
@@ -99,6 +99,133 @@ public class TaskWorkerLoopTest {
         verify(supplier).canceled(eq(taskView), eq(false));
     }
 
+    @Test(timeout = 5000)
+    public void test_concurrent_tasks() throws Exception {
+        TaskWorkerLoop app = new TaskWorkerLoop(registry, supplier, new CountDownLatch(1), 100, 2, Map.of());
+        Task<Serializable> task1 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Task<Serializable> task2 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Mockito.when(supplier.get(ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(task1, task2, Task.nullObject());
+        CountDownLatch task1Started = whenTaskHasStarted(task1.id);
+        CountDownLatch task2Started = whenTaskHasStarted(task2.id);
+
+        Thread appThread = new Thread(app::call);
+        appThread.start();
+        task1Started.await();
+        task2Started.await();
+        app.cancel(null, true);
+        appThread.join();
+
+        verify(supplier).canceled(eq(task1), eq(true));
+        verify(supplier).canceled(eq(task2), eq(true));
+    }
+
+    @Test(timeout = 5000)
+    public void test_concurrent_tasks_with_task_limit() throws Exception {
+        TaskWorkerLoop app = new TaskWorkerLoop(registry, supplier, new CountDownLatch(1), 100, 2, Map.of("SleepForever", 1));
+        Task<Serializable> task1 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Task<Serializable> task2 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Mockito.when(supplier.get(ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(task1, task2, Task.nullObject());
+        CountDownLatch task1Started = whenTaskHasStarted(task1.id);
+        CountDownLatch task2Started = whenTaskHasStarted(task2.id);
+
+        Thread appThread = new Thread(app::call);
+        appThread.start();
+        task1Started.await();
+        assertThat(task2Started.await(300, TimeUnit.MILLISECONDS)).isFalse();
+        app.cancel(task1.id, false);
+        task2Started.await();
+        app.cancel(task2.id, false);
+        appThread.join();
+
+        verify(supplier).canceled(eq(task1), eq(false));
+        verify(supplier).canceled(eq(task2), eq(false));
+    }
+
+    @Test(timeout = 5000)
+    public void test_concurrent_tasks_with_task_limit_do_not_block_other_task_types() throws Exception {
+        TaskWorkerLoop app = new TaskWorkerLoop(registry, supplier, new CountDownLatch(1), 100, 2, Map.of("SleepForever", 1));
+        Task<Serializable> task1 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Task<Serializable> task2 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Task<Serializable> task3 = new Task<>(TestFactory.HelloWorld.class.getName(), User.local(), Map.of("greeted", "world"));
+        Mockito.when(supplier.get(ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(task1, task2, task3, Task.nullObject());
+        CountDownLatch task1Started = whenTaskHasStarted(task1.id);
+        CountDownLatch task2Started = whenTaskHasStarted(task2.id);
+
+        Thread appThread = new Thread(app::call);
+        appThread.start();
+        task1Started.await();
+        verify(supplier, Mockito.timeout(2000)).result(eq(task3.id), eq("Hello world!"));
+        assertThat(task2Started.getCount()).isEqualTo(2);
+        app.cancel(task1.id, false);
+        task2Started.await();
+        app.cancel(task2.id, false);
+        appThread.join();
+
+        verify(supplier).canceled(eq(task1), eq(false));
+        verify(supplier).canceled(eq(task2), eq(false));
+    }
+
+    @Test(timeout = 5000)
+    public void test_concurrent_loop_waits_for_running_tasks_on_supplier_error() throws Exception {
+        TaskWorkerLoop app = new TaskWorkerLoop(registry, supplier, new CountDownLatch(1), 100, 2, Map.of());
+        Task<Serializable> task = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Mockito.when(supplier.get(ArgumentMatchers.anyInt(), ArgumentMatchers.any())).thenReturn(task).thenThrow(new IllegalStateException("supplier error"));
+        CountDownLatch taskStarted = whenTaskHasStarted(task.id);
+
+        Thread appThread = new Thread(app::call);
+        appThread.start();
+        taskStarted.await();
+        appThread.join(300);
+        assertThat(appThread.isAlive()).isTrue();
+        app.close();
+        appThread.join();
+
+        verify(supplier).canceled(eq(task), ArgumentMatchers.anyBoolean());
+        assertThat(app.runningTasks).isEmpty();
+    }
+
+    @Test(timeout = 5000)
+    public void test_close_interrupts_tasks_handled_by_consumer_threads() throws Exception {
+        TaskWorkerLoop app = new TaskWorkerLoop(registry, supplier);
+        Task<Serializable> task = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        CountDownLatch taskStarted = whenTaskHasStarted(task.id);
+
+        Thread consumerThread = new Thread(() -> app.handle(task));
+        consumerThread.start();
+        taskStarted.await();
+        app.close();
+        consumerThread.join();
+
+        verify(supplier).canceled(eq(task), eq(false));
+    }
+
+    @Test(timeout = 5000)
+    public void test_handle_requeues_task_when_task_limit_is_reached() throws Exception {
+        TaskWorkerLoop app = new TaskWorkerLoop(registry, supplier, new CountDownLatch(1), 100, 2, Map.of("SleepForever", 1));
+        Task<Serializable> task1 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        Task<Serializable> task2 = new Task<>(TestFactory.SleepForever.class.getName(), User.local(), Map.of());
+        CountDownLatch task1Started = whenTaskHasStarted(task1.id);
+
+        Thread consumerThread = new Thread(() -> app.handle(task1));
+        consumerThread.start();
+        task1Started.await();
+        try {
+            app.handle(task2);
+            fail("NackException should be raised");
+        } catch (NackException ne) {
+            assertThat(ne.requeue).isTrue();
+        }
+        app.cancel(task1.id, false);
+        consumerThread.join();
+    }
+
+    @Test
+    public void test_parse_task_limits() {
+        assertThat(TaskWorkerLoop.parseTaskLimits(null)).isEmpty();
+        assertThat(TaskWorkerLoop.parseTaskLimits("BatchSearchRunner=8, org.icij.Foo=2"))
+                .isEqualTo(Map.of("BatchSearchRunner", 8, "org.icij.Foo", 2));
+    }
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
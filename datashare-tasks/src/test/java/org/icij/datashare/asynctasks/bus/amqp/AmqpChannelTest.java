@@ -1,10 +1,30 @@
 package org.icij.datashare.asynctasks.bus.amqp;
 
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmCallback;
+import com.rabbitmq.client.Recoverable;
+import com.rabbitmq.client.RecoveryListener;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class AmqpChannelTest {
     @Test
@@ -20,6 +40,48 @@ public class AmqpChannelTest {
         assertThat(isUuid(hostname)).isTrue();
     }
 
+    @Test(timeout = 5000)
+    public void test_publish_during_recovery_does_not_overwrite_unconfirmed_messages() throws Exception {
+        Channel channel = mock(Channel.class, withSettings().extraInterfaces(Recoverable.class));
+        AtomicLong nextSeqNo = new AtomicLong(1);
+        List<String> published = Collections.synchronizedList(new ArrayList<>());
+        when(channel.getNextPublishSeqNo()).thenAnswer(i -> nextSeqNo.get());
+        doAnswer(i -> {
+            published.add(new String((byte[]) i.getArgument(3)));
+            nextSeqNo.incrementAndGet();
+            return null;
+        }).when(channel).basicPublish(any(), any(), isNull(), any(byte[].class));
+        ArgumentCaptor<ConfirmCallback> ackCallback = ArgumentCaptor.forClass(ConfirmCallback.class);
+        ArgumentCaptor<RecoveryListener> recoveryListener = ArgumentCaptor.forClass(RecoveryListener.class);
+        AmqpChannel amqpChannel = new AmqpChannel(channel, AmqpQueue.EVENT, 10, 3, 2000);
+        verify(channel).addConfirmListener(ackCallback.capture(), any(ConfirmCallback.class));
+        verify((Recoverable) channel).addRecoveryListener(recoveryListener.capture());
+
+        amqpChannel.publish(new AmqpTest.TestEvent("event 1"));
+        amqpChannel.publish(new AmqpTest.TestEvent("event 2"));
+        recoveryListener.getValue().handleRecoveryStarted((Recoverable) channel);
+        nextSeqNo.set(1);
+        CompletableFuture<Void> publishDuringRecovery = CompletableFuture.runAsync(() -> {
+            try {
+                amqpChannel.publish(new AmqpTest.TestEvent("event 3"));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(publishDuringRecovery.isDone()).isFalse();
+        recoveryListener.getValue().handleRecovery((Recoverable) channel);
+        publishDuringRecovery.get(1, TimeUnit.SECONDS);
+
+        assertThat(published).hasSize(5);
+        assertThat(published.get(4)).contains("event 3");
+        assertThat(amqpChannel.outstandingConfirms()).isEqualTo(3);
+        ackCallback.getValue().handle(3, true);
+        assertThat(amqpChannel.outstandingConfirms()).isEqualTo(0);
+        assertThat(amqpChannel.waitForConfirms(100)).isTrue();
+        verify(channel, times(5)).basicPublish(eq(AmqpQueue.EVENT.exchange), eq(AmqpQueue.EVENT.routingKey), isNull(), any(byte[].class));
+    }
+
     boolean isUuid(String uuid) {
         try {
             UUID.fromString(uuid);
@@ -28,4 +90,4 @@ public class AmqpChannelTest {
             return false;
         }
     }
-}
\ No newline at end of file
+}
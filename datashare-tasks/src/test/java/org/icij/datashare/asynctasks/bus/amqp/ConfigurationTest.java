@@ -37,4 +37,15 @@ public class ConfigurationTest {
         Assertions.assertThat(configuration.requeueDelay).isEqualTo(123);
         Assertions.assertThat(configuration.connectionRecoveryDelay).isEqualTo(321);
     }
+
+    @Test
+    public void configuration_constructor_url_with_publish_and_prefetch_params() throws URISyntaxException {
+        Configuration configuration = new Configuration(new URI("amqp://localhost:12345?" +
+                "nbMaxMessages=10&nbMaxMessages.TASK=1&maxInFlight=50&publishRetries=5&confirmTimeout=1000"));
+        Assertions.assertThat(configuration.prefetch(AmqpQueue.TASK)).isEqualTo(1);
+        Assertions.assertThat(configuration.prefetch(AmqpQueue.MANAGER_EVENT)).isEqualTo(10);
+        Assertions.assertThat(configuration.maxInFlight).isEqualTo(50);
+        Assertions.assertThat(configuration.publishRetries).isEqualTo(5);
+        Assertions.assertThat(configuration.confirmTimeout).isEqualTo(1000);
+    }
 }